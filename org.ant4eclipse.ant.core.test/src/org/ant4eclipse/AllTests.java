@@ -17,11 +17,13 @@ import org.ant4eclipse.ant.core.AbstractAnt4EclipseDataTypeTest;
 import org.ant4eclipse.ant.core.AbstractAnt4EclipseTaskTest;
 import org.ant4eclipse.ant.core.AntCallTest;
 import org.ant4eclipse.ant.core.AntConfiguratorTest;
+import org.ant4eclipse.ant.core.FileListHelperTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses( { AntConfiguratorTest.class, AbstractAnt4EclipseConditionTest.class,
-    AbstractAnt4EclipseDataTypeTest.class, AbstractAnt4EclipseTaskTest.class, AntCallTest.class })
+    AbstractAnt4EclipseDataTypeTest.class, AbstractAnt4EclipseTaskTest.class, AntCallTest.class,
+    FileListHelperTest.class })
 public class AllTests {
 }
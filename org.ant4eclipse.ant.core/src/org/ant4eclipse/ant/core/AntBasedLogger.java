@@ -24,7 +24,7 @@ import org.apache.tools.ant.Task;
 /**
  * @author Daniel Kasmeroglu (daniel.kasmeroglu@kasisoft.net)
  */
-public class AntBasedLogger implements Ant4EclipseLogger, BuildListener {
+public class AntBasedLogger implements Ant4EclipseLogger, BuildListener, AntService {
 
   /** the ant project */
   private Project             _project = null;
@@ -45,6 +45,22 @@ public class AntBasedLogger implements Ant4EclipseLogger, BuildListener {
     this._project.addBuildListener(this);
   }
 
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>
+   * Rebinds this logger if the service registry is reused for another project within the same vm.
+   * </p>
+   */
+  public void configure(Project project) {
+    Assure.notNull("project", project);
+    if (project != this._project) {
+      this._project.removeBuildListener(this);
+      this._project = project;
+      this._project.addBuildListener(this);
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -61,6 +61,39 @@ public class FileListHelper {
     return fileList;
   }
 
+  /**
+   * <p>
+   * Creates a {@link FileList} that contains the same files as the specified {@link FileList}. Modifying the copy
+   * doesn't affect the specified {@link FileList}.
+   * </p>
+   * 
+   * @param fileList
+   *          the file list to copy
+   * @return a new {@link FileList} that contains the same files.
+   */
+  public static FileList copy(FileList fileList) {
+    Assure.notNull("fileList", fileList);
+
+    FileList result = new FileList();
+    result.setProject(fileList.getProject());
+
+    File dir = fileList.getDir(fileList.getProject());
+    if (dir != null) {
+      result.setDir(dir);
+    }
+
+    // an empty file list doesn't provide its files
+    if (fileList.size() > 0) {
+      for (String name : fileList.getFiles(fileList.getProject())) {
+        FileName fileName = new FileList.FileName();
+        fileName.setName(name);
+        result.addConfiguredFile(fileName);
+      }
+    }
+
+    return result;
+  }
+
   /**
    * <p>
    * Creates a new instance of type FileListHelper.
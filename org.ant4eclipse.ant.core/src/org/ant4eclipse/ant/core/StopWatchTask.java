@@ -13,11 +13,14 @@ package org.ant4eclipse.ant.core;
 
 import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
 import org.ant4eclipse.lib.core.util.StopWatch;
+import org.ant4eclipse.lib.core.util.StopWatchExporter;
 import org.ant4eclipse.lib.core.util.StopWatchService;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.types.LogLevel;
 
+import java.io.File;
+
 /**
  * @author Nils Hartmann
  * 
@@ -28,6 +31,8 @@ public class StopWatchTask extends AbstractAnt4EclipseTask {
 
   private String _name;
 
+  private File   _directory;
+
   private int    _logLevel = Project.MSG_VERBOSE;
 
   @Override
@@ -43,6 +48,13 @@ public class StopWatchTask extends AbstractAnt4EclipseTask {
       getStopWatchService().resetAll();
     } else if (isCommand("dump-all")) {
       getStopWatchService().dumpAll();
+    } else if (isCommand("export")) {
+      if (this._directory == null) {
+        throw new BuildException("The attribute 'directory' must be set for the command 'export'");
+      }
+      getStopWatchService().exportAll(this._directory);
+      log(String.format("Exported stop watches to '%s' (%s, %s, %s)", this._directory, StopWatchExporter.JSON_FILE,
+          StopWatchExporter.CSV_FILE, StopWatchExporter.TRACE_FILE), this._logLevel);
     } else {
       throw new BuildException("Unkown command: '" + this._command + "'");
     }
@@ -95,6 +107,19 @@ public class StopWatchTask extends AbstractAnt4EclipseTask {
     this._name = name;
   }
 
+  public File getDirectory() {
+    return this._directory;
+  }
+
+  /**
+   * Set the directory the command &quot;export&quot; writes the json, csv and trace event files to.
+   * 
+   * @param directory
+   */
+  public void setDirectory(File directory) {
+    this._directory = directory;
+  }
+
   private StopWatchService getStopWatchService() {
     return ServiceRegistryAccess.instance().getService(StopWatchService.class);
   }
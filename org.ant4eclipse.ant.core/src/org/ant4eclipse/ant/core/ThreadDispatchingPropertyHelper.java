@@ -131,17 +131,20 @@ public class ThreadDispatchingPropertyHelper extends PropertyHelper {
     return thread.getName().startsWith("A4E-");
   }
 
-  // /**
-  // * <p>
-  // * </p>
-  // *
-  // * @param thread
-  // */
-  // public void unregisterThread(Thread thread) {
-  //
-  // //
-  // this._propertiesMap.remove(thread);
-  // }
+  /**
+   * <p>
+   * Removes the properties of the given thread, so a thread that is reused for another macro execution doesn't see
+   * the properties set by the previous execution.
+   * </p>
+   * 
+   * @param thread
+   */
+  public void unregisterThread(Thread thread) {
+    Assure.notNull("thread", thread);
+
+    //
+    this._propertiesMap.remove(thread);
+  }
 
   /**
    * {@inheritDoc}
@@ -69,6 +69,22 @@ public class JdtExecutorValuesProvider implements JdtExecutorValues {
       Set<String> requestedPaths) {
 
     PerformanceLogging.start(getClass(), "provideExecutorValues");
+    try {
+      return doProvideExecutorValues(javaProjectRole, jdtClasspathContainerArguments, executionValues, requestedPaths);
+    } finally {
+      PerformanceLogging.stop(getClass(), "provideExecutorValues");
+    }
+  }
+
+  /**
+   * <p>
+   * Provides the executor values. The performance logging is stopped by the caller, so it is even stopped if the
+   * values couldn't be provided.
+   * </p>
+   */
+  private EcjAdditionalCompilerArguments doProvideExecutorValues(JavaProjectRole javaProjectRole,
+      List<JdtClasspathContainerArgument> jdtClasspathContainerArguments, MacroExecutionValues executionValues,
+      Set<String> requestedPaths) {
 
     // provide the executor values from the platform component
     this._platformExecutorValuesProvider.provideExecutorValues(javaProjectRole.getEclipseProject(), executionValues);
@@ -225,8 +241,6 @@ public class JdtExecutorValuesProvider implements JdtExecutorValues {
       }
     }
 
-    PerformanceLogging.stop(getClass(), "provideExecutorValues");
-
     // return compilerArguments
     return compilerArguments;
   }
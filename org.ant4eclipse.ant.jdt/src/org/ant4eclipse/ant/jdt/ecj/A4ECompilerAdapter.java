@@ -11,16 +11,15 @@
  **********************************************************************/
 package org.ant4eclipse.ant.jdt.ecj;
 
-import java.io.BufferedReader;
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.ant4eclipse.ant.core.AntConfigurator;
 import org.ant4eclipse.ant.jdt.EcjAdditionalCompilerArguments;
@@ -39,6 +38,7 @@ import org.ant4eclipse.lib.jdt.ecj.EcjAdapter;
 import org.ant4eclipse.lib.jdt.ecj.EcjExceptionCodes;
 import org.ant4eclipse.lib.jdt.ecj.SourceFile;
 import org.ant4eclipse.lib.jdt.ecj.SourceFileFactory;
+import org.ant4eclipse.lib.jdt.ecj.SourceLines;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.taskdefs.compilers.DefaultCompilerAdapter;
 import org.apache.tools.ant.taskdefs.condition.Os;
@@ -150,23 +150,41 @@ public abstract class A4ECompilerAdapter extends DefaultCompilerAdapter {
     // Buffer for messages
     StringBuilder builder = new StringBuilder();
 
+    // the problems of a compilation unit are reported together, so the source files only need to be looked up once
+    // per compilation unit
+    Map<String, List<SourceFile>> sourceFilesByName = new HashMap<String, List<SourceFile>>();
+    for (SourceFile sourceFile : sourceFiles) {
+      List<SourceFile> list = sourceFilesByName.get(sourceFile.getSourceFileName());
+      if (list == null) {
+        list = new LinkedList<SourceFile>();
+        sourceFilesByName.put(sourceFile.getSourceFileName(), list);
+      }
+      list.add(sourceFile);
+    }
+
+    String fileName = null;
+    List<SourceFile> problemSourceFiles = null;
+    SourceLines sourceLines = null;
     for (int i = 0; i < categorizedProblems.length; i++) {
       CategorizedProblem categorizedProblem = categorizedProblems[i];
       if (categorizedProblem.isError() || (categorizedProblem.isWarning() && !getJavac().getNowarn())) {
-        String fileName = String.valueOf(categorizedProblem.getOriginatingFileName());
-        for (SourceFile sourceFile : sourceFiles) {
-          if (fileName.equals(sourceFile.getSourceFileName())) {
-            if (!categorizedProblem.isError()) {
-              if (!this._warnings) {
-                continue;
-              }
-            }
+        if (!categorizedProblem.isError() && !this._warnings) {
+          continue;
+        }
+        String originatingFileName = String.valueOf(categorizedProblem.getOriginatingFileName());
+        if (!originatingFileName.equals(fileName)) {
+          fileName = originatingFileName;
+          problemSourceFiles = sourceFilesByName.get(fileName);
+          sourceLines = problemSourceFiles != null ? compileJobResult.getSourceLines(fileName) : null;
+        }
+        if (problemSourceFiles != null) {
+          for (SourceFile sourceFile : problemSourceFiles) {
             Object[] args = new Object[7];
             args[0] = Integer.valueOf(i + 1);
             args[1] = categorizedProblem.isError() ? "ERROR" : "WARNING";
             args[2] = sourceFile.getSourceFile().getAbsolutePath();
             args[3] = Integer.valueOf(categorizedProblem.getSourceLineNumber());
-            String[] problematicLine = readProblematicLine(sourceFile, categorizedProblem);
+            String[] problematicLine = getProblematicLine(sourceLines, categorizedProblem);
             args[4] = problematicLine[0];
             args[5] = problematicLine[1];
             args[6] = categorizedProblem.getMessage();
@@ -219,7 +237,9 @@ public abstract class A4ECompilerAdapter extends DefaultCompilerAdapter {
   }
 
   /**
-   * Clones all generated class files while copying them into the user specified directory.
+   * Synchronizes the user specified directory with the generated class files. Class files which are already up to date
+   * are not written again but get the timestamp of the generated class file, so their sources aren't considered to be
+   * modified. Nested classes which are no longer generated by a compiled type are removed.
    * 
    * @param destdir
    *          The destination director to save the classes to. Not <code>null</code>.
@@ -230,13 +250,72 @@ public abstract class A4ECompilerAdapter extends DefaultCompilerAdapter {
     if (!destdir.isAbsolute()) {
       destdir = destdir.getAbsoluteFile();
     }
+    long written = 0;
+    int skipped = 0;
+    // the names of the compiled class files per destination folder
+    Map<File, Set<String>> compiledfiles = new HashMap<File, Set<String>>();
     for (Map.Entry<String, File> entry : compiledclasses.entrySet()) {
-      File destfile = Utilities.getCanonicalFile(new File(destdir, entry.getKey()));
-      Utilities.mkdirs(destfile.getParentFile());
-      if (!destfile.equals(entry.getValue())) {
-        Utilities.copy(entry.getValue(), destfile);
+      File classfile = entry.getValue();
+      File destfile = new File(destdir, entry.getKey());
+      File destfolder = destfile.getParentFile();
+      Set<String> names = compiledfiles.get(destfolder);
+      if (names == null) {
+        names = new HashSet<String>();
+        compiledfiles.put(destfolder, names);
+      }
+      names.add(destfile.getName());
+      // the folders are shared by many class files, so their canonical representations are cheap to obtain
+      if (Utilities.getCanonicalFile(destfolder).equals(Utilities.getCanonicalFile(classfile.getParentFile()))) {
+        // the class file has been generated within the destination directory
+        continue;
+      }
+      // only class files of the same size need to be compared and the comparison stops at the first difference
+      if ((classfile.length() == destfile.length()) && Utilities.hasSameContent(classfile, destfile)) {
+        // the class file is touched nevertheless, so javac doesn't consider the source file to be newer
+        destfile.setLastModified(classfile.lastModified());
+        skipped++;
+      } else {
+        Utilities.mkdirs(destfolder);
+        Utilities.copy(classfile, destfile);
+        written += classfile.length();
+      }
+    }
+    int removed = 0;
+    for (Map.Entry<File, Set<String>> entry : compiledfiles.entrySet()) {
+      removed += removeStaleClasses(entry.getKey(), entry.getValue());
+    }
+    PerformanceLogging.report(A4ECompilerAdapter.class, "cloneClasses",
+        "%d bytes written, %d unchanged class files skipped, %d stale class files removed", Long.valueOf(written),
+        Integer.valueOf(skipped), Integer.valueOf(removed));
+  }
+
+  /**
+   * Removes the class files of nested types which haven't been generated while compiling their top level type.
+   * 
+   * @param destfolder
+   *          The folder containing the class files. Not <code>null</code>.
+   * @param names
+   *          The names of the class files which have been generated for this folder. Not <code>null</code>.
+   * 
+   * @return The number of removed class files.
+   */
+  private int removeStaleClasses(File destfolder, Set<String> names) {
+    String[] children = destfolder.list();
+    if (children == null) {
+      return 0;
+    }
+    int result = 0;
+    for (String child : children) {
+      int idx = child.indexOf('$');
+      if ((idx > 0) && child.endsWith(".class") && (!names.contains(child))
+          && names.contains(child.substring(0, idx) + ".class")) {
+        A4ELogging.debug("removing stale class file: '%s'", child);
+        if (Utilities.delete(new File(destfolder, child))) {
+          result++;
+        }
       }
     }
+    return result;
   }
 
   /**
@@ -303,19 +382,26 @@ public abstract class A4ECompilerAdapter extends DefaultCompilerAdapter {
           - filelist.length), this.compileList.length - filelist.length > 1 ? "files" : "file");
     }
 
+    // index the source folders once instead of scanning them for each source file
+    String[] srcDirs = getJavac().getSrcdir().list();
+    Map<String, Integer> srcDirIndex = new HashMap<String, Integer>();
+    for (int i = srcDirs.length - 1; i >= 0; i--) {
+      srcDirIndex.put(srcDirs[i], Integer.valueOf(i));
+    }
+
     // iterate over all the source files and create SourceFile
     for (File file : filelist) {
 
-      if (!hasSourceFolder(file)) {
+      // get the source folder
+      File sourceFolder = getSourceFolder(file, srcDirs, srcDirIndex);
+
+      if (sourceFolder == null) {
         // the user has restricted the source folders for the compilation.
         // f.e. the project has two source folders while the user only compiles one at
         // a time
         continue;
       }
 
-      // get the source folder
-      File sourceFolder = getSourceFolder(file);
-
       // get the relative source file name
       String sourceFileName = file.getAbsolutePath().substring(
           sourceFolder.getAbsolutePath().length() + File.separator.length());
@@ -350,59 +436,36 @@ public abstract class A4ECompilerAdapter extends DefaultCompilerAdapter {
 
   /**
    * <p>
-   * Returns the source folder for the given source file.
-   * </p>
-   * 
-   * @param sourceFile
-   *          the source file.
-   * @return the source folder
-   */
-  private File getSourceFolder(File sourceFile) {
-
-    // get the absolute path
-    String absolutePath = sourceFile.getAbsolutePath();
-
-    // get the list of all source directories
-    String[] srcDirs = getJavac().getSrcdir().list();
-
-    // find the 'right' source directory
-    for (String srcDir : srcDirs) {
-      if (absolutePath.startsWith(srcDir) && absolutePath.charAt(srcDir.length()) == File.separatorChar) {
-        return new File(srcDir);
-      }
-    }
-
-    // source folder for source file does not exist...
-    throw new Ant4EclipseException(EcjExceptionCodes.SOURCE_FOLDER_FOR_SOURCE_FILE_DOES_NOT_EXIST,
-        sourceFile.getAbsolutePath());
-  }
-
-  /**
-   * <p>
-   * Returns <code>true</code> if there's a source folder for the given source file.
+   * Returns the source folder for the given source file. If several source folders contain the file the first one
+   * within the source path is used.
    * </p>
    * 
    * @param sourceFile
    *          the source file.
-   * @return <code>true</code> the source folder exists for the given source file.
+   * @param srcDirs
+   *          the source directories of the javac task.
+   * @param srcDirIndex
+   *          maps each source directory to its first position within <code>srcDirs</code>.
+   * @return the source folder or <code>null</code> if none of the source folders contains the source file.
    */
-  private boolean hasSourceFolder(File sourceFile) {
+  private File getSourceFolder(File sourceFile, String[] srcDirs, Map<String, Integer> srcDirIndex) {
 
     // get the absolute path
     String absolutePath = sourceFile.getAbsolutePath();
 
-    // get the list of all source directories
-    String[] srcDirs = getJavac().getSrcdir().list();
-
-    // find the 'right' source directory
-    for (String srcDir : srcDirs) {
-      if (absolutePath.startsWith(srcDir) && absolutePath.charAt(srcDir.length()) == File.separatorChar) {
-        return true;
+    // look up each parent path of the source file
+    int result = -1;
+    int idx = absolutePath.lastIndexOf(File.separatorChar);
+    while (idx > 0) {
+      Integer position = srcDirIndex.get(absolutePath.substring(0, idx));
+      if ((position != null) && ((result == -1) || (position.intValue() < result))) {
+        result = position.intValue();
       }
+      idx = absolutePath.lastIndexOf(File.separatorChar, idx - 1);
     }
 
     // source folder for source file does not exist...
-    return false;
+    return result == -1 ? null : new File(srcDirs[result]);
   }
 
   /**
@@ -621,57 +684,42 @@ public abstract class A4ECompilerAdapter extends DefaultCompilerAdapter {
 
   /**
    * <p>
+   * Returns the line a problem has been reported for together with a line marking the problematic part.
    * </p>
    * 
-   * @param sourceFile
-   * @param lineNumber
-   * @param sourceStart
-   * @param sourceEnd
-   * @return
+   * @param sourceLines
+   *          the lines of the source file. Maybe <code>null</code>.
+   * @param categorizedProblem
+   *          the problem. Not <code>null</code>.
+   * @return the problematic line and the marker line. Both are empty if the line is not available.
    */
-  private String[] readProblematicLine(SourceFile sourceFile, CategorizedProblem categorizedProblem) {
-    Assure.notNull("sourceFile", sourceFile);
+  private String[] getProblematicLine(SourceLines sourceLines, CategorizedProblem categorizedProblem) {
     Assure.notNull("categorizedProblem", categorizedProblem);
 
     int lineNumber = categorizedProblem.getSourceLineNumber();
     int sourceStart = categorizedProblem.getSourceStart();
     int sourceEnd = categorizedProblem.getSourceEnd();
 
-    try {
-      // Open the file that is the first
-      // command line parameter
-      FileInputStream fstream = new FileInputStream(sourceFile.getSourceFile());
-      // Get the object of DataInputStream
-      DataInputStream in = new DataInputStream(fstream);
-      BufferedReader br = new BufferedReader(new InputStreamReader(in));
-      int lineStart = 0;
-      String strLine = "";
-      // Read File Line By Line
-      for (int i = 0; i < lineNumber; i++) {
-        String newLine = br.readLine();
-
-        lineStart = lineStart + strLine.length();
-        if (i + 1 != lineNumber) {
-          lineStart = lineStart + 1;
-        }
-        strLine = newLine;
-      }
-      Utilities.close(in);
-      StringBuilder underscoreLine = new StringBuilder();
-      for (int i = lineStart; i < sourceStart; i++) {
-        if (strLine.charAt(i - lineStart) == '\t') {
-          underscoreLine.append('\t');
-        } else {
-          underscoreLine.append(' ');
-        }
-      }
-      for (int i = sourceStart; i <= sourceEnd; i++) {
-        underscoreLine.append('^');
-      }
-      return new String[] { strLine, underscoreLine.toString() };
-    } catch (Exception e) {// Catch exception if any
+    String line = sourceLines != null ? sourceLines.getLine(lineNumber) : null;
+    if (line == null) {
+      return new String[] { "", "" };
+    }
+    int lineStart = sourceLines.getLineStart(lineNumber);
+    if (sourceStart - lineStart > line.length()) {
       return new String[] { "", "" };
     }
+    StringBuilder underscoreLine = new StringBuilder();
+    for (int i = lineStart; i < sourceStart; i++) {
+      if (line.charAt(i - lineStart) == '\t') {
+        underscoreLine.append('\t');
+      } else {
+        underscoreLine.append(' ');
+      }
+    }
+    for (int i = sourceStart; i <= sourceEnd; i++) {
+      underscoreLine.append('^');
+    }
+    return new String[] { line, underscoreLine.toString() };
   }
 
   /**
@@ -15,7 +15,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses( {/**
+@Suite.SuiteClasses( { PdeProjectFileSetScanTest.class /**
  * PdeProjectFileSetTest.class , GetRequiredBundlesTaskTest.class,
  * ExecutePluginProjectTaskTest.class, ExecutePluginLibraryTaskTest.class, FragmentTest.class, JarInJarTest.class
  */
@@ -0,0 +1,175 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.pde;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.PdeProjectBuilder;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.apache.tools.ant.DirectoryScanner;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.types.Resource;
+import org.apache.tools.ant.types.resources.FileResource;
+import org.apache.tools.ant.types.selectors.SelectorUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ * Compares the resources of the {@link PdeProjectFileSet} with the previous implementation which scanned each included
+ * directory using a {@link DirectoryScanner} and matched each file against the exclude patterns afterwards.
+ * </p>
+ */
+public class PdeProjectFileSetScanTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the included entries of all projects */
+  private static final String   INCLUDES = "META-INF/,.,my/src/,about.html,docs/,icons/,missing/";
+
+  /** the excluded patterns (one project for each) */
+  private static final String[] EXCLUDES = { "", "my/src/de/test/Test.java,**/Test3.java", "**/*.txt", "org/a/**",
+      "docs/images/**,**/b/**", "my/**/sub/*", "docs/*.html,*/images/deep/", "**/CVS/**,**/.svn/**",
+      "/absolute/path", "**", "my/src/**/*.java,**/*~", "org/*/b/*.class,docs/**/*.PNG" };
+
+  /** the files of all projects */
+  private static final String[] FILES    = { "about.html", "@dot/org/a/A.class", "@dot/org/a/Test.class",
+      "@dot/org/a/b/B.class", "@dot/org/a/b/B.txt", "@dot/CVS/Entries", "@dot/org/.svn/entries",
+      "my/src/de/test/Test.java", "my/src/de/test/Test2.java", "my/src/de/test/Test3.java",
+      "my/src/de/test/Readme.TXT", "my/src/de/test/sub/Test3.java", "my/src/de/CVS/Root", "docs/index.html",
+      "docs/images/a.png", "docs/images/deep/b.png", "docs/notes.txt~" };
+
+  private TestDirectory         _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void differentialExcludes() {
+    for (int i = 0; i < EXCLUDES.length; i++) {
+      createProject(projectName(i), EXCLUDES[i]);
+    }
+    for (int i = 0; i < EXCLUDES.length; i++) {
+      for (boolean defaultExcludes : new boolean[] { true, false }) {
+        for (boolean caseSensitive : new boolean[] { true, false }) {
+          PdeProjectFileSet fileSet = new PdeProjectFileSet(new Project());
+          fileSet.setWorkspaceDirectory(this._testDirectory.getRootDir().getAbsolutePath());
+          fileSet.setProjectName(projectName(i));
+          fileSet.setDefaultexcludes(defaultExcludes);
+          fileSet.setCaseSensitive(caseSensitive);
+          List<String> actual = new ArrayList<String>();
+          for (Iterator<Resource> iterator = fileSet.iterator(); iterator.hasNext();) {
+            actual.add(describe((FileResource) iterator.next()));
+          }
+          String message = String.format("excludes='%s', defaultexcludes=%s, casesensitive=%s", EXCLUDES[i], Boolean
+              .valueOf(defaultExcludes), Boolean.valueOf(caseSensitive));
+          Assert.assertEquals(message, reference(projectName(i), EXCLUDES[i], defaultExcludes, caseSensitive), actual);
+        }
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * The previous implementation of the file set computation.
+   * </p>
+   */
+  private List<String> reference(String projectName, String excludes, boolean defaultExcludes, boolean caseSensitive) {
+    File projectDirectory = new File(this._testDirectory.getRootDir(), projectName);
+    List<String> result = new ArrayList<String>();
+    for (String token : INCLUDES.split(",")) {
+      if (token.equals(".")) {
+        token = "@dot";
+      }
+      File file = new File(projectDirectory, token);
+      if (file.isFile()) {
+        result.add(describe(new FileResource(projectDirectory, token)));
+      } else if (file.isDirectory()) {
+        DirectoryScanner directoryScanner = new DirectoryScanner();
+        directoryScanner.setBasedir(file);
+        directoryScanner.setCaseSensitive(caseSensitive);
+        directoryScanner.setIncludes(null);
+        if (defaultExcludes) {
+          directoryScanner.addDefaultExcludes();
+        }
+        directoryScanner.scan();
+        for (String fileName : directoryScanner.getIncludedFiles()) {
+          if (token.equals("@dot")) {
+            if (!matchExcludePattern(excludes, fileName, caseSensitive)) {
+              result.add(describe(new FileResource(file, fileName)));
+            }
+          } else if (!matchExcludePattern(excludes, token + File.separatorChar + fileName, caseSensitive)) {
+            result.add(describe(new FileResource(projectDirectory, token + File.separatorChar + fileName)));
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  private boolean matchExcludePattern(String excludes, String path, boolean caseSensitive) {
+    for (String pattern : excludes.split(",")) {
+      if ((pattern.length() > 0) && SelectorUtils.matchPath(normalize(pattern), normalize(path), caseSensitive)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String normalize(String path) {
+    String result = path.replace('/', File.separatorChar).replace('\\', File.separatorChar);
+    if (result.endsWith(File.separator)) {
+      result = result.substring(0, result.length() - 1);
+    }
+    return result;
+  }
+
+  private String describe(FileResource resource) {
+    return normalize(resource.getName()) + " -> " + resource.getFile();
+  }
+
+  private void createProject(String projectName, String excludes) {
+    PdeProjectBuilder.getPreConfiguredPdeProjectBuilder(projectName).createIn(this._testDirectory.getRootDir());
+    File projectDirectory = new File(this._testDirectory.getRootDir(), projectName);
+    for (String path : FILES) {
+      File file = new File(projectDirectory, path);
+      Utilities.mkdirs(file.getParentFile());
+      Utilities.writeFile(file, path, Utilities.ENCODING);
+    }
+    Utilities.mkdirs(new File(projectDirectory, "icons"));
+    Utilities.writeFile(new File(projectDirectory, "build.properties"), String.format(
+        "bin.includes = %s\nbin.excludes = %s\n", INCLUDES, excludes), Utilities.ENCODING);
+  }
+
+  private String projectName(int index) {
+    return "fileset" + index;
+  }
+
+} /* ENDCLASS */
@@ -20,6 +20,7 @@ import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.core.logging.A4ELogging;
 import org.ant4eclipse.lib.core.util.Pair;
 import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.core.util.ZipArchiveWriter;
 import org.ant4eclipse.lib.pde.PdeExceptionCode;
 import org.ant4eclipse.lib.pde.internal.tools.FeatureDescription;
 import org.ant4eclipse.lib.pde.model.featureproject.FeatureManifest;
@@ -35,10 +36,12 @@ import org.ant4eclipse.lib.platform.PlatformExceptionCode;
 import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.taskdefs.MacroDef;
+import org.apache.tools.ant.types.ZipFileSet;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.osgi.framework.Version;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -80,12 +83,18 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
   /** the target platform delegate */
   private TargetPlatformAwareDelegate _targetPlatformAwareDelegate;
 
+  /** the delegate used to stream the feature into an archive */
+  private PackagingArchiveDelegate    _packagingArchiveDelegate;
+
   /** the resolved feature */
   private ResolvedFeature             _resolvedFeature;
 
   /** a semicolon separated list of bundle-symbolicNames and versions */
   private String                      _resolvedBundleVersions;
 
+  /** the number of plug-ins and included features that are executed concurrently */
+  private int                         _threadCount                = 1;
+
   /**
    * <p>
    * Creates a new instance of type {@link ExecuteFeatureTask}.
@@ -96,6 +105,9 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
 
     // create the target platform delegate
     this._targetPlatformAwareDelegate = new TargetPlatformAwareDelegate();
+
+    // create the packaging archive delegate
+    this._packagingArchiveDelegate = new PackagingArchiveDelegate();
   }
 
   /**
@@ -197,6 +209,56 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
     }
   }
 
+  /**
+   * <p>
+   * Sets the number of plug-ins and included features whose macros are executed concurrently. Each concurrent
+   * execution has its own properties; references have to be accessed using the prefix
+   * <code>${currentThreadId}.</code>.
+   * </p>
+   * 
+   * @param threadCount
+   *          the number of threads (default: 1)
+   */
+  public void setThreadCount(int threadCount) {
+    this._threadCount = threadCount;
+  }
+
+  /**
+   * <p>
+   * Sets the archive the feature and its binary bundles are streamed into.
+   * </p>
+   * 
+   * @param archive
+   *          the archive to create
+   */
+  public void setArchive(File archive) {
+    this._packagingArchiveDelegate.setArchive(archive);
+  }
+
+  /**
+   * <p>
+   * Sets the number of threads used to deflate the content of the archive.
+   * </p>
+   * 
+   * @param threadCount
+   *          the number of threads
+   */
+  public void setArchiveThreadCount(int threadCount) {
+    this._packagingArchiveDelegate.setArchiveThreadCount(threadCount);
+  }
+
+  /**
+   * <p>
+   * Adds additional content (e.g. the built plug-in projects) to the archive.
+   * </p>
+   * 
+   * @param fileSet
+   *          the additional content
+   */
+  public void addZipFileSet(ZipFileSet fileSet) {
+    this._packagingArchiveDelegate.addZipFileSet(fileSet);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -283,6 +345,11 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
         throw new Ant4EclipseException(PlatformExceptionCode.UNKNOWN_EXECUTION_SCOPE, scopedMacroDefinition.getScope());
       }
     }
+
+    // stream the feature into the archive
+    if (this._packagingArchiveDelegate.isArchiveSet()) {
+      writeArchive();
+    }
   }
 
   /**
@@ -306,6 +373,48 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
       throw new Ant4EclipseException(PdeExceptionCode.ANT_ATTRIBUTE_X_OR_Y, "projectName",
           "featureId' and 'featureVersion");
     }
+
+    // require a valid thread count...
+    if (this._threadCount < 1) {
+      throw new BuildException("The attribute 'threadCount' must at least be 1.");
+    }
+
+    // require valid archive settings...
+    this._packagingArchiveDelegate.requireValidArchiveSettings();
+  }
+
+  /**
+   * <p>
+   * Streams the resolved feature and its bundles into the archive. Feature and plug-in projects are skipped since they
+   * have to be built (and added using nested <code>zipfileset</code> elements) first.
+   * </p>
+   */
+  private void writeArchive() {
+
+    ZipArchiveWriter writer = this._packagingArchiveDelegate.openArchive();
+    boolean completed = false;
+    try {
+
+      // add the feature if it's taken from the target platform
+      if (this._resolvedFeature.getSource() instanceof File) {
+        this._packagingArchiveDelegate.addFeature(writer, (File) this._resolvedFeature.getSource());
+      }
+
+      // add the bundles
+      for (Pair<Plugin, BundleDescription> pair : this._resolvedFeature.getPluginToBundleDescptionList()) {
+        this._packagingArchiveDelegate.addBundle(writer, pair.getSecond());
+      }
+
+      // add the additional content
+      this._packagingArchiveDelegate.addFileSets(writer, getProject());
+      writer.close();
+      completed = true;
+    } finally {
+      if (!completed) {
+        // don't leave a truncated archive behind
+        writer.abort();
+      }
+    }
   }
 
   /**
@@ -321,11 +430,12 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
       A4ELogging.debug("executePluginScopedMacroDef");
     }
 
+    List<MacroExecutionValuesProvider> providers = new ArrayList<MacroExecutionValuesProvider>();
     for (final Pair<Plugin, BundleDescription> pluginAndBundleDescription : this._resolvedFeature
         .getPluginToBundleDescptionList()) {
 
-      // execute macro
-      executeMacroInstance(macroDef, new MacroExecutionValuesProvider() {
+      // add the provider for the plug-in
+      providers.add(new MacroExecutionValuesProvider() {
 
         public MacroExecutionValues provideMacroExecutionValues(MacroExecutionValues values) {
 
@@ -389,6 +499,9 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
         }
       });
     }
+
+    // execute macros
+    executeMacroInstances(macroDef, providers, this._threadCount);
   }
 
   /**
@@ -487,10 +600,11 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
     }
 
     // iterate over the includes>
+    List<MacroExecutionValuesProvider> providers = new ArrayList<MacroExecutionValuesProvider>();
     for (final Pair<Includes, FeatureDescription> pair : this._resolvedFeature.getIncludesToFeatureDescriptionList()) {
 
-      // execute macro definition
-      executeMacroInstance(macroDef, new MacroExecutionValuesProvider() {
+      // add the provider for the included feature
+      providers.add(new MacroExecutionValuesProvider() {
 
         public MacroExecutionValues provideMacroExecutionValues(MacroExecutionValues values) {
 
@@ -543,6 +657,9 @@ public class ExecuteFeatureTask extends AbstractExecuteProjectTask implements Pd
         }
       });
     }
+
+    // execute macro definitions
+    executeMacroInstances(macroDef, providers, this._threadCount);
   }
 
   /**
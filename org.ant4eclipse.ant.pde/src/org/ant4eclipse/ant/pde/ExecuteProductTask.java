@@ -18,6 +18,7 @@ import org.ant4eclipse.ant.platform.core.delegate.MacroExecutionValuesProvider;
 import org.ant4eclipse.ant.platform.core.task.AbstractExecuteProjectTask;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.core.util.ZipArchiveWriter;
 import org.ant4eclipse.lib.pde.PdeExceptionCode;
 import org.ant4eclipse.lib.pde.model.pluginproject.BundleSource;
 import org.ant4eclipse.lib.pde.model.product.ProductDefinition;
@@ -30,6 +31,7 @@ import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.taskdefs.MacroDef;
 import org.apache.tools.ant.types.FileList;
+import org.apache.tools.ant.types.ZipFileSet;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.osgi.framework.Version;
 
@@ -37,6 +39,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -140,6 +145,12 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
   /** - */
   private ProductOs                   _os;
 
+  /** the delegate used to stream the product into an archive */
+  private PackagingArchiveDelegate    _packagingArchiveDelegate;
+
+  /** the number of plug-ins or features that are executed concurrently */
+  private int                         _threadCount                          = 1;
+
   /**
    * <p>
    * Creates a new instance of type {@link ExecuteProductTask}.
@@ -148,6 +159,7 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
   public ExecuteProductTask() {
     super("executeProduct");
     this._targetPlatformAwareDelegate = new TargetPlatformAwareDelegate();
+    this._packagingArchiveDelegate = new PackagingArchiveDelegate();
   }
 
   /**
@@ -170,6 +182,47 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
     this._os = newos;
   }
 
+  /**
+   * Changes the number of plug-ins or features whose macros are executed concurrently. Each concurrent execution has
+   * its own properties; references have to be accessed using the prefix <code>${currentThreadId}.</code>.
+   * 
+   * @param threadCount
+   *          The number of threads. At least 1 (default).
+   */
+  public void setThreadCount(int threadCount) {
+    this._threadCount = threadCount;
+  }
+
+  /**
+   * Changes the archive the binary bundles and the config.ini of the product are streamed into.
+   * 
+   * @param archive
+   *          The archive to create. Not <code>null</code>.
+   */
+  public void setArchive(File archive) {
+    this._packagingArchiveDelegate.setArchive(archive);
+  }
+
+  /**
+   * Changes the number of threads used to deflate the content of the archive.
+   * 
+   * @param threadCount
+   *          The number of threads. At least 1.
+   */
+  public void setArchiveThreadCount(int threadCount) {
+    this._packagingArchiveDelegate.setArchiveThreadCount(threadCount);
+  }
+
+  /**
+   * Adds additional content (e.g. the built plug-in projects or the native launcher) to the archive.
+   * 
+   * @param fileSet
+   *          The additional content. Not <code>null</code>.
+   */
+  public void addZipFileSet(ZipFileSet fileSet) {
+    this._packagingArchiveDelegate.addZipFileSet(fileSet);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -269,28 +322,76 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
     // fetch the target platform
     TargetPlatform targetplatform = this._targetPlatformAwareDelegate.getTargetPlatform(getWorkspace());
 
-    // StringMap properties = new StringMap();
-    // contributeForAll(properties, null, productdef, targetplatform);
-
     // execute scoped macro definitions
     for (ScopedMacroDefinition<String> scopedmacro : getScopedMacroDefinitions()) {
+
+      // compute the 'general' properties once for all executions of this macro. they are computed after the
+      // preceding macros have been executed, since these may generate files (f.e. the config.ini)
+      MacroExecutionValues forall = new MacroExecutionValues();
+      contributeForAll(forall, productdef, targetplatform);
+
       Scope scope = Scope.valueOf(scopedmacro.getScope());
       switch (scope) {
       case ForProduct:
-        executeForProduct(productdef, scopedmacro.getMacroDef(), targetplatform);
+        executeForProduct(scopedmacro.getMacroDef(), forall);
         break;
       case ForEachFeature:
-        executeForEachFeature(productdef, scopedmacro.getMacroDef(), targetplatform);
+        executeForEachFeature(productdef, scopedmacro.getMacroDef(), forall);
         break;
       // case ForEachTargetFeature:
       // executeForEachTargetFeature(productdef, scopedmacro.getMacroDef(), targetplatform);
       // break;
       case ForEachPlugin:
-        executeForEachPlugin(productdef, scopedmacro.getMacroDef(), targetplatform);
+        executeForEachPlugin(productdef, scopedmacro.getMacroDef(), forall, targetplatform);
         break;
       }
     }
 
+    // stream the product into the archive
+    if (this._packagingArchiveDelegate.isArchiveSet()) {
+      writeArchive(productdef, targetplatform);
+    }
+
+  }
+
+  /**
+   * Streams the binary bundles and the config.ini of the product into the archive. Plug-in projects are skipped since
+   * they have to be built (and added using nested <code>zipfileset</code> elements) first.
+   * 
+   * @param productdef
+   *          The productdefinition to be used. Not <code>null</code>.
+   * @param targetplatform
+   *          The TargetPlatform used to resolve the bundles against. Not <code>null</code>.
+   */
+  private void writeArchive(ProductDefinition productdef, TargetPlatform targetplatform) {
+
+    ZipArchiveWriter writer = this._packagingArchiveDelegate.openArchive();
+    boolean completed = false;
+    try {
+
+      // add the bundles
+      for (String id : productdef.getPluginAndFragmentIds()) {
+        if (targetplatform.hasBundleDescription(id) && targetplatform.matchesPlatformFilter(id)) {
+          this._packagingArchiveDelegate.addBundle(writer, targetplatform.getBundleDescription(id));
+        }
+      }
+
+      // add the config.ini
+      File configini = getConfigIni(productdef);
+      if (configini != null) {
+        this._packagingArchiveDelegate.addFile(writer, configini, "configuration/config.ini");
+      }
+
+      // add the additional content
+      this._packagingArchiveDelegate.addFileSets(writer, getProject());
+      writer.close();
+      completed = true;
+    } finally {
+      if (!completed) {
+        // don't leave a truncated archive behind
+        writer.abort();
+      }
+    }
   }
 
   /**
@@ -305,10 +406,11 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
    * @param targetplatform
    *          The TargetPlatform used to resolve the bundles against. Not <code>null</code>.
    */
-  private void executeForEachPlugin(final ProductDefinition productdef, MacroDef macrodef,
-      final TargetPlatform targetplatform) {
+  private void executeForEachPlugin(ProductDefinition productdef, MacroDef macrodef,
+      final MacroExecutionValues forall, TargetPlatform targetplatform) {
 
-    // iterate over all plug-in identifiers
+    // look up the bundles once, so the macros can be executed concurrently
+    List<MacroExecutionValuesProvider> providers = new ArrayList<MacroExecutionValuesProvider>();
     for (final String id : productdef.getPluginAndFragmentIds()) {
 
       // check if bundle exists
@@ -319,19 +421,18 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
 
       if (targetplatform.matchesPlatformFilter(id)) {
 
-        executeMacroInstance(macrodef, new MacroExecutionValuesProvider() {
+        final BundleSource bundlesource = (BundleSource) targetplatform.getBundleDescription(id).getUserObject();
+
+        providers.add(new MacroExecutionValuesProvider() {
 
           public MacroExecutionValues provideMacroExecutionValues(MacroExecutionValues values) {
 
             // set 'general' properties
-            contributeForAll(values, productdef, targetplatform);
+            contributeForAll(values, forall);
 
             // set the plugin id
             values.getProperties().put(PROP_PLUGINID, id);
 
-            BundleDescription bundledesc = targetplatform.getBundleDescription(id);
-            BundleSource bundlesource = (BundleSource) bundledesc.getUserObject();
-
             if (bundlesource.isEclipseProject()) {
               // Plug-in is a source project contained in the workspace
               EclipseProject project = bundlesource.getAsEclipseProject();
@@ -355,6 +456,8 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
       }
     }
 
+    // execute the macros
+    executeMacroInstances(macrodef, providers, this._threadCount);
   }
 
   /**
@@ -366,20 +469,19 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
    *          The macro constituting the scope. Not <code>null</code>.
    * @param forall
    *          A bunch of properties used for all execution macros. Not <code>null</code>.
-   * @param targetplatform
-   *          The TargetPlatform used to resolve the bundles against. Not <code>null</code>.
    */
   private void executeForEachFeature(final ProductDefinition productdef, MacroDef macrodef,
-      final TargetPlatform targetplatform) {
+      final MacroExecutionValues forall) {
 
+    List<MacroExecutionValuesProvider> providers = new ArrayList<MacroExecutionValuesProvider>();
     for (final String featureid : productdef.getFeatureIds()) {
 
-      executeMacroInstance(macrodef, new MacroExecutionValuesProvider() {
+      providers.add(new MacroExecutionValuesProvider() {
 
         public MacroExecutionValues provideMacroExecutionValues(MacroExecutionValues values) {
 
           // set 'general' properties
-          contributeForAll(values, productdef, targetplatform);
+          contributeForAll(values, forall);
 
           // set feature id
           values.getProperties().put(PROP_FEATUREID, featureid);
@@ -394,6 +496,8 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
       });
     }
 
+    // execute the macros
+    executeMacroInstances(macrodef, providers, this._threadCount);
   }
 
   // /**
@@ -429,11 +533,8 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
    *          The macro constituting the scope. Not <code>null</code>.
    * @param forall
    *          A bunch of properties used for all execution macros. Not <code>null</code>.
-   * @param targetplatform
-   *          The TargetPlatform used to resolve the bundles against. Not <code>null</code>.
    */
-  private void executeForProduct(final ProductDefinition productdef, MacroDef macrodef,
-      final TargetPlatform targetplatform) {
+  private void executeForProduct(MacroDef macrodef, final MacroExecutionValues forall) {
 
     // execute the macro
     executeMacroInstance(macrodef, new MacroExecutionValuesProvider() {
@@ -441,7 +542,7 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
       public MacroExecutionValues provideMacroExecutionValues(MacroExecutionValues values) {
 
         // set 'general' properties
-        contributeForAll(values, productdef, targetplatform);
+        contributeForAll(values, forall);
 
         // return result
         return values;
@@ -472,6 +573,12 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
       throw new BuildException("The attribute 'os' has to be set.");
     }
 
+    if (this._threadCount < 1) {
+      throw new BuildException("The attribute 'threadCount' must at least be 1.");
+    }
+
+    this._packagingArchiveDelegate.requireValidArchiveSettings();
+
     // check if all scopes are known. that way the execution doesn't start long during operations
     // while an intermediate step fails.
     for (ScopedMacroDefinition<String> scopedmacro : getScopedMacroDefinitions()) {
@@ -484,6 +591,29 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
 
   }
 
+  /**
+   * <p>
+   * Contributes the precomputed general settings to the macro execution properties. The macro instances might be
+   * executed in parallel, so each of them gets its own copies of the file lists.
+   * </p>
+   * 
+   * @param values
+   *          The values of a macro execution. Not <code>null</code>.
+   * @param forall
+   *          The general settings computed by {@link #contributeForAll(MacroExecutionValues, ProductDefinition,
+   *          TargetPlatform)}. Not <code>null</code>.
+   */
+  private void contributeForAll(MacroExecutionValues values, MacroExecutionValues forall) {
+    values.getProperties().putAll(forall.getProperties());
+    for (Map.Entry<String, Object> reference : forall.getReferences().entrySet()) {
+      Object value = reference.getValue();
+      if (value instanceof FileList) {
+        value = FileListHelper.copy((FileList) value);
+      }
+      values.getReferences().put(reference.getKey(), value);
+    }
+  }
+
   /**
    * <p>
    * Contributes general settings to the macro execution properties.
@@ -520,17 +650,8 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
     values.getProperties().put(PROP_PROGRAMARGS, productdef.getProgramArgs(this._os));
     values.getProperties().put(PROP_OSGIBUNDLES, ConfigurationHelper.getOsgiBundles(productdef, targetplatform));
 
-    String configini = productdef.getConfigIni(this._os);
-    if (configini == null) {
-      values.getProperties().put(PROP_CONFIGINI, "");
-    } else {
-      int endofprojectname = configini.indexOf('/', 1);
-      String projectname = configini.substring(1, endofprojectname);
-      String childname = configini.substring(endofprojectname + 1);
-      EclipseProject project = getWorkspace().getProject(projectname);
-      File path = project.getChild(childname);
-      values.getProperties().put(PROP_CONFIGINI, path.getAbsolutePath());
-    }
+    File configini = getConfigIni(productdef);
+    values.getProperties().put(PROP_CONFIGINI, configini == null ? "" : configini.getAbsolutePath());
 
     // get executables
     FileList fileList = NativeLauncherHelper.getNativeLauncher(targetplatform);
@@ -568,6 +689,26 @@ public class ExecuteProductTask extends AbstractExecuteProjectTask implements Pd
     values.getReferences().put(REF_LAUNCHER_FRAGMENT_FILELIST, launcherFragmentFileList);
   }
 
+  /**
+   * Returns the config.ini file of the product.
+   * 
+   * @param productdef
+   *          The product definition instance providing the necessary information. Not <code>null</code>.
+   * 
+   * @return The config.ini file of the product or <code>null</code> if the product doesn't specify one.
+   */
+  private File getConfigIni(ProductDefinition productdef) {
+    String configini = productdef.getConfigIni(this._os);
+    if (configini == null) {
+      return null;
+    }
+    int endofprojectname = configini.indexOf('/', 1);
+    String projectname = configini.substring(1, endofprojectname);
+    String childname = configini.substring(endofprojectname + 1);
+    EclipseProject project = getWorkspace().getProject(projectname);
+    return project.getChild(childname);
+  }
+
   // /**
   // * Contributes feature specific settings to the macro execution properties.
   // *
@@ -12,6 +12,8 @@
 package org.ant4eclipse.ant.pde;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.ant4eclipse.ant.platform.core.task.AbstractAnt4EclipseFileSet;
@@ -26,11 +28,16 @@ import org.apache.tools.ant.Project;
 import org.apache.tools.ant.types.Resource;
 import org.apache.tools.ant.types.resources.FileResource;
 import org.apache.tools.ant.types.selectors.SelectorUtils;
+import org.apache.tools.ant.util.FileUtils;
 
 /**
  * <p>
  * The {@link PdeProjectFileSet} type can be used to define plug-in project relative file sets.
  * </p>
+ * <p>
+ * The exclude patterns are split into their segments once for each computation. Each included directory is walked
+ * once, excluded directories are skipped as a whole.
+ * </p>
  * 
  * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
  */
@@ -137,11 +144,13 @@ public class PdeProjectFileSet extends AbstractAnt4EclipseFileSet {
     // clear the resource list
     resourceList.clear();
 
-    // iterate over the included pattern set
-    String[] includes = this._sourceBundle ? this._buildProperties.getSourceIncludes() : this._buildProperties
-        .getBinaryIncludes();
-    for (String token : includes) {
-      processEntry(resourceList, token);
+    // iterate over the included entries
+    PathPattern[] excludes = PathPattern.compile(this._sourceBundle ? this._buildProperties.getSourceExcludes()
+        : this._buildProperties.getBinaryExcludes());
+    PathPattern[] defaultExcludes = getDefaultexcludes() ? PathPattern.compile(DirectoryScanner.getDefaultExcludes())
+        : new PathPattern[0];
+    for (String token : getEntries()) {
+      processEntry(resourceList, token, excludes, defaultExcludes);
     }
 
     // debug the resolved entries
@@ -155,6 +164,32 @@ public class PdeProjectFileSet extends AbstractAnt4EclipseFileSet {
 
   }
 
+  /**
+   * <p>
+   * Returns the included entries. Libraries are removed if requested and the bundle root is replaced with its
+   * (default) self directory.
+   * </p>
+   * 
+   * @return the included entries
+   */
+  private String[] getEntries() {
+    String[] includes = this._sourceBundle ? this._buildProperties.getSourceIncludes() : this._buildProperties
+        .getBinaryIncludes();
+    List<String> result = new ArrayList<String>(includes.length);
+    for (String token : includes) {
+
+      // if token is a library name and _excludeLibraries
+      if (this._excludeLibraries && this._buildProperties instanceof PluginBuildProperties
+          && ((PluginBuildProperties) this._buildProperties).hasLibrary(token)) {
+        continue;
+      }
+
+      // 'patch' the dot
+      result.add(token.equals(SELF) ? DEFAULT_SELF_DIRECTORY : token);
+    }
+    return result.toArray(new String[result.size()]);
+  }
+
   /**
    * <p>
    * 
@@ -164,60 +199,115 @@ public class PdeProjectFileSet extends AbstractAnt4EclipseFileSet {
    *          The list the resources should be added to
    * @param token
    *          The token that should be processed
+   * @param excludes
+   *          the exclude patterns of the build properties
+   * @param defaultExcludes
+   *          the default exclude patterns (maybe empty)
    */
-  private void processEntry(List<Resource> resourceList, String token) {
+  private void processEntry(List<Resource> resourceList, String token, PathPattern[] excludes,
+      PathPattern[] defaultExcludes) {
+
+    // get the project child with the given name
+    File file = getEclipseProject().getChild(token);
 
-    // if token is a library name and _excludeLibraries
-    if (this._excludeLibraries && this._buildProperties instanceof PluginBuildProperties
-        && ((PluginBuildProperties) this._buildProperties).hasLibrary(token)) {
+    // 'process' the token
+    if (!file.exists()) {
       return;
     }
 
-    // 'patch' the dot
-    if (token.equals(SELF)) {
-      token = DEFAULT_SELF_DIRECTORY;
+    if (file.isFile()) {
+      // if the child is a file, just add it to the list
+      resourceList.add(new FileResource(getEclipseProject().getFolder(), token));
+    } else if (token.equals(DEFAULT_SELF_DIRECTORY)) {
+
+      // the exclude patterns are relative to the self directory
+      for (String fileName : walk(file, new ArrayList<String>(), 0, excludes, defaultExcludes)) {
+        resourceList.add(new FileResource(file, fileName));
+      }
+    } else {
+
+      // the exclude patterns are relative to the project
+      List<String> segments = PathPattern.tokenize(token);
+      List<String> fileNames = walk(file, segments, segments.size(), excludes, defaultExcludes);
+      String filePath = normalize(file.getPath());
+      String rootPath = normalize(filePath).substring(0, filePath.lastIndexOf(normalize(token)));
+      for (String fileName : fileNames) {
+        resourceList.add(new FileResource(new File(rootPath), token + File.separatorChar + fileName));
+      }
     }
+  }
 
-    // 'process' the token
-    if (getEclipseProject().hasChild(token)) {
-
-      // get the project child with the given name
-      File file = getEclipseProject().getChild(token);
-
-      if (file.isFile()) {
-        // if the child is a file, just add it to the list
-        resourceList.add(new FileResource(getEclipseProject().getFolder(), token));
-      } else {
-
-        // if the child is a directory, scan the directory
-        DirectoryScanner directoryScanner = new DirectoryScanner();
-        directoryScanner.setBasedir(file);
-        directoryScanner.setCaseSensitive(isCaseSensitive());
-        directoryScanner.setIncludes(null);
-        if (getDefaultexcludes()) {
-          directoryScanner.addDefaultExcludes();
-        }
+  /**
+   * <p>
+   * Returns the (sorted) paths of all files of the given directory that aren't excluded.
+   * </p>
+   * 
+   * @param directory
+   *          the directory to walk
+   * @param segments
+   *          the segments of the directory path the exclude patterns are matched against
+   * @param entrySegments
+   *          the number of segments of the walked entry (the default excludes are relative to the entry)
+   * @param excludes
+   *          the exclude patterns of the build properties
+   * @param defaultExcludes
+   *          the default exclude patterns (maybe empty)
+   * @return the paths of the files relative to the given directory
+   */
+  private List<String> walk(File directory, List<String> segments, int entrySegments, PathPattern[] excludes,
+      PathPattern[] defaultExcludes) {
+    List<String> result = new ArrayList<String>();
+    walk(result, directory, "", segments, entrySegments, excludes, defaultExcludes);
+    Collections.sort(result);
+    return result;
+  }
 
-        // do the job
-        directoryScanner.scan();
+  /**
+   * <p>
+   * Adds the files of the given directory (and its sub directories) that aren't excluded to the result list.
+   * Directories which are excluded as a whole are skipped.
+   * </p>
+   * 
+   * @param result
+   *          the list the file paths should be added to
+   * @param directory
+   *          the directory to walk
+   * @param relativePath
+   *          the path of the directory relative to the walked entry
+   * @param segments
+   *          the segments of the directory path the exclude patterns are matched against
+   * @param entrySegments
+   *          the number of segments of the walked entry (the default excludes are relative to the entry)
+   * @param excludes
+   *          the exclude patterns of the build properties
+   * @param defaultExcludes
+   *          the default exclude patterns (maybe empty)
+   */
+  private void walk(List<String> result, File directory, String relativePath, List<String> segments,
+      int entrySegments, PathPattern[] excludes, PathPattern[] defaultExcludes) {
 
-        // get the included files and add it to the resource list
-        String[] files = directoryScanner.getIncludedFiles();
+    String[] names = directory.list();
+    if (names == null) {
+      return;
+    }
 
-        for (String fileName : files) {
-          if (token.equals(DEFAULT_SELF_DIRECTORY)) {
-            if (!matchExcludePattern(fileName)) {
-              resourceList.add(new FileResource(file, fileName));
-            }
-          } else {
-            if (!matchExcludePattern(token + File.separatorChar + fileName)) {
-              String filePath = normalize(file.getPath());
-              String rootPath = normalize(filePath).substring(0, filePath.lastIndexOf(normalize(token)));
-              resourceList.add(new FileResource(new File(rootPath), token + File.separatorChar + fileName));
-            }
-          }
+    boolean caseSensitive = isCaseSensitive();
+    for (String name : names) {
+      File child = new File(directory, name);
+      String childPath = relativePath.length() == 0 ? name : relativePath + File.separatorChar + name;
+      segments.add(name);
+      if (child.isDirectory()) {
+        if (!(PathPattern.matchesDirectory(defaultExcludes, segments, entrySegments, caseSensitive) || PathPattern
+            .matchesDirectory(excludes, segments, 0, caseSensitive))) {
+          walk(result, child, childPath, segments, entrySegments, excludes, defaultExcludes);
+        }
+      } else if (child.isFile()) {
+        if (!(PathPattern.matches(defaultExcludes, segments, entrySegments, caseSensitive) || PathPattern.matches(
+            excludes, segments, 0, caseSensitive))) {
+          result.add(childPath);
         }
       }
+      segments.remove(segments.size() - 1);
     }
   }
 
@@ -230,7 +320,7 @@ public class PdeProjectFileSet extends AbstractAnt4EclipseFileSet {
    *          the path to normalize
    * @return the normalized path
    */
-  private String normalize(String path) {
+  private static String normalize(String path) {
 
     // replace '/' and '\' with File.separatorChar
     String result = path.replace('/', File.separatorChar).replace('\\', File.separatorChar);
@@ -246,28 +336,206 @@ public class PdeProjectFileSet extends AbstractAnt4EclipseFileSet {
 
   /**
    * <p>
-   * Helper method. Checks if the given string (which is a path) matches one of the exclude patterns.
+   * An ant path pattern (f.e. <code>**&#47;*.java</code>) which has been split into its segments once. The patterns
+   * are matched like {@link SelectorUtils#matchPath(String, String, boolean)} does.
    * </p>
-   * 
-   * @param path
-   *          the path
-   * @return <code>true</code> if the given path matches an exclusion pattern.
    */
-  private boolean matchExcludePattern(String path) {
+  private static class PathPattern {
+
+    /** the pattern segments (<code>null</code> if the pattern is absolute and never matches a relative path) */
+    private String[]    _segments;
+
+    /** the pattern without its trailing '**' (<code>null</code> if the pattern doesn't end with '**') */
+    private PathPattern _directoryPattern;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link PathPattern}.
+     * </p>
+     * 
+     * @param segments
+     *          the pattern segments
+     */
+    private PathPattern(String[] segments) {
+      this._segments = segments;
+      if ((segments != null) && (segments.length > 0) && "**".equals(segments[segments.length - 1])) {
+        String[] directorySegments = new String[segments.length - 1];
+        System.arraycopy(segments, 0, directorySegments, 0, directorySegments.length);
+        this._directoryPattern = new PathPattern(directorySegments);
+      }
+    }
 
-    String[] excludes = this._sourceBundle ? this._buildProperties.getSourceExcludes() : this._buildProperties
-        .getBinaryExcludes();
+    /**
+     * <p>
+     * Compiles the given patterns.
+     * </p>
+     * 
+     * @param patterns
+     *          the patterns
+     * @return the compiled patterns
+     */
+    public static PathPattern[] compile(String[] patterns) {
+      PathPattern[] result = new PathPattern[patterns.length];
+      for (int i = 0; i < patterns.length; i++) {
+        String pattern = normalize(patterns[i]);
+        List<String> segments = tokenize(pattern);
+        result[i] = new PathPattern(FileUtils.isAbsolutePath(pattern) ? null : segments.toArray(new String[segments
+            .size()]));
+      }
+      return result;
+    }
+
+    /**
+     * <p>
+     * Splits the given path into its (non-empty) segments.
+     * </p>
+     * 
+     * @param path
+     *          the path
+     * @return the segments
+     */
+    public static List<String> tokenize(String path) {
+      List<String> result = new ArrayList<String>();
+      String normalized = normalize(path);
+      int start = 0;
+      for (int i = 0; i <= normalized.length(); i++) {
+        if ((i == normalized.length()) || (normalized.charAt(i) == File.separatorChar)) {
+          if (i > start) {
+            result.add(normalized.substring(start, i));
+          }
+          start = i + 1;
+        }
+      }
+      return result;
+    }
 
-    // iterate over all excluded pattern
-    for (String pattern : excludes) {
+    /**
+     * <p>
+     * Returns <code>true</code> if one of the given patterns matches the given path.
+     * </p>
+     */
+    public static boolean matches(PathPattern[] patterns, List<String> path, int from, boolean caseSensitive) {
+      for (PathPattern pattern : patterns) {
+        if (pattern.matches(path, from, caseSensitive)) {
+          return true;
+        }
+      }
+      return false;
+    }
 
-      // if the given path matches an exclusion pattern, return true
-      if (SelectorUtils.matchPath(normalize(pattern), normalize(path), isCaseSensitive())) {
-        return true;
+    /**
+     * <p>
+     * Returns <code>true</code> if one of the given patterns matches every path below the given directory.
+     * </p>
+     */
+    public static boolean matchesDirectory(PathPattern[] patterns, List<String> directory, int from,
+        boolean caseSensitive) {
+      for (PathPattern pattern : patterns) {
+        if ((pattern._directoryPattern != null) && pattern._directoryPattern.matches(directory, from, caseSensitive)) {
+          return true;
+        }
       }
+      return false;
     }
 
-    // return false
-    return false;
-  }
+    /**
+     * <p>
+     * Returns <code>true</code> if this pattern matches the given path (starting with the segment at index
+     * <code>from</code>).
+     * </p>
+     */
+    private boolean matches(List<String> path, int from, boolean caseSensitive) {
+      if (this._segments == null) {
+        return false;
+      }
+
+      String[] patDirs = this._segments;
+      int patIdxStart = 0;
+      int patIdxEnd = patDirs.length - 1;
+      int strIdxStart = from;
+      int strIdxEnd = path.size() - 1;
+
+      // up to first '**'
+      while ((patIdxStart <= patIdxEnd) && (strIdxStart <= strIdxEnd)) {
+        String patDir = patDirs[patIdxStart];
+        if (patDir.equals("**")) {
+          break;
+        }
+        if (!SelectorUtils.match(patDir, path.get(strIdxStart), caseSensitive)) {
+          return false;
+        }
+        patIdxStart++;
+        strIdxStart++;
+      }
+      if (strIdxStart > strIdxEnd) {
+        // path is exhausted
+        return onlyDoubleStars(patIdxStart, patIdxEnd);
+      } else if (patIdxStart > patIdxEnd) {
+        // path not exhausted, but pattern is
+        return false;
+      }
+
+      // up to last '**'
+      while ((patIdxStart <= patIdxEnd) && (strIdxStart <= strIdxEnd)) {
+        String patDir = patDirs[patIdxEnd];
+        if (patDir.equals("**")) {
+          break;
+        }
+        if (!SelectorUtils.match(patDir, path.get(strIdxEnd), caseSensitive)) {
+          return false;
+        }
+        patIdxEnd--;
+        strIdxEnd--;
+      }
+      if (strIdxStart > strIdxEnd) {
+        // path is exhausted
+        return onlyDoubleStars(patIdxStart, patIdxEnd);
+      }
+
+      while ((patIdxStart != patIdxEnd) && (strIdxStart <= strIdxEnd)) {
+        int patIdxTmp = -1;
+        for (int i = patIdxStart + 1; i <= patIdxEnd; i++) {
+          if (patDirs[i].equals("**")) {
+            patIdxTmp = i;
+            break;
+          }
+        }
+        if (patIdxTmp == patIdxStart + 1) {
+          // '**/**' situation, so skip one
+          patIdxStart++;
+          continue;
+        }
+        // find the pattern between patIdxStart & patIdxTmp in the path between strIdxStart & strIdxEnd
+        int patLength = (patIdxTmp - patIdxStart - 1);
+        int strLength = (strIdxEnd - strIdxStart + 1);
+        int foundIdx = -1;
+        strLoop: for (int i = 0; i <= strLength - patLength; i++) {
+          for (int j = 0; j < patLength; j++) {
+            if (!SelectorUtils.match(patDirs[patIdxStart + j + 1], path.get(strIdxStart + i + j), caseSensitive)) {
+              continue strLoop;
+            }
+          }
+          foundIdx = strIdxStart + i;
+          break;
+        }
+        if (foundIdx == -1) {
+          return false;
+        }
+        patIdxStart = patIdxTmp;
+        strIdxStart = foundIdx + patLength;
+      }
+
+      return onlyDoubleStars(patIdxStart, patIdxEnd);
+    }
+
+    private boolean onlyDoubleStars(int start, int end) {
+      for (int i = start; i <= end; i++) {
+        if (!this._segments[i].equals("**")) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  } /* ENDCLASS */
 }
@@ -20,22 +20,51 @@ import org.apache.tools.ant.Project;
 import org.apache.tools.ant.types.Resource;
 import org.apache.tools.ant.types.resources.FileResource;
 
+/**
+ * <p>
+ * The {@link TargetPlatformFileSet} type contains the bundle files of a target platform.
+ * </p>
+ * <p>
+ * A file set is computed again as soon as its target platform has been resolved again.
+ * </p>
+ */
 public class TargetPlatformFileSet extends AbstractAnt4EclipseResourceCollection implements
     TargetPlatformAwareComponent {
 
   private TargetPlatformAwareDelegate _targetPlatformComponentDelegate;
 
+  /** the resolution stamp of the target platform the file set has been computed for */
+  private long                        _resolutionStamp;
+
   public TargetPlatformFileSet(Project project) {
     super(project);
 
     this._targetPlatformComponentDelegate = new TargetPlatformAwareDelegate();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void computeFileSet() {
+
+    // the bundle files change when the target platform is resolved again
+    if (isFileListComputed()
+        && (this._resolutionStamp != this._targetPlatformComponentDelegate.getTargetPlatform(null)
+            .getResolutionStamp())) {
+      clear();
+    }
+
+    super.computeFileSet();
+  }
+
   @Override
   protected void doComputeFileSet(List<Resource> resourceList) {
 
     TargetPlatform targetPlatform = this._targetPlatformComponentDelegate.getTargetPlatform(null);
 
+    this._resolutionStamp = targetPlatform.getResolutionStamp();
+
     List<File> allBundleFiles = targetPlatform.getAllBundleFiles();
 
     for (File file : allBundleFiles) {
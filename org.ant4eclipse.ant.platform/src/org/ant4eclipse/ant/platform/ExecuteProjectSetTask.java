@@ -154,6 +154,13 @@ public class ExecuteProjectSetTask extends AbstractProjectSetPathBasedTask imple
     this._macroExecutionDelegate.executeMacroInstance(macroDef, provider);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public void executeMacroInstances(MacroDef macroDef, List<MacroExecutionValuesProvider> providers, int threadCount) {
+    this._macroExecutionDelegate.executeMacroInstances(macroDef, providers, threadCount);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -188,6 +195,19 @@ public class ExecuteProjectSetTask extends AbstractProjectSetPathBasedTask imple
   protected void doExecute() {
     StopWatchService stopWatchService = ServiceRegistryAccess.instance().getService(StopWatchService.class);
     stopWatchService.getOrCreateStopWatch("executeProjectSet").start();
+    try {
+      executeProjectSet();
+    } finally {
+      stopWatchService.getOrCreateStopWatch("executeProjectSet").stop();
+    }
+  }
+
+  /**
+   * <p>
+   * Executes the scoped macro definitions for all projects of the project set.
+   * </p>
+   */
+  private void executeProjectSet() {
 
     // check required attributes
     requireAllWorkspaceProjectsOrProjectSetOrProjectNamesSet();
@@ -294,8 +314,6 @@ public class ExecuteProjectSetTask extends AbstractProjectSetPathBasedTask imple
 
     }
 
-    stopWatchService.getOrCreateStopWatch("executeProjectSet").stop();
-
   }
 
   class BuildCallable implements Callable<Void> {
@@ -61,6 +61,17 @@ public class ExecuteTeamProjectSetTask extends AbstractTeamProjectSetBasedTask i
 
   }
 
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * org.ant4eclipse.ant.platform.core.MacroExecutionComponent#executeMacroInstances(org.apache.tools.ant.taskdefs.MacroDef
+   * , java.util.List, int)
+   */
+  public void executeMacroInstances(MacroDef macroDef, List<MacroExecutionValuesProvider> providers, int threadCount) {
+    this._macroExecutionDelegate.executeMacroInstances(macroDef, providers, threadCount);
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -45,4 +45,20 @@ public interface MacroExecutionComponent<E> {
   // void executeMacroInstance(MacroDef macroDef, MacroExecutionValues macroExecutionValues);
 
   void executeMacroInstance(MacroDef macroDef, MacroExecutionValuesProvider provider);
+
+  /**
+   * <p>
+   * Executes the given macro definition once for each of the given providers. If the thread count is greater than 1,
+   * the macro instances are executed concurrently, each one with its own properties. The values are provided in the
+   * given order by the calling thread, and if executions fail, the failure of the first provider is reported.
+   * </p>
+   * 
+   * @param macroDef
+   *          the macro definition
+   * @param providers
+   *          the providers of the values for each macro execution
+   * @param threadCount
+   *          the maximum number of macro instances that are executed concurrently
+   */
+  void executeMacroInstances(MacroDef macroDef, List<MacroExecutionValuesProvider> providers, int threadCount);
 }
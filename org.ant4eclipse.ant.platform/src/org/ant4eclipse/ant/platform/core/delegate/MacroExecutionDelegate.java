@@ -12,8 +12,17 @@
 package org.ant4eclipse.ant.platform.core.delegate;
 
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.ant4eclipse.ant.core.ThreadDispatchingPropertyHelper;
 import org.ant4eclipse.ant.core.delegate.AbstractAntDelegate;
@@ -25,6 +34,7 @@ import org.ant4eclipse.ant.platform.core.delegate.helper.AntReferencesRaper;
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.ldapfilter.LdapFilter;
 import org.ant4eclipse.lib.core.ldapfilter.ParseException;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
 import org.ant4eclipse.lib.core.util.StringMap;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.PropertyHelper;
@@ -118,17 +128,144 @@ public class MacroExecutionDelegate<E> extends AbstractAntDelegate implements Ma
     Assure.notNull("macroDef", macroDef);
     Assure.notNull("provider", provider);
 
+    if (!isEnabled(macroDef)) {
+      return;
+    }
+
+    MacroExecutionValues values = new MacroExecutionValues();
+
+    executeMacroInstance(macroDef, provider.provideMacroExecutionValues(values));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void executeMacroInstances(final MacroDef macroDef, List<MacroExecutionValuesProvider> providers,
+      int threadCount) {
+    Assure.notNull("macroDef", macroDef);
+    Assure.notNull("providers", providers);
+    Assure.assertTrue(threadCount > 0, "threadCount must be greater than 0");
+
+    // the properties of the macro instances can only be isolated by the ThreadDispatchingPropertyHelper
+    final ThreadDispatchingPropertyHelper propertyHelper = ThreadDispatchingPropertyHelper
+        .getInstance(getAntProject());
+    if ((threadCount == 1) || (providers.size() < 2) || (propertyHelper == null)) {
+      if ((threadCount > 1) && (propertyHelper == null)) {
+        A4ELogging.warn("Executing macro instances sequentially since their properties can't be isolated.");
+      }
+      for (MacroExecutionValuesProvider provider : providers) {
+        executeMacroInstance(macroDef, provider);
+      }
+      return;
+    }
+
+    if (!isEnabled(macroDef)) {
+      return;
+    }
+
+    // provide the values in the calling thread, so the providers are invoked in a deterministic order
+    List<MacroExecutionValues> valuesList = new ArrayList<MacroExecutionValues>(providers.size());
+    for (MacroExecutionValuesProvider provider : providers) {
+      valuesList.add(provider.provideMacroExecutionValues(new MacroExecutionValues()));
+    }
+
+    // the names of the threads have to start with 'A4E-' to be dispatched by the ThreadDispatchingPropertyHelper
+    final AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, valuesList.size()),
+        new ThreadFactory() {
+          public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "A4E-MacroExecution-" + threadNumber.incrementAndGet());
+          }
+        });
+
+    try {
+
+      // execute the macro instances
+      List<Future<Object>> futures = new ArrayList<Future<Object>>(valuesList.size());
+      for (final MacroExecutionValues values : valuesList) {
+        futures.add(executor.submit(new Callable<Object>() {
+          public Object call() {
+            try {
+              executeMacroInstance(macroDef, values);
+            } finally {
+              // discard the properties of this execution, since the thread is reused
+              propertyHelper.unregisterThread(Thread.currentThread());
+            }
+            return null;
+          }
+        }));
+      }
+
+      // wait for the macro instances in the order of the providers and report the first failure (macro instances
+      // which haven't been started yet are skipped after a failure)
+      BuildException buildException = null;
+      for (Future<Object> future : futures) {
+        if (buildException != null) {
+          future.cancel(false);
+          continue;
+        }
+        try {
+          future.get();
+        } catch (ExecutionException ex) {
+          Throwable cause = ex.getCause();
+          buildException = cause instanceof BuildException ? (BuildException) cause : new BuildException(cause);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          buildException = new BuildException(ex);
+        }
+      }
+      if (buildException != null) {
+        throw buildException;
+      }
+    } finally {
+      // the running macro instances must not modify the project after this task has finished
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+  }
+
+  /**
+   * <p>
+   * Waits until all macro instances executed by the given executor have been finished. An interruption doesn't stop
+   * waiting but is restored afterwards.
+   * </p>
+   * 
+   * @param executor
+   *          the executor which has been shut down
+   */
+  private void awaitTermination(ExecutorService executor) {
+    boolean interrupted = Thread.interrupted();
+    while (!executor.isTerminated()) {
+      try {
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * <p>
+   * Returns <code>false</code> if the given macro definition is disabled by its <code>if</code> or
+   * <code>unless</code> attribute.
+   * </p>
+   * 
+   * @param macroDef
+   *          the macro definition
+   * @return <code>false</code> if the given macro definition is disabled.
+   */
+  private boolean isEnabled(MacroDef macroDef) {
     if (macroDef instanceof ConditionalMacroDef) {
       ConditionalMacroDef conditionalMacroDef = (ConditionalMacroDef) macroDef;
 
       if (!conditionalMacroDef.isIf() || conditionalMacroDef.isUnless()) {
-        return;
+        return false;
       }
     }
-
-    MacroExecutionValues values = new MacroExecutionValues();
-
-    executeMacroInstance(macroDef, provider.provideMacroExecutionValues(values));
+    return true;
   }
 
   /**
@@ -174,11 +311,13 @@ public class MacroExecutionDelegate<E> extends AbstractAntDelegate implements Ma
     // System.out.println(macroExecutionValues);
     // ******
 
-    // execute macro instance
-    instance.execute();
-
-    // unset scoped values
-    antPropertiesRaper.unsetScopedValues();
-    antReferencesRaper.unsetScopedValues();
+    try {
+      // execute macro instance
+      instance.execute();
+    } finally {
+      // unset scoped values
+      antPropertiesRaper.unsetScopedValues();
+      antReferencesRaper.unsetScopedValues();
+    }
   }
 }
@@ -80,6 +80,13 @@ public abstract class AbstractExecuteProjectTask extends AbstractProjectPathTask
     this._macroExecutionDelegate.executeMacroInstance(macroDef, provider);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public void executeMacroInstances(MacroDef macroDef, List<MacroExecutionValuesProvider> providers, int threadCount) {
+    this._macroExecutionDelegate.executeMacroInstances(macroDef, providers, threadCount);
+  }
+
   /**
    * {@inheritDoc}
    */
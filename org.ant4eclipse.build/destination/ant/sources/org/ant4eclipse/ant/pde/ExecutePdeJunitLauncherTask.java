@@ -0,0 +1,212 @@
+package org.ant4eclipse.ant.pde;
+
+import org.ant4eclipse.ant.pde.analysis.TestClassAnalyser;
+import org.ant4eclipse.ant.platform.ExecuteLauncherTask;
+import org.ant4eclipse.ant.platform.core.MacroExecutionValues;
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.util.StringMap;
+import org.ant4eclipse.lib.jdt.model.jre.JavaRuntime;
+import org.ant4eclipse.lib.jdt.model.jre.JavaRuntimeRegistry;
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesResolver;
+import org.ant4eclipse.lib.pde.internal.tools.UnresolvedBundleException;
+import org.ant4eclipse.lib.pde.model.launcher.EquinoxLaunchConfigurationWrapper;
+import org.ant4eclipse.lib.pde.model.pluginproject.PluginProjectRole;
+import org.ant4eclipse.lib.pde.tools.LaunchBundleTables;
+import org.ant4eclipse.lib.pde.tools.TargetPlatform;
+import org.ant4eclipse.lib.platform.model.launcher.LaunchConfiguration;
+import org.apache.tools.ant.BuildException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+
+/**
+ * <p>
+ * Executes a PDE JUnit Launch Configuration (type="org.eclipse.pde.ui.EquinoxLauncher")
+ * </p>
+ * <p>
+ * TODOS:
+ * <ul>
+ * <li>Support for 'All workspace and enabled target plug-ins'</li>
+ * <li>If the test bundle is a fragment bundle, the host must be set as test bundle</li>
+ * <li></li>
+ * </ul>
+ * </p>
+ * 
+ * @author Nils Hartmann (nils@nilshartmann.net)
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public class ExecutePdeJunitLauncherTask extends ExecuteLauncherTask implements TargetPlatformAwareComponent {
+
+  /** the target platform delegate */
+  private TargetPlatformAwareDelegate _targetPlatformAwareDelegate;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link ExecutePdeJunitLauncherTask}.
+   * </p>
+   */
+  public ExecutePdeJunitLauncherTask() {
+    super("executePdeJunitLauncher");
+
+    // create the delegate
+    this._targetPlatformAwareDelegate = new TargetPlatformAwareDelegate();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getPlatformConfigurationId() {
+    return this._targetPlatformAwareDelegate.getPlatformConfigurationId();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public final String getTargetPlatformId() {
+    return this._targetPlatformAwareDelegate.getTargetPlatformId();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isPlatformConfigurationIdSet() {
+    return this._targetPlatformAwareDelegate.isPlatformConfigurationIdSet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public final boolean isTargetPlatformIdSet() {
+    return this._targetPlatformAwareDelegate.isTargetPlatformIdSet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setPlatformConfigurationId(String platformConfigurationId) {
+    this._targetPlatformAwareDelegate.setPlatformConfigurationId(platformConfigurationId);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public final void setTargetPlatformId(String targetPlatformId) {
+    this._targetPlatformAwareDelegate.setTargetPlatformId(targetPlatformId);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public final void requireTargetPlatformIdSet() {
+    this._targetPlatformAwareDelegate.requireTargetPlatformIdSet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void ensureSupportedLaunchConfiguration(LaunchConfiguration launchConfiguration) {
+    super.ensureSupportedLaunchConfiguration(launchConfiguration);
+
+    // makes sure the selected launch configuration is a PDE-Launch Configuration
+    if (!EquinoxLaunchConfigurationWrapper.isPdeJunitLaunchConfiguration(launchConfiguration)) {
+      throw new BuildException("The launch configuration you've specified must be a Equinox launch configuration");
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void preconditions() throws BuildException {
+    super.preconditions();
+
+    //
+    this._targetPlatformAwareDelegate.requireTargetPlatformIdSet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected MacroExecutionValues provideDefaultMacroExecutionValues(MacroExecutionValues values) {
+    final MacroExecutionValues defaultValues = super.provideDefaultMacroExecutionValues(values);
+
+    // add JRE-Location to scoped properties
+    JavaRuntime javaRuntime = getJavaRuntime();
+    defaultValues.getProperties().put("jre.location", javaRuntime.getLocation().getAbsolutePath());
+
+    StringMap jrtProperties = javaRuntime.getJavaProfile().getProperties();
+    defaultValues.getProperties().put("org.osgi.framework.system.packages",
+        jrtProperties.get("org.osgi.framework.system.packages"));
+    defaultValues.getProperties().put("org.osgi.framework.bootdelegation",
+        jrtProperties.get("org.osgi.framework.bootdelegation"));
+    defaultValues.getProperties().put("org.osgi.framework.executionenvironment",
+        jrtProperties.get("org.osgi.framework.executionenvironment"));
+
+    // get the bundle information (shared by all launches with the same bundle selection)
+    TargetPlatform targetPlatform = this._targetPlatformAwareDelegate.getTargetPlatform(getWorkspace());
+    LaunchBundleTables bundleTables = LaunchBundleTables.getLaunchBundleTables(targetPlatform,
+        getLaunchConfiguration().getAttribute("selected_workspace_plugins"), getLaunchConfiguration().getAttribute(
+            "selected_target_plugins"));
+    defaultValues.getProperties().put("bundles.info", bundleTables.getBundlesInfo());
+    defaultValues.getProperties().put("osgi.bundles", bundleTables.getOsgiBundles());
+    defaultValues.getProperties().put("dev.properties", bundleTables.getDevProperties());
+
+    // set the osgi framework
+    BundleDescription osgiFramework = targetPlatform.getResolvedBundle("org.eclipse.osgi", null);
+    if (osgiFramework == null) {
+      throw new RuntimeException("Bundle 'org.eclipse.osgi' is missing.");
+    }
+    defaultValues.getProperties().put("osgi.framework", osgiFramework.getLocation());
+
+    // set the test plug-in name and location
+    PluginProjectRole pluginProjectRole = getEclipseProject().getRole(PluginProjectRole.class);
+    BundleDescription bundleDescription = pluginProjectRole.getBundleDescription();
+    bundleDescription = targetPlatform.getResolvedBundle(bundleDescription.getSymbolicName(), bundleDescription
+        .getVersion());
+    BundleDescription bundleHost;
+    try {
+      bundleHost = BundleDependenciesResolver.getHost(bundleDescription);
+    } catch (UnresolvedBundleException e1) {
+      throw new RuntimeException("Bundle not resolved: " + e1.getMessage());
+    }
+
+    defaultValues.getProperties().put("testplugin.bundlehost.name", bundleHost.getSymbolicName());
+    defaultValues.getProperties().put("testplugin.name", bundleDescription.getSymbolicName());
+    defaultValues.getProperties().put("testplugin.location", bundleDescription.getLocation());
+
+    // find contained test classes
+    defaultValues.getProperties().put("test.classes",
+        new TestClassAnalyser(getEclipseProject()).getTestClassesAsString());
+
+    // set the 'pde.test.utils' class path
+    if (bundleTables.getCollectorClassPath() != null) {
+      defaultValues.getProperties().put("collectorCP", bundleTables.getCollectorClassPath());
+    }
+
+    //
+    return defaultValues;
+  }
+
+  /**
+   * <p>
+   * Returns the Java Runtime for the current launch configuration.
+   * </p>
+   * 
+   * @return
+   */
+  protected JavaRuntime getJavaRuntime() {
+
+    // get the java runtime registry
+    JavaRuntimeRegistry javaRuntimeRegistry = ServiceRegistryAccess.instance().getService(JavaRuntimeRegistry.class);
+
+    // get the vm path
+    String vmPath = getLaunchConfiguration().getAttribute("org.eclipse.jdt.launching.JRE_CONTAINER");
+    if (vmPath == null) {
+      return javaRuntimeRegistry.getDefaultJavaRuntime();
+    }
+
+    // return the runtime
+    return javaRuntimeRegistry.getJavaRuntimeForPath(vmPath);
+  }
+
+}
@@ -0,0 +1,64 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.platform.core;
+
+
+import org.ant4eclipse.ant.platform.core.delegate.MacroExecutionValuesProvider;
+import org.apache.tools.ant.taskdefs.MacroDef;
+import org.apache.tools.ant.taskdefs.MacroDef.NestedSequential;
+
+import java.util.List;
+
+/**
+ */
+public interface MacroExecutionComponent<E> {
+
+  /**
+   * @return
+   */
+  String getPrefix();
+
+  /**
+   * @param prefix
+   */
+  void setPrefix(String prefix);
+
+  NestedSequential createScopedMacroDefinition(E scope);
+
+  List<ScopedMacroDefinition<E>> getScopedMacroDefinitions();
+
+  // /**
+  // * @param macroDef
+  // * @param prefix
+  // * @param scopedProperties
+  // * @param scopedReferences
+  // */
+  // void executeMacroInstance(MacroDef macroDef, MacroExecutionValues macroExecutionValues);
+
+  void executeMacroInstance(MacroDef macroDef, MacroExecutionValuesProvider provider);
+
+  /**
+   * <p>
+   * Executes the given macro definition once for each of the given providers. If the thread count is greater than 1,
+   * the macro instances are executed concurrently, each one with its own properties. The values are provided in the
+   * given order by the calling thread, and if executions fail, the failure of the first provider is reported.
+   * </p>
+   * 
+   * @param macroDef
+   *          the macro definition
+   * @param providers
+   *          the providers of the values for each macro execution
+   * @param threadCount
+   *          the maximum number of macro instances that are executed concurrently
+   */
+  void executeMacroInstances(MacroDef macroDef, List<MacroExecutionValuesProvider> providers, int threadCount);
+}
@@ -0,0 +1,49 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.core;
+
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.types.FileList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+public class FileListHelperTest {
+
+  @Test
+  public void copy() {
+    Project project = new Project();
+    FileList fileList = new FileList();
+    fileList.setProject(project);
+    fileList.setDir(new File("launcher"));
+    fileList.setFiles("eclipse.exe,eclipsec.exe");
+
+    FileList copy = FileListHelper.copy(fileList);
+    Assert.assertEquals(fileList.getDir(project), copy.getDir(project));
+    Assert.assertEquals(Arrays.asList("eclipse.exe", "eclipsec.exe"), Arrays.asList(copy.getFiles(project)));
+
+    // modifying the copy doesn't affect the original
+    copy.setFiles("eclipse.ini");
+    Assert.assertEquals(3, copy.size());
+    Assert.assertEquals(2, fileList.size());
+  }
+
+  @Test
+  public void copyEmpty() {
+    FileList copy = FileListHelper.copy(new FileList());
+    Assert.assertEquals(0, copy.size());
+    Assert.assertNull(copy.getDir(null));
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,24 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.pde;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses( { PdeProjectFileSetScanTest.class /**
+ * PdeProjectFileSetTest.class , GetRequiredBundlesTaskTest.class,
+ * ExecutePluginProjectTaskTest.class, ExecutePluginLibraryTaskTest.class, FragmentTest.class, JarInJarTest.class
+ */
+})
+public class AllTests {
+} /* ENDCLASS */
@@ -0,0 +1,131 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.platform.delegate;
+
+
+
+import org.ant4eclipse.ant.core.AbstractAnt4EclipseBuildFileTest;
+import org.ant4eclipse.ant.core.AbstractAnt4EclipseTask;
+import org.ant4eclipse.ant.platform.core.MacroExecutionValues;
+import org.ant4eclipse.ant.platform.core.ScopedMacroDefinition;
+import org.ant4eclipse.ant.platform.core.delegate.MacroExecutionDelegate;
+import org.ant4eclipse.ant.platform.core.delegate.MacroExecutionValuesProvider;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.DynamicElement;
+import org.apache.tools.ant.taskdefs.MacroDef.NestedSequential;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MacroExecutionDelegateTest extends AbstractAnt4EclipseBuildFileTest {
+
+  @Override
+  protected String getBuildFileName() {
+    return "MacroExecutionDelegateTest.xml";
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    getProject().setProperty("hurz.test", "initial");
+  }
+
+  public void testMacroExecute() {
+    MacroExecuteTask.counter = 0;
+    expectLog("testMacroExecute", "initial!0.test!1.test!0.test!initial!2.test!initial");
+  }
+
+  public void testParallelMacroExecute() {
+    MacroExecuteTask.counter = 0;
+    executeTarget("testParallelMacroExecute");
+    String log = getLog();
+    for (int i = 0; i < 16; i++) {
+      // the property set within the macro must not leak into other executions on the same thread
+      assertTrue(log, log.contains("[" + i + ".test=" + i + ".test]"));
+    }
+    assertTrue(log, log.endsWith("initial"));
+  }
+
+  public void testParallelMacroExecuteFailure() {
+    MacroExecuteTask.counter = 0;
+    expectBuildException("testParallelMacroExecuteFailure", "failed 0.test");
+    String log = getLog();
+    for (int i = 1; i < 4; i++) {
+      // the macro instances which have already been running are finished before the failure is reported
+      assertTrue(log, log.contains("[done " + i + ".test]"));
+    }
+  }
+
+  /**
+   * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+   */
+  public static class MacroExecuteTask extends AbstractAnt4EclipseTask implements DynamicElement {
+
+    public static int                      counter = 0;
+
+    private MacroExecutionDelegate<String> _macroExecutionDelegate;
+
+    private int                            _threadCount;
+
+    private int                            _count  = 1;
+
+    public MacroExecuteTask() {
+      this._macroExecutionDelegate = new MacroExecutionDelegate<String>(this, "hurz");
+    }
+
+    /**
+     * @param prefix
+     */
+    public void setPrefix(String prefix) {
+      this._macroExecutionDelegate.setPrefix(prefix);
+    }
+
+    public void setThreadCount(int threadCount) {
+      this._threadCount = threadCount;
+    }
+
+    public void setCount(int count) {
+      this._count = count;
+    }
+
+    @Override
+    protected void doExecute() {
+      for (ScopedMacroDefinition<String> scopedMacroDefinition : this._macroExecutionDelegate
+          .getScopedMacroDefinitions()) {
+
+        MacroExecutionValuesProvider provider = new MacroExecutionValuesProvider() {
+
+          public MacroExecutionValues provideMacroExecutionValues(MacroExecutionValues values) {
+            values.getProperties().put("test", counter + ".test");
+            counter++;
+            return values;
+          }
+        };
+
+        if (this._threadCount > 0) {
+          List<MacroExecutionValuesProvider> providers = new ArrayList<MacroExecutionValuesProvider>();
+          for (int i = 0; i < this._count; i++) {
+            providers.add(provider);
+          }
+          this._macroExecutionDelegate.executeMacroInstances(scopedMacroDefinition.getMacroDef(), providers,
+              this._threadCount);
+        } else {
+          this._macroExecutionDelegate.executeMacroInstance(scopedMacroDefinition.getMacroDef(), provider);
+        }
+      }
+    }
+
+    public NestedSequential createDynamicElement(String name) throws BuildException {
+      return this._macroExecutionDelegate.createScopedMacroDefinition(name);
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.pydt;
+
+/**
+ * Tests for the ant task: 'getPythonPath' using the Python DLTK implementation.
+ * 
+ * @author Daniel Kasmeroglu (Daniel.Kasmeroglu@Kasisoft.net)
+ */
+public class PythonPathDLTKTest extends AbstractPythonPathTest {
+
+  /**
+   * Initialises this set of tests.
+   */
+  public PythonPathDLTKTest() {
+    super(true);
+  }
+
+} /* ENDCLASS */
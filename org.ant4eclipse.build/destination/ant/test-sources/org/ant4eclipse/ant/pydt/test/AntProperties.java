@@ -0,0 +1,27 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.pydt.test;
+
+/**
+ * Collection of ant property keys.
+ * 
+ * @author Daniel Kasmeroglu (Daniel.Kasmeroglu@Kasisoft.net)
+ */
+public interface AntProperties {
+
+  String PROP_ANTFILE      = "ant.file";
+
+  String PROP_PROJECTNAME  = "projectname";
+
+  String PROP_WORKSPACEDIR = "workspacedir";
+
+} /* ENDINTERFACE */
@@ -0,0 +1,25 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.cdt.model.project;
+
+import org.ant4eclipse.lib.platform.model.resource.role.ProjectRole;
+
+/**
+ * CCProjectRole --
+ * 
+ * @author Daniel Kasmeroglu (Daniel.Kasmeroglu@Kasisoft.net)
+ */
+public interface CCProjectRole extends ProjectRole {
+
+  String CC_NATURE = "org.eclipse.cdt.core.ccnature";
+
+} /* ENDINTERFACE */
\ No newline at end of file
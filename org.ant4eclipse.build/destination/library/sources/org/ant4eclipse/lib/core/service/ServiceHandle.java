@@ -0,0 +1,121 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.service;
+
+import org.ant4eclipse.lib.core.Assure;
+
+/**
+ * <p>
+ * Typed handle for a service of the {@link ServiceRegistry}. Handles are meant to be kept in constants of classes that
+ * access a service very often (f.e. the logging): <code><pre>
+ * private static final ServiceHandle&lt;MyService&gt; MY_SERVICE = new ServiceHandle&lt;MyService&gt;(MyService.class);
+ * ...
+ * MY_SERVICE.get().doSomething();</pre></code>
+ * </p>
+ * <p>
+ * The service is looked up once for each configured {@link ServiceRegistry}. The resolved service is kept within an
+ * immutable binding which is published through a volatile field, so subsequent calls neither lock nor look up the
+ * service by its name. If the registry is reset and configured again (or restored) the service is looked up again.
+ * </p>
+ * 
+ * @param <T>
+ *          the type of the service
+ */
+public final class ServiceHandle<T> {
+
+  /** the type of the service */
+  private final Class<T>      _serviceType;
+
+  /** the service resolved for the current registry (maybe <code>null</code>) */
+  private volatile Binding<T> _binding;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link ServiceHandle}.
+   * </p>
+   * 
+   * @param serviceType
+   *          the type of the service. Not <code>null</code>.
+   */
+  public ServiceHandle(Class<T> serviceType) {
+    Assure.notNull("serviceType", serviceType);
+    this._serviceType = serviceType;
+  }
+
+  /**
+   * <p>
+   * Returns the type of the service.
+   * </p>
+   * 
+   * @return the type of the service. Not <code>null</code>.
+   */
+  public Class<T> getServiceType() {
+    return this._serviceType;
+  }
+
+  /**
+   * <p>
+   * Returns the service registered with the current {@link ServiceRegistry}.
+   * </p>
+   * 
+   * @return the service. Not <code>null</code>.
+   */
+  public T get() {
+    ServiceRegistry registry = ServiceRegistryAccess.instance();
+    Binding<T> binding = this._binding;
+    if ((binding == null) || (binding._registry != registry)) {
+      // concurrent lookups are harmless since they create equal bindings
+      binding = new Binding<T>(registry, registry.getService(this._serviceType));
+      this._binding = binding;
+    }
+    return binding._service;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "[ServiceHandle: " + this._serviceType.getName() + "]";
+  }
+
+  /**
+   * <p>
+   * Immutable association between a registry and the service it provides.
+   * </p>
+   */
+  private static final class Binding<T> {
+
+    /** the registry providing the service */
+    private final ServiceRegistry _registry;
+
+    /** the service */
+    private final T               _service;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link Binding}.
+     * </p>
+     * 
+     * @param registry
+     *          the registry providing the service
+     * @param service
+     *          the service
+     */
+    private Binding(ServiceRegistry registry, T service) {
+      this._registry = registry;
+      this._service = service;
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
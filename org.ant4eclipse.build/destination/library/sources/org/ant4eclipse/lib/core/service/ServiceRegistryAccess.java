@@ -0,0 +1,128 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.service;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.util.Utilities;
+
+/**
+ * <p>
+ * This class provides access to the ServiceRegistry independent from the running context.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ * @author Daniel Kasmeroglu (Daniel.Kasmeroglu@Kasisoft.net)
+ */
+public class ServiceRegistryAccess {
+
+  /** the instance (volatile, so a configured registry and its services are safely published to all threads) */
+  private static volatile ServiceRegistry           _instance;
+
+  /** the registry which is currently initialized by the configuring thread, so its services can access it */
+  private static final ThreadLocal<ServiceRegistry> INITIALIZING = new ThreadLocal<ServiceRegistry>();
+
+  /**
+   * <p>
+   * Configures the {@link ServiceRegistry}. The registry has to be configured before it can be used. As a new build
+   * starts the canonical files remembered by {@link Utilities#getCanonicalFile(java.io.File)} are dropped.
+   * </p>
+   * <p>
+   * The registry is published once it has been initialized, so other threads never see a registry which isn't
+   * initialized yet. While the services are initialized only the configuring thread can access the registry.
+   * </p>
+   * 
+   * @param configuration
+   *          the service registry configuration
+   */
+  public static final void configure(ServiceRegistryConfiguration configuration) {
+    Assure.notNull("configuration", configuration);
+    Assure.assertTrue(!isConfigured(), "ServiceRegistry already is configured.");
+    Utilities.clearCanonicalFiles();
+    ServiceRegistry registry = new ServiceRegistry(configuration);
+    INITIALIZING.set(registry);
+    try {
+      registry.initialize();
+    } finally {
+      INITIALIZING.remove();
+    }
+    _instance = registry;
+  }
+
+  /**
+   * <p>
+   * This function allows to restore a registry. The supplied registry is configured as this {@link #instance()} is the
+   * only way to access an instance.
+   * </p>
+   * 
+   * @param registry
+   *          The registry used to be restored. Not <code>null</code>.
+   */
+  public static final void restore(ServiceRegistry registry) {
+    Assure.notNull("registry", registry);
+    _instance = registry;
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if the {@link ServiceRegistry} already is configured, <code>false</code> otherwise.
+   * </p>
+   * 
+   * @return <code>true</code> if the {@link ServiceRegistry} already is configured, <code>false</code> otherwise.
+   */
+  public static final boolean isConfigured() {
+    return _instance != null;
+  }
+
+  /**
+   * <p>
+   * Resets the {@link ServiceRegistry} and drops the canonical files remembered within the build.
+   * </p>
+   */
+  public static final void reset() {
+    try {
+      instance().dispose();
+    } finally {
+      _instance = null;
+      Utilities.clearCanonicalFiles();
+    }
+  }
+
+  /**
+   * <p>
+   * Revalidates the {@link ServiceRegistry} so it can be reused for another build. All services implementing
+   * {@link org.ant4eclipse.lib.core.Revalidatable} drop their stale models, just like the canonical files remembered
+   * within the previous build.
+   * </p>
+   */
+  public static final void revalidate() {
+    Utilities.clearCanonicalFiles();
+    instance().revalidate();
+  }
+
+  /**
+   * <p>
+   * Returns the instance. Services that are accessed very often should be accessed through a {@link ServiceHandle}.
+   * </p>
+   * 
+   * @return the instance.
+   */
+  public static final ServiceRegistry instance() {
+    ServiceRegistry result = _instance;
+    if (result == null) {
+      // the services of a registry which is currently initialized might access it
+      result = INITIALIZING.get();
+    }
+    Assure.assertTrue(result != null, "ServiceRegistry has to be configured.");
+    return result;
+  }
+
+}
@@ -0,0 +1,110 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.Assure;
+
+import java.io.File;
+import java.util.Collection;
+
+/**
+ * <p>
+ * Snapshot of the modification time and the size of a set of files. It allows to check cheaply whether a model that
+ * has been read from these files is still up to date. Files that don't exist are recorded as well, so a file appearing
+ * later makes the fingerprint stale.
+ * </p>
+ * <p>
+ * Directories are only compared by their own modification time which changes when direct children are added or
+ * removed but not when a nested file has been modified.
+ * </p>
+ */
+public class FileFingerprint {
+
+  private final File[] _files;
+
+  private final long[] _lastmodified;
+
+  private final long[] _length;
+
+  /**
+   * Creates a snapshot of the supplied files.
+   *
+   * @param files
+   *          The files which have to be recorded. Not <code>null</code>.
+   */
+  public FileFingerprint(File... files) {
+    Assure.notNull("files", files);
+    this._files = new File[files.length];
+    this._lastmodified = new long[files.length];
+    this._length = new long[files.length];
+    for (int i = 0; i < files.length; i++) {
+      this._files[i] = files[i];
+      this._lastmodified[i] = files[i].lastModified();
+      this._length[i] = length(files[i]);
+    }
+  }
+
+  /**
+   * Creates a snapshot of the supplied files.
+   *
+   * @param files
+   *          The files which have to be recorded. Not <code>null</code>.
+   */
+  public FileFingerprint(Collection<File> files) {
+    this(files.toArray(new File[files.size()]));
+  }
+
+  /**
+   * Returns <code>true</code> if none of the recorded files has been changed, created or deleted since the snapshot
+   * has been taken.
+   *
+   * @return <code>true</code> <=> None of the recorded files has been changed.
+   */
+  public boolean isUpToDate() {
+    for (int i = 0; i < this._files.length; i++) {
+      if ((this._files[i].lastModified() != this._lastmodified[i]) || (length(this._files[i]) != this._length[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns <code>true</code> if at least one of the recorded files has been a directory.
+   *
+   * @return <code>true</code> <=> At least one of the recorded files has been a directory.
+   */
+  public boolean containsDirectory() {
+    for (File file : this._files) {
+      if (file.isDirectory()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the files that have been recorded.
+   *
+   * @return The files that have been recorded. Not <code>null</code>.
+   */
+  public File[] getFiles() {
+    File[] result = new File[this._files.length];
+    System.arraycopy(this._files, 0, result, 0, result.length);
+    return result;
+  }
+
+  private static long length(File file) {
+    return file.isFile() ? file.length() : -1;
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,219 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Implements a stop watch.
+ * </p>
+ * <p>
+ * A stop watch can be started and stoped multiple times. It can be used concurrently by several threads and a thread
+ * may start it again before stopping it (nested invocations). Each thread keeps its own stack of running invocations,
+ * so a call to {@link #stop()} always finishes the innermost invocation started by the calling thread.
+ * </p>
+ * <p>
+ * Besides the total time each finished invocation is recorded within a logarithmic histogram (one bucket per power of
+ * two nanoseconds) which allows to provide approximated percentiles and the maximum duration.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public class StopWatch {
+
+  /** the number of histogram buckets (one per bit of a long value) */
+  private static final int                    BUCKETS = 64;
+
+  /** The name of the stop watch */
+  private final String                        _name;
+
+  /** the service this stop watch has been created by. maybe <code>null</code>. */
+  private final StopWatchServiceImpl          _owner;
+
+  private final AtomicInteger                 _invocations;
+
+  private final AtomicLong                    _elapsedNanos;
+
+  private final AtomicLong                    _maxNanos;
+
+  private final AtomicLongArray               _histogram;
+
+  /** the start times of the currently running invocations per thread */
+  private final ThreadLocal<LinkedList<Long>> _running;
+
+  public StopWatch(String name) {
+    this(name, null);
+  }
+
+  /**
+   * Creates a new stop watch which reports finished invocations as spans to the supplied service.
+   * 
+   * @param name
+   *          The name of the stop watch. Not <code>null</code>.
+   * @param owner
+   *          The service which records the spans. Maybe <code>null</code>.
+   */
+  StopWatch(String name, StopWatchServiceImpl owner) {
+    super();
+    this._name = name;
+    this._owner = owner;
+    this._invocations = new AtomicInteger();
+    this._elapsedNanos = new AtomicLong();
+    this._maxNanos = new AtomicLong();
+    this._histogram = new AtomicLongArray(BUCKETS);
+    this._running = new ThreadLocal<LinkedList<Long>>() {
+      @Override
+      protected LinkedList<Long> initialValue() {
+        return new LinkedList<Long>();
+      }
+    };
+  }
+
+  /**
+   * Stops the innermost invocation that has been started by the current thread.
+   * 
+   * @return The time (in ms) of the stopped invocation or the total time if the stop watch hasn't been running for
+   *         the current thread.
+   */
+  public long stop() {
+    LinkedList<Long> running = this._running.get();
+    if (running.isEmpty()) {
+      return getElapsedTime();
+    }
+
+    long startedAt = running.removeLast().longValue();
+    long duration = System.nanoTime() - startedAt;
+    record(duration);
+    if (this._owner != null) {
+      this._owner.spanFinished(this, startedAt, duration);
+    }
+    return duration / 1000000L;
+  }
+
+  /**
+   * Starts a new invocation of the StopWatch for the current thread.
+   */
+  public void start() {
+    this._invocations.incrementAndGet();
+    if (this._owner != null) {
+      this._owner.spanStarted();
+    }
+    this._running.get().addLast(Long.valueOf(System.nanoTime()));
+  }
+
+  /**
+   * Returns the total time (in ms) this stop watch has been run
+   * 
+   * @return
+   */
+  public long getElapsedTime() {
+    return this._elapsedNanos.get() / 1000000L;
+  }
+
+  /**
+   * returns the average time (in ms) this stop watch has been run
+   * 
+   * @return
+   */
+  public double getAverageTime() {
+    int invocations = this._invocations.get();
+    if (invocations == 0) {
+      return 0;
+    }
+    return this._elapsedNanos.get() / 1000000.0 / invocations;
+  }
+
+  /**
+   * Returns the longest finished invocation (in ms).
+   * 
+   * @return The longest finished invocation (in ms).
+   */
+  public double getMaxTime() {
+    return this._maxNanos.get() / 1000000.0;
+  }
+
+  /**
+   * Returns the approximated percentile (in ms) of all finished invocations. The result is the upper bound of the
+   * histogram bucket containing the percentile, limited to the maximum duration.
+   * 
+   * @param percentile
+   *          The percentile between 0 and 100.
+   * 
+   * @return The approximated percentile (in ms) or 0 if no invocation has been finished yet.
+   */
+  public double getPercentile(double percentile) {
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = this._histogram.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+    if (rank < 1) {
+      rank = 1;
+    }
+    long max = this._maxNanos.get();
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        long upper = i >= BUCKETS - 2 ? Long.MAX_VALUE : (2L << i) - 1;
+        return Math.min(upper, max) / 1000000.0;
+      }
+    }
+    return max / 1000000.0;
+  }
+
+  /**
+   * returns how often this stop watch has been used
+   * 
+   * @return
+   */
+  public int getInvocations() {
+    return this._invocations.get();
+  }
+
+  /**
+   * Returns the name of this stop watch
+   * 
+   * @return
+   */
+  public String getName() {
+    return this._name;
+  }
+
+  /**
+   * Adds a finished invocation to the statistics.
+   * 
+   * @param nanos
+   *          The duration of the invocation in nanoseconds.
+   */
+  private void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    this._elapsedNanos.addAndGet(nanos);
+    this._histogram.incrementAndGet(nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+    long max = this._maxNanos.get();
+    while ((nanos > max) && (!this._maxNanos.compareAndSet(max, nanos))) {
+      max = this._maxNanos.get();
+    }
+  }
+
+} /* ENDCLASS */
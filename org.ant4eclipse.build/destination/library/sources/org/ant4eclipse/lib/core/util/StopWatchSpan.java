@@ -0,0 +1,89 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+/**
+ * <p>
+ * A single finished invocation of a {@link StopWatch}. Spans are recorded per thread and carry their nesting depth, so
+ * an invocation started while another one was running on the same thread has a depth greater than zero.
+ * </p>
+ */
+public class StopWatchSpan {
+
+  private final String _name;
+
+  private final long   _threadId;
+
+  private final String _threadName;
+
+  private final long   _start;
+
+  private final long   _duration;
+
+  private final int    _depth;
+
+  /**
+   * Creates a new span.
+   * 
+   * @param name
+   *          The name of the stop watch. Not <code>null</code>.
+   * @param threadId
+   *          The id of the thread which has run the invocation.
+   * @param threadName
+   *          The name of the thread which has run the invocation. Not <code>null</code>.
+   * @param start
+   *          The start of the invocation in nanoseconds relative to the last reset of the service.
+   * @param duration
+   *          The duration of the invocation in nanoseconds.
+   * @param depth
+   *          The nesting depth (0 for top level invocations).
+   */
+  public StopWatchSpan(String name, long threadId, String threadName, long start, long duration, int depth) {
+    this._name = name;
+    this._threadId = threadId;
+    this._threadName = threadName;
+    this._start = start;
+    this._duration = duration;
+    this._depth = depth;
+  }
+
+  public String getName() {
+    return this._name;
+  }
+
+  public long getThreadId() {
+    return this._threadId;
+  }
+
+  public String getThreadName() {
+    return this._threadName;
+  }
+
+  /**
+   * @return The start of the invocation in nanoseconds relative to the last reset of the service.
+   */
+  public long getStart() {
+    return this._start;
+  }
+
+  /**
+   * @return The duration of the invocation in nanoseconds.
+   */
+  public long getDuration() {
+    return this._duration;
+  }
+
+  public int getDepth() {
+    return this._depth;
+  }
+
+} /* ENDCLASS */
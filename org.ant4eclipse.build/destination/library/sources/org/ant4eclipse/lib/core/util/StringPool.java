@@ -0,0 +1,90 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <p>
+ * Build-wide pool of strings which are repeated many times within large models (f.e. bundle symbolic names, package
+ * names or manifest header names of a target platform). Equal strings are shared so only one instance is kept on the
+ * heap.
+ * </p>
+ * <p>
+ * Unlike {@link String#intern()} the pool lives on the normal heap and only references its strings weakly, so strings
+ * that aren't used anymore can be collected.
+ * </p>
+ */
+public class StringPool {
+
+  /** the pooled strings */
+  private static final Map<String, WeakReference<String>> POOL = new WeakHashMap<String, WeakReference<String>>();
+
+  /**
+   * <p>
+   * Returns the pooled instance of the supplied string.
+   * </p>
+   * 
+   * @param value
+   *          the string to pool. Maybe <code>null</code>.
+   * @return the pooled instance which is equal to the supplied string or <code>null</code> if the supplied string is
+   *         <code>null</code>.
+   */
+  public static String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    synchronized (POOL) {
+      WeakReference<String> reference = POOL.get(value);
+      String result = reference != null ? reference.get() : null;
+      if (result == null) {
+        result = value;
+        POOL.put(result, new WeakReference<String>(result));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the pooled instances of the supplied strings. The array is modified in place.
+   * </p>
+   * 
+   * @param values
+   *          the strings to pool. Maybe <code>null</code>.
+   * @return the supplied array
+   */
+  public static String[] intern(String[] values) {
+    if (values != null) {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = intern(values[i]);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * <p>
+   * Returns the number of strings currently kept in the pool.
+   * </p>
+   * 
+   * @return the number of strings currently kept in the pool
+   */
+  public static int size() {
+    synchronized (POOL) {
+      return POOL.size();
+    }
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,22 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+/**
+ * Uses java.lang.System as the property source.
+ */
+public class SystemPropertiesService implements PropertyService {
+
+  public String getProperty(String propertyName) {
+    return Utilities.cleanup(System.getProperty(propertyName));
+  }
+}
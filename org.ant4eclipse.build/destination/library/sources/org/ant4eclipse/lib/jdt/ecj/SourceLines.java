@@ -0,0 +1,134 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj;
+
+import org.ant4eclipse.lib.core.Assure;
+
+/**
+ * <p>
+ * The {@link SourceLines} provide the lines of a compiled source file, so problems can be shown within their context.
+ * The line offsets are computed once, so any number of problems can be shown without reading the source file again.
+ * Lines are terminated by <code>\n</code>, <code>\r</code> or <code>\r\n</code>.
+ * </p>
+ */
+public class SourceLines {
+
+  /** the contents of the source file as seen by the compiler */
+  private char[] _contents;
+
+  /** the offsets of the first character of each line */
+  private int[]  _lineStarts;
+
+  /** the offsets behind the last character of each line (excluding the line terminator) */
+  private int[]  _lineEnds;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link SourceLines}.
+   * </p>
+   *
+   * @param contents
+   *          The contents of the source file as seen by the compiler. Not <code>null</code>.
+   */
+  public SourceLines(char[] contents) {
+    Assure.notNull("contents", contents);
+    this._contents = contents;
+    int count = 1;
+    for (int i = 0; i < contents.length; i++) {
+      int length = getTerminatorLength(i);
+      if (length > 0) {
+        count++;
+        i += length - 1;
+      }
+    }
+    this._lineStarts = new int[count];
+    this._lineEnds = new int[count];
+    int line = 0;
+    for (int i = 0; i < contents.length; i++) {
+      int length = getTerminatorLength(i);
+      if (length > 0) {
+        this._lineEnds[line] = i;
+        i += length - 1;
+        line++;
+        this._lineStarts[line] = i + 1;
+      }
+    }
+    this._lineEnds[line] = contents.length;
+  }
+
+  /**
+   * <p>
+   * Returns the length of the line terminator at the supplied offset.
+   * </p>
+   *
+   * @param offset
+   *          The offset within the contents.
+   *
+   * @return The length of the line terminator or 0 if there's none.
+   */
+  private int getTerminatorLength(int offset) {
+    char ch = this._contents[offset];
+    if (ch == '\n') {
+      return 1;
+    } else if (ch == '\r') {
+      return (offset + 1 < this._contents.length) && (this._contents[offset + 1] == '\n') ? 2 : 1;
+    }
+    return 0;
+  }
+
+  /**
+   * <p>
+   * Returns the number of lines.
+   * </p>
+   *
+   * @return The number of lines. At least 1.
+   */
+  public int getLineCount() {
+    return this._lineStarts.length;
+  }
+
+  /**
+   * <p>
+   * Returns the offset of the first character of a line.
+   * </p>
+   *
+   * @param lineNumber
+   *          The number of the line starting with 1.
+   *
+   * @return The offset of the first character of the line or -1 if there's no such line.
+   */
+  public int getLineStart(int lineNumber) {
+    if ((lineNumber < 1) || (lineNumber > this._lineStarts.length)) {
+      return -1;
+    }
+    return this._lineStarts[lineNumber - 1];
+  }
+
+  /**
+   * <p>
+   * Returns the content of a line without its terminator.
+   * </p>
+   *
+   * @param lineNumber
+   *          The number of the line starting with 1.
+   *
+   * @return The content of the line or <code>null</code> if there's no such line.
+   */
+  public String getLine(int lineNumber) {
+    if ((lineNumber < 1) || (lineNumber > this._lineStarts.length)) {
+      return null;
+    }
+    int start = this._lineStarts[lineNumber - 1];
+    return new String(this._contents, start, this._lineEnds[lineNumber - 1] - start);
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,106 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj.internal.tools;
+
+import org.ant4eclipse.lib.jdt.ecj.CompileJobResult;
+import org.ant4eclipse.lib.jdt.ecj.SourceLines;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompileJobResultImpl implements CompileJobResult {
+
+  private boolean                       _succeeded;
+
+  private CategorizedProblem[]          _categorizedProblems;
+
+  private Map<String, File>             _compiledclassfiles;
+
+  /** the compilation units for which problems have been reported (file name -> compilation unit) */
+  private Map<String, ICompilationUnit> _problemunits;
+
+  /** the lines of the compilation units which have been requested so far (file name -> lines) */
+  private Map<String, SourceLines>      _sourcelines = new HashMap<String, SourceLines>();
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean succeeded() {
+    return this._succeeded;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public CategorizedProblem[] getCategorizedProblems() {
+    return this._categorizedProblems == null ? new CategorizedProblem[0] : this._categorizedProblems;
+  }
+
+  public void setSucceeded(boolean succeeded) {
+    this._succeeded = succeeded;
+  }
+
+  public void setCategorizedProblems(CategorizedProblem[] categorizedProblems) {
+    this._categorizedProblems = categorizedProblems;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Map<String, File> getCompiledClassFiles() {
+    if (this._compiledclassfiles == null) {
+      return Collections.EMPTY_MAP;
+    } else {
+      return this._compiledclassfiles;
+    }
+  }
+
+  /**
+   * Changes the map which contains the compiled class files.
+   * 
+   * @param compiledclasses
+   *          A map for the class files. Maybe <code>null</code>.
+   */
+  public void setCompiledClassFiles(Map<String, File> compiledclasses) {
+    this._compiledclassfiles = compiledclasses;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public SourceLines getSourceLines(String fileName) {
+    SourceLines result = this._sourcelines.get(fileName);
+    if ((result == null) && (this._problemunits != null)) {
+      ICompilationUnit unit = this._problemunits.get(fileName);
+      if (unit != null) {
+        result = new SourceLines(unit.getContents());
+        this._sourcelines.put(fileName, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Changes the map which contains the compilation units for which problems have been reported.
+   * 
+   * @param problemunits
+   *          A map for the compilation units. Maybe <code>null</code>.
+   */
+  public void setProblemUnits(Map<String, ICompilationUnit> problemunits) {
+    this._problemunits = problemunits;
+  }
+
+}
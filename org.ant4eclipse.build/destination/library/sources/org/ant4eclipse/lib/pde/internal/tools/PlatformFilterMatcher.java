@@ -0,0 +1,101 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.pde.model.pluginproject.Constants;
+import org.ant4eclipse.lib.pde.tools.PlatformConfiguration;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+
+/**
+ * <p>
+ * Evaluates the platform filters (<code>Eclipse-PlatformFilter</code>) of bundles against a
+ * {@link PlatformConfiguration}. Each distinct filter is parsed and evaluated only once per matcher, since most
+ * bundles of a target platform either have no filter or share one of a few filters. The matcher is owned by the target
+ * platform, so the results don't outlive it.
+ * </p>
+ */
+final class PlatformFilterMatcher {
+
+  /** the properties of the configuration used to evaluate the filters */
+  private final Properties                     _properties;
+
+  /** the results of the evaluated filters (filter string -> result) */
+  private final ConcurrentMap<String, Boolean> _results;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link PlatformFilterMatcher}.
+   * </p>
+   * 
+   * @param configuration
+   *          the configuration the filters are evaluated against
+   */
+  PlatformFilterMatcher(PlatformConfiguration configuration) {
+    Assure.notNull("configuration", configuration);
+    this._properties = new Properties();
+    put(Constants.PROP_OS, configuration.getOperatingSystem());
+    put(Constants.PROP_WS, configuration.getWindowingSystem());
+    put(Constants.PROP_ARCH, configuration.getArchitecture());
+    put(Constants.PROP_NL, configuration.getLanguageSetting());
+    this._results = new ConcurrentHashMap<String, Boolean>();
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if the given platform filter matches the configuration. Invalid filters never match.
+   * </p>
+   * 
+   * @param platformFilter
+   *          the platform filter. Maybe <code>null</code>.
+   * @return <code>true</code> if the given platform filter matches the configuration.
+   */
+  boolean matches(String platformFilter) {
+    if (platformFilter == null) {
+      return true;
+    }
+    Boolean result = this._results.get(platformFilter);
+    if (result == null) {
+      try {
+        result = Boolean.valueOf(FrameworkUtil.createFilter(platformFilter).match(this._properties));
+      } catch (InvalidSyntaxException ex) {
+        A4ELogging.warn("Invalid platform filter '%s': %s", platformFilter, ex.getMessage());
+        result = Boolean.FALSE;
+      }
+      this._results.put(platformFilter, result);
+    }
+    return result.booleanValue();
+  }
+
+  /**
+   * <p>
+   * Adds the given configuration property unless it's undefined.
+   * </p>
+   * 
+   * @param key
+   *          the property key
+   * @param value
+   *          the property value. Maybe <code>null</code>.
+   */
+  private void put(String key, String value) {
+    if (value != null) {
+      this._properties.put(key, value);
+    }
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,180 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.featureproject;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.util.StringPool;
+import org.ant4eclipse.lib.core.xquery.XQueryHandler;
+import org.ant4eclipse.lib.pde.internal.model.featureproject.FeatureManifestImpl;
+import org.osgi.framework.Version;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.InputStream;
+
+/**
+ * <p>
+ * Implements a parser for feature manifest files.
+ * </p>
+ * <p>
+ * The feature manifest is read within a single pass: the SAX events are directly bound to the feature model instead of
+ * being matched against a set of queries. The parser is thread-safe, so feature manifests can be parsed concurrently.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public class FeatureManifestParser {
+
+  /**
+   * <p>
+   * Creates a FeatureManifest instance from the supplied content.
+   * </p>
+   * 
+   * @param inputStream
+   *          The stream which provides the content.
+   * 
+   * @return a Feature instance providing the content.
+   */
+  public static FeatureManifest parseFeature(InputStream inputStream) {
+    Assure.notNull("inputStream", inputStream);
+
+    FeatureManifestImpl feature = new FeatureManifestImpl();
+
+    // parse the file
+    FeatureManifestHandler handler = new FeatureManifestHandler(feature);
+    XQueryHandler.parseInputStream(inputStream, handler);
+
+    Attributes attributes = handler.getFeatureAttributes();
+    feature.setId(attributes.getValue("id"));
+    feature.setVersion(new Version(attributes.getValue("version")));
+    feature.setLabel(attributes.getValue("label"));
+    feature.setProviderName(attributes.getValue("provider-name"));
+    feature.setImage(attributes.getValue("image"));
+    feature.setOperatingSystem(attributes.getValue("os"));
+    feature.setMachineArchitecture(attributes.getValue("arch"));
+    feature.setWindowingSystem(attributes.getValue("ws"));
+    feature.setLocale(attributes.getValue("nl"));
+    feature.setColocationAffinity(attributes.getValue("colocation-affinity"));
+    feature.setPrimary(Boolean.valueOf(attributes.getValue("primary")).booleanValue());
+    feature.setExclusive(Boolean.valueOf(attributes.getValue("exclusive")).booleanValue());
+    feature.setPlugin(attributes.getValue("plugin"));
+    feature.setApplication(attributes.getValue("application"));
+
+    return feature;
+  }
+
+  /**
+   * <p>
+   * SAX handler which adds the <code>plugin</code> and <code>includes</code> elements to the feature model while
+   * parsing and keeps the attributes of the <code>feature</code> element. The ids and platform attributes of the
+   * plug-ins are pooled since they are repeated by many features.
+   * </p>
+   */
+  private static class FeatureManifestHandler extends DefaultHandler {
+
+    /** the feature model */
+    private FeatureManifestImpl _feature;
+
+    /** the attributes of the root element (empty if the root element isn't a <code>feature</code> element) */
+    private AttributesImpl      _featureAttributes;
+
+    /** the current depth within the document */
+    private int                 _depth;
+
+    /** indicates whether the root element is a <code>feature</code> element */
+    private boolean             _featureRoot;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link FeatureManifestHandler}.
+     * </p>
+     * 
+     * @param feature
+     *          the feature model
+     */
+    public FeatureManifestHandler(FeatureManifestImpl feature) {
+      this._feature = feature;
+      this._featureAttributes = new AttributesImpl();
+    }
+
+    /**
+     * <p>
+     * Returns the attributes of the <code>feature</code> element.
+     * </p>
+     * 
+     * @return the attributes of the <code>feature</code> element
+     */
+    public Attributes getFeatureAttributes() {
+      return this._featureAttributes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startElement(String uri, String localname, String qname, Attributes attributes) {
+      if (this._depth == 0) {
+        this._featureRoot = "feature".equals(qname);
+        if (this._featureRoot) {
+          this._featureAttributes.setAttributes(attributes);
+        }
+      } else if ((this._depth == 1) && this._featureRoot) {
+        if ("plugin".equals(qname)) {
+          addPlugin(attributes);
+        } else if ("includes".equals(qname)) {
+          addIncludes(attributes);
+        }
+      }
+      this._depth++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endElement(String uri, String localname, String qname) {
+      this._depth--;
+    }
+
+    private void addPlugin(Attributes attributes) {
+      FeatureManifestImpl.PluginImpl plugin = new FeatureManifestImpl.PluginImpl();
+      plugin.setId(StringPool.intern(attributes.getValue("id")));
+      plugin.setVersion(new Version(attributes.getValue("version")));
+      plugin.setFragment(Boolean.valueOf(attributes.getValue("fragment")).booleanValue());
+      plugin.setOperatingSystem(StringPool.intern(attributes.getValue("os")));
+      plugin.setMachineArchitecture(StringPool.intern(attributes.getValue("arch")));
+      plugin.setWindowingSystem(StringPool.intern(attributes.getValue("ws")));
+      plugin.setLocale(StringPool.intern(attributes.getValue("nl")));
+      plugin.setDownloadSize(StringPool.intern(attributes.getValue("download-size")));
+      plugin.setInstallSize(StringPool.intern(attributes.getValue("install-size")));
+      plugin.setUnpack(Boolean.valueOf(attributes.getValue("unpack")).booleanValue());
+      this._feature.addPlugin(plugin);
+    }
+
+    private void addIncludes(Attributes attributes) {
+      FeatureManifestImpl.IncludesImpl includes = new FeatureManifestImpl.IncludesImpl();
+      includes.setId(StringPool.intern(attributes.getValue("id")));
+      includes.setVersion(new Version(attributes.getValue("version")));
+      includes.setName(attributes.getValue("name"));
+      includes.setOptional(Boolean.valueOf(attributes.getValue("optional")).booleanValue());
+      includes.setSearchLocation(attributes.getValue("search-location"));
+      includes.setOperatingSystem(attributes.getValue("os"));
+      includes.setMachineArchitecture(attributes.getValue("arch"));
+      includes.setWindowingSystem(attributes.getValue("ws"));
+      includes.setLocale(attributes.getValue("nl"));
+      this._feature.addIncludes(includes);
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
@@ -0,0 +1,20 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.encoding;
+
+public class ResourcesPreferencesParser {
+
+  // private static final String RESOURCES_PREFERENCES_FILE = ".settings/org.eclipse.core.resources.prefs";
+
+  // private static final String ENCODING_PREFIX = "encoding/";
+
+}
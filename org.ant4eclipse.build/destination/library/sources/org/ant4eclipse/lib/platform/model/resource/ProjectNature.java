@@ -0,0 +1,32 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.model.resource;
+
+/**
+ * <p>
+ * Encapsulates a nature of a project. A project can have multiple natures.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public interface ProjectNature {
+
+  /**
+   * <p>
+   * Returns the name of the {@link ProjectNature}.
+   * </p>
+   * 
+   * @return the name of the {@link ProjectNature}.
+   */
+  String getName();
+
+} /* ENDINTERFACE */
\ No newline at end of file
@@ -0,0 +1,195 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.loadtest;
+
+import static org.junit.Assert.assertEquals;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.core.util.ZipArchiveWriter;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * <p>
+ * Load test for the {@link ZipArchiveWriter} which packages a synthetic product (bundle jars and exploded bundles)
+ * using the staging directory approach (copying the bundles into a directory which is zipped afterwards) and by
+ * streaming the bundles directly into the archive using 1 and 4 threads.
+ * </p>
+ * <p>
+ * The size of the product in MB is taken from the system property <code>ant4eclipse.loadtest.productsize</code>
+ * (default: 32).
+ * </p>
+ */
+public class ZipArchiveWriterLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the system property containing the size of the product in MB */
+  private static final String PRODUCT_SIZE_PROPERTY = "ant4eclipse.loadtest.productsize";
+
+  /** the thread counts used to stream the product */
+  private static final int[]  THREAD_COUNTS         = { 1, 4 };
+
+  /** the size of a bundle jar */
+  private static final int    JAR_SIZE              = 256 * 1024;
+
+  /** the number of files of an exploded bundle */
+  private static final int    EXPLODED_FILES        = 32;
+
+  /** the size of a file of an exploded bundle */
+  private static final int    EXPLODED_FILE_SIZE    = 8 * 1024;
+
+  private TestDirectory       _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void loadTest() throws Exception {
+    long productSize = Long.parseLong(System.getProperty(PRODUCT_SIZE_PROPERTY, "32").trim()) * 1024 * 1024;
+    File plugins = createProduct(productSize);
+
+    // staging directory: copy the bundles, zip the staging directory afterwards
+    File staging = new File(this._testDirectory.getRootDir(), "staging/plugins");
+    File stagingArchive = new File(this._testDirectory.getRootDir(), "staging.zip");
+    long start = System.currentTimeMillis();
+    copyDirectory(plugins, staging);
+    ZipOutputStream output = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(stagingArchive)));
+    try {
+      zipDirectory(output, staging, "plugins/");
+    } finally {
+      output.close();
+    }
+    report("staging directory", start, productSize);
+    int expectedEntries = countEntries(stagingArchive);
+
+    // streaming
+    for (int threads : THREAD_COUNTS) {
+      File archive = new File(this._testDirectory.getRootDir(), "streamed-" + threads + ".zip");
+      start = System.currentTimeMillis();
+      ZipArchiveWriter writer = new ZipArchiveWriter(archive, threads);
+      try {
+        writer.addDirectory(plugins, "plugins");
+      } finally {
+        writer.close();
+      }
+      report("streaming, " + threads + " threads", start, productSize);
+      assertEquals(expectedEntries, countEntries(archive));
+    }
+  }
+
+  private void report(String approach, long start, long productSize) {
+    long duration = Math.max(1, System.currentTimeMillis() - start);
+    A4ELogging.info("%d MB, %s: %dms, %d KB/s", Long.valueOf(productSize / 1024 / 1024), approach, Long
+        .valueOf(duration), Long.valueOf(productSize * 1000L / 1024 / duration));
+  }
+
+  private int countEntries(File archive) throws IOException {
+    ZipFile zipFile = new ZipFile(archive);
+    try {
+      return zipFile.size();
+    } finally {
+      zipFile.close();
+    }
+  }
+
+  private void copyDirectory(File source, File destination) {
+    Utilities.mkdirs(destination);
+    for (File child : source.listFiles()) {
+      if (child.isDirectory()) {
+        copyDirectory(child, new File(destination, child.getName()));
+      } else {
+        Utilities.copy(child, new File(destination, child.getName()));
+      }
+    }
+  }
+
+  private void zipDirectory(ZipOutputStream output, File directory, String prefix) throws IOException {
+    output.putNextEntry(new ZipEntry(prefix));
+    output.closeEntry();
+    byte[] buffer = new byte[64 * 1024];
+    for (File child : directory.listFiles()) {
+      if (child.isDirectory()) {
+        zipDirectory(output, child, prefix + child.getName() + "/");
+      } else {
+        output.putNextEntry(new ZipEntry(prefix + child.getName()));
+        InputStream input = new FileInputStream(child);
+        try {
+          for (int count = input.read(buffer); count != -1; count = input.read(buffer)) {
+            output.write(buffer, 0, count);
+          }
+        } finally {
+          input.close();
+        }
+        output.closeEntry();
+      }
+    }
+  }
+
+  /**
+   * Creates a product consisting of bundle jars (random content) and exploded bundles (compressible content).
+   */
+  private File createProduct(long size) {
+    File result = new File(this._testDirectory.getRootDir(), "product/plugins");
+    Utilities.mkdirs(result);
+    Random random = new Random(size);
+    byte[] jarContent = new byte[JAR_SIZE];
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; builder.length() < EXPLODED_FILE_SIZE; i++) {
+      builder.append("org.ant4eclipse.synthetic.Resource").append(i).append('=').append(random.nextInt()).append('\n');
+    }
+    String explodedContent = builder.toString();
+    long written = 0;
+    for (int i = 0; written < size; i++) {
+      if (i % 2 == 0) {
+        random.nextBytes(jarContent);
+        Utilities.writeFile(new File(result, "org.ant4eclipse.synthetic" + i + "_1.0.0.jar"), jarContent);
+        written += JAR_SIZE;
+      } else {
+        File bundle = new File(result, "org.ant4eclipse.synthetic" + i + "_1.0.0");
+        Utilities.mkdirs(bundle);
+        for (int j = 0; j < EXPLODED_FILES; j++) {
+          Utilities.writeFile(new File(bundle, "resource" + j + ".properties"), explodedContent, "UTF-8");
+          written += explodedContent.length();
+        }
+      }
+    }
+    return result;
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,142 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class DirectoryWalkerTest extends ConfigurableAnt4EclipseTestCase {
+
+  private File _root;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._root = Utilities.createTempDir();
+    createFile("a/b/c.txt");
+    createFile("a/d.txt");
+    createFile("e.txt");
+    Utilities.mkdirs(new File(this._root, "f"));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    Utilities.delete(this._root);
+    super.dispose();
+  }
+
+  @Test
+  public void walk() {
+    final List<String> directories = new ArrayList<String>();
+    final List<String> files = new ArrayList<String>();
+    Assert.assertTrue(DirectoryWalker.walk(this._root, new DirectoryWalker.Visitor() {
+      @Override
+      public boolean enterDirectory(File directory, String path) {
+        Assert.assertEquals(new File(DirectoryWalkerTest.this._root, path), directory);
+        directories.add(path);
+        return true;
+      }
+
+      @Override
+      public boolean visitFile(File file, String path) {
+        Assert.assertEquals(new File(DirectoryWalkerTest.this._root, path), file);
+        files.add(path);
+        return true;
+      }
+    }));
+    Collections.sort(directories);
+    Collections.sort(files);
+    Assert.assertEquals(Arrays.asList("a", "a/b", "f"), directories);
+    Assert.assertEquals(Arrays.asList("a/b/c.txt", "a/d.txt", "e.txt"), files);
+  }
+
+  @Test
+  public void skipSubtreesAndNames() {
+    final List<String> paths = new ArrayList<String>();
+    Assert.assertTrue(DirectoryWalker.walk(this._root, new DirectoryWalker.Visitor() {
+      @Override
+      public boolean acceptName(File directory, String name) {
+        return !"e.txt".equals(name);
+      }
+
+      @Override
+      public boolean enterDirectory(File directory, String path) {
+        paths.add(path);
+        return !"a/b".equals(path);
+      }
+
+      @Override
+      public boolean visitFile(File file, String path) {
+        paths.add(path);
+        return true;
+      }
+    }));
+    Collections.sort(paths);
+    Assert.assertEquals(Arrays.asList("a", "a/b", "a/d.txt", "f"), paths);
+  }
+
+  @Test
+  public void terminate() {
+    final List<String> files = new ArrayList<String>();
+    Assert.assertFalse(DirectoryWalker.walk(this._root, new DirectoryWalker.Visitor() {
+      @Override
+      public boolean visitFile(File file, String path) {
+        files.add(path);
+        return false;
+      }
+    }));
+    Assert.assertEquals(1, files.size());
+  }
+
+  @Test
+  public void noDirectory() {
+    Assert.assertTrue(DirectoryWalker.walk(new File(this._root, "e.txt"), new DirectoryWalker.Visitor() {
+      @Override
+      public boolean visitFile(File file, String path) {
+        Assert.fail();
+        return true;
+      }
+    }));
+    Assert.assertTrue(DirectoryWalker.walk(new File(this._root, "missing"), new DirectoryWalker.Visitor() {
+      // nothing to visit
+    }));
+  }
+
+  @Test
+  public void getChild() {
+    Assert.assertEquals(new File(this._root, "e.txt"), Utilities.getChild(this._root, "e.txt"));
+    Assert.assertEquals(new File(this._root, "a"), Utilities.getChild(this._root, "a"));
+    Assert.assertNull(Utilities.getChild(this._root, "missing"));
+    Assert.assertNull(Utilities.getChild(this._root, "a/d.txt"));
+    Assert.assertNull(Utilities.getChild(new File(this._root, "missing"), "e.txt"));
+  }
+
+  private void createFile(String path) {
+    File file = new File(this._root, path);
+    Utilities.mkdirs(file.getParentFile());
+    Utilities.writeFile(file, "", "UTF-8");
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,265 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.util.ManifestHelper.ManifestHeaderElement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.jar.Manifest;
+
+public class ManifestHelperTest {
+
+  /** header values covering the corner cases of the header syntax */
+  private static final String[] EDGE_CASES = { "org.bruni;singleton:=true", "a,b,c", "a, b ,c ", "a,", ",a", ",",
+      "a,,b", "a;;b", "a;", " ; ", "a, ,b", "a;version=\"[1.0,2.0)\"", "a;uses:=\"b,c;d\";version=1.0",
+      "a;x=\"1\";x=2", "a;b:=c:=d", "a;b=c=d", "a;b:c=d", "a;:=", "a;=", "=", ":=", "a;b= \"c\"", "a;b=\"",
+      "a;b=\"c", "a;b=\"c,d;e", "a;b=\"c\\\"d\",e", "a\\\"b,c", "a\\,b", "\\", "a\\", "\"a,b\"", "a;b:=\"c:=d\"",
+      "a;b=\"c=d\"", "a;b:=\"\"", "a ; b := c ; d = e", "\t a \t", "a;\"b;c\";d" };
+
+  /** the characters used to generate random header values */
+  private static final char[]   ALPHABET   = { 'a', 'b', ',', ';', ':', '=', '"', '\\', ' ' };
+
+  @Test
+  public void testManifestHelper() {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().putValue(ManifestHelper.BUNDLE_SYMBOLICNAME, "org.bruni;singleton:=true");
+    ManifestHeaderElement[] elements = ManifestHelper.getManifestHeaderElements(manifest,
+        ManifestHelper.BUNDLE_SYMBOLICNAME);
+    Assert.assertNotNull(elements);
+    Assert.assertEquals(elements.length, 1);
+    Assert.assertEquals(elements[0].getValues().length, 1);
+    Assert.assertEquals(elements[0].getValues()[0], "org.bruni");
+  }
+
+  @Test
+  public void headerElements() {
+    ManifestHeaderElement[] elements = ManifestHelper
+        .getManifestHeaderElements("org.a;org.b;version=\"[1.0,2.0)\";uses:=\"org.c,org.d\",org.e;resolution:=optional");
+    Assert.assertEquals(2, elements.length);
+    Assert.assertArrayEquals(new String[] { "org.a", "org.b" }, elements[0].getValues());
+    Assert.assertEquals("[1.0,2.0)", elements[0].getAttributes().get("version"));
+    Assert.assertEquals("org.c,org.d", elements[0].getDirectives().get("uses"));
+    Assert.assertArrayEquals(new String[] { "org.e" }, elements[1].getValues());
+    Assert.assertEquals("optional", elements[1].getDirectives().get("resolution"));
+    Assert.assertTrue(elements[1].getAttributes().isEmpty());
+  }
+
+  @Test
+  public void splitHeader() {
+    Assert.assertArrayEquals(new String[] { "lib/a.jar", " lib/b.jar;x=\"1,2\"", "" }, ManifestHelper
+        .splitHeader("lib/a.jar, lib/b.jar;x=\"1,2\","));
+    Assert.assertArrayEquals(new String[] { "a", "b\\\"c", "d\"" }, ManifestHelper.splitHeader("a:=b\\\"c:=d\"", ":="));
+    Assert.assertEquals(0, ManifestHelper.splitHeader(null).length);
+    Assert.assertEquals(0, ManifestHelper.splitHeader(" \t").length);
+    Assert.assertArrayEquals(new String[] { ".", "lib/a.jar" }, ManifestHelper.getBundleClasspath(manifest(
+        ManifestHelper.BUNDLE_CLASSPATH, " ., lib/a.jar ")));
+    Assert.assertArrayEquals(new String[] { "." }, ManifestHelper.getBundleClasspath(new Manifest()));
+  }
+
+  @Test
+  public void differentialEdgeCases() {
+    for (String header : EDGE_CASES) {
+      assertSameResult(header);
+    }
+  }
+
+  @Test
+  public void differentialRandomHeaders() {
+    Random random = new Random(4711);
+    for (int i = 0; i < 20000; i++) {
+      char[] header = new char[1 + random.nextInt(16)];
+      for (int j = 0; j < header.length; j++) {
+        header[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+      }
+      assertSameResult(new String(header));
+    }
+  }
+
+  @Test
+  public void differentialRealManifests() throws IOException {
+    List<String> headers = realHeaders();
+    Assert.assertFalse(headers.isEmpty());
+    for (String header : headers) {
+      assertSameResult(header);
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the values of the main attributes of all manifests on the classpath (f.e. equinox, ant and junit) and the
+   * system packages of the execution environment profiles provided by equinox.
+   * </p>
+   */
+  static List<String> realHeaders() throws IOException {
+    List<String> result = new ArrayList<String>();
+    ClassLoader classLoader = ManifestHelperTest.class.getClassLoader();
+    Enumeration<URL> manifests = classLoader.getResources("META-INF/MANIFEST.MF");
+    while (manifests.hasMoreElements()) {
+      InputStream inputStream = manifests.nextElement().openStream();
+      try {
+        for (Object value : new Manifest(inputStream).getMainAttributes().values()) {
+          addHeader(result, (String) value);
+        }
+      } finally {
+        Utilities.close(inputStream);
+      }
+    }
+    for (String profile : new String[] { "J2SE-1.5.profile", "JavaSE-1.6.profile" }) {
+      URL resource = classLoader.getResource(profile);
+      if (resource != null) {
+        Properties properties = new Properties();
+        InputStream inputStream = resource.openStream();
+        try {
+          properties.load(inputStream);
+        } finally {
+          Utilities.close(inputStream);
+        }
+        for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+          addHeader(result, (String) entry.getValue());
+        }
+      }
+    }
+    return result;
+  }
+
+  private static void addHeader(List<String> headers, String header) {
+    if ((header != null) && (header.length() > 0)) {
+      headers.add(header);
+    }
+  }
+
+  private void assertSameResult(String header) {
+    ManifestHeaderElement[] expected = referenceHeaderElements(header);
+    ManifestHeaderElement[] actual = ManifestHelper.getManifestHeaderElements(header);
+    Assert.assertEquals(header, expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      Assert.assertEquals(header, Arrays.asList(expected[i].getValues()), Arrays.asList(actual[i].getValues()));
+      Assert.assertEquals(header, expected[i].getAttributes(), actual[i].getAttributes());
+      Assert.assertEquals(header, expected[i].getDirectives(), actual[i].getDirectives());
+    }
+    Assert.assertEquals(header, Arrays.asList(referenceSplitHeader(header, ",")), Arrays.asList(ManifestHelper
+        .splitHeader(header)));
+    Assert.assertEquals(header, Arrays.asList(referenceSplitHeader(header, ":=")), Arrays.asList(ManifestHelper
+        .splitHeader(header, ":=")));
+  }
+
+  /**
+   * <p>
+   * The previous implementation which splits the header into clauses and each clause into its parts.
+   * </p>
+   */
+  static ManifestHeaderElement[] referenceHeaderElements(String manifestValue) {
+    String[] elements = referenceSplitHeader(manifestValue, ",");
+    List<ManifestHeaderElement> result = new LinkedList<ManifestHeaderElement>();
+    for (String element : elements) {
+      ManifestHeaderElement manifestHeaderElement = new ManifestHeaderElement();
+      result.add(manifestHeaderElement);
+      String[] elementParts = referenceSplitHeader(element, ";");
+
+      for (String elementPart : elementParts) {
+        String[] splitted = referenceSplitHeader(elementPart, ":=");
+        if (splitted.length > 1) {
+          manifestHeaderElement.addDirective(splitted[0], referenceRemoveQuotes(splitted[1]));
+        } else {
+          splitted = referenceSplitHeader(elementPart, "=");
+          if (splitted.length > 1) {
+            manifestHeaderElement.addAttribute(splitted[0], referenceRemoveQuotes(splitted[1]));
+          } else {
+            manifestHeaderElement.addValue(elementPart);
+          }
+        }
+      }
+    }
+    return result.toArray(new ManifestHeaderElement[0]);
+  }
+
+  /**
+   * <p>
+   * The previous, character by character implementation of {@link ManifestHelper#splitHeader(String, String)}.
+   * </p>
+   */
+  private static String[] referenceSplitHeader(String header, String separator) {
+    if ((header == null) || (header.trim().length() == 0)) {
+      return new String[0];
+    }
+    List<String> result = new LinkedList<String>();
+
+    char[] chars = header.toCharArray();
+    StringBuilder currentValue = new StringBuilder();
+    boolean inQuotedString = false;
+    for (int i = 0; i < chars.length; i++) {
+      if (!lookup(chars, i, separator)) {
+        if (lookup(chars, i, "\"")) {
+          inQuotedString = !inQuotedString;
+        } else if (lookup(chars, i, "\\\"")) {
+          currentValue.append(chars[i]);
+          i++;
+        }
+        currentValue.append(chars[i]);
+      } else {
+        if (!inQuotedString) {
+          result.add(currentValue.toString());
+          currentValue = new StringBuilder();
+          i = i + (separator.length() - 1);
+        } else {
+          currentValue.append(chars[i]);
+        }
+      }
+    }
+    result.add(currentValue.toString());
+
+    return result.toArray(new String[0]);
+  }
+
+  private static boolean lookup(char[] array, int index, String pattern) {
+    if (index + pattern.length() > array.length) {
+      return false;
+    }
+    char[] patternChars = pattern.toCharArray();
+    for (int i = 0; i < patternChars.length; i++) {
+      if (array[index + i] != patternChars[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String referenceRemoveQuotes(String value) {
+    String result = value;
+    if (result.startsWith("\"")) {
+      result = result.substring(1);
+    }
+    if (result.endsWith("\"")) {
+      result = result.substring(0, result.length() - 1);
+    }
+    return result;
+  }
+
+  private Manifest manifest(String header, String value) {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().putValue(header, value);
+    return manifest;
+  }
+
+} /* ENDCLASS */
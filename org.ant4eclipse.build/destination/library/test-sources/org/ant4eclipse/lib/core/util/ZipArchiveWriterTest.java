@@ -0,0 +1,281 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+public class ZipArchiveWriterTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory _testDirectory;
+
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void writeArchive() throws IOException {
+    File bundle = createBundle();
+    File jar = new File(this._testDirectory.getRootDir(), "org.ant4eclipse.jar_1.0.0.jar");
+    writeRandomContent(jar, 100000, 1);
+    for (int threads = 1; threads <= 4; threads *= 4) {
+      File archive = new File(this._testDirectory.getRootDir(), "archive-" + threads + ".zip");
+      ZipArchiveWriter writer = new ZipArchiveWriter(archive, threads);
+      writer.addDirectory(bundle, "plugins/" + bundle.getName());
+      writer.addFile(jar, "plugins/" + jar.getName());
+      writer.addContent("osgi.bundles=org.ant4eclipse.jar\n".getBytes("UTF-8"), "configuration/config.ini");
+      // duplicates are skipped
+      writer.addFile(jar, "/plugins/" + jar.getName());
+      writer.close();
+
+      List<String> expected = new ArrayList<String>();
+      expected.add("plugins/");
+      expected.add("plugins/org.ant4eclipse.exploded_1.0.0/");
+      expected.add("plugins/org.ant4eclipse.exploded_1.0.0/META-INF/");
+      expected.add("plugins/org.ant4eclipse.exploded_1.0.0/META-INF/MANIFEST.MF");
+      expected.add("plugins/org.ant4eclipse.exploded_1.0.0/big.txt");
+      expected.add("plugins/org.ant4eclipse.exploded_1.0.0/lib/");
+      expected.add("plugins/org.ant4eclipse.exploded_1.0.0/lib/nested.jar");
+      for (int i = 0; i < 20; i++) {
+        expected.add("plugins/org.ant4eclipse.exploded_1.0.0/resource" + (char) ('a' + i) + ".txt");
+      }
+      expected.add("plugins/org.ant4eclipse.jar_1.0.0.jar");
+      expected.add("configuration/");
+      expected.add("configuration/config.ini");
+
+      ZipFile zipFile = new ZipFile(archive);
+      try {
+        List<String> names = new ArrayList<String>();
+        for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements();) {
+          names.add(entries.nextElement().getName());
+        }
+        assertEquals(expected, names);
+        ZipEntry jarEntry = zipFile.getEntry("plugins/" + jar.getName());
+        assertEquals(ZipEntry.STORED, jarEntry.getMethod());
+        assertArrayEquals(read(new FileInputStream(jar)), read(zipFile.getInputStream(jarEntry)));
+        ZipEntry nestedEntry = zipFile.getEntry("plugins/org.ant4eclipse.exploded_1.0.0/lib/nested.jar");
+        assertEquals(ZipEntry.STORED, nestedEntry.getMethod());
+        ZipEntry bigEntry = zipFile.getEntry("plugins/org.ant4eclipse.exploded_1.0.0/big.txt");
+        assertEquals(ZipEntry.DEFLATED, bigEntry.getMethod());
+        assertArrayEquals(read(new FileInputStream(new File(bundle, "big.txt"))), read(zipFile
+            .getInputStream(bigEntry)));
+        for (int i = 0; i < 20; i++) {
+          String name = "resource" + (char) ('a' + i) + ".txt";
+          ZipEntry entry = zipFile.getEntry("plugins/org.ant4eclipse.exploded_1.0.0/" + name);
+          assertArrayEquals(read(new FileInputStream(new File(bundle, name))), read(zipFile.getInputStream(entry)));
+        }
+        assertEquals("osgi.bundles=org.ant4eclipse.jar\n", new String(read(zipFile.getInputStream(zipFile
+            .getEntry("configuration/config.ini"))), "UTF-8"));
+      } finally {
+        zipFile.close();
+      }
+
+      // the archive must be readable as a stream as well (data descriptors)
+      ZipInputStream zipInputStream = new ZipInputStream(new FileInputStream(archive));
+      try {
+        int count = 0;
+        for (ZipEntry entry = zipInputStream.getNextEntry(); entry != null; entry = zipInputStream.getNextEntry()) {
+          assertNotNull(read(zipInputStream));
+          count++;
+        }
+        assertEquals(expected.size(), count);
+      } finally {
+        zipInputStream.close();
+      }
+    }
+  }
+
+  @Test
+  public void unixModes() throws IOException {
+    File launcher = new File(this._testDirectory.getRootDir(), "launcher");
+    Utilities.writeFile(launcher, "#!/bin/sh\n", "UTF-8");
+    File archive = new File(this._testDirectory.getRootDir(), "modes.zip");
+    ZipArchiveWriter writer = new ZipArchiveWriter(archive, 1);
+    writer.addFile(launcher, "bin/launcher", 0755, 0750);
+    writer.addContent("osgi.bundles=\n".getBytes("UTF-8"), "configuration/config.ini");
+    writer.close();
+
+    Map<String, Integer> expected = new LinkedHashMap<String, Integer>();
+    expected.put("bin/", Integer.valueOf(040750));
+    expected.put("bin/launcher", Integer.valueOf(0100755));
+    expected.put("configuration/", Integer.valueOf(040755));
+    expected.put("configuration/config.ini", Integer.valueOf(0100644));
+    assertEquals(expected, readUnixModes(archive));
+  }
+
+  @Test
+  public void deterministic() throws IOException, InterruptedException {
+    File file = new File(this._testDirectory.getRootDir(), "file.txt");
+    Utilities.writeFile(file, "content", "UTF-8");
+    File archive1 = new File(this._testDirectory.getRootDir(), "archive1.zip");
+    File archive2 = new File(this._testDirectory.getRootDir(), "archive2.zip");
+    for (File archive : new File[] { archive1, archive2 }) {
+      ZipArchiveWriter writer = new ZipArchiveWriter(archive, 1);
+      writer.addFile(file, "a/b/file.txt");
+      writer.addContent("content".getBytes("UTF-8"), "c/generated.txt");
+      writer.close();
+      // make sure the current time would make a difference
+      Thread.sleep(2100);
+    }
+    assertArrayEquals(read(new FileInputStream(archive1)), read(new FileInputStream(archive2)));
+  }
+
+  @Test
+  public void threadCountIndependent() throws IOException {
+    File directory = new File(this._testDirectory.getRootDir(), "q");
+    Utilities.mkdirs(new File(directory, "sub"));
+    List<File> files = new ArrayList<File>();
+    for (int i = 0; i < 10; i++) {
+      File file = new File(this._testDirectory.getRootDir(), "f" + i + ".txt");
+      writeRandomContent(file, 1000 * (i + 1), i);
+      files.add(file);
+    }
+    Utilities.writeFile(new File(directory, "sub/g.txt"), "content", "UTF-8");
+    byte[] expected = null;
+    for (int threads = 1; threads <= 4; threads *= 4) {
+      File archive = new File(this._testDirectory.getRootDir(), "mixed-" + threads + ".zip");
+      ZipArchiveWriter writer = new ZipArchiveWriter(archive, threads);
+      // directories and generated content are mixed with files which are still deflated
+      for (int i = 0; i < 5; i++) {
+        writer.addFile(files.get(i), "p/" + files.get(i).getName());
+      }
+      writer.addContent("osgi.bundles=\n".getBytes("UTF-8"), "configuration/config.ini");
+      writer.addDirectory(directory, "q");
+      for (int i = 5; i < files.size(); i++) {
+        writer.addFile(files.get(i), "r/" + files.get(i).getName());
+      }
+      writer.close();
+      byte[] content = read(new FileInputStream(archive));
+      if (expected == null) {
+        expected = content;
+      } else {
+        assertArrayEquals(expected, content);
+      }
+    }
+  }
+
+  @Test
+  public void abort() throws IOException {
+    File file = new File(this._testDirectory.getRootDir(), "file.txt");
+    Utilities.writeFile(file, "content", "UTF-8");
+    File archive = new File(this._testDirectory.getRootDir(), "aborted.zip");
+    ZipArchiveWriter writer = new ZipArchiveWriter(archive, 2);
+    writer.addFile(file, "file.txt");
+    writer.abort();
+    assertFalse(archive.exists());
+    // closing an aborted archive has no effect
+    writer.close();
+    assertFalse(archive.exists());
+  }
+
+  /**
+   * Reads the unix modes from the external attributes of the central directory.
+   */
+  private Map<String, Integer> readUnixModes(File archive) throws IOException {
+    byte[] content = read(new FileInputStream(archive));
+    int end = content.length - 22;
+    assertEquals(0x06054b50, readInt(content, end));
+    int offset = readInt(content, end + 16);
+    Map<String, Integer> result = new LinkedHashMap<String, Integer>();
+    for (int i = 0; i < readShort(content, end + 10); i++) {
+      assertEquals(0x02014b50, readInt(content, offset));
+      // made by unix
+      assertEquals(3, content[offset + 5]);
+      int nameLength = readShort(content, offset + 28);
+      String name = new String(content, offset + 46, nameLength, "UTF-8");
+      result.put(name, Integer.valueOf(readInt(content, offset + 38) >>> 16));
+      offset += 46 + nameLength + readShort(content, offset + 30) + readShort(content, offset + 32);
+    }
+    return result;
+  }
+
+  private int readShort(byte[] content, int offset) {
+    return (content[offset] & 0xFF) | ((content[offset + 1] & 0xFF) << 8);
+  }
+
+  private int readInt(byte[] content, int offset) {
+    return readShort(content, offset) | (readShort(content, offset + 2) << 16);
+  }
+
+  private File createBundle() throws IOException {
+    File result = new File(this._testDirectory.getRootDir(), "org.ant4eclipse.exploded_1.0.0");
+    Utilities.mkdirs(new File(result, "META-INF"));
+    Utilities.mkdirs(new File(result, "lib"));
+    Utilities.writeFile(new File(result, "META-INF/MANIFEST.MF"), "Manifest-Version: 1.0\n", "UTF-8");
+    writeRandomContent(new File(result, "lib/nested.jar"), 5000, 2);
+    for (int i = 0; i < 20; i++) {
+      StringBuilder builder = new StringBuilder();
+      for (int j = 0; j < 100 * i; j++) {
+        builder.append("line ").append(j).append('\n');
+      }
+      Utilities.writeFile(new File(result, "resource" + (char) ('a' + i) + ".txt"), builder.toString(), "UTF-8");
+    }
+    // bigger than the limit for files that are deflated in memory
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; builder.length() < 9 * 1024 * 1024; i++) {
+      builder.append("a bigger line ").append(i).append('\n');
+    }
+    Utilities.writeFile(new File(result, "big.txt"), builder.toString(), "UTF-8");
+    return result;
+  }
+
+  private void writeRandomContent(File file, int size, long seed) {
+    byte[] content = new byte[size];
+    new Random(seed).nextBytes(content);
+    Utilities.writeFile(file, content);
+  }
+
+  private byte[] read(InputStream input) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    try {
+      for (int count = input.read(buffer); count != -1; count = input.read(buffer)) {
+        output.write(buffer, 0, count);
+      }
+    } finally {
+      if (!(input instanceof ZipInputStream)) {
+        input.close();
+      }
+    }
+    return output.toByteArray();
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,161 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj.internal.tools.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.ClassName;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.jdt.ecj.ClassFileLoader;
+import org.ant4eclipse.lib.jdt.ecj.ClassFileLoaderFactory;
+import org.ant4eclipse.lib.jdt.ecj.EcjAdapter;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+public class ClassFileLoaderCacheTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void eviction() throws Exception {
+    ClassFileLoaderCache cache = new ClassFileLoaderCache(4);
+    File jar = createJar("b.jar", "b");
+    cache.storeClassFileLoader("a", createLoader(createJar("a.jar", "a")));
+    ClassFileLoader evicted = createLoader(jar);
+    cache.storeClassFileLoader("b", evicted);
+    BinaryTypeCache.Archive archive = BinaryTypeCache.getInstance().getArchive(jar);
+    assertEquals(4, cache.getWeight());
+    assertEquals(2, BinaryTypeCache.getInstance().getArchiveCount());
+
+    // the least recently used class file loader is evicted and its archive is released and closed
+    ClassFileLoader loader = cache.getClassFileLoader("a");
+    cache.storeClassFileLoader("c", createLoader(createJar("c.jar", "c")));
+    assertSame(loader, cache.getClassFileLoader("a"));
+    assertTrue(cache.hasClassFileLoader("c"));
+    assertNull(cache.getClassFileLoader("b"));
+    assertFalse(archive.isOpen());
+    assertEquals(2, cache.getSize());
+    assertEquals(4, cache.getWeight());
+    assertEquals(2, BinaryTypeCache.getInstance().getArchiveCount());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getEvictionCount());
+
+    // a running compilation can still use the evicted class file loader
+    assertNotNull(evicted.loadClass(ClassName.fromQualifiedClassName("b.sub.Test")));
+    assertTrue(archive.isOpen());
+  }
+
+  @Test
+  public void sharedArchives() throws Exception {
+    File jar = createJar("a.jar", "a");
+    ClassFileLoaderCache cache = new ClassFileLoaderCache(4);
+    cache.storeClassFileLoader("a", createLoader(jar));
+    cache.storeClassFileLoader("b", createLoader(jar));
+
+    // the archive is kept as long as a cached class file loader uses it
+    cache.storeClassFileLoader("a", createLoader(jar));
+    cache.storeClassFileLoader("c", createLoader(createJar("c.jar", "c")));
+    assertEquals(1, cache.getEvictionCount());
+    assertFalse(cache.hasClassFileLoader("b"));
+    assertEquals(2, BinaryTypeCache.getInstance().getArchiveCount());
+
+    cache.clear();
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  public void directories() {
+    File directory = new File(this._testDirectory.getRootDir(), "bin");
+    ClassFileLoaderCache cache = new ClassFileLoaderCache(4);
+    cache.storeClassFileLoader("missing", createLoader(directory));
+    Utilities.mkdirs(directory);
+    cache.storeClassFileLoader("directory", createLoader(directory));
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void revalidate() throws Exception {
+    File jar = createJar("a.jar", "a");
+    ClassFileLoaderCache cache = new ClassFileLoaderCache(4);
+    cache.storeClassFileLoader("a", createLoader(jar));
+    cache.revalidate();
+    assertTrue(cache.hasClassFileLoader("a"));
+    jar.setLastModified(jar.lastModified() - 10000);
+    cache.revalidate();
+    assertFalse(cache.hasClassFileLoader("a"));
+    assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  public void factory() throws Exception {
+    File jar = createJar("a.jar", "a");
+    ClassFileLoader loader = ClassFileLoaderFactory.createClasspathClassFileLoader(jar, EcjAdapter.LIBRARY,
+        new File[] { jar }, new File[0]);
+    assertSame(loader, ClassFileLoaderFactory.createClasspathClassFileLoader(jar, EcjAdapter.LIBRARY,
+        new File[] { jar }, new File[0]));
+    assertNotSame(loader, ClassFileLoaderFactory.createClasspathClassFileLoader(jar, EcjAdapter.PROJECT,
+        new File[] { jar }, new File[0]));
+  }
+
+  private ClassFileLoader createLoader(File entry) {
+    return new ClasspathClassFileLoaderImpl(entry, EcjAdapter.LIBRARY);
+  }
+
+  /**
+   * Creates a jar file with the packages <code>&lt;name&gt;</code> and <code>&lt;name&gt;.sub</code>.
+   */
+  private File createJar(String fileName, String name) throws IOException {
+    File result = new File(this._testDirectory.getRootDir(), fileName);
+    JarOutputStream outstream = new JarOutputStream(new FileOutputStream(result));
+    try {
+      outstream.putNextEntry(new ZipEntry(name + "/sub/Test.class"));
+      outstream.closeEntry();
+    } finally {
+      Utilities.close(outstream);
+    }
+    return result;
+  }
+
+} /* ENDCLASS */
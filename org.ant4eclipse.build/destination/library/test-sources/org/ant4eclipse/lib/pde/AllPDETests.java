@@ -0,0 +1,33 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde;
+
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesCacheTest;
+import org.ant4eclipse.lib.pde.internal.tools.PlatformFilterMatcherTest;
+import org.ant4eclipse.lib.pde.internal.tools.TargetPlatformImplTest;
+import org.ant4eclipse.lib.pde.internal.tools.TargetPlatformRegistryImplTest;
+import org.ant4eclipse.lib.pde.model.buildproperties.BuildPropertiesParserTest;
+import org.ant4eclipse.lib.pde.model.featureproject.FeatureManifestParserTest;
+import org.ant4eclipse.lib.pde.model.launcher.SelectedLaunchConfigurationBundleParserTest;
+import org.ant4eclipse.lib.pde.model.launcher.SimpleConfiguratorBundlesTest;
+import org.ant4eclipse.lib.pde.model.product.ProductDefinitionParserTest;
+import org.ant4eclipse.lib.pde.tools.LaunchBundleTablesTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ SelectedLaunchConfigurationBundleParserTest.class, SimpleConfiguratorBundlesTest.class,
+    BuildPropertiesParserTest.class, PlatformFilterMatcherTest.class, FeatureManifestParserTest.class,
+    ProductDefinitionParserTest.class, TargetPlatformImplTest.class, LaunchBundleTablesTest.class,
+    BundleDependenciesCacheTest.class, TargetPlatformRegistryImplTest.class })
+public class AllPDETests {
+} /* ENDCLASS */
@@ -0,0 +1,101 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.pde.tools.PlatformConfiguration;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Compares the evaluation of the platform filters of a synthetic target platform using a {@link PlatformFilterMatcher}
+ * with parsing and evaluating each filter again.
+ * </p>
+ */
+public class PlatformFilterMatcherLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the number of bundles */
+  private static final int      BUNDLE_COUNT = 3000;
+
+  /** the platform filters of the bundles (most bundles don't have a filter) */
+  private static final String[] FILTERS      = { null, null, null, null, null, null, "(osgi.os=win32)",
+      "(osgi.os=linux)", "(osgi.os=macosx)", "(& (osgi.ws=gtk) (osgi.os=linux) (osgi.arch=x86))",
+      "(& (osgi.ws=gtk) (osgi.os=linux) (osgi.arch=x86_64))", "(& (osgi.ws=win32) (osgi.os=win32) (osgi.arch=x86))",
+      "(& (osgi.ws=cocoa) (osgi.os=macosx) (|(osgi.arch=x86)(osgi.arch=ppc)))", "(osgi.nl=de)" };
+
+  @Test
+  public void loadTest() throws InvalidSyntaxException {
+    PlatformConfiguration[] configurations = new PlatformConfiguration[] {
+        createConfiguration("linux", "gtk", "x86_64", "en"), createConfiguration("win32", "win32", "x86", "en"),
+        createConfiguration("macosx", "cocoa", "x86", "de") };
+
+    // uncached: parse and evaluate the filter for every bundle (the previous implementation)
+    long start = System.nanoTime();
+    int uncachedMatches = 0;
+    for (PlatformConfiguration configuration : configurations) {
+      for (int i = 0; i < BUNDLE_COUNT; i++) {
+        String filter = FILTERS[i % FILTERS.length];
+        if ((filter == null) || FrameworkUtil.createFilter(filter).match(createProperties(configuration))) {
+          uncachedMatches++;
+        }
+      }
+    }
+    long uncached = System.nanoTime() - start;
+
+    // cached
+    start = System.nanoTime();
+    int cachedMatches = 0;
+    for (PlatformConfiguration configuration : configurations) {
+      PlatformFilterMatcher matcher = new PlatformFilterMatcher(configuration);
+      for (int i = 0; i < BUNDLE_COUNT; i++) {
+        if (matcher.matches(FILTERS[i % FILTERS.length])) {
+          cachedMatches++;
+        }
+      }
+    }
+    long cached = System.nanoTime() - start;
+
+    A4ELogging.info("%d bundles, %d configurations: uncached=%dus, cached=%dus", Integer.valueOf(BUNDLE_COUNT),
+        Integer.valueOf(configurations.length), Long.valueOf(uncached / 1000), Long.valueOf(cached / 1000));
+    assertEquals(uncachedMatches, cachedMatches);
+    assertTrue(String.format("Cached evaluation (%dus) is slower than the uncached one (%dus).", Long
+        .valueOf(cached / 1000), Long.valueOf(uncached / 1000)), cached <= uncached);
+  }
+
+  private PlatformConfiguration createConfiguration(String os, String ws, String arch, String nl) {
+    PlatformConfiguration result = new PlatformConfiguration();
+    result.setOperatingSystem(os);
+    result.setWindowingSystem(ws);
+    result.setArchitecture(arch);
+    result.setLanguageSetting(nl);
+    result.lock();
+    return result;
+  }
+
+  private Properties createProperties(PlatformConfiguration configuration) {
+    Properties result = new Properties();
+    result.put("osgi.os", configuration.getOperatingSystem());
+    result.put("osgi.ws", configuration.getWindowingSystem());
+    result.put("osgi.arch", configuration.getArchitecture());
+    result.put("osgi.nl", configuration.getLanguageSetting());
+    return result;
+  }
+
+} /* ENDCLASS */
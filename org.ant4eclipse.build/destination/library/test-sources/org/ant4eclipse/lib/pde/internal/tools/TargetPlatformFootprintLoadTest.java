@@ -0,0 +1,79 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import static org.junit.Assert.assertSame;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.LoadTests;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.junit.Test;
+
+import java.io.File;
+
+/**
+ * <p>
+ * Checks that a resolved target platform stays within a per-bundle heap budget. The budget can be scaled for other
+ * virtual machines using the system property {@value LoadTests#PROP_BUDGET_FACTOR}.
+ * </p>
+ */
+public class TargetPlatformFootprintLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the number of bundles of the synthetic target platform */
+  private static final int  BUNDLE_COUNT  = 1000;
+
+  /** heap budget for the read and resolved target platform (bytes per bundle) */
+  private static final long MEMORY_BUDGET = 32 * 1024;
+
+  private TestDirectory     _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void loadTest() {
+    File location = TargetPlatformImplTest.createTargetPlatform(this._testDirectory.getRootDir(), BUNDLE_COUNT);
+
+    long memoryBefore = LoadTests.usedMemory();
+
+    BinaryBundleAndFeatureSet bundleSet = new BinaryBundleAndFeatureSet(location);
+    TargetPlatformImpl targetPlatform = TargetPlatformImplTest.createTargetPlatform(bundleSet, location);
+
+    long used = LoadTests.usedMemory() - memoryBefore;
+    A4ELogging.info("%d bundles: %d bytes per bundle", Integer.valueOf(BUNDLE_COUNT), Long.valueOf(used
+        / BUNDLE_COUNT));
+
+    // keep the bundle set and the target platform reachable until the heap has been measured
+    BundleDescription description = bundleSet.getAllBundleDescriptions().get(0);
+    assertSame(description, targetPlatform.getResolvedBundle(description.getSymbolicName(), description.getVersion()));
+
+    LoadTests.assertWithinBudget("heap", used, MEMORY_BUDGET, BUNDLE_COUNT);
+  }
+
+} /* ENDCLASS */
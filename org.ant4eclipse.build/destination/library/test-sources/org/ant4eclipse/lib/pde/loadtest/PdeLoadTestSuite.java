@@ -0,0 +1,30 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.loadtest;
+
+import org.ant4eclipse.lib.pde.internal.tools.PlatformFilterMatcherLoadTest;
+import org.ant4eclipse.lib.pde.internal.tools.TargetPlatformFootprintLoadTest;
+import org.ant4eclipse.lib.pde.model.featureproject.FeatureManifestParserLoadTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * <p>
+ * The load tests of the pde layer. They are only executed on demand (see
+ * {@link org.ant4eclipse.testframework.LoadTests}).
+ * </p>
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ SyntheticWorkspaceLoadTest.class, PlatformFilterMatcherLoadTest.class,
+    FeatureManifestParserLoadTest.class, TargetPlatformFootprintLoadTest.class })
+public class PdeLoadTestSuite {
+} /* ENDCLASS */
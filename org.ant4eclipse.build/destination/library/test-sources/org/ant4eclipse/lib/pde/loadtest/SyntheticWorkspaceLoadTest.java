@@ -0,0 +1,260 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ * 
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * 
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.configuration.Ant4EclipseConfigurationImpl;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.logging.Ant4EclipseLogger;
+import org.ant4eclipse.lib.core.logging.DefaultAnt4EclipseLogger;
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.util.PropertyService;
+import org.ant4eclipse.lib.core.util.StringMap;
+import org.ant4eclipse.lib.core.util.SystemPropertiesService;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.jdt.ecj.ClassFileLoader;
+import org.ant4eclipse.lib.jdt.ecj.ClassFileLoaderFactory;
+import org.ant4eclipse.lib.jdt.ecj.CompileJobResult;
+import org.ant4eclipse.lib.jdt.ecj.DefaultCompileJobDescription;
+import org.ant4eclipse.lib.jdt.ecj.EcjAdapter;
+import org.ant4eclipse.lib.jdt.ecj.SourceFile;
+import org.ant4eclipse.lib.jdt.ecj.SourceFileFactory;
+import org.ant4eclipse.lib.jdt.model.userlibrary.UserLibraries;
+import org.ant4eclipse.lib.jdt.model.userlibrary.UserLibrariesFileParser;
+import org.ant4eclipse.lib.jdt.model.userlibrary.UserLibrary;
+import org.ant4eclipse.lib.jdt.tools.JdtResolver;
+import org.ant4eclipse.lib.jdt.tools.ResolvedClasspath;
+import org.ant4eclipse.lib.jdt.tools.classpathelements.ClassPathElementsRegistry;
+import org.ant4eclipse.lib.jdt.tools.container.JdtClasspathContainerArgument;
+import org.ant4eclipse.lib.pde.tools.TargetPlatformDefinition;
+import org.ant4eclipse.lib.pde.tools.TargetPlatformRegistry;
+import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
+import org.ant4eclipse.lib.platform.model.resource.Workspace;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.DefaultEclipseWorkspaceDefinition;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRegistry;
+import org.ant4eclipse.lib.platform.tools.BuildOrderResolver;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.LoadTests;
+import org.ant4eclipse.testframework.SyntheticWorkspaceBuilder;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * <p>
+ * Load test that generates synthetic workspaces and checks that registration, class path resolution, build ordering
+ * and compilation stay within per-project time and memory budgets.
+ * </p>
+ * <p>
+ * The workspace sizes are taken from the system property {@value LoadTests#PROP_SIZES} (a comma separated list of
+ * project counts). By default only the smallest workspace is generated, larger runs like
+ * <code>-Dant4eclipse.loadtest.sizes=100,1000,5000</code> have to be enabled explicitly. The budgets can be scaled
+ * for slow machines using the system property {@value LoadTests#PROP_BUDGET_FACTOR}.
+ * </p>
+ */
+public class SyntheticWorkspaceLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** no class path container arguments - the one and only target platform is used */
+  private static final List<JdtClasspathContainerArgument> NO_ARGUMENTS        = Collections.emptyList();
+
+  /** the id of the synthetic target platform */
+  private static final String                              TARGET_PLATFORM_ID  = "synthetic";
+
+  /** time budget for the registration of the workspace (ms per project) */
+  private static final long                                REGISTRATION_BUDGET = 20;
+
+  /** time budget for the class path resolution (ms per project) */
+  private static final long                                CLASSPATH_BUDGET    = 100;
+
+  /** time budget for the build order computation (ms per project) */
+  private static final long                                BUILD_ORDER_BUDGET  = 100;
+
+  /** time budget for the compilation (ms per project) */
+  private static final long                                COMPILATION_BUDGET  = 1000;
+
+  /** heap budget for the registered workspace and the resolved target platform (bytes per project) */
+  private static final long                                MEMORY_BUDGET       = 256 * 1024;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+
+    // tracing thousands of projects would dominate the measured times
+    Ant4EclipseLogger logger = ServiceRegistryAccess.instance().getService(Ant4EclipseLogger.class);
+    if (logger instanceof DefaultAnt4EclipseLogger) {
+      ((DefaultAnt4EclipseLogger) logger).setLogLevel(DefaultAnt4EclipseLogger.Priority.info);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected StringMap customAnt4EclipseConfiguration(StringMap properties) {
+    // load the default configuration and add the PropertyService which is normally provided by the ant layer
+    try {
+      Enumeration<URL> propertyFiles = getClass().getClassLoader().getResources(
+          Ant4EclipseConfigurationImpl.A4E_CONFIGURATION_PROPERTIES);
+      while (propertyFiles.hasMoreElements()) {
+        properties.extendProperties(propertyFiles.nextElement());
+      }
+    } catch (IOException ex) {
+      throw new RuntimeException(ex);
+    }
+    properties.put("service." + PropertyService.class.getName(), SystemPropertiesService.class.getName());
+    return properties;
+  }
+
+  @Test
+  public void loadTest() {
+    for (int size : LoadTests.getSizes()) {
+      runLoadTest(size);
+    }
+  }
+
+  private void runLoadTest(int projectCount) {
+
+    // re-initialize the service registry for every run
+    if (ServiceRegistryAccess.isConfigured()) {
+      dispose();
+    }
+    setup();
+
+    TestDirectory testDirectory = new TestDirectory();
+    try {
+
+      // Step 1: generate the workspace (half java, half plug-in projects)
+      SyntheticWorkspaceBuilder builder = new SyntheticWorkspaceBuilder().withJavaProjects(projectCount / 2)
+          .withPdeProjects(projectCount - (projectCount / 2)).withDependencyFanOut(3).withSourceFiles(3)
+          .withLinkedResources(1).withUserLibraries(Math.max(1, projectCount / 50)).withTargetPlatformBundles(
+              Math.max(10, projectCount / 2));
+      File workspaceDirectory = builder.createIn(testDirectory.getRootDir());
+      String[] projectNames = builder.getProjectNames();
+
+      long memoryBefore = LoadTests.usedMemory();
+
+      // Step 2: registration
+      long start = System.currentTimeMillis();
+      WorkspaceRegistry workspaceRegistry = ServiceRegistryAccess.instance().getService(WorkspaceRegistry.class);
+      Workspace workspace = workspaceRegistry.registerWorkspace(workspaceDirectory.getAbsolutePath(),
+          new DefaultEclipseWorkspaceDefinition(workspaceDirectory));
+      assertEquals(projectCount, workspace.getAllProjects().length);
+      registerUserLibraries(builder.getUserLibrariesFile(), workspace);
+      TargetPlatformDefinition targetPlatformDefinition = new TargetPlatformDefinition();
+      targetPlatformDefinition.addLocation(builder.getTargetPlatformDirectory());
+      ServiceRegistryAccess.instance().getService(TargetPlatformRegistry.class).addTargetPlatformDefinition(
+          TARGET_PLATFORM_ID, targetPlatformDefinition);
+      long registration = System.currentTimeMillis() - start;
+
+      // Step 3: class path resolution
+      start = System.currentTimeMillis();
+      List<ResolvedClasspath> classpathes = new LinkedList<ResolvedClasspath>();
+      for (EclipseProject project : workspace.getAllProjects()) {
+        classpathes.add(JdtResolver.resolveProjectClasspath(project, false, false, NO_ARGUMENTS));
+      }
+      long classpathResolution = System.currentTimeMillis() - start;
+
+      long memory = LoadTests.usedMemory() - memoryBefore;
+
+      // Step 4: build order
+      start = System.currentTimeMillis();
+      List<EclipseProject> buildOrder = BuildOrderResolver.resolveBuildOrder(workspace, projectNames, null, null);
+      assertEquals(projectCount, buildOrder.size());
+      long buildOrdering = System.currentTimeMillis() - start;
+
+      // Step 5: compilation
+      start = System.currentTimeMillis();
+      for (EclipseProject project : buildOrder) {
+        compile(project);
+      }
+      long compilation = System.currentTimeMillis() - start;
+
+      A4ELogging.info("%d projects: registration=%dms, classpath=%dms, buildorder=%dms, compilation=%dms, "
+          + "memory=%dKB", Integer.valueOf(projectCount), Long.valueOf(registration), Long.valueOf(classpathResolution),
+          Long.valueOf(buildOrdering), Long.valueOf(compilation), Long.valueOf(memory / 1024));
+
+      LoadTests.assertWithinBudget("registration", registration, REGISTRATION_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("class path resolution", classpathResolution, CLASSPATH_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("build order", buildOrdering, BUILD_ORDER_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("compilation", compilation, COMPILATION_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("memory", memory, MEMORY_BUDGET, projectCount);
+
+      // keep the resolved class pathes reachable until the memory has been measured
+      assertEquals(projectCount, classpathes.size());
+
+    } finally {
+      testDirectory.dispose();
+    }
+  }
+
+  private void registerUserLibraries(File userLibrariesFile, Workspace workspace) {
+    UserLibrariesFileParser parser = ServiceRegistryAccess.instance().getService(UserLibrariesFileParser.class);
+    UserLibraries userLibraries = parser.parseUserLibrariesFile(userLibrariesFile, workspace);
+    ClassPathElementsRegistry registry = ServiceRegistryAccess.instance().getService(ClassPathElementsRegistry.class);
+    for (String name : userLibraries.getAvailableLibraries()) {
+      UserLibrary library = userLibraries.getLibrary(name);
+      registry.registerClassPathContainer(SyntheticWorkspaceBuilder.USER_LIBRARY_PREFIX + library.getName(), library
+          .getArchiveFiles());
+    }
+  }
+
+  private void compile(EclipseProject project) {
+
+    ResolvedClasspath classpath = JdtResolver.resolveProjectClasspath(project, false, false, NO_ARGUMENTS);
+
+    // create the class file loaders
+    List<ClassFileLoader> loaders = new LinkedList<ClassFileLoader>();
+    for (File file : classpath.getBootClasspathFiles()) {
+      loaders.add(ClassFileLoaderFactory.createClasspathClassFileLoader(file, EcjAdapter.LIBRARY));
+    }
+    for (File file : classpath.getClasspathFiles()) {
+      loaders.add(ClassFileLoaderFactory.createClasspathClassFileLoader(file, EcjAdapter.LIBRARY,
+          new File[] { file }, new File[0]));
+    }
+
+    // collect the source files
+    File sourceFolder = project.getChild("src");
+    File outputFolder = project.getChild("bin");
+    Utilities.mkdirs(outputFolder);
+    List<SourceFile> sourceFiles = new LinkedList<SourceFile>();
+    for (File file : Utilities.getAllChildren(sourceFolder)) {
+      if (file.getName().endsWith(".java")) {
+        String name = file.getAbsolutePath().substring(sourceFolder.getAbsolutePath().length() + 1);
+        sourceFiles.add(SourceFileFactory.createSourceFile(sourceFolder, name, outputFolder, "UTF-8"));
+      }
+    }
+
+    StringMap options = new StringMap();
+    options.put("org.eclipse.jdt.core.compiler.source", "1.5");
+    options.put("org.eclipse.jdt.core.compiler.compliance", "1.5");
+    options.put("org.eclipse.jdt.core.compiler.codegen.targetPlatform", "1.5");
+
+    CompileJobResult result = EcjAdapter.Factory.create().compile(
+        new DefaultCompileJobDescription(ClassFileLoaderFactory.createCompoundClassFileLoader(loaders
+            .toArray(new ClassFileLoader[loaders.size()])), options, sourceFiles.toArray(new SourceFile[sourceFiles
+            .size()])));
+    assertTrue(String.format("Compilation of project '%s' failed.", project.getSpecifiedName()), result.succeeded());
+  }
+
+} /* ENDCLASS */
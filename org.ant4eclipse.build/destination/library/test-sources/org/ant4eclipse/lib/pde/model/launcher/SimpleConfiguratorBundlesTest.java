@@ -0,0 +1,1484 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.launcher;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.pde.tools.BundleStartRecord;
+import org.ant4eclipse.lib.pde.tools.SimpleConfiguratorBundles;
+import org.junit.Test;
+
+import java.io.File;
+
+import junit.framework.Assert;
+
+public class SimpleConfiguratorBundlesTest {
+
+  private static final Object[][] DATA = new Object[][] {
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "antenna.preprocessor.v3" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "com.google.collect" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "com.google.guice" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "com.ibm.icu" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "com.jcraft.jsch" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "com.lowagie.itext" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "commonj.sdo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "de.schlichtherle.truezip" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "java_cup.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.activation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.activation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.mail" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.mail" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.persistence" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.servlet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.servlet.jsp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.transaction" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.wsdl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.xml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.xml.bind" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.xml.rpc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.xml.soap" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "javax.xml.stream" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "jmunit.framework" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "net.sf.eclipsecs.checkstyle" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "net.sf.eclipsecs.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "net.sf.eclipsecs.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "net.sf.eclipsecs.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "net.sourceforge.lpg.lpgjavaruntime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "oracle.database.driver.jdk14" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.antlr.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.antlr.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.ant" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.axis" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.bridge" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.css" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.dom" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.dom.svg" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.ext.awt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.extension" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.pdf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.svggen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.swing" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.transcoder" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.util.gui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.batik.xml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.bcel" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.cli" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.codec" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.codec" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.collections" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.discovery" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.el" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.httpclient" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.jxpath" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.lang" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.lang" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.logging" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.logging" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.commons.net" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.derby" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.derby.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.jasper" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.log4j" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.lucene" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.lucene.analysis" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.oro" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.velocity" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.wsil4j" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.xalan" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.xerces" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.xml.resolver" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.apache.xml.serializer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.antlr" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.gunit.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.gunit.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.integration.jdt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.stringtemplate.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.stringtemplate.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.deved.antlride.viz" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.ide.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.model" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.acceleo.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.actf.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ant.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ant.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.cshelp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.device.extension" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.device.pdf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.device.svg" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.device.swt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.engine.extension" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.reportitem" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.reportitem.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.chart.ui.extension" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.core.script.function" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.core.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.cshelp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.data" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.data.aggregation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.example" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.adapter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.jdbc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.jdbc.dbprofile" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.jdbc.dbprofile.sampledb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.jdbc.dbprofile.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.jdbc.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.sampledb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.sampledb.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.xml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.data.oda.xml.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.debug.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.samplereports" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.cubebuilder" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.data" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.editor.script" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.editor.xml.wtp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.editors" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.editors.schematic" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.lib" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.lib.explorer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.preview.web" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.samples.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.samplesview" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.designer.ui.views" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.dataextraction" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.dataextraction.csv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.config" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.html" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.pdf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.postscript" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.ppt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.prototype.excel" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.emitter.wpml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.engine.fonts" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.item.crosstab.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.item.crosstab.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.model" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.model.adapter.oda" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.report.viewer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.birt.resources" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.buckminster.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.core.win32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.mi.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.mi.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.ui.memory.memorybrowser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.ui.memory.search" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.ui.memory.traditional" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.debug.ui.memory.transport" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.dsf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.dsf.gdb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.dsf.gdb.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.dsf.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.launch" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.launch.remote" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.make.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.make.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.managedbuilder.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.managedbuilder.gnu.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.managedbuilder.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cdt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.compare" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.compare.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.compare.win32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.boot" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.commands" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.contenttype" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.databinding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.databinding.beans" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.databinding.observable" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.databinding.property" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.expressions" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.filebuffers" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.filesystem" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.filesystem.win32.x86" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.jobs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.net" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.net.win32.x86" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.resources" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.resources.compatibility" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.resources.win32.x86" },
+      new Object[] { Integer.valueOf(4), Boolean.TRUE, "org.eclipse.core.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.runtime.compatibility" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.runtime.compatibility.auth" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.runtime.compatibility.registry" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.core.variables" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.cvs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.common.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.apache.derby" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.apache.derby.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.apache.derby.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.console.profile" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.db.generic" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.db.generic.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.dbdefinition.genericJDBC" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.doc.user.contexts" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.consumer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.design" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.design.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.flatfile" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.flatfile.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.profile" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.oda.template.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.sqm.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.sqm.core.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.sqm.server.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.ui.dse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.connectivity.ui.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.finfo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.hsqldb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.hsqldb.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.hsqldb.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.iseries" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.iseries.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.iseries.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.luw" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.luw.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.luw.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.zseries" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.zseries.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.db2.zseries.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.informix" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.informix.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.informix.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ibm.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ingres" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ingres.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.ingres.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.jdt.classpath" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.msft.sqlserver" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.msft.sqlserver.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.msft.sqlserver.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.mysql" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.mysql.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.mysql.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oda.ws" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oda.ws.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oda.xml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oda.xml.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oracle" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oracle.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.oracle.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.postgresql" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.postgresql.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.postgresql.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sap.maxdb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sap.maxdb.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sap.maxdb.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sqlite" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sqlite.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sqlite.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.asa" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.asa.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.asa.models" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE,
+      "org.eclipse.datatools.enablement.sybase.asa.schemaobjecteditor.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.asa.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.ase" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.ase.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.ase.models" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.ase.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.models" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.enablement.sybase.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.intro" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.dbdefinition" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.derby" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.sql" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.sql.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.sql.query" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.sql.query.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.modelbase.sql.xml.query" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.oda.cshelp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sdk" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.data.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.data.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.db.derby" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.db.derby.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.db.generic" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.db.generic.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.ddlgen.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.debugger.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.debugger.core.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.doc.user.contexts" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.editor.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.editor.core.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.parsers.sql" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.parsers.sql.lexer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.parsers.sql.query" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.parsers.sql.xml.query" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.plan" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.result" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.result.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.routineeditor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.routineeditor.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.schemaobjecteditor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.schemaobjecteditor.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.schemaobjecteditor.ui.pages" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.sql" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.sql.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.sqlbuilder" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.sqleditor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.sqlscrapbook" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.datatools.sqltools.tabledataeditor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.debug.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.console" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.console.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.core.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.core.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.formatter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.core.dom.support" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.formatter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.jdt.integration" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.jsjdtdebugger" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.launching" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.rhino" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.rhino.dbgp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.javascript.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.launching" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.activestatedebugger" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.launching" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.python.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.rse.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.rse.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.testing" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.validators.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.validators.externalchecker" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dltk.validators.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.draw2d" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.draw2d.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dstore.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.dstore.extra" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.filetransfer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.identity" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.provider.filetransfer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.provider.filetransfer.httpclient" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.provider.filetransfer.httpclient.ssl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.provider.filetransfer.ssl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.ssl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ecf.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.egit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.egit.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.egit.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.egit.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ant" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.defs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.migrator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.server.db" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.mango" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.mango.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model1" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model1.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model2" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model2.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model3" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model4" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.tests.model4interfaces" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cdo.ui.defs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.cheatsheets" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.codegen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.codegen.ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.codegen.ecore.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.codegen.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.diff" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.diff.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.epatch" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.match" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.compare.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.converter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.databinding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.databinding.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecore.change" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecore.change.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecore.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecore.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecore.xmi" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.diagram" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.diagram.ui.outline" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.filters" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.properties" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.tabbedproperties" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ecoretools.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.edit.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.example.installer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.exporter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.generic.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.importer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.importer.ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.importer.java" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.importer.rose" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.index" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.index.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.index.tests" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.index.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ecore.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ecore2ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ecore2ecore.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ecore2xml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ecore2xml.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.xsd2ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mapping.xsd2ecore.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mint" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mint.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mint.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.activities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.core.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.examples.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.ui.simpleEditor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.ui.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.mwe.utils" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ocl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ocl.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.ocl.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.query" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.query.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.query.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.query.ocl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.annotations" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.eclipse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.eclipselink" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.eclipselink.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.eclipselink.elistfactory" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.eclipselink.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.hibernate" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.hibernate.eclipse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.hibernate.mapper" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.orm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.orm.eclipse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.teneo.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.transaction" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.transaction.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.transaction.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.transaction.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.validation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.validation.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.validation.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.validation.ocl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.validation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.validation.ui.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.workspace" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.workspace.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.emf.workspace.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.epp.package.jee" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.epp.package.modeling" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.epp.package.rcp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.epp.usagedata.gathering" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.epp.usagedata.recording" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.epp.usagedata.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.app" },
+      new Object[] { Integer.valueOf(2), Boolean.TRUE, "org.eclipse.equinox.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.concurrent" },
+      new Object[] { Integer.valueOf(2), Boolean.TRUE, "org.eclipse.equinox.ds" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.frameworkadmin" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.frameworkadmin.equinox" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.http.jetty" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.http.registry" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.http.servlet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.jsp.jasper" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.jsp.jasper.registry" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.launcher" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.launcher.win32.win32.x86" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.artifact.repository" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.console" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.director" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.director.app" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.directorywatcher" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.exemplarysetup" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.extensionlocation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.garbagecollector" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.jarprocessor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.metadata" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.metadata.generator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.metadata.repository" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.publisher" },
+      new Object[] { Integer.valueOf(4), Boolean.TRUE, "org.eclipse.equinox.p2.reconciler.dropins" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.repository" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.repository.tools" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.touchpoint.eclipse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.touchpoint.natives" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.ui.sdk" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.ui.sdk.scheduler" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.updatechecker" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.p2.updatesite" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.preferences" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.registry" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.security" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.security.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.security.win32.x86" },
+      new Object[] { Integer.valueOf(1), Boolean.TRUE, "org.eclipse.equinox.simpleconfigurator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.simpleconfigurator.manipulator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.equinox.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.galileo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gef" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gef.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gef.examples.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gef.examples.ui.pde" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.bridge" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.bridge.trace" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.bridge.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.bridge.ui.dashboard" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.codegen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.codegen.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.codegen.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.doc.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.ecore.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.examples.ui.pde" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.graphdef" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.graphdef.codegen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.graphdef.codegen.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.graphdef.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.map" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.map.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.action" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.action.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.printing" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.printing.win32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.services" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.services.action" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.services.dnd" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.services.dnd.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.common.ui.services.properties" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.actions" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.dnd" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.geoshapes" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.printing" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.printing.render" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.properties" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.providers" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.providers.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.render" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.resources.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.diagram.ui.resources.editor.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.draw2d.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.draw2d.ui.render" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.draw2d.ui.render.awt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.clipboard.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.commands.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.type.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.type.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.emf.ui.properties" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.gef.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.notation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.notation.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.runtime.notation.providers" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.sdk" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.templates.legacy" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.tooldef" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.tooldef.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.tooling" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.validate" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.xpand" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.xpand.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.xpand.migration" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.gmf.xpand.qvtlibrary" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.help.appserver" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.help.base" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.help.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.help.webapp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.analysis.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.execution" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.execution.correlation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.execution.trace" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.logging.adapter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.logging.adapter.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.logging.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.logging.core.sample" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.logging.parsers" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.perfmon" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.perfmon.agents" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.probekit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.probekit.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.probekit.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.resources.database" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.sdb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.statistical.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.test.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.test.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.test.tools.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.test.tools.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.test.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.test.ui.extensions" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.trace.sample" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.trace.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.trace.views" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.hyades.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.apt.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.apt.pluggable.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.apt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.compiler.apt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.compiler.tool" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.core.manipulation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.junit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.junit.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.junit4.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.launching" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jdt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem.beaninfo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem.beaninfo.vm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem.beaninfo.vm.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem.proxy" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jem.workbench" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jet.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jet.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jet.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jet.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jet.uml2" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jface" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jface.databinding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jface.text" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jgit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.branding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.db" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.db.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.eclipselink.branding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.eclipselink.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.eclipselink.core.ddlgen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.eclipselink.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.gen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jpt.utility" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jsch.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jsch.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.common.annotations.controller" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.common.annotations.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.common.annotations.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.common.frameworks" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.common.project.facet.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.common.project.facet.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ejb.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ejb.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ejb.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.ejb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.ejb.annotation.model" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.ejb.annotations.emitter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.ejb.annotations.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.ejb.annotations.xdoclet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.jca" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.jca.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.navigator.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.web" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.webservice" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.webservice.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.j2ee.xdoclet.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jee" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jee.ejb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jee.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jee.web" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.apache.trinidad.tagsupport" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.common.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.facesconfig" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.facesconfig.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.standard.tagsupport" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsf.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsp.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsp.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.jsp.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.pagedesigner" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.pagedesigner.jsf.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.pagedesigner.jsp.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.generic.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.generic.jboss" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.generic.jonas" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.generic.oc4j" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.generic.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.preview.adapter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.tomcat.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.tomcat.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.server.websphere.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.servlet.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.servlet.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.standard.schemas" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis.consumption.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis.consumption.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis.creation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.consumption.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.consumption.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.creation.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.creation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.axis2.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.consumption" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.consumption.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.consumption.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.consumption.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.creation.ejb.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.creation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.uddiregistry" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.jst.ws.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ltk.core.refactoring" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ltk.ui.refactoring" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.adt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.adt.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.adt.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.adt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.core.ant" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.core.emf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.core.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.core.ui.vm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.drivers.emf4atl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.drivers.uml24atl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.dsls" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.engine.emfvm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.engine.vm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.atl.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.cst.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.ecore.imperativeocl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.editor.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.emf.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.emf.util.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.ocl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.project" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.runtime.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.samples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.trace.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.m2m.qvt.oml.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.api" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.chart" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.chart.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.dtfj" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.hprof" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.jdt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.report" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mat.ui.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.branding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.core.hooks" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.eswt.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.example.library" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.examples.jadextension" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.examples.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.examples.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.examples.toolkits" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.jmunit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.toolkit.microemu" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.toolkit.mpowerplayer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.toolkit.uei" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mtj.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.bugzilla.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.bugzilla.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.bugzilla.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.commons.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.commons.net" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.commons.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.compatibility" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.context.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.context.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.discovery.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.discovery.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.help.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.ide.ant" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.ide.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.ide.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.java.tasks" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.java.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.monitor.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.monitor.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.pde.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.resources.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.tasks.bugs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.tasks.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.tasks.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.team.cvs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.team.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.confluence.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.confluence.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.help.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.mediawiki.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.mediawiki.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.tasks.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.textile.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.textile.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.tracwiki.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.tracwiki.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.twiki.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.twiki.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.mylyn.wikitext.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.buddies" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.buddies.chat" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.buddies.chat.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.buddies.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.buddies.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.buddies.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.db" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.db.derby" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.defs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.http" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.http.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.http.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.jms" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.jms.admin" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.jms.api" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.jms.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.jms.server.jdbc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.jvm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.tcp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.ui.defs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.util.defs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.net4j.util.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ocl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ocl.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ocl.ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ocl.uml" },
+      new Object[] { Integer.valueOf(-1), Boolean.TRUE, "org.eclipse.osgi" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.osgi.services" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.osgi.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.api.tools" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.api.tools.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.build" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.ds.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.ds.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.junit.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.ua.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.ua.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.pde.ui.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.antlr" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.asm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.jpa" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.jpa.equinox" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.jpa.equinox.weaving" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.moxy" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.oracle" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.persistence.sdo" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.core.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.debug.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.debug.daemon" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.server.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.server.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.php.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.platform" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.platform.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.platform.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rap.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rap.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rap.ui.intro" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rap.ui.launch" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rap.ui.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rcp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.connectorservice.dstore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.connectorservice.local" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.connectorservice.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.connectorservice.telnet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.dstore.security" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.efs" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.efs.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.files.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.importexport" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.processes.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.services" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.services.dstore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.services.files.ftp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.services.local" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.services.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.services.telnet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.shells.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.files.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.files.dstore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.files.ftp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.files.local" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.files.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.processes.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.processes.dstore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.processes.local" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.processes.shell.linux" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.shells.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.shells.dstore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.shells.local" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.shells.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.shells.telnet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.terminals.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.subsystems.terminals.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.terminals.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.rse.useractions" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.sdk" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.search" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.servertools.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.swt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.swt.win32.win32.x86" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.cvs.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.cvs.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.cvs.ssh2" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.cvs.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.svn" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.svn.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.svn.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.svn.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.svn.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.team.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.text" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tm.terminal" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tm.terminal.ssh" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tm.terminal.telnet" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tm.terminal.view" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.instrumentation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.instrumentation.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.instrumentation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.la.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.logui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.managedagent" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.managedagent.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.managedagent.jmx" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.managedagent.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.notifications" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.profile.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.report.birt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.report.birt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.report.birt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.symptom.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.monitoring.symptom.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.ac.win_ia32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.agentcontroller" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.agentcontroller.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis.codereview.java" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis.codereview.java.rules" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis.core.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis.core.ui.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.analysis.engine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.collection.framework" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.common.ui.trace" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.execution" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.iac.administrator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.instrumentation.annotation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.instrumentation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.integration.pde" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.jvmti.client" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.jvmti.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.la.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.log.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.log.views" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.logging.events" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.lta" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.models" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.models.hierarchy" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.probekit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.probekit.launch" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.profile.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.profile.server.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.profile.server.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.profile.server.wst" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.report" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.report.birt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.report.birt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.report.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.report.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.samples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.statistical.report.birt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.statistical.report.birt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.statistical.report.birt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.statistical.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.trace" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.platform.welcome" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.recorders.url" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.recorders.url.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.report.birt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.report.birt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.report.birt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.samples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.tools" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.tools.junit.plugin" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.test.tools.junit.plugin.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.arm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.arm.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.arm.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.jvmti.client" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.report.birt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.report.birt.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.trace.report.birt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.tptp.ui.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.browser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.cheatsheets" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.console" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.editors" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.externaltools" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.forms" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.ide" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.ide.application" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.intro" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.intro.universal" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.navigator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.navigator.resources" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.net" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.presentations.r21" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.views" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.views.log" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.views.properties.tabbed" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.win32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.workbench" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.workbench.compatibility" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.ui.workbench.texteditor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.codegen.ecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.codegen.ecore.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.common.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.activity" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.clazz" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.codegen" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.codegen.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.common.notation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.component" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.csd" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.def" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.deploy" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.examples.activity" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.examples.clazz" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.examples.profile" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.examples.statemachine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.profile" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.sequence" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.sequence.model" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.statemachine" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.diagram.usecase" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.examples.uml.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.uml" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.uml.ecore.exporter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.uml.ecore.importer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.uml.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.uml.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2.uml.resources" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2tools" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.uml2tools.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.update.configurator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.update.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.update.core.win32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.update.scheduler" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.update.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.command.env" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.command.env.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.command.env.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.command.env.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.command.env.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.api.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.emf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.emfworkbench.integration" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.environment" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.frameworks" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.frameworks.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.modulecore" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.project.facet.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.project.facet.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.snippets" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.common.uriresolver" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.css.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.css.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.dtd.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.dtd.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.dtd.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.dtdeditor.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.html.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.html.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.html.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.internet.cache" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.internet.monitor.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.internet.monitor.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.manipulation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.support.firefox" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.support.ie" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.web.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.web.support.jsp" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.jsdt.web.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.discovery" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.http.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.http.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.preview" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.preview.adapter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.server.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.sse.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.sse.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.sse.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.sse.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.standard.schemas" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.validation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.validation.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.validation.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.validation.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.web" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.web.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.web.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.webtools.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.api.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.explorer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.service.policy" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.service.policy.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.ws.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsdl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsdl.doc.isv" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsdl.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsdl.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsdl.validation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsi" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsi.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.wsi.ui.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xml.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xml.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xml.ui.infopop" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xml.xpath.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xml.xpath.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xml.xpath2.processor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xmleditor.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsd.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsd.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsdeditor.doc.user" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.jaxp.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.jaxp.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.jaxp.launching" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.launching" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.saxon" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.sdk.documentation" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wst.xsl.xalan" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wtp.epp.package.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wtp.epp.package.jee.intro" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wtp.javascript.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wtp.jee.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wtp.web.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.wtp.xml.capabilities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.activities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.examples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.examples.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xpand.ui.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.cheatsheets" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.ecore.converter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.ecore.exporter" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.ecore.importer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.edit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.example.installer" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.mapping" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xsd.mapping.editor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.check.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.shared.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.emf" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.emf.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.emf.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.uml2" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.uml2.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.uml2.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.xsd" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.xsd.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.typesystem.xsd.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.ui.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtend.util.stdlib" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.activities" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.bootstrap" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.doc" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.example.domainmodel" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.example.domainmodel.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.example.ecoredsl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.example.ecoredsl.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.example.fowlerdsl" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.example.fowlerdsl.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.examples.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.generator" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.log4j" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.logging" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.reference" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.reference.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.runtime.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.sdk.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.ui.common" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.ui.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.ui.source" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.xtend" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.xtext.xtext.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.zest.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.eclipse.zest.layouts" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.hamcrest.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.jdom" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.junit" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.junit4" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.mortbay.jetty" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.mortbay.jetty.server" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.mortbay.jetty.util" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.mozilla.rhino" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.mx4j.jmx" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.eclipse.monitor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.jdt.ui.adaptor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.apt.adaptor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.compiler.adaptor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.debug.adaptor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.debug.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.pde.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.refactoring.adaptor" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.samples" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.ui" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otdt.ui.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otequinox" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otequinox.branding" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otequinox.hook" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otequinox.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.otequinox.sunjvm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectteams.runtime" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectweb.asm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.objectweb.asm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.opengroup.arm" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.polarion.eclipse.team.svn.connector" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.polarion.eclipse.team.svn.connector.javahl16" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.polarion.eclipse.team.svn.connector.javahl16.win32" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.polarion.eclipse.team.svn.connector.svnkit16" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.ast" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.customizations" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.debug" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.help" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.jython" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.parser" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.refactoring" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.python.pydev.templates" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.sat4j.core" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.sat4j.pb" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.testng.eclipse" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.uddi4j" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.w3c.css.sac" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.w3c.dom.events" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.w3c.dom.smil" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.w3c.dom.smil" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.w3c.dom.svg" },
+      new Object[] { Integer.valueOf(4), Boolean.FALSE, "org.w3c.sac" } };
+
+  @Test
+  public void loadBundlesInfo() {
+    File bundlesfile = Utilities.exportResource("/org/ant4eclipse/testframework/bundles.info");
+    SimpleConfiguratorBundles bundles = new SimpleConfiguratorBundles(bundlesfile);
+    BundleStartRecord[] records = bundles.getBundleStartRecords();
+    Assert.assertNotNull(records);
+    Assert.assertEquals(DATA.length, records.length);
+    for (int i = 0; i < records.length; i++) {
+      Assert.assertNotNull(records[i]);
+      Object[] expected = DATA[i];
+      Assert.assertEquals(expected[2], records[i].getId());
+      Assert.assertEquals(expected[0], Integer.valueOf(records[i].getStartLevel()));
+      Assert.assertEquals(expected[1], Boolean.valueOf(records[i].isAutoStart()));
+    }
+  }
+
+}
@@ -0,0 +1,125 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.pde.internal.tools.BinaryBundleAndFeatureSet;
+import org.ant4eclipse.lib.pde.internal.tools.TargetPlatformImpl;
+import org.ant4eclipse.testframework.BundleManifest;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.File;
+
+public class LaunchBundleTablesTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory      _testDirectory;
+
+  private TargetPlatformImpl _targetPlatform;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+
+    File plugins = new File(this._testDirectory.getRootDir(), "target/plugins");
+    createBundle(plugins, "org.junit", null, "junit.framework");
+    createBundle(plugins, "org.eclipse.pde.junit.runtime", null, null);
+    createBundle(plugins, "org.eclipse.jdt.junit4.runtime", "org.junit", null);
+    createBundle(plugins, "pde.test.utils", "org.junit", null);
+    createBundle(plugins, "test.started", null, null);
+    createBundle(plugins, "test.stopped", null, null);
+
+    BinaryBundleAndFeatureSet bundleSet = new BinaryBundleAndFeatureSet(plugins.getParentFile());
+    PlatformConfiguration configuration = new PlatformConfiguration();
+    configuration.lock();
+    this._targetPlatform = new TargetPlatformImpl(null, new BinaryBundleAndFeatureSet[] { bundleSet }, configuration,
+        new File[] { plugins.getParentFile() });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void tables() {
+    LaunchBundleTables tables = LaunchBundleTables.getLaunchBundleTables(this._targetPlatform, null,
+        "test.started@default:true,test.stopped@4:false,test.missing@default:true,malformed");
+
+    assertEquals(line("test.started", true) + line("test.stopped", false)
+        + line("org.eclipse.pde.junit.runtime", false) + line("org.eclipse.jdt.junit4.runtime", false)
+        + line("org.junit", false), tables.getBundlesInfo());
+    assertEquals(reference("test.started", true) + reference("test.stopped", false)
+        + reference("org.eclipse.pde.junit.runtime", false) + reference("org.eclipse.jdt.junit4.runtime", false)
+        + reference("org.junit", false), tables.getOsgiBundles());
+    assertEquals("@ignoredot@=true\n", tables.getDevProperties());
+    assertEquals(new File(location("org.junit")).getAbsolutePath() + File.pathSeparator
+        + new File(location("pde.test.utils")).getAbsolutePath() + File.pathSeparator, tables
+        .getCollectorClassPath());
+  }
+
+  @Test
+  public void sharedTables() {
+    String selection = "test.started@default:true";
+    LaunchBundleTables tables = LaunchBundleTables.getLaunchBundleTables(this._targetPlatform, null, selection);
+
+    // the same selection shares the tables, another selection gets its own
+    assertSame(tables, LaunchBundleTables.getLaunchBundleTables(this._targetPlatform, null, new String(selection)));
+    LaunchBundleTables other = LaunchBundleTables.getLaunchBundleTables(this._targetPlatform, null,
+        "test.stopped@default:true");
+    assertNotSame(tables, other);
+    assertTrue(other.getBundlesInfo().startsWith(line("test.stopped", true)));
+
+    // the tables are computed again after the target platform has been resolved again
+    long resolutionStamp = this._targetPlatform.getResolutionStamp();
+    this._targetPlatform.refresh();
+    assertTrue(this._targetPlatform.getResolutionStamp() != resolutionStamp);
+    LaunchBundleTables refreshed = LaunchBundleTables.getLaunchBundleTables(this._targetPlatform, null, selection);
+    assertNotSame(tables, refreshed);
+    assertEquals(tables.getBundlesInfo(), refreshed.getBundlesInfo());
+    assertSame(refreshed, LaunchBundleTables.getLaunchBundleTables(this._targetPlatform, null, selection));
+  }
+
+  private void createBundle(File plugins, String symbolicName, String requireBundle, String exportPackage) {
+    File bundle = new File(plugins, symbolicName + "_1.0.0");
+    Utilities.mkdirs(new File(bundle, "META-INF"));
+    new BundleManifest(symbolicName).withBundleVersion("1.0.0").withRequireBundle(requireBundle).withExportPackage(
+        exportPackage).write(new File(bundle, "META-INF/MANIFEST.MF"));
+  }
+
+  private String location(String symbolicName) {
+    return this._targetPlatform.getBundleDescriptionFromBinaryBundles(symbolicName).getLocation();
+  }
+
+  private String line(String symbolicName, boolean autoStart) {
+    return symbolicName + ",1.0.0,file:/" + location(symbolicName) + ",4," + autoStart + "\n";
+  }
+
+  private String reference(String symbolicName, boolean autoStart) {
+    return "reference\\:file\\:" + location(symbolicName).replace('\\', '/') + (autoStart ? "@start," : ",");
+  }
+
+} /* ENDCLASS */
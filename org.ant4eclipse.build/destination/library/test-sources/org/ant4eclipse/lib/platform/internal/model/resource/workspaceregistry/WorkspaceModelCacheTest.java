@@ -0,0 +1,94 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.EclipseProjectBuilder;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+public class WorkspaceModelCacheTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory _testWorkspace;
+
+  private File          _cacheFile;
+
+  private File          _projectFile;
+
+  @Override
+  public void setup() {
+    super.setup();
+    this._testWorkspace = new TestDirectory();
+    new EclipseProjectBuilder("project1").withNature("org.eclipse.jdt.core.javanature").withProjectReference(
+        "project2").createIn(this._testWorkspace.getRootDir());
+    this._projectFile = new File(this._testWorkspace.getRootDir(), "project1/.project");
+    this._cacheFile = new File(this._testWorkspace.getRootDir(), WorkspaceModelCache.CACHE_FILE);
+  }
+
+  @Override
+  public void dispose() {
+    this._testWorkspace.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void persistentContent() {
+    WorkspaceModelCache cache = new WorkspaceModelCache(this._cacheFile);
+    ProjectFileContent content = cache.getProjectFileContent(this._projectFile);
+    Assert.assertEquals("project1", content.getName());
+    Assert.assertEquals(0, cache.getHits());
+    Assert.assertEquals(1, cache.getMisses());
+    Assert.assertSame(content, cache.getProjectFileContent(this._projectFile));
+    Assert.assertEquals(1, cache.getHits());
+    cache.save();
+    Assert.assertTrue(this._cacheFile.isFile());
+
+    // a new cache instance (next build) reads the cache file
+    cache = new WorkspaceModelCache(this._cacheFile);
+    content = cache.getProjectFileContent(this._projectFile);
+    Assert.assertEquals(1, cache.getHits());
+    Assert.assertEquals(0, cache.getMisses());
+    Assert.assertEquals("project1", content.getName());
+    Assert.assertEquals(1, content.getNatures().length);
+    Assert.assertEquals("org.eclipse.jdt.core.javanature", content.getNatures()[0]);
+    Assert.assertEquals(1, content.getReferencedProjects().length);
+    Assert.assertEquals("project2", content.getReferencedProjects()[0]);
+  }
+
+  @Test
+  public void modifiedProjectFile() {
+    WorkspaceModelCache cache = new WorkspaceModelCache(this._cacheFile);
+    cache.getProjectFileContent(this._projectFile);
+    cache.save();
+
+    String content = Utilities.readTextContent(this._projectFile, "UTF-8", true).toString();
+    Utilities.writeFile(this._projectFile, content.replace("project1", "renamed-project1"), "UTF-8");
+
+    cache = new WorkspaceModelCache(this._cacheFile);
+    Assert.assertEquals("renamed-project1", cache.getProjectFileContent(this._projectFile).getName());
+    Assert.assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  public void corruptCacheFile() {
+    this._cacheFile.getParentFile().mkdirs();
+    Utilities.writeFile(this._cacheFile, new byte[] { 1, 2, 3 });
+    WorkspaceModelCache cache = new WorkspaceModelCache(this._cacheFile);
+    Assert.assertEquals("project1", cache.getProjectFileContent(this._projectFile).getName());
+    Assert.assertEquals(1, cache.getMisses());
+  }
+
+} /* ENDCLASS */
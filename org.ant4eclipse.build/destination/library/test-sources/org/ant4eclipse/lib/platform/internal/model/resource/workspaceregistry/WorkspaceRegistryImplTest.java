@@ -0,0 +1,80 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
+
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.platform.model.resource.Workspace;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.DefaultEclipseWorkspaceDefinition;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRegistry;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.EclipseProjectBuilder;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+public class WorkspaceRegistryImplTest extends ConfigurableAnt4EclipseTestCase {
+
+  private static final String ID = "revalidation";
+
+  private TestDirectory       _testWorkspace;
+
+  private WorkspaceRegistry   _workspaceRegistry;
+
+  @Override
+  public void setup() {
+    super.setup();
+    this._testWorkspace = new TestDirectory();
+    new EclipseProjectBuilder("project1").createIn(this._testWorkspace.getRootDir());
+    this._workspaceRegistry = ServiceRegistryAccess.instance().getService(WorkspaceRegistry.class);
+    this._workspaceRegistry.registerWorkspace(ID, new DefaultEclipseWorkspaceDefinition(this._testWorkspace
+        .getRootDir()));
+  }
+
+  @Override
+  public void dispose() {
+    this._testWorkspace.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void unchangedWorkspaceIsKept() {
+    Workspace workspace = this._workspaceRegistry.getWorkspace(ID);
+    this._workspaceRegistry.setCurrent(workspace);
+    ServiceRegistryAccess.revalidate();
+    Assert.assertTrue(this._workspaceRegistry.containsWorkspace(ID));
+    Assert.assertSame(workspace, this._workspaceRegistry.getWorkspace(ID));
+    Assert.assertSame(workspace, this._workspaceRegistry.getCurrent());
+  }
+
+  @Test
+  public void modifiedProjectDescription() {
+    this._workspaceRegistry.setCurrent(ID);
+    File projectfile = new File(this._testWorkspace.getRootDir(), "project1/.project");
+    projectfile.setLastModified(projectfile.lastModified() - 10000);
+    ServiceRegistryAccess.revalidate();
+    Assert.assertFalse(this._workspaceRegistry.containsWorkspace(ID));
+    Assert.assertFalse(this._workspaceRegistry.hasCurrent());
+  }
+
+  @Test
+  public void addedProject() {
+    new EclipseProjectBuilder("project2").createIn(this._testWorkspace.getRootDir());
+    ServiceRegistryAccess.revalidate();
+    Assert.assertFalse(this._workspaceRegistry.containsWorkspace(ID));
+    Workspace workspace = this._workspaceRegistry.registerWorkspace(ID, new DefaultEclipseWorkspaceDefinition(
+        this._testWorkspace.getRootDir()));
+    Assert.assertTrue(workspace.hasProject("project2"));
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,166 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry.WorkspaceModelCache;
+import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
+import org.ant4eclipse.lib.platform.model.resource.Workspace;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.DefaultEclipseWorkspaceDefinition;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRegistry;
+import org.ant4eclipse.lib.platform.tools.BuildOrderResolver;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.EclipseProjectBuilder;
+import org.ant4eclipse.testframework.LoadTests;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * <p>
+ * Load test for the platform layer. It generates workspaces of plain projects referencing each other and checks that
+ * the registration of the workspace (with and without the {@link WorkspaceModelCache}) and the computation of the
+ * build order stay within per-project time budgets. The workspace sizes are taken from the system property
+ * {@value LoadTests#PROP_SIZES}.
+ * </p>
+ */
+public class WorkspaceLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the maximum number of projects referenced by a project */
+  private static final int  FAN_OUT                    = 3;
+
+  /** time budget for the registration of the workspace (ms per project) */
+  private static final long REGISTRATION_BUDGET        = 10;
+
+  /** time budget for the registration of the workspace using a filled model cache (ms per project) */
+  private static final long CACHED_REGISTRATION_BUDGET = 5;
+
+  /** time budget for the build order computation (ms per project) */
+  private static final long BUILD_ORDER_BUDGET         = 20;
+
+  @Test
+  public void loadTest() {
+    for (int size : LoadTests.getSizes()) {
+      runLoadTest(size);
+    }
+  }
+
+  private void runLoadTest(int projectCount) {
+
+    TestDirectory testDirectory = new TestDirectory();
+    String enabled = System.getProperty(WorkspaceModelCache.PROP_ENABLE);
+    try {
+
+      // Step 1: generate the workspace (every project only references projects with a lower index)
+      Random random = new Random(4711L);
+      String[] projectNames = new String[projectCount];
+      for (int i = 0; i < projectCount; i++) {
+        projectNames[i] = String.format("synthetic.project%05d", Integer.valueOf(i));
+        Set<String> references = new LinkedHashSet<String>();
+        while (references.size() < Math.min(FAN_OUT, i)) {
+          references.add(projectNames[random.nextInt(i)]);
+        }
+        EclipseProjectBuilder builder = new EclipseProjectBuilder(projectNames[i]);
+        for (String reference : references) {
+          builder.withProjectReference(reference);
+        }
+        builder.createIn(testDirectory.getRootDir());
+      }
+
+      // Step 2: registration without the model cache
+      System.clearProperty(WorkspaceModelCache.PROP_ENABLE);
+      restart();
+      long start = System.currentTimeMillis();
+      Workspace workspace = registerWorkspace(testDirectory.getRootDir());
+      long registration = System.currentTimeMillis() - start;
+      assertEquals(projectCount, workspace.getAllProjects().length);
+
+      // Step 3: registration with a model cache filled by a previous build
+      System.setProperty(WorkspaceModelCache.PROP_ENABLE, "true");
+      restart();
+      registerWorkspace(testDirectory.getRootDir());
+      restart();
+      start = System.currentTimeMillis();
+      workspace = registerWorkspace(testDirectory.getRootDir());
+      long cachedRegistration = System.currentTimeMillis() - start;
+      assertEquals(projectCount, workspace.getAllProjects().length);
+
+      // Step 4: build order
+      start = System.currentTimeMillis();
+      List<EclipseProject> buildOrder = BuildOrderResolver.resolveBuildOrder(workspace, projectNames, null, null);
+      long buildOrdering = System.currentTimeMillis() - start;
+      assertBuildOrder(buildOrder, projectCount);
+
+      A4ELogging.info("%d projects: registration=%dms, cached registration=%dms, buildorder=%dms", Integer
+          .valueOf(projectCount), Long.valueOf(registration), Long.valueOf(cachedRegistration), Long
+          .valueOf(buildOrdering));
+
+      LoadTests.assertWithinBudget("registration", registration, REGISTRATION_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("cached registration", cachedRegistration, CACHED_REGISTRATION_BUDGET,
+          projectCount);
+      LoadTests.assertWithinBudget("build order", buildOrdering, BUILD_ORDER_BUDGET, projectCount);
+
+    } finally {
+      if (enabled == null) {
+        System.clearProperty(WorkspaceModelCache.PROP_ENABLE);
+      } else {
+        System.setProperty(WorkspaceModelCache.PROP_ENABLE, enabled);
+      }
+      testDirectory.dispose();
+    }
+  }
+
+  /**
+   * Replaces the service registry, so nothing is reused from a previous registration except for the persistent model
+   * cache.
+   */
+  private void restart() {
+    dispose();
+    setup();
+  }
+
+  private Workspace registerWorkspace(File workspaceDirectory) {
+    WorkspaceRegistry workspaceRegistry = ServiceRegistryAccess.instance().getService(WorkspaceRegistry.class);
+    return workspaceRegistry.registerWorkspace(workspaceDirectory.getAbsolutePath(),
+        new DefaultEclipseWorkspaceDefinition(workspaceDirectory));
+  }
+
+  /**
+   * Checks that each project has been ordered after all projects it references.
+   */
+  private void assertBuildOrder(List<EclipseProject> buildOrder, int projectCount) {
+    assertEquals(projectCount, buildOrder.size());
+    Map<String, Integer> positions = new HashMap<String, Integer>();
+    for (EclipseProject project : buildOrder) {
+      positions.put(project.getSpecifiedName(), Integer.valueOf(positions.size()));
+    }
+    for (EclipseProject project : buildOrder) {
+      int position = positions.get(project.getSpecifiedName()).intValue();
+      for (String reference : project.getReferencedProjects()) {
+        assertTrue(String.format("Project '%s' has been ordered before '%s'.", reference, project.getSpecifiedName()),
+            positions.get(reference).intValue() < position);
+      }
+    }
+  }
+
+} /* ENDCLASS */
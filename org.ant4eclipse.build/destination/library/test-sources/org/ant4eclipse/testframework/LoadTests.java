@@ -0,0 +1,107 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.testframework;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Helper functions for load tests and benchmarks. These tests measure times or heap sizes, so they aren't part of the
+ * default test suites (<code>All*Tests</code>). Each test project collects them within a <code>*LoadTestSuite</code>
+ * which is only executed if the system property {@value #PROP_ENABLED} is set, f.e.:
+ * </p>
+ *
+ * <pre>
+ * ant -f test-ant4eclipse.xml -Dant4eclipse.loadtest=true -Dant4eclipse.loadtest.sizes=100,1000 tests.ant4eclipse
+ * </pre>
+ * <p>
+ * All system properties starting with {@value #PROP_ENABLED} are passed to the tests. If the load tests are enabled the
+ * classes under test aren't instrumented by cobertura, so no coverage report is generated.
+ * </p>
+ */
+public class LoadTests {
+
+  /** the system property enabling the load tests */
+  public static final String  PROP_ENABLED       = "ant4eclipse.loadtest";
+
+  /** the system property containing the sizes (a comma separated list) used by the scalable load tests */
+  public static final String  PROP_SIZES         = "ant4eclipse.loadtest.sizes";
+
+  /** the system property containing the factor applied to all budgets (f.e. for slow machines) */
+  public static final String  PROP_BUDGET_FACTOR = "ant4eclipse.loadtest.budgetfactor";
+
+  /** the default size used by the scalable load tests */
+  private static final String DEFAULT_SIZES      = "100";
+
+  /**
+   * <p>
+   * Returns the sizes the scalable load tests shall be executed with.
+   * </p>
+   *
+   * @return The sizes the scalable load tests shall be executed with. Not <code>null</code>.
+   */
+  public static final int[] getSizes() {
+    List<Integer> sizes = new ArrayList<Integer>();
+    for (String size : System.getProperty(PROP_SIZES, DEFAULT_SIZES).split(",")) {
+      if (Utilities.hasText(size)) {
+        sizes.add(Integer.valueOf(size.trim()));
+      }
+    }
+    int[] result = new int[sizes.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = sizes.get(i).intValue();
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Fails if the supplied measurement exceeds it's budget. The budget is scaled by the factor provided with the
+   * system property {@value #PROP_BUDGET_FACTOR}.
+   * </p>
+   *
+   * @param name
+   *          The name of the measurement. Neither <code>null</code> nor empty.
+   * @param actual
+   *          The measured value.
+   * @param budgetPerUnit
+   *          The budget for a single unit (f.e. a project).
+   * @param units
+   *          The number of units that have been measured.
+   */
+  public static final void assertWithinBudget(String name, long actual, long budgetPerUnit, int units) {
+    double factor = Double.parseDouble(System.getProperty(PROP_BUDGET_FACTOR, "1"));
+    long budget = (long) (budgetPerUnit * units * factor);
+    Assert.assertTrue(String.format("Budget for %s exceeded with %d units: %d > %d", name, Integer.valueOf(units), Long
+        .valueOf(actual), Long.valueOf(budget)), actual <= budget);
+  }
+
+  /**
+   * <p>
+   * Returns the currently used heap after the garbage collector has been asked to run.
+   * </p>
+   *
+   * @return The currently used heap in bytes.
+   */
+  public static final long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,224 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.core;
+
+import org.ant4eclipse.lib.core.configuration.Ant4EclipseConfiguration;
+import org.ant4eclipse.lib.core.configuration.Ant4EclipseConfigurationImpl;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.logging.Ant4EclipseLogger;
+import org.ant4eclipse.lib.core.service.DefaultServiceRegistryConfiguration;
+import org.ant4eclipse.lib.core.service.ServiceRegistry;
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.apache.tools.ant.BuildEvent;
+import org.apache.tools.ant.BuildListener;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.PropertyHelper;
+import org.apache.tools.ant.SubBuildListener;
+
+/**
+ * <p>
+ * The class {@link AntConfigurator} provides static methods to configure Ant4Eclipse.
+ * </p>
+ * <p>
+ * If the system property {@value #PROP_REUSE_REGISTRY} is set to <code>true</code> the service registry of a finished
+ * build is reused by the next build running within the same vm (f.e. an ant server or an IDE executing several
+ * builds). No separate process is involved: the registry simply remains referenced by this vm. The next build
+ * revalidates the registry (each {@link org.ant4eclipse.lib.core.Revalidatable} service drops its stale models) and
+ * falls back to a newly created registry if that fails.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ * @author Nils Hartmann (nils@nilshartmann.net)
+ */
+public class AntConfigurator {
+
+  /** the system property enabling the reuse of the registry within the same vm */
+  public static final String      PROP_REUSE_REGISTRY = "ant4eclipse.reuseRegistry";
+
+  private static final String     REF_REGISTRY        = "org.ant4eclipse.SERVICEREGISTRY";
+
+  /** <code>true</code> if the build owning the registry has finished (registry reuse only) */
+  private static volatile boolean _revalidate         = false;
+
+  /**
+   * <p>
+   * Configures Ant4Eclipse in a ant based environment (the standard case).
+   * </p>
+   * 
+   * @param project
+   *          the ant project
+   */
+  public static final void configureAnt4Eclipse(Project project) {
+
+    if (_revalidate && ServiceRegistryAccess.isConfigured()) {
+      // a previous build has finished, so try to reuse it's registry
+      reuseServiceRegistry(project);
+    }
+
+    if (!ServiceRegistryAccess.isConfigured()) {
+
+      // set ant4eclipse property helper
+      PropertyHelper.getPropertyHelper(project).setNext(new ThreadDispatchingPropertyHelper(project));
+
+      Object existing = project.getReference(REF_REGISTRY);
+      if ((existing != null) && (existing instanceof ServiceRegistry)) {
+
+        // restore the previously existing registry
+        ServiceRegistryAccess.restore((ServiceRegistry) existing);
+
+      } else {
+
+        // this project doesn't use a4e yet, so we need to set it up
+        Ant4EclipseLogger logger = new AntBasedLogger(project);
+        Ant4EclipseConfiguration configuration = new Ant4EclipseConfigurationImpl();
+        ServiceRegistryAccess.configure(new DefaultServiceRegistryConfiguration(logger, configuration));
+
+        // configures all ant services
+        configureAntServices(project);
+
+        // backup the registry, so we can reuse it if necessary
+        project.addReference(REF_REGISTRY, ServiceRegistryAccess.instance());
+
+        if (isReuseRegistry()) {
+          project.addBuildListener(new RegistryReuseListener(project));
+        }
+
+      }
+
+    }
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if the service registry shall be reused by subsequent builds within the same vm.
+   * </p>
+   * 
+   * @return <code>true</code> <=> The registry reuse is enabled.
+   */
+  public static final boolean isReuseRegistry() {
+    return Boolean.getBoolean(PROP_REUSE_REGISTRY);
+  }
+
+  /**
+   * <p>
+   * Reuses the registry of a previous build for the supplied project. If the registry can't be revalidated it will be
+   * reset, so a new one is created.
+   * </p>
+   * 
+   * @param project
+   *          the ant project
+   */
+  private static void reuseServiceRegistry(Project project) {
+
+    _revalidate = false;
+
+    try {
+
+      long start = System.currentTimeMillis();
+
+      // drop all stale models
+      ServiceRegistryAccess.revalidate();
+
+      // bind the registry to the new project
+      PropertyHelper.getPropertyHelper(project).setNext(new ThreadDispatchingPropertyHelper(project));
+      configureAntServices(project);
+      project.addReference(REF_REGISTRY, ServiceRegistryAccess.instance());
+      project.addBuildListener(new RegistryReuseListener(project));
+
+      A4ELogging.debug("Reusing ant4eclipse service registry (revalidated within %d ms).", Long.valueOf(System
+          .currentTimeMillis()
+          - start));
+
+    } catch (RuntimeException ex) {
+      project.log("Failed to reuse the ant4eclipse service registry (a new one will be created): " + ex.getMessage(),
+          Project.MSG_WARN);
+      ServiceRegistryAccess.reset();
+    }
+  }
+
+  /**
+   * <p>
+   * Configures all registered {@link AntService} instances with the supplied project.
+   * </p>
+   * 
+   * @param project
+   *          the ant project
+   */
+  private static void configureAntServices(Project project) {
+    Object[] services = ServiceRegistryAccess.instance().getAllServices();
+    for (Object service : services) {
+      if (service instanceof AntService) {
+        ((AntService) service).configure(project);
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Marks the registry as to be revalidated as soon as the project that uses it has finished. A project launched by
+   * another build (f.e. using the <code>ant</code> task) only fires a sub build event.
+   * </p>
+   */
+  private static class RegistryReuseListener implements BuildListener, SubBuildListener {
+
+    private Project _project;
+
+    public RegistryReuseListener(Project project) {
+      this._project = project;
+    }
+
+    public void buildFinished(BuildEvent event) {
+      finished(event);
+    }
+
+    public void subBuildFinished(BuildEvent event) {
+      finished(event);
+    }
+
+    public void buildStarted(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    public void subBuildStarted(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    public void targetStarted(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    public void targetFinished(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    public void taskStarted(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    public void taskFinished(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    public void messageLogged(BuildEvent event) {
+      // emtpy method block - we don't need this event here...
+    }
+
+    private void finished(BuildEvent event) {
+      if (event.getProject() == this._project) {
+        this._project.removeBuildListener(this);
+        _revalidate = isReuseRegistry() && ServiceRegistryAccess.isConfigured();
+      }
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
@@ -0,0 +1,137 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.core;
+
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.util.StopWatch;
+import org.ant4eclipse.lib.core.util.StopWatchExporter;
+import org.ant4eclipse.lib.core.util.StopWatchService;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.types.LogLevel;
+
+import java.io.File;
+
+/**
+ * @author Nils Hartmann
+ * 
+ */
+public class StopWatchTask extends AbstractAnt4EclipseTask {
+
+  private String _command;
+
+  private String _name;
+
+  private File   _directory;
+
+  private int    _logLevel = Project.MSG_VERBOSE;
+
+  @Override
+  public void doExecute() throws BuildException {
+
+    if (isCommand("start")) {
+      getStopWatchService().getOrCreateStopWatch(getName()).start();
+    } else if (isCommand("stop")) {
+      StopWatch stopWatch = getStopWatchService().getOrCreateStopWatch(getName());
+      long elapsedTime = stopWatch.stop();
+      log(String.format("Stopped watch '%s' after '%d' ms", stopWatch.getName(), elapsedTime), this._logLevel);
+    } else if (isCommand("reset-all")) {
+      getStopWatchService().resetAll();
+    } else if (isCommand("dump-all")) {
+      getStopWatchService().dumpAll();
+    } else if (isCommand("export")) {
+      if (this._directory == null) {
+        throw new BuildException("The attribute 'directory' must be set for the command 'export'");
+      }
+      getStopWatchService().exportAll(this._directory);
+      log(String.format("Exported stop watches to '%s' (%s, %s, %s)", this._directory, StopWatchExporter.JSON_FILE,
+          StopWatchExporter.CSV_FILE, StopWatchExporter.TRACE_FILE), this._logLevel);
+    } else {
+      throw new BuildException("Unkown command: '" + this._command + "'");
+    }
+  }
+
+  public String getCommand() {
+    return this._command;
+  }
+
+  /**
+   * Set the StopWatchCommand
+   * 
+   * @param command
+   */
+  public void setCommand(String command) {
+    this._command = command;
+  }
+
+  public String getName() {
+    return this._name;
+  }
+
+  /**
+   * Set the logging level. Level should be one of
+   * <ul>
+   * <li>error</li>
+   * <li>warning</li>
+   * <li>info</li>
+   * <li>verbose</li>
+   * <li>debug</li>
+   * </ul>
+   * <p>
+   * The default is &quot;warning&quot; to ensure that messages are displayed by default when using the -quiet command
+   * line option.
+   * </p>
+   * 
+   * @param echoLevel
+   *          the logging level
+   */
+  public void setLevel(EchoLevel echoLevel) {
+    this._logLevel = echoLevel.getLevel();
+  }
+
+  /**
+   * Set the name of the stop watch
+   * 
+   * @param name
+   */
+  public void setName(String name) {
+    this._name = name;
+  }
+
+  public File getDirectory() {
+    return this._directory;
+  }
+
+  /**
+   * Set the directory the command &quot;export&quot; writes the json, csv and trace event files to.
+   * 
+   * @param directory
+   */
+  public void setDirectory(File directory) {
+    this._directory = directory;
+  }
+
+  private StopWatchService getStopWatchService() {
+    return ServiceRegistryAccess.instance().getService(StopWatchService.class);
+  }
+
+  private boolean isCommand(String expected) {
+    return (this._command != null && expected.equalsIgnoreCase(this._command.trim()));
+  }
+
+  /**
+   * The enumerated values for the level attribute.
+   */
+  public static class EchoLevel extends LogLevel {
+  }
+
+}
@@ -0,0 +1,72 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.jdt;
+
+public interface JdtExecutorValues {
+
+  /** reference id for the CompilerArgument */
+  String COMPILER_ARGS                       = "compiler.args";
+
+  /** */
+  String CLASSPATH_RELATIVE_RUNTIME_PATH     = "classpath.relative.runtime.path";
+
+  String CLASSPATH_ABSOLUTE_RUNTIME_PATH     = "classpath.absolute.runtime.path";
+
+  String CLASSPATH_RELATIVE_COMPILETIME_PATH = "classpath.relative.compiletime.path";
+
+  String CLASSPATH_ABSOLUTE_COMPILETIME_PATH = "classpath.absolute.compiletime.path";
+
+  String BOOT_CLASSPATH_PATH                 = "boot.classpath.path";
+
+  String DEFAULT_OUTPUT_DIRECTORY_PATH       = "default.output.directory.path";
+
+  String SOURCE_DIRECTORIES_PATH             = "source.directories.path";
+
+  String SOURCE_FILTERED_FILESET_PATH        = "source.filtered.fileset.path";
+
+  String OUTPUT_DIRECTORIES_PATH             = "output.directories.path";
+
+  String OUTPUT_DIRECTORY_PATH               = "output.directory.path";
+
+  String SOURCE_DIRECTORY_PATH               = "source.directory.path";
+
+  String CLASSPATH_RELATIVE_RUNTIME          = "classpath.relative.runtime";
+
+  String CLASSPATH_ABSOLUTE_RUNTIME          = "classpath.absolute.runtime";
+
+  String CLASSPATH_RELATIVE_COMPILETIME      = "classpath.relative.compiletime";
+
+  String CLASSPATH_ABSOLUTE_COMPILETIME      = "classpath.absolute.compiletime";
+
+  String BOOT_CLASSPATH                      = "boot.classpath";
+
+  String DEFAULT_OUTPUT_DIRECTORY            = "default.output.directory";
+
+  String DEFAULT_OUTPUT_DIRECTORY_NAME       = "default.output.directory.name";
+
+  String SOURCE_DIRECTORIES                  = "source.directories";
+
+  String OUTPUT_DIRECTORIES                  = "output.directories";
+
+  String OUTPUT_DIRECTORY                    = "output.directory";
+
+  String OUTPUT_DIRECTORY_NAME               = "output.directory.name";
+
+  String SOURCE_DIRECTORY                    = "source.directory";
+
+  String SOURCE_DIRECTORY_EXCLUDES           = "source.directory.excludes";
+
+  String SOURCE_DIRECTORY_INCLUDES           = "source.directory.includes";
+
+  String SOURCE_DIRECTORY_NAME               = "source.directory.name";
+
+}
@@ -0,0 +1,239 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.pde;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.ZipArchiveWriter;
+import org.ant4eclipse.lib.pde.model.pluginproject.BundleSource;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.types.ZipFileSet;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+
+import java.io.File;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * <p>
+ * Delegate for tasks that are able to stream the packaged bundles and features directly into a zip archive instead of
+ * copying them into a staging directory first. Bundles taken from the target platform are added as they are (bundle
+ * jars are copied raw, exploded bundles are deflated). Everything else (e.g. bundles built from plug-in projects or
+ * the native launcher) can be added using nested <code>zipfileset</code> elements.
+ * </p>
+ */
+public class PackagingArchiveDelegate {
+
+  /** the directory containing the bundles within the archive */
+  private static final String PLUGINS_DIRECTORY  = "plugins";
+
+  /** the directory containing the features within the archive */
+  private static final String FEATURES_DIRECTORY = "features";
+
+  /** the archive to create */
+  private File                _archive;
+
+  /** the number of threads used to deflate the content */
+  private int                 _threadCount       = 1;
+
+  /** the additional content of the archive */
+  private List<ZipFileSet>    _fileSets;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link PackagingArchiveDelegate}.
+   * </p>
+   */
+  public PackagingArchiveDelegate() {
+    this._fileSets = new LinkedList<ZipFileSet>();
+  }
+
+  /**
+   * <p>
+   * Sets the archive to create.
+   * </p>
+   * 
+   * @param archive
+   *          the archive to create
+   */
+  public void setArchive(File archive) {
+    this._archive = archive;
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if an archive has to be created.
+   * </p>
+   * 
+   * @return <code>true</code> if an archive has to be created.
+   */
+  public boolean isArchiveSet() {
+    return this._archive != null;
+  }
+
+  /**
+   * <p>
+   * Sets the number of threads used to deflate the content of the archive.
+   * </p>
+   * 
+   * @param threadCount
+   *          the number of threads
+   */
+  public void setArchiveThreadCount(int threadCount) {
+    this._threadCount = threadCount;
+  }
+
+  /**
+   * <p>
+   * Adds additional content to the archive.
+   * </p>
+   * 
+   * @param fileSet
+   *          the additional content
+   */
+  public void addZipFileSet(ZipFileSet fileSet) {
+    this._fileSets.add(fileSet);
+  }
+
+  /**
+   * <p>
+   * Checks the settings of the archive.
+   * </p>
+   */
+  public void requireValidArchiveSettings() {
+    if (this._threadCount < 1) {
+      throw new BuildException("The attribute 'archiveThreadCount' must at least be 1.");
+    }
+    if (!isArchiveSet() && !this._fileSets.isEmpty()) {
+      throw new BuildException("Nested 'zipfileset' elements require the attribute 'archive'.");
+    }
+  }
+
+  /**
+   * <p>
+   * Opens the archive.
+   * </p>
+   * 
+   * @return the writer for the archive
+   */
+  public ZipArchiveWriter openArchive() {
+    A4ELogging.info("Creating archive '%s'.", this._archive);
+    return new ZipArchiveWriter(this._archive, this._threadCount);
+  }
+
+  /**
+   * <p>
+   * Adds the given bundle to the <code>plugins</code> directory of the archive, unless the bundle is a plug-in
+   * project which has to be added using a nested <code>zipfileset</code>.
+   * </p>
+   * 
+   * @param writer
+   *          the writer for the archive
+   * @param bundleDescription
+   *          the bundle description
+   */
+  public void addBundle(ZipArchiveWriter writer, BundleDescription bundleDescription) {
+    BundleSource bundleSource = (BundleSource) bundleDescription.getUserObject();
+    if (bundleSource.isEclipseProject()) {
+      if (A4ELogging.isDebuggingEnabled()) {
+        A4ELogging.debug("Skipping plug-in project '%s' since it has to be built first.", bundleDescription
+            .getSymbolicName());
+      }
+      return;
+    }
+    add(writer, bundleSource.getAsFile(), PLUGINS_DIRECTORY);
+  }
+
+  /**
+   * <p>
+   * Adds the given feature (either a directory or a jar file) to the <code>features</code> directory of the archive.
+   * </p>
+   * 
+   * @param writer
+   *          the writer for the archive
+   * @param feature
+   *          the feature directory or jar file
+   */
+  public void addFeature(ZipArchiveWriter writer, File feature) {
+    add(writer, feature, FEATURES_DIRECTORY);
+  }
+
+  /**
+   * <p>
+   * Adds the given file to the archive.
+   * </p>
+   * 
+   * @param writer
+   *          the writer for the archive
+   * @param file
+   *          the file to add
+   * @param name
+   *          the name within the archive
+   */
+  public void addFile(ZipArchiveWriter writer, File file, String name) {
+    writer.addFile(file, name);
+  }
+
+  /**
+   * <p>
+   * Adds the content of the nested <code>zipfileset</code> elements to the archive. The attributes
+   * <code>filemode</code> and <code>dirmode</code> are applied, so executables keep their executable bit.
+   * </p>
+   * 
+   * @param writer
+   *          the writer for the archive
+   * @param project
+   *          the ant project
+   */
+  public void addFileSets(ZipArchiveWriter writer, Project project) {
+    for (ZipFileSet fileSet : this._fileSets) {
+      if (fileSet.getSrc(project) != null) {
+        throw new BuildException("The attribute 'src' of nested 'zipfileset' elements isn't supported.");
+      }
+      File directory = fileSet.getDir(project);
+      String[] files = fileSet.getDirectoryScanner(project).getIncludedFiles();
+      String fullpath = fileSet.getFullpath(project);
+      int fileMode = fileSet.getFileMode(project);
+      int dirMode = fileSet.getDirMode(project);
+      if (fullpath.length() > 0) {
+        if (files.length != 1) {
+          throw new BuildException("The attribute 'fullpath' requires a 'zipfileset' containing exactly one file.");
+        }
+        writer.addFile(new File(directory, files[0]), fullpath, fileMode, dirMode);
+      } else {
+        String prefix = fileSet.getPrefix(project);
+        if ((prefix.length() > 0) && !prefix.endsWith("/")) {
+          prefix = prefix + "/";
+        }
+        for (String file : files) {
+          writer.addFile(new File(directory, file), prefix + file.replace(File.separatorChar, '/'), fileMode,
+              dirMode);
+        }
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Adds the given file or directory to the given directory of the archive.
+   * </p>
+   */
+  private void add(ZipArchiveWriter writer, File location, String directory) {
+    String name = directory + "/" + location.getName();
+    if (location.isDirectory()) {
+      writer.addDirectory(location, name);
+    } else {
+      writer.addFile(location, name);
+    }
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,323 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.ant.platform.core.delegate;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ant4eclipse.ant.core.ThreadDispatchingPropertyHelper;
+import org.ant4eclipse.ant.core.delegate.AbstractAntDelegate;
+import org.ant4eclipse.ant.platform.core.MacroExecutionComponent;
+import org.ant4eclipse.ant.platform.core.MacroExecutionValues;
+import org.ant4eclipse.ant.platform.core.ScopedMacroDefinition;
+import org.ant4eclipse.ant.platform.core.delegate.helper.AntPropertiesRaper;
+import org.ant4eclipse.ant.platform.core.delegate.helper.AntReferencesRaper;
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.ldapfilter.LdapFilter;
+import org.ant4eclipse.lib.core.ldapfilter.ParseException;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.StringMap;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.PropertyHelper;
+import org.apache.tools.ant.Task;
+import org.apache.tools.ant.taskdefs.MacroDef;
+import org.apache.tools.ant.taskdefs.MacroDef.NestedSequential;
+import org.apache.tools.ant.taskdefs.MacroInstance;
+
+/**
+ * <p>
+ * Delegate class for all tasks, types and conditions that execute macros.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ * 
+ * @param <E>
+ *          the scope
+ */
+public class MacroExecutionDelegate<E> extends AbstractAntDelegate implements MacroExecutionComponent<E> {
+
+  /** the prefix for all scoped properties and references */
+  private String                         _prefix = null;
+
+  /** list of all macro definitions */
+  private List<ScopedMacroDefinition<E>> _macroDefs;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link MacroExecutionDelegate}.
+   * </p>
+   * 
+   * @param task
+   *          the task
+   * @param prefix
+   *          the prefix for all scoped properties and references
+   */
+  public MacroExecutionDelegate(Task task, String prefix) {
+    super(task);
+
+    this._prefix = prefix;
+    this._macroDefs = new LinkedList<ScopedMacroDefinition<E>>();
+  }
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link MacroExecutionDelegate}.
+   * </p>
+   * 
+   * @param task
+   *          the task
+   */
+  public MacroExecutionDelegate(Task task) {
+    this(task, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getPrefix() {
+    return this._prefix;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setPrefix(String prefix) {
+    this._prefix = prefix;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public List<ScopedMacroDefinition<E>> getScopedMacroDefinitions() {
+    return this._macroDefs;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public NestedSequential createScopedMacroDefinition(E scope) {
+    MacroDef macroDef = new ConditionalMacroDef();
+    macroDef.setProject(getAntProject());
+    this._macroDefs.add(new ScopedMacroDefinition<E>(macroDef, scope));
+    return macroDef.createSequential();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void executeMacroInstance(MacroDef macroDef, MacroExecutionValuesProvider provider) {
+    Assure.notNull("macroDef", macroDef);
+    Assure.notNull("provider", provider);
+
+    if (!isEnabled(macroDef)) {
+      return;
+    }
+
+    MacroExecutionValues values = new MacroExecutionValues();
+
+    executeMacroInstance(macroDef, provider.provideMacroExecutionValues(values));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void executeMacroInstances(final MacroDef macroDef, List<MacroExecutionValuesProvider> providers,
+      int threadCount) {
+    Assure.notNull("macroDef", macroDef);
+    Assure.notNull("providers", providers);
+    Assure.assertTrue(threadCount > 0, "threadCount must be greater than 0");
+
+    // the properties of the macro instances can only be isolated by the ThreadDispatchingPropertyHelper
+    final ThreadDispatchingPropertyHelper propertyHelper = ThreadDispatchingPropertyHelper
+        .getInstance(getAntProject());
+    if ((threadCount == 1) || (providers.size() < 2) || (propertyHelper == null)) {
+      if ((threadCount > 1) && (propertyHelper == null)) {
+        A4ELogging.warn("Executing macro instances sequentially since their properties can't be isolated.");
+      }
+      for (MacroExecutionValuesProvider provider : providers) {
+        executeMacroInstance(macroDef, provider);
+      }
+      return;
+    }
+
+    if (!isEnabled(macroDef)) {
+      return;
+    }
+
+    // provide the values in the calling thread, so the providers are invoked in a deterministic order
+    List<MacroExecutionValues> valuesList = new ArrayList<MacroExecutionValues>(providers.size());
+    for (MacroExecutionValuesProvider provider : providers) {
+      valuesList.add(provider.provideMacroExecutionValues(new MacroExecutionValues()));
+    }
+
+    // the names of the threads have to start with 'A4E-' to be dispatched by the ThreadDispatchingPropertyHelper
+    final AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, valuesList.size()),
+        new ThreadFactory() {
+          public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "A4E-MacroExecution-" + threadNumber.incrementAndGet());
+          }
+        });
+
+    try {
+
+      // execute the macro instances
+      List<Future<Object>> futures = new ArrayList<Future<Object>>(valuesList.size());
+      for (final MacroExecutionValues values : valuesList) {
+        futures.add(executor.submit(new Callable<Object>() {
+          public Object call() {
+            try {
+              executeMacroInstance(macroDef, values);
+            } finally {
+              // discard the properties of this execution, since the thread is reused
+              propertyHelper.unregisterThread(Thread.currentThread());
+            }
+            return null;
+          }
+        }));
+      }
+
+      // wait for the macro instances in the order of the providers and report the first failure (macro instances
+      // which haven't been started yet are skipped after a failure)
+      BuildException buildException = null;
+      for (Future<Object> future : futures) {
+        if (buildException != null) {
+          future.cancel(false);
+          continue;
+        }
+        try {
+          future.get();
+        } catch (ExecutionException ex) {
+          Throwable cause = ex.getCause();
+          buildException = cause instanceof BuildException ? (BuildException) cause : new BuildException(cause);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          buildException = new BuildException(ex);
+        }
+      }
+      if (buildException != null) {
+        throw buildException;
+      }
+    } finally {
+      // the running macro instances must not modify the project after this task has finished
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+  }
+
+  /**
+   * <p>
+   * Waits until all macro instances executed by the given executor have been finished. An interruption doesn't stop
+   * waiting but is restored afterwards.
+   * </p>
+   * 
+   * @param executor
+   *          the executor which has been shut down
+   */
+  private void awaitTermination(ExecutorService executor) {
+    boolean interrupted = Thread.interrupted();
+    while (!executor.isTerminated()) {
+      try {
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * <p>
+   * Returns <code>false</code> if the given macro definition is disabled by its <code>if</code> or
+   * <code>unless</code> attribute.
+   * </p>
+   * 
+   * @param macroDef
+   *          the macro definition
+   * @return <code>false</code> if the given macro definition is disabled.
+   */
+  private boolean isEnabled(MacroDef macroDef) {
+    if (macroDef instanceof ConditionalMacroDef) {
+      ConditionalMacroDef conditionalMacroDef = (ConditionalMacroDef) macroDef;
+
+      if (!conditionalMacroDef.isIf() || conditionalMacroDef.isUnless()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  private void executeMacroInstance(MacroDef macroDef, MacroExecutionValues macroExecutionValues) {
+    Assure.notNull("macroDef", macroDef);
+    Assure.notNull("macroExecutionValues", macroExecutionValues);
+
+    if (macroDef instanceof ConditionalMacroDef) {
+      ConditionalMacroDef conditionalMacroDef = (ConditionalMacroDef) macroDef;
+
+      String filter = conditionalMacroDef.getFilter();
+      if (filter != null) {
+        StringMap properties = macroExecutionValues.getProperties(getPrefix());
+        try {
+          if (!(new LdapFilter(properties, new StringReader(filter)).validate())) {
+            return;
+          }
+        } catch (ParseException e) {
+          throw new BuildException(e.getMessage(), e);
+        }
+      }
+    }
+
+    // create MacroInstance
+    MacroInstance instance = new MacroInstance();
+    instance.setProject(getAntProject());
+    instance.setOwningTarget(((Task) getProjectComponent()).getOwningTarget());
+    instance.setMacroDef(macroDef);
+
+    // create raper
+    AntPropertiesRaper antPropertiesRaper = new AntPropertiesRaper(getAntProject(), Thread.currentThread());
+    AntReferencesRaper antReferencesRaper = new AntReferencesRaper(getAntProject(), Thread.currentThread());
+
+    // set scoped values
+    antPropertiesRaper.setScopedValues(macroExecutionValues.getProperties(), this._prefix);
+    antReferencesRaper.setScopedValues(macroExecutionValues.getReferences(), this._prefix);
+
+    // ******
+    PropertyHelper propertyHelper = PropertyHelper.getPropertyHelper(getAntProject());
+    // System.out.println("*-*-* " + ((ThreadDispatchingPropertyHelper) propertyHelper.getNext()).getThreadProperties());
+    // System.out.println(macroExecutionValues);
+    // ******
+
+    try {
+      // execute macro instance
+      instance.execute();
+    } finally {
+      // unset scoped values
+      antPropertiesRaper.unsetScopedValues();
+      antReferencesRaper.unsetScopedValues();
+    }
+  }
+}
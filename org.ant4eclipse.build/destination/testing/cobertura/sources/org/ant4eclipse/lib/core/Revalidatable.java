@@ -0,0 +1,26 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core;
+
+/**
+ * This interface can be implemented by services that keep models read from the file system. If the service registry
+ * is reused by several builds running within the same vm each service is asked to drop all models that have become
+ * stale before the registry is reused.
+ */
+public interface Revalidatable {
+
+  /**
+   * Drops all cached models whose underlying files have been changed since they have been read.
+   */
+  void revalidate();
+
+} /* ENDINTERFACE */
@@ -0,0 +1,408 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Manifest;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+
+/**
+ * <p>
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public class ManifestHelper {
+
+  /**
+   * Manifest header (named &quot;Bundle-ClassPath&quot;) identifying a list of directories and embedded JAR files,
+   * which are bundle resources used to extend the bundle's classpath.
+   * 
+   * <p>
+   * The attribute value may be retrieved from the <code>Dictionary</code> object returned by the
+   * <code>Bundle.getHeaders</code> method.
+   */
+  public static final String BUNDLE_CLASSPATH    = "Bundle-ClassPath";
+
+  /**
+   * Manifest header (named &quot;Export-Package&quot;) identifying the packages that the bundle offers to the Framework
+   * for export.
+   * 
+   * <p>
+   * The attribute value may be retrieved from the <code>Dictionary</code> object returned by the
+   * <code>Bundle.getHeaders</code> method.
+   */
+  public static final String EXPORT_PACKAGE      = "Export-Package";
+
+  /**
+   * Manifest header (named &quot;Bundle-Version&quot;) identifying the bundle's version.
+   * 
+   * <p>
+   * The attribute value may be retrieved from the <code>Dictionary</code> object returned by the
+   * <code>Bundle.getHeaders</code> method.
+   */
+  public static final String BUNDLE_VERSION      = "Bundle-Version";
+
+  /**
+   * Manifest header (named &quot;Bundle-SymbolicName&quot;) identifying the bundle's symbolic name.
+   * <p>
+   * The attribute value may be retrieved from the <code>Dictionary</code> object returned by the
+   * <code>Bundle.getHeaders</code> method.
+   */
+  public static final String BUNDLE_SYMBOLICNAME = "Bundle-SymbolicName";
+
+  /**
+   * <p>
+   * Returns the 'Bundle-SymbolicName' entry for the given manifest. If not such entry exists, an Exception will be
+   * thrown.
+   * </p>
+   * 
+   * @param manifest
+   *          the manifest
+   * 
+   * @return The symbolic name.
+   * 
+   * @throws Ant4EclipseException
+   *           if the symbolic name could not be found.
+   */
+  public static String getBundleSymbolicName(Manifest manifest) {
+    Assure.notNull("manifest", manifest);
+
+    // get the manifest header elements
+    ManifestHelper.ManifestHeaderElement[] elements = ManifestHelper.getManifestHeaderElements(manifest,
+        ManifestHelper.BUNDLE_SYMBOLICNAME);
+
+    // assert that entry exists
+    if (elements == null || elements.length == 0 || elements[0].getValues() == null
+        || elements[0].getValues().length == 0) {
+
+      throw new Ant4EclipseException(CoreExceptionCode.MANIFEST_HEADER_DOES_NOT_EXIST,
+          ManifestHelper.BUNDLE_SYMBOLICNAME);
+    }
+
+    // return the symbolic name
+    return elements[0].getValues()[0];
+  }
+
+  /**
+   * <p>
+   * Returns the 'Bundle-Classpath' entries or <code>.</code> if no 'Bundle-Classpath' has been specified (default
+   * value).
+   * </p>
+   * 
+   * @param manifest
+   *          The manifest providing the necessary information. Not <code>null</code>.
+   * 
+   * @return the 'Bundle-Classpath' entries or <code>.</code> if no 'Bundle-Classpath' has been specified.
+   */
+  public static String[] getBundleClasspath(Manifest manifest) {
+
+    // parse the 'Bundle-Classpath' manifest entry
+    String[] bundleClasspath = splitHeader(manifest.getMainAttributes().getValue(BUNDLE_CLASSPATH));
+
+    // set default if necessary
+    if ((bundleClasspath == null) || (bundleClasspath.length < 1)) {
+      bundleClasspath = new String[] { "." };
+    } else {
+      for (int i = 0; i < bundleClasspath.length; i++) {
+        bundleClasspath[i] = bundleClasspath[i].trim();
+      }
+    }
+
+    // return result
+    return bundleClasspath;
+  }
+
+  public static String getManifestHeader(Manifest manifest, String header) {
+    Assure.notNull("manifest", manifest);
+    Assure.nonEmpty("header", header);
+    return manifest.getMainAttributes().getValue(header);
+  }
+
+  public static ManifestHeaderElement[] getManifestHeaderElements(Manifest manifest, String header) {
+    Assure.notNull("manifest", manifest);
+    Assure.nonEmpty("header", header);
+
+    String manifestValue = manifest.getMainAttributes().getValue(header);
+
+    if ((manifestValue == null) || "".equals(manifestValue.trim())) {
+      return new ManifestHeaderElement[0];
+    }
+
+    return getManifestHeaderElements(manifestValue);
+  }
+
+  /**
+   * <p>
+   * Parses the supplied header value into its clauses. Each clause provides its values, attributes and directives.
+   * </p>
+   * <p>
+   * The header is read within a single pass: clauses (separated by <code>,</code>), parts (separated by
+   * <code>;</code>), directives (<code>key:=value</code>) and attributes (<code>key=value</code>) are recognised at
+   * once and the tokens are sliced from the header value. Separators within quoted strings are ignored and escaped
+   * quotes (<code>\"</code>) are kept. Keys and values aren't trimmed, a single leading and trailing quote is removed
+   * from attribute and directive values.
+   * </p>
+   * 
+   * @param manifestValue
+   *          the header value. Neither <code>null</code> nor empty.
+   * 
+   * @return the clauses of the header. Not <code>null</code>.
+   */
+  public static ManifestHeaderElement[] getManifestHeaderElements(String manifestValue) {
+    Assure.nonEmpty("manifestValue", manifestValue);
+
+    int length = manifestValue.length();
+    if (isBlank(manifestValue, 0, length)) {
+      return new ManifestHeaderElement[0];
+    }
+
+    List<ManifestHeaderElement> result = new ArrayList<ManifestHeaderElement>();
+    ManifestHeaderElement element = new ManifestHeaderElement();
+    boolean quoted = false;
+    boolean blankClause = true;
+    int partStart = 0;
+    // the positions of the first and the second unquoted ':=' and '=' within the current part
+    int directive = -1;
+    int directiveEnd = -1;
+    int attribute = -1;
+    int attributeEnd = -1;
+
+    for (int i = 0; i <= length; i++) {
+      char c = i < length ? manifestValue.charAt(i) : ',';
+      if ((i == length) || (!quoted && ((c == ',') || (c == ';')))) {
+        if (c == ';') {
+          blankClause = false;
+        }
+
+        // end of part: add the value, the attribute or the directive (blank clauses don't have any parts)
+        if (!blankClause) {
+          if (directive != -1) {
+            element.addDirective(manifestValue.substring(partStart, directive), removeQuotes(manifestValue.substring(
+                directive + 2, directiveEnd != -1 ? directiveEnd : i)));
+          } else if ((attribute != -1) && !isBlank(manifestValue, partStart, i)) {
+            element.addAttribute(manifestValue.substring(partStart, attribute), removeQuotes(manifestValue.substring(
+                attribute + 1, attributeEnd != -1 ? attributeEnd : i)));
+          } else {
+            element.addValue(manifestValue.substring(partStart, i));
+          }
+        }
+        partStart = i + 1;
+        directive = -1;
+        directiveEnd = -1;
+        attribute = -1;
+        attributeEnd = -1;
+
+        // end of clause
+        if (c == ',') {
+          result.add(element);
+          element = new ManifestHeaderElement();
+          blankClause = true;
+        }
+        continue;
+      }
+
+      if (c > ' ') {
+        blankClause = false;
+      }
+      if (c == '"') {
+        // quoted string begins or ends
+        quoted = !quoted;
+      } else if ((c == '\\') && (i + 1 < length) && (manifestValue.charAt(i + 1) == '"')) {
+        // escaped quote
+        i++;
+      } else if (!quoted && (c == ':') && (i + 1 < length) && (manifestValue.charAt(i + 1) == '=')) {
+        if (directive == -1) {
+          directive = i;
+        } else if (directiveEnd == -1) {
+          directiveEnd = i;
+        }
+        i++;
+      } else if (!quoted && (c == '=')) {
+        if (attribute == -1) {
+          attribute = i;
+        } else if (attributeEnd == -1) {
+          attributeEnd = i;
+        }
+      }
+    }
+
+    return result.toArray(new ManifestHeaderElement[result.size()]);
+  }
+
+  /**
+   * <p>
+   * Splits the supplied header value into its clauses (separated by <code>,</code>).
+   * </p>
+   * 
+   * @param header
+   *          the header value. Maybe <code>null</code>.
+   * 
+   * @return the clauses of the header. Not <code>null</code>.
+   */
+  public static String[] splitHeader(String header) {
+    return splitHeader(header, ",");
+  }
+
+  /**
+   * <p>
+   * Splits the supplied header value at each occurrence of the separator which isn't part of a quoted string. Escaped
+   * quotes (<code>\"</code>) neither begin nor end a quoted string. The tokens are slices of the header value, they are
+   * neither trimmed nor unquoted.
+   * </p>
+   * 
+   * @param header
+   *          the header value. Maybe <code>null</code>.
+   * @param separator
+   *          the separator. Neither <code>null</code> nor empty.
+   * 
+   * @return the tokens of the header or an empty array if the header is <code>null</code> or blank. Not
+   *         <code>null</code>.
+   */
+  public static String[] splitHeader(String header, String separator) {
+    Assure.nonEmpty("separator", separator);
+    if ((header == null) || isBlank(header, 0, header.length())) {
+      return new String[0];
+    }
+
+    List<String> result = new ArrayList<String>();
+    int length = header.length();
+    int start = 0;
+    boolean quoted = false;
+    for (int i = 0; i < length; i++) {
+      char c = header.charAt(i);
+      if (!quoted && header.startsWith(separator, i)) {
+        result.add(header.substring(start, i));
+        i += separator.length() - 1;
+        start = i + 1;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if ((c == '\\') && (i + 1 < length) && (header.charAt(i + 1) == '"')) {
+        i++;
+      }
+    }
+    result.add(header.substring(start));
+
+    return result.toArray(new String[result.size()]);
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if the supplied region of the string only consists of whitespace (in the sense of
+   * {@link String#trim()}).
+   * </p>
+   */
+  private static boolean isBlank(String value, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (value.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String removeQuotes(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    String result = value;
+
+    if (result.startsWith("\"")) {
+      result = result.substring(1);
+    }
+
+    if (result.endsWith("\"")) {
+      result = result.substring(0, result.length() - 1);
+    }
+
+    return result;
+  }
+
+  /**
+   * ManifestHeaderElement --
+   * 
+   * @author Gerd W&uml,therich (gerd@gerd-wuetherich.de)
+   */
+  public static class ManifestHeaderElement {
+
+    /** the values */
+    protected List<String> _values;
+
+    /** the attributes */
+    protected StringMap    _attributes;
+
+    /** the directives */
+    protected StringMap    _directives;
+
+    public ManifestHeaderElement() {
+      this._values = new ArrayList<String>(1);
+      this._attributes = new StringMap();
+      this._directives = new StringMap();
+    }
+
+    void addAttribute(String key, String value) {
+      this._attributes.put(key, value);
+    }
+
+    void addDirective(String key, String value) {
+      this._directives.put(key, value);
+    }
+
+    public boolean addValue(String o) {
+      return this._values.add(o);
+    }
+
+    /**
+     * @return
+     */
+    public String[] getValues() {
+      return this._values.toArray(new String[0]);
+    }
+
+    /**
+     * @return
+     */
+    public StringMap getAttributes() {
+      return this._attributes;
+    }
+
+    /**
+     * @return
+     */
+    public StringMap getDirectives() {
+      return this._directives;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      StringBuffer buffer = new StringBuffer();
+      buffer.append("[ManifestHeaderElement:");
+      buffer.append(" _values: ");
+      buffer.append(this._values);
+      buffer.append(" _attributes: ");
+      buffer.append(this._attributes);
+      buffer.append(" _directives: ");
+      buffer.append(this._directives);
+      buffer.append("]");
+      return buffer.toString();
+    }
+
+  }
+}
@@ -0,0 +1,83 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
+
+/**
+ * Used for ant4eclipse internal performance logging
+ * 
+ * @author
+ * 
+ */
+public class PerformanceLogging {
+
+  /** the stop watch service provided by the registry */
+  private static final ServiceHandle<StopWatchService> STOP_WATCH_SERVICE = new ServiceHandle<StopWatchService>(
+      StopWatchService.class);
+
+  private static final boolean ENABLE_PERFORMANCE_LOGGING = Boolean.getBoolean("ant4eclipse.enablePerformanceLogging");
+
+  /**
+   * Starts the performance logging. The given class and name are used as identifier for the StopWatch that should be
+   * used
+   * 
+   * @param source
+   * @param name
+   */
+  public static void start(Class<?> source, String name) {
+    if (ENABLE_PERFORMANCE_LOGGING) {
+      getStopWatchService().getOrCreateStopWatch(source.getName() + "::" + name).start();
+    }
+  }
+
+  /**
+   * Stops the performance logging. The given class and name are used as identifier for the StopWatch that should be
+   * used
+   * 
+   * @param source
+   * @param name
+   */
+  public static long stop(Class<?> source, String name) {
+    if (ENABLE_PERFORMANCE_LOGGING) {
+      return getStopWatchService().getOrCreateStopWatch(source.getName() + "::" + name).stop();
+    }
+
+    return -1;
+  }
+
+  /**
+   * Reports figures (f.e. the number of bytes written) gathered while performing the operation identified by the given
+   * class and name.
+   * 
+   * @param source
+   * @param name
+   * @param message
+   *          the format of the figures
+   * @param args
+   *          the figures
+   */
+  public static void report(Class<?> source, String name, String message, Object... args) {
+    if (ENABLE_PERFORMANCE_LOGGING) {
+      A4ELogging.info("%s::%s: %s", source.getName(), name, String.format(message, args));
+    }
+  }
+
+  /**
+   * @return the registered instance of the {@link StopWatchService}
+   */
+  private static StopWatchService getStopWatchService() {
+    return STOP_WATCH_SERVICE.get();
+  }
+
+}
@@ -0,0 +1,71 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * A service managing stop watches.
+ * 
+ * @author Nils Hartmann
+ * 
+ */
+public interface StopWatchService {
+
+  /**
+   * Returns a StopWatch with the specified name.
+   * 
+   * <p>
+   * The StopWatch returned is <em>not</em> running.
+   * 
+   * <p>
+   * A StopWatch can be started and stopped multiple times
+   * 
+   * @param name
+   * @return
+   */
+  public StopWatch getOrCreateStopWatch(String name);
+
+  /**
+   * Returns a snapshot of all managed stopwatches.
+   * 
+   * @return A list of all managed stopwatches. Not <code>null</code>.
+   */
+  public List<StopWatch> getStopWatches();
+
+  /**
+   * Returns a snapshot of all recorded spans ordered by their start.
+   * 
+   * @return A list of all recorded spans. Not <code>null</code>.
+   */
+  public List<StopWatchSpan> getSpans();
+
+  /**
+   * Resets all managed stopwatches including the invocations which are still running on any thread
+   */
+  public void resetAll();
+
+  /**
+   * Dumps all stopwatches via ant4eclipse logging
+   */
+  public void dumpAll();
+
+  /**
+   * Writes all stopwatches and spans into the supplied directory (see {@link StopWatchExporter#exportAll}).
+   * 
+   * @param directory
+   *          The directory where the files have to be written to. Not <code>null</code>.
+   */
+  public void exportAll(File directory);
+
+}
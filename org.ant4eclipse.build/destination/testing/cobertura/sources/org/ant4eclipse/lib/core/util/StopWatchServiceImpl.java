@@ -0,0 +1,181 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+
+public class StopWatchServiceImpl implements StopWatchService {
+
+  /** the maximum number of recorded spans (further spans are only accounted within the stop watches) */
+  public static final String                         PROP_MAXSPANS  = "ant4eclipse.performanceLogging.maxSpans";
+
+  /** a directory where {@link #dumpAll()} additionally exports the collected data to */
+  public static final String                         PROP_EXPORTDIR = "ant4eclipse.performanceLogging.exportDir";
+
+  private final ConcurrentMap<String, StopWatch>     _managedStopWatches;
+
+  private final ConcurrentLinkedQueue<StopWatchSpan> _spans;
+
+  private final AtomicInteger                        _spanCount;
+
+  private final int                                  _maxSpans;
+
+  /** the current nesting depth per thread. replaced by {@link #resetAll()} to drop the depth of all threads. */
+  private volatile ThreadLocal<int[]>                _depth;
+
+  /** the reference time for the span start times */
+  private volatile long                              _origin;
+
+  public StopWatchServiceImpl() {
+    this._managedStopWatches = new ConcurrentHashMap<String, StopWatch>();
+    this._spans = new ConcurrentLinkedQueue<StopWatchSpan>();
+    this._spanCount = new AtomicInteger();
+    this._maxSpans = Integer.getInteger(PROP_MAXSPANS, 100000).intValue();
+    this._depth = createDepth();
+    this._origin = System.nanoTime();
+  }
+
+  public StopWatch getOrCreateStopWatch(String name) {
+
+    StopWatch stopWatch = this._managedStopWatches.get(name);
+    if (stopWatch == null) {
+      StopWatch newStopWatch = new StopWatch(name, this);
+      stopWatch = this._managedStopWatches.putIfAbsent(name, newStopWatch);
+      if (stopWatch == null) {
+        stopWatch = newStopWatch;
+      }
+    }
+
+    return stopWatch;
+  }
+
+  public List<StopWatch> getStopWatches() {
+    return new ArrayList<StopWatch>(this._managedStopWatches.values());
+  }
+
+  public List<StopWatchSpan> getSpans() {
+    List<StopWatchSpan> result = new ArrayList<StopWatchSpan>(this._spans);
+    Collections.sort(result, new Comparator<StopWatchSpan>() {
+      public int compare(StopWatchSpan o1, StopWatchSpan o2) {
+        return Long.valueOf(o1.getStart()).compareTo(Long.valueOf(o2.getStart()));
+      }
+    });
+    return result;
+  }
+
+  public void resetAll() {
+    this._managedStopWatches.clear();
+    this._spans.clear();
+    this._spanCount.set(0);
+    this._depth = createDepth();
+    this._origin = System.nanoTime();
+  }
+
+  public void dumpAll() {
+
+    dumpAll("total time:", new Comparator<StopWatch>() {
+      public int compare(StopWatch o1, StopWatch o2) {
+        return Long.valueOf(o2.getElapsedTime()).compareTo(o1.getElapsedTime());
+      }
+    });
+
+    String exportdir = System.getProperty(PROP_EXPORTDIR);
+    if ((exportdir != null) && (exportdir.trim().length() > 0)) {
+      exportAll(new File(exportdir.trim()));
+    }
+
+  }
+
+  public void exportAll(File directory) {
+    StopWatchExporter.exportAll(this, directory);
+  }
+
+  /**
+   * Called by a managed {@link StopWatch} whenever an invocation has been started.
+   */
+  void spanStarted() {
+    this._depth.get()[0]++;
+  }
+
+  /**
+   * Called by a managed {@link StopWatch} whenever an invocation has been finished.
+   * 
+   * @param stopWatch
+   *          The stop watch that has been stopped. Not <code>null</code>.
+   * @param startedAt
+   *          The value of {@link System#nanoTime()} when the invocation has been started.
+   * @param duration
+   *          The duration of the invocation in nanoseconds.
+   */
+  void spanFinished(StopWatch stopWatch, long startedAt, long duration) {
+    int[] depth = this._depth.get();
+    if (depth[0] > 0) {
+      depth[0]--;
+    }
+    if (this._spanCount.incrementAndGet() <= this._maxSpans) {
+      Thread thread = Thread.currentThread();
+      this._spans.add(new StopWatchSpan(stopWatch.getName(), thread.getId(), thread.getName(), startedAt
+          - this._origin, duration, depth[0]));
+    }
+  }
+
+  /**
+   * Creates the nesting depth for all threads. The running invocations of the stop watches don't need to be reset as
+   * the stop watches themselves are dropped by {@link #resetAll()}.
+   * 
+   * @return The nesting depth per thread. Not <code>null</code>.
+   */
+  private static ThreadLocal<int[]> createDepth() {
+    return new ThreadLocal<int[]>() {
+      @Override
+      protected int[] initialValue() {
+        return new int[1];
+      }
+    };
+  }
+
+  private void dumpAll(String key, Comparator<StopWatch> comparator) {
+
+    List<StopWatch> stopwatches = new LinkedList<StopWatch>(this._managedStopWatches.values());
+    for (StopWatch stopWatch : stopwatches) {
+      stopWatch.stop();
+    }
+
+    Collections.sort(stopwatches, comparator);
+    A4ELogging.info(stopwatches.size() + " stopwatches ordered by " + key);
+
+    for (StopWatch stopWatch : stopwatches) {
+      A4ELogging.info(String.format(
+          "  '%s' took total '%f' sec (invocations: %d, average: %f sec, p50: %f sec, p99: %f sec, max: %f sec)",
+          stopWatch.getName(), (double) stopWatch.getElapsedTime() / 1000, stopWatch.getInvocations(), stopWatch
+              .getAverageTime() / 1000, stopWatch.getPercentile(50) / 1000, stopWatch.getPercentile(99) / 1000,
+          stopWatch.getMaxTime() / 1000));
+    }
+
+    int dropped = this._spanCount.get() - this._maxSpans;
+    if (dropped > 0) {
+      A4ELogging.info("%d spans have not been recorded (limit: %d)", Integer.valueOf(dropped), Integer
+          .valueOf(this._maxSpans));
+    }
+  }
+}
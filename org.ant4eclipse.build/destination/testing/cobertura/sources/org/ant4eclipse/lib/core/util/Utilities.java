@@ -0,0 +1,1712 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.nls.NLS;
+import org.ant4eclipse.lib.core.nls.NLSMessage;
+
+/**
+ * <p>
+ * Collection of utility functions that aren't specific to A4E.
+ * <p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ * @author Daniel Kasmeroglu (daniel.kasmeroglu@kasisoft.net)
+ */
+public class Utilities {
+
+  /** - */
+  private static final String                      OPEN                  = "${";
+
+  /** - */
+  private static final String                      CLOSE                 = "}";
+
+  @NLSMessage("Exporting a resource is only supported for root based pathes !")
+  public static String                             MSG_INVALIDRESOURCEPATH;
+
+  @NLSMessage("Failed to delete '%s' !")
+  public static String                             MSG_FAILEDTODELETE;
+
+  /** - */
+  public static final String                       PROP_A4ETEMPDIR       = "ant4eclipse.temp";
+
+  /** - */
+  public static final String                       NL                    = System.getProperty("line.separator");
+
+  /** - */
+  public static final String                       ENCODING              = System.getProperty("file.encoding");
+
+  /** - */
+  private static final String                      OS                    = System.getProperty("os.name");
+
+  /** the size of the buffers used to expand jar files */
+  private static final int                         EXPANSION_BUFFER_SIZE = 64 * 1024;
+
+  /** the buffers used to expand jar files (one per thread) */
+  private static final ThreadLocal<byte[]>         EXPANSION_BUFFER      = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[EXPANSION_BUFFER_SIZE];
+    }
+  };
+
+  /** the number of locks used to serialize expansions into the same directory */
+  private static final int                         EXPANSION_LOCK_COUNT  = 64;
+
+  /** the locks used to serialize expansions into the same directory (striped by the directory) */
+  private static final Object[]                    EXPANSION_LOCKS       = new Object[EXPANSION_LOCK_COUNT];
+
+  /** the size of the buffers used to compare file contents */
+  private static final int                         COMPARE_BUFFER_SIZE   = 8 * 1024;
+
+  /** the maximum number of canonical files remembered, the least recently used ones are dropped beyond */
+  static final int                                 CANONICAL_FILES_LIMIT = 16384;
+
+  /** the canonical files computed within the current build (file -> canonical file) */
+  private static final Map<File, File>             CANONICAL_FILES       = new CanonicalFiles(CANONICAL_FILES_LIMIT);
+
+  static {
+    NLS.initialize(Utilities.class);
+    for (int i = 0; i < EXPANSION_LOCKS.length; i++) {
+      EXPANSION_LOCKS[i] = new Object();
+    }
+  }
+
+  /**
+   * Returns a canonical representation of the supplied file.
+   * 
+   * @param file
+   *          The file which canonical representation is desired. Not <code>null</code>.
+   * 
+   * @return The canonical file. Not <code>null</code>.
+   */
+  public static final File getCanonicalFile(File file) {
+    Assure.notNull("file", file);
+    try {
+      return canonicalFile(file);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.CANONICAL_FILE, file);
+    }
+  }
+
+  /**
+   * Returns the canonical representation of the supplied file. Canonical files are remembered until
+   * {@link #clearCanonicalFiles()} is invoked, so the file system is only accessed once per file and build.
+   * 
+   * @param file
+   *          The file which canonical representation is desired. Not <code>null</code>.
+   * 
+   * @return The canonical file. Not <code>null</code>.
+   * 
+   * @throws IOException
+   *           The canonical file could not be determined.
+   */
+  private static final File canonicalFile(File file) throws IOException {
+    File result;
+    synchronized (CANONICAL_FILES) {
+      result = CANONICAL_FILES.get(file);
+    }
+    if (result == null) {
+      // the file system is accessed without holding the lock, so a file might be resolved twice concurrently
+      result = file.getCanonicalFile();
+      synchronized (CANONICAL_FILES) {
+        CANONICAL_FILES.put(file, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Drops all canonical files remembered so far. This happens whenever a build starts, so this function only needs to
+   * be invoked explicitly if links within the file system have been changed during a build.
+   */
+  public static final void clearCanonicalFiles() {
+    synchronized (CANONICAL_FILES) {
+      CANONICAL_FILES.clear();
+    }
+  }
+
+  /**
+   * Reads the complete content of a text into a StringBuffer. Newlines will be transformed into the system specific
+   * newlines (@see {@link #NL} unless requested otherwise.
+   * 
+   * @param resource
+   *          The resource providing the text content. Must be located on the classpath.
+   * @param encoding
+   *          The encoding to be used for the file. Neither <code>null</code> nor empty.
+   * @param includenewlines
+   *          <code>true</code> <=> Allow newlines or remove them otherwise.
+   * 
+   * @return The buffer containing the file content. Not <code>null</code>.
+   */
+  public static final StringBuffer readTextContent(String resource, String encoding, boolean includenewlines) {
+    URL url = Utilities.class.getResource(resource);
+    if (url == null) {
+      throw new Ant4EclipseException(CoreExceptionCode.RESOURCE_NOT_ON_THE_CLASSPATH, resource);
+    }
+    return readTextContent(url, encoding, includenewlines);
+  }
+
+  /**
+   * Reads the complete content of a text into a StringBuffer. Newlines will be transformed into the system specific
+   * newlines (@see {@link #NL} unless requested otherwise.
+   * 
+   * @param input
+   *          The file providing the text content. Must be a valid file.
+   * @param encoding
+   *          The encoding to be used for the file. Neither <code>null</code> nor empty.
+   * @param includenewlines
+   *          <code>true</code> <=> Allow newlines or remove them otherwise.
+   * 
+   * @return The buffer containing the file content. Not <code>null</code>.
+   */
+  public static final StringBuffer readTextContent(File input, String encoding, boolean includenewlines) {
+    InputStream instream = null;
+    try {
+      instream = new FileInputStream(input);
+      return readTextContent(instream, encoding, includenewlines);
+    } catch (Ant4EclipseException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, input);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, input);
+    } finally {
+      close(instream);
+    }
+  }
+
+  /**
+   * Reads the complete content of a text into a StringBuffer. Newlines will be transformed into the system specific
+   * newlines (@see {@link #NL} unless requested otherwise.
+   * 
+   * @param input
+   *          The resource providing the text content. Must be a valid resource.
+   * @param encoding
+   *          The encoding to be used for the file. Maybe <code>null</code>.
+   * @param includenewlines
+   *          <code>true</code> <=> Allow newlines or remove them otherwise.
+   * 
+   * @return The buffer containing the file content. Not <code>null</code>.
+   */
+  public static final StringBuffer readTextContent(URL input, String encoding, boolean includenewlines) {
+    InputStream instream = null;
+    try {
+      instream = input.openStream();
+      return readTextContent(instream, encoding, includenewlines);
+    } catch (Ant4EclipseException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.RESOURCEIO_FAILURE, input.toExternalForm());
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.RESOURCEIO_FAILURE, input.toExternalForm());
+    } finally {
+      close(instream);
+    }
+  }
+
+  /**
+   * Reads the complete content of a text into a StringBuffer. Newlines will be transformed into the system specific
+   * newlines (@see {@link #NL} unless requested otherwise.
+   * 
+   * @param input
+   *          The stream providing the text content. Not <code>null</code>.
+   * @param encoding
+   *          The encoding to be used for the file. Neither <code>null</code> nor empty.
+   * @param includenewlines
+   *          <code>true</code> <=> Allow newlines or remove them otherwise.
+   * 
+   * @return The buffer containing the file content. Not <code>null</code>.
+   */
+  public static final StringBuffer readTextContent(InputStream input, String encoding, boolean includenewlines) {
+    try {
+      StringBuffer result = new StringBuffer();
+      OutputCopier copier = new OutputCopier(input, result, encoding);
+      copier.start();
+      copier.join();
+      if (!includenewlines) {
+        int pos = result.indexOf(NL);
+        while (pos != -1) {
+          result.delete(pos, pos + NL.length());
+          pos = result.indexOf(NL);
+        }
+      }
+      return result;
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    } catch (InterruptedException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, input);
+    }
+  }
+
+  /**
+   * Closes the supplied Closeable if it's available.
+   * 
+   * @param closeable
+   *          The closeable that has to be closed. Maybe <code>null</code>.
+   */
+  public static final void close(Closeable closeable) {
+    if (closeable != null) {
+      try {
+        closeable.close();
+      } catch (IOException ex) {
+        // generally not interesting so a warning is apropriate here
+        A4ELogging.warn(ex.getMessage());
+      }
+    }
+  }
+
+  /**
+   * @see #close(Closeable)
+   */
+  @Deprecated
+  public static final void close(InputStream instream) {
+    close((Closeable) instream);
+  }
+
+  /**
+   * @see #close(Closeable)
+   */
+  @Deprecated
+  public static final void close(OutputStream outstream) {
+    close((Closeable) outstream);
+  }
+
+  /**
+   * @see #close(Closeable)
+   */
+  @Deprecated
+  public static final void close(Reader reader) {
+    close((Closeable) reader);
+  }
+
+  /**
+   * @see #close(Closeable)
+   */
+  @Deprecated
+  public static final void close(Writer writer) {
+    close((Closeable) writer);
+  }
+
+  public static final URL toURL(File file) {
+    Assure.notNull("file", file);
+    URI uri = file.toURI();
+    try {
+      return uri.toURL();
+    } catch (MalformedURLException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  /**
+   * Returns true if the supplied path could be deleted completely. In case of a directory the complete tree will be
+   * deleted.
+   * 
+   * @param file
+   *          The path which shall be removed.
+   * 
+   * @return true <=> The path could be deleted with success.
+   */
+  public static final boolean delete(File file) {
+    Assure.notNull("file", file);
+    if (!file.exists()) {
+      return true;
+    }
+    boolean result = true;
+    if (file.isDirectory()) {
+      // delete the children
+      File[] children = file.listFiles();
+      if (children != null) {
+        for (File element : children) {
+          result = delete(element) && result;
+        }
+      }
+    }
+    // try to delete the file multiple times,
+    // since the deletion query may fail (f.e.
+    // if another process locked the file)
+    int tries = 5;
+    while ((!file.delete()) && (tries > 0)) {
+      try {
+        System.gc();
+        Thread.sleep(10);
+        System.gc();
+      } catch (InterruptedException ex) {
+        // do nothing here
+      }
+      tries--;
+    }
+    if (file.exists()) {
+      A4ELogging.warn(MSG_FAILEDTODELETE, file.getPath());
+      result = false;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a list of all files located within the supplied directory/file.
+   * 
+   * @param file
+   *          The resource which files should be listed. If it's a file it will be the only child in the returned list.
+   * 
+   * @return The list containing all children. Not <code>null</code>.
+   */
+  public static final List<File> getAllChildren(File file) {
+    Assure.notNull("file", file);
+    final List<File> result = new ArrayList<File>();
+    if (file.isDirectory()) {
+      // add the children
+      DirectoryWalker.walk(file, new DirectoryWalker.Visitor() {
+        @Override
+        public boolean visitFile(File child, String path) {
+          result.add(child);
+          return true;
+        }
+      });
+    } else {
+      result.add(file);
+    }
+    return result;
+  }
+
+  public static final boolean hasChild(File directory, final String childName) {
+    return getChild(directory, childName) != null;
+  }
+
+  /**
+   * Returns the child with the supplied name. The name must match exactly, even if the file system is case
+   * insensitive.
+   * 
+   * @param directory
+   *          The directory which child is requested. Not <code>null</code>.
+   * @param childName
+   *          The name of the child. Not <code>null</code>.
+   * 
+   * @return The child or <code>null</code> if there's no child with the supplied name.
+   */
+  public static final File getChild(File directory, final String childName) {
+    File result = new File(directory, childName);
+    if (!result.exists()) {
+      return null;
+    }
+    try {
+      if (childName.equals(result.getCanonicalFile().getName())) {
+        return result;
+      }
+    } catch (IOException ex) {
+      // the directory will be listed
+    }
+    // the name differs in case or the child is a link, so the listing decides
+    String[] names = directory.list();
+    if (names != null) {
+      for (String name : names) {
+        if (name.equals(childName)) {
+          return result;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Simple search replace method.
+   * 
+   * @param input
+   *          The text which should be altered. Not <code>null</code>.
+   * @param search
+   *          The text that has to be removed. Not <code>null</code>.
+   * @param replacement
+   *          The text which has to be used as a replacement. Not <code>null</code>.
+   * 
+   * @return The modified text. Not <code>null</code>.
+   */
+  public static final String replace(String input, String search, String replacement) {
+    Assure.notNull("input", input);
+    Assure.notNull("search", search);
+    Assure.notNull("replacement", replacement);
+    int idx = input.indexOf(search);
+    if (idx == -1) {
+      return input;
+    }
+    StringBuffer buffer = new StringBuffer(input);
+    while (idx != -1) {
+      buffer.delete(idx, idx + search.length());
+      buffer.insert(idx, replacement);
+      idx = buffer.indexOf(search, idx + replacement.length());
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Replaces a character with a specified string.
+   * 
+   * @param input
+   *          The string which will be modified. Not <code>null</code>.
+   * @param ch
+   *          The character that shall be replaced.
+   * @param replacement
+   *          The replacing string. Not <code>null</code>.
+   * 
+   * @return A string with replaced characters. Not <code>null</code>.
+   */
+  public static final String replace(String input, char ch, String replacement) {
+    return replace(input, String.valueOf(ch), replacement);
+  }
+
+  /**
+   * Calculates a relative path for the supplied files.
+   * 
+   * @param fromfile
+   *          Starting point within a file system.
+   * @param tofile
+   *          Ending point within a file system.
+   * 
+   * @return The file which indicates the relative path. null in case the relative path could not be calculated.
+   */
+  public static final String calcRelative(File fromfile, File tofile) {
+    Assure.notNull("fromfile", fromfile);
+    Assure.notNull("tofile", tofile);
+    try {
+      return calcLexicalRelative(canonicalFile(fromfile), canonicalFile(tofile));
+    } catch (IOException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Calculates a relative path for the supplied files without accessing the file system. Both files must already be
+   * canonical (f.e. obtained through {@link #getCanonicalFile(File)}) as their paths are compared as they are.
+   * 
+   * @param fromfile
+   *          Canonical starting point within a file system. Not <code>null</code>.
+   * @param tofile
+   *          Canonical ending point within a file system. Not <code>null</code>.
+   * 
+   * @return The file which indicates the relative path. null in case the relative path could not be calculated.
+   */
+  public static final String calcLexicalRelative(File fromfile, File tofile) {
+    Assure.notNull("fromfile", fromfile);
+    Assure.notNull("tofile", tofile);
+    String frompath = fromfile.getPath().replace('\\', '/');
+    String topath = tofile.getPath().replace('\\', '/');
+    if (frompath.equals("/")) {
+      // special treatment for unix filesystems since split would result in an empty list
+      if (topath.startsWith("/")) {
+        return replace(topath.substring(1), "/", File.separator);
+      } else {
+        // the other path is invalid
+        return null;
+      }
+    }
+    String[] fromstr = frompath.split("/");
+    String[] tostr = topath.split("/");
+    if (!fromstr[0].equals(tostr[0])) {
+      // we're not working on the same device
+      /**
+       * @todo [26-Feb-2006:KASI] Can this be omitted under UNIX ?
+       */
+      return null;
+    }
+    int same = 1;
+    for (; same < Math.min(fromstr.length, tostr.length); same++) {
+      if (!fromstr[same].equals(tostr[same])) {
+        break;
+      }
+    }
+    StringBuffer buffer = new StringBuffer();
+    for (int i = same; i < fromstr.length; i++) {
+      buffer.append(File.separator);
+      buffer.append("..");
+    }
+    for (int i = same; i < tostr.length; i++) {
+      buffer.append(File.separator);
+      buffer.append(tostr[i]);
+    }
+    if (buffer.length() > 0) {
+      buffer.delete(0, File.separator.length());
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * removes trailing / or \\ from the given path
+   * 
+   * @param path
+   * @return the path without a trailing path separator
+   */
+  public static final String removeTrailingPathSeparator(String path) {
+    if ((path == null) || (path.length() < 2)) {
+      return path;
+    }
+    if (path.endsWith("/") || path.endsWith("\\")) {
+      return path.substring(0, path.length() - 1);
+    }
+    return path;
+  }
+
+  /**
+   * Reverses the order of the elements in the specified array.
+   * 
+   * @param array
+   *          the array whose elements are to be reversed.
+   */
+  public static <T> void reverse(T[] array) {
+    if (array != null) {
+      final List<T> list = Arrays.asList(array);
+      Collections.reverse(list);
+    }
+  }
+
+  /**
+   * <p>
+   * Check if a String has text. More specifically, returns <code>true</code> if the string not
+   * <code>null<code>, it's <code>length is > 0</code>, and it has at least one non-whitespace character.
+   * </p>
+   * <p>
+   * 
+   * <pre>
+   *      Utilities.hasText(null) = false
+   *      Utilities.hasText(&quot;&quot;) = false
+   *      Utilities.hasText(&quot; &quot;) = false
+   *      Utilities.hasText(&quot;12345&quot;) = true
+   *      Utilities.hasText(&quot; 12345 &quot;) = true
+   * </pre>
+   * 
+   * </p>
+   * 
+   * @param str
+   *          the String to check, may be <code>null</code>
+   * @return <code>true</code> if the String is not null, length > 0, and not whitespace only
+   * @see java.lang.Character#isWhitespace
+   */
+  public static final boolean hasText(String str) {
+    return cleanup(str) != null;
+  }
+
+  /**
+   * Alters the supplied String to make sure that it has a value.
+   * 
+   * @param input
+   *          The String that might be altered. Maybe <code>null</code>.
+   * 
+   * @return <code>null</code> in case there's no value or a String which contains at least one valuable character.
+   */
+  public static final String cleanup(String input) {
+    String result = input;
+    if (result != null) {
+      result = result.trim();
+      if (result.length() == 0) {
+        result = null;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Similar to {@link #cleanup(String)} the input is altered if necessary, so the returned list only consists of
+   * non-empty Strings. There's at least one String or the result is <code>null</code>.
+   * 
+   * @param input
+   *          The input array which might be altered. Maybe <code>null</code>.
+   * 
+   * @return A list of the input values which is either <code>null</code> or contains at least one non empty value.
+   */
+  public static final String[] cleanup(String[] input) {
+    List<String> result = new ArrayList<String>();
+    if (input != null) {
+      for (String element2 : input) {
+        String element = cleanup(element2);
+        if (element != null) {
+          result.add(element);
+        }
+      }
+      if (result.isEmpty()) {
+        return null;
+      }
+    }
+    return result.toArray(new String[result.size()]);
+  }
+
+  /**
+   * Generates a textual representation for the supplied list of values.
+   * 
+   * @param objects
+   *          A list of values. Not <code>null</code>.
+   * @param delimiter
+   *          The delimiter to be used. If <code>null</code> the default value <code>,</code> is used.
+   * 
+   * @return A textual representation for the supplied list of values. Not <code>null</code>.
+   */
+  public static final String listToString(Object[] objects, String delimiter) {
+    Assure.notNull("objects", objects);
+    if (delimiter == null) {
+      delimiter = ",";
+    }
+    StringBuffer buffer = new StringBuffer();
+    if (objects.length > 0) {
+      buffer.append(String.valueOf(objects[0]));
+      for (int i = 1; i < objects.length; i++) {
+        buffer.append(delimiter);
+        buffer.append(String.valueOf(objects[i]));
+      }
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Generates a textual representation of the supplied Property map.
+   * 
+   * @param properties
+   *          The map which shall be translated into a text.
+   * 
+   * @return The text representing the content of the supplied map.
+   */
+  public static final String toString(Properties properties) {
+    return toString(null, properties);
+  }
+
+  /**
+   * Generates a textual representation of the supplied Property map.
+   * 
+   * @param title
+   *          A textual information printed above the property map.
+   * @param properties
+   *          The map which shall be translated into a text. Not <code>null</code>.
+   * 
+   * @return The text representing the content of the supplied map.
+   */
+  public static final String toString(String title, Properties properties) {
+    Assure.notNull("properties", properties);
+    StringBuilder buffer = new StringBuilder();
+    if (title != null) {
+      buffer.append(title);
+      buffer.append(NL);
+    }
+    Iterator<Entry<Object, Object>> it = properties.entrySet().iterator();
+    while (it.hasNext()) {
+      Entry<Object, Object> entry = it.next();
+      buffer.append("'").append(entry.getKey());
+      buffer.append("' -> '");
+      buffer.append(entry.getValue());
+      buffer.append("'");
+      buffer.append(NL);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Creates the given directory (including all of its missing parent directories) if it does not exists yet.
+   * 
+   * @param directory
+   */
+  public static final void mkdirs(File directory) {
+    Assure.notNull("directory", directory);
+    if (directory.isDirectory()) {
+      return;
+    }
+    if (directory.isFile()) {
+      throw new Ant4EclipseException(CoreExceptionCode.PATH_MUST_NOT_BE_A_FILE, directory);
+    }
+    if (!directory.mkdirs()) {
+      if (!directory.isDirectory()) { // if another one created the directory in between
+        throw new Ant4EclipseException(CoreExceptionCode.DIRECTORY_COULD_NOT_BE_CREATED, directory);
+      }
+    }
+  }
+
+  /**
+   * Creates a new instance of the class with the given name.
+   * 
+   * <p>
+   * The class must be loadable via Class.forName() and must have a default constructor
+   * 
+   * @param className
+   * @return
+   */
+  @SuppressWarnings("unchecked")
+  public static final <T> T newInstance(String className) {
+    Assure.notNull("className", className);
+    Class<?> clazz = null;
+    try {
+      clazz = Class.forName(className);
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_LOAD_CLASS, className, ex.toString());
+    }
+    // try to instantiate using default cstr...
+    T object = null;
+    try {
+      object = (T) clazz.newInstance();
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_INSTANTIATE_CLASS, className, ex.toString());
+    }
+    // return the constructed object
+    return object;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static final <T> T newInstance(String className, Class<?>[] types, Object[] args) {
+    Assure.notNull("className", className);
+    Class<?> clazz = null;
+    try {
+      clazz = Class.forName(className);
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_LOAD_CLASS, className, ex.toString());
+    }
+    // try to instantiate...
+    T object = null;
+    try {
+      Constructor<?> constructor = clazz.getDeclaredConstructor(types);
+      constructor.setAccessible(true);
+      constructor.newInstance(args);
+      object = (T) constructor.newInstance(args);
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_INSTANTIATE_CLASS, className, ex.toString());
+    }
+    // return the constructed object
+    return object;
+  }
+
+  /**
+   * <p>
+   * The class must be loadable via Class.forName() and must have a constructor with a single String parameter.
+   * </p>
+   * 
+   * @param className
+   *          The name of the class. Neither <code>null</code> nor empty.
+   * @param arg
+   *          The argument used to instantiate the class. Maybe <code>null</code>.
+   * 
+   * @return The newly instantiated type. Not <code>null</code>.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public static final <T> T newInstance(String className, String arg) {
+    Assure.notNull("className", className);
+    Class<?> clazz = null;
+    // Try to load class...
+    try {
+      clazz = Class.forName(className);
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_LOAD_CLASS, className, ex.toString());
+    }
+    Constructor constructor = null;
+    try {
+      constructor = clazz.getConstructor(String.class);
+    } catch (NoSuchMethodException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_INSTANTIATE_CLASS, className, ex.toString());
+    }
+    // try to instantiate using default cstr...
+    T object = null;
+    try {
+      object = (T) constructor.newInstance(arg);
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_INSTANTIATE_CLASS, className, ex.toString());
+    }
+
+    // return the constructed object
+    return object;
+  }
+
+  /**
+   * Checks whether a specific literal is part of a list of allowed values.
+   * 
+   * @param candidate
+   *          The literal which has to be tested. Not <code>null</code>.
+   * @param allowed
+   *          A list of allowed values. Not <code>null</code>.
+   * 
+   * @return <code>true</code> <=> The supplied literal is part of the allowed values.
+   */
+  public static final boolean contains(String candidate, String... allowed) {
+    Assure.notNull("candidate", candidate);
+    Assure.notNull("allowed", allowed);
+    for (String part : allowed) {
+      if (candidate.equals(part)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Filters a list according to a specified type. The order is preserved.
+   * 
+   * @param input
+   *          The list which will be filtered. Not <code>null</code>.
+   * @param clazz
+   *          The type which must be matched by the list elements. Not <code>null</code>.
+   * 
+   * @return A list with the input elements that do match the specified type. Not <code>null</code>.
+   */
+  public static final List<Object> filter(List<Object> input, Class<?> clazz) {
+    Assure.notNull("input", input);
+    Assure.notNull("clazz", clazz);
+    List<Object> result = new ArrayList<Object>();
+    for (int i = 0; i < input.size(); i++) {
+      if (clazz.isAssignableFrom(input.get(i).getClass())) {
+        result.add(input.get(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * This function copies the content of a resource into a file. This function will cause an exception in case of a
+   * failure.
+   * 
+   * @param source
+   *          The URL pointing to the resource. Not <code>null</code>.
+   * @param dest
+   *          The destination file where the copy shall be created. Not <code>null</code>.
+   */
+  public static final void copy(URL source, File dest) {
+    Assure.notNull("source", source);
+    Assure.notNull("dest", dest);
+    InputStream instream = null;
+    OutputStream outstream = null;
+    try {
+      instream = source.openStream();
+      outstream = new FileOutputStream(dest);
+      byte[] buffer = new byte[16384];
+      copy(instream, outstream, buffer);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COULD_NOT_EXPORT_RESOURCE, source.toExternalForm(), dest);
+    }
+  }
+
+  /**
+   * Unpacks the content from the supplied zip file into the supplied destination directory.
+   * 
+   * @todo [11-Dec-2009:KASI] This should be merged with {@link #expandJarFile(JarFile, File)}
+   * 
+   * @param zipfile
+   *          The zip file which has to be unpacked. Not <code>null</code> and must be a file.
+   * @param destdir
+   *          The directory where the content shall be written to. Not <code>null</code>.
+   */
+  public static final void unpack(File zipfile, File destdir) {
+    Assure.notNull("zipfile", zipfile);
+    Assure.notNull("destdir", destdir);
+    byte[] buffer = new byte[16384];
+    try {
+      if (!destdir.isAbsolute()) {
+        destdir = destdir.getAbsoluteFile();
+      }
+      ZipFile zip = new ZipFile(zipfile);
+      Enumeration<? extends ZipEntry> entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        ZipEntry zentry = entries.nextElement();
+        if (zentry.isDirectory()) {
+          mkdirs(new File(destdir, zentry.getName()));
+        } else {
+          File destfile = new File(destdir, zentry.getName());
+          mkdirs(destfile.getParentFile());
+          copy(zip.getInputStream(zentry), new FileOutputStream(destfile), buffer);
+        }
+      }
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.UNPACKING_FAILED, zipfile);
+    }
+  }
+
+  /**
+   * Copies one file to another location.
+   * 
+   * @param source
+   *          The original File which has to be copied. Not <code>null</code>.
+   * @param to
+   *          The destination File which has to be written. Not <code>null</code>.
+   */
+  public static final void copy(File source, File to) {
+    Assure.isFile("source", source);
+    Assure.notNull("to", to);
+    FileInputStream instream = null;
+    FileOutputStream outstream = null;
+    FileChannel readchannel = null;
+    FileChannel writechannel = null;
+    try {
+      instream = new FileInputStream(source);
+      outstream = new FileOutputStream(to);
+      readchannel = instream.getChannel();
+      writechannel = outstream.getChannel();
+      readchannel.transferTo(0, readchannel.size(), writechannel);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.COPY_FAILURE, source.getAbsolutePath(),
+          to.getAbsolutePath());
+    } finally {
+      close(readchannel);
+      close(writechannel);
+      close(instream);
+      close(outstream);
+    }
+  }
+
+  /**
+   * Checks whether two files have the same content. The files are only read if they have the same size.
+   * 
+   * @param file1
+   *          The first file. Not <code>null</code>.
+   * @param file2
+   *          The second file. Not <code>null</code>.
+   * 
+   * @return <code>true</code> <=> Both files exist and have the same content.
+   */
+  public static final boolean hasSameContent(File file1, File file2) {
+    Assure.notNull("file1", file1);
+    Assure.notNull("file2", file2);
+    if ((!file1.isFile()) || (!file2.isFile()) || (file1.length() != file2.length())) {
+      return false;
+    }
+    InputStream instream1 = null;
+    InputStream instream2 = null;
+    try {
+      instream1 = new FileInputStream(file1);
+      instream2 = new FileInputStream(file2);
+      byte[] buffer1 = new byte[COMPARE_BUFFER_SIZE];
+      byte[] buffer2 = new byte[COMPARE_BUFFER_SIZE];
+      int read = readFully(instream1, buffer1);
+      while (read > 0) {
+        if ((readFully(instream2, buffer2) != read) || (!equals(buffer1, buffer2, read))) {
+          return false;
+        }
+        read = readFully(instream1, buffer1);
+      }
+      return readFully(instream2, buffer2) == 0;
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, file1);
+    } finally {
+      close(instream1);
+      close(instream2);
+    }
+  }
+
+  /**
+   * Fills the supplied buffer as far as possible.
+   * 
+   * @param instream
+   *          The stream providing the content. Not <code>null</code>.
+   * @param buffer
+   *          The buffer which has to be filled. Not <code>null</code>.
+   * 
+   * @return The number of bytes which have been read. 0 if the end of the stream has been reached.
+   * 
+   * @throws IOException
+   *           Reading failed for some reason.
+   */
+  private static final int readFully(InputStream instream, byte[] buffer) throws IOException {
+    int offset = 0;
+    while (offset < buffer.length) {
+      int read = instream.read(buffer, offset, buffer.length - offset);
+      if (read == -1) {
+        break;
+      }
+      offset += read;
+    }
+    return offset;
+  }
+
+  /**
+   * Compares the beginning of two buffers.
+   * 
+   * @param buffer1
+   *          The first buffer. Not <code>null</code>.
+   * @param buffer2
+   *          The second buffer. Not <code>null</code>.
+   * @param length
+   *          The number of bytes which have to be compared.
+   * 
+   * @return <code>true</code> <=> The first <code>length</code> bytes of both buffers are equal.
+   */
+  private static final boolean equals(byte[] buffer1, byte[] buffer2, int length) {
+    for (int i = 0; i < length; i++) {
+      if (buffer1[i] != buffer2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copies the complete content from an InputStream into an OutputStream using a specified buffer. Both streams will be
+   * closed after completion or in case an exception comes up.
+   * 
+   * @param instream
+   *          The InputStream providing the content. Not <code>null</code>.
+   * @param outstream
+   *          The OutputStream used to write the content to. Not <code>null</code>.
+   * @param buffer
+   *          The buffer used for the copying process. Not <code>null</code>.
+   * 
+   * @throws IOException
+   *           Copying failed for some reason.
+   */
+  public static final void copy(InputStream instream, OutputStream outstream, byte[] buffer) throws IOException {
+    Assure.notNull("instream", instream);
+    Assure.notNull("outstream", outstream);
+    Assure.nonEmpty("buffer", buffer);
+    try {
+      int read = instream.read(buffer);
+      while (read != -1) {
+        if (read > 0) {
+          outstream.write(buffer, 0, read);
+        }
+        read = instream.read(buffer);
+      }
+    } finally {
+      close(outstream);
+      close(instream);
+    }
+  }
+
+  /**
+   * Exports a resource which resides on the classpath into a temporarily generated file. This file will be deleted when
+   * the vm will be exited. Therefore the file is just used temporarily. The resource itself must be accessible through
+   * the ClassLoader used to load this class. The suffix will be derived from the resource. If this resource doesn't
+   * contain a suffix the default value <i>.tmp</i> is used.
+   * 
+   * @param resource
+   *          The path for the resource. Must start with a <i>/</i> since each path is based on the root. Neither
+   *          <code>null</code> nor empty.
+   * 
+   * @return The file keeping the exported content.
+   */
+  public static final File exportResource(String resource) {
+    Assure.nonEmpty("resource", resource);
+    Assure.assertTrue(resource.startsWith("/"), MSG_INVALIDRESOURCEPATH);
+    String suffix = ".tmp";
+    int lidx = resource.lastIndexOf('.');
+    if (lidx != -1) {
+      suffix = resource.substring(lidx);
+    }
+    return exportResource(resource, suffix);
+  }
+
+  /**
+   * Exports a resource which resides on the classpath into a temporarily generated file. This file will be deleted when
+   * the vm will be exited. Therefore the file is just used temporarily. The resource itself must be accessible through
+   * the ClassLoader used to load this class.
+   * 
+   * @param resource
+   *          The path for the resource. Must start with a <i>/</i> since each path is based on the root. Neither
+   *          <code>null</code> nor empty.
+   * @param suffix
+   *          The suffix used for the exported file. Neither <code>null</code> nor empty.
+   * 
+   * @return The file keeping the exported content.
+   */
+  public static final File exportResource(String resource, String suffix) {
+    Assure.nonEmpty("resource", resource);
+    Assure.assertTrue(resource.startsWith("/"), MSG_INVALIDRESOURCEPATH);
+    URL url = Utilities.class.getResource(resource);
+    if (url == null) {
+      throw new Ant4EclipseException(CoreExceptionCode.RESOURCE_NOT_ON_THE_CLASSPATH, resource);
+    }
+    try {
+      File result = createTempFile("", suffix, ENCODING);
+      copy(url, result);
+      return result.getCanonicalFile();
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    }
+  }
+
+  /**
+   * Creates a directory which can be used for temporary data.
+   * 
+   * @return A directory which can be used for temporary data. Not <code>null</code> and is a directory.
+   */
+  public static final File createTempDir() {
+    try {
+      File result = null;
+      String tempdir = cleanup(System.getProperty(PROP_A4ETEMPDIR));
+      if (tempdir != null) {
+        File dir = new File(tempdir);
+        mkdirs(dir);
+        result = File.createTempFile("a4e", "dir", dir);
+      } else {
+        result = File.createTempFile("a4e", "dir");
+      }
+      if (!delete(result)) {
+        throw new Ant4EclipseException(CoreExceptionCode.IO_FAILURE);
+      }
+      if (!result.mkdirs()) {
+        throw new Ant4EclipseException(CoreExceptionCode.IO_FAILURE);
+      }
+      return result;
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    }
+  }
+
+  /**
+   * Writes some content into a temporary File and gives access to it.
+   * 
+   * @param content
+   *          The content which has to be written. Neither <code>null</code> nor empty.
+   * @param suffix
+   *          The suffix used for the returned File. Neither <code>null</code> nor empty.
+   * @param encoding
+   *          The encoding that will be used to write the content. Neither <code>null</code> nor empty.
+   * 
+   * @return A temporary used file containing the supplied content. Not <code>null</code>.
+   */
+  public static final File createTempFile(String content, String suffix, String encoding) {
+    Assure.notNull("content", content);
+    Assure.nonEmpty("encoding", encoding);
+    try {
+      File result = File.createTempFile("a4e", suffix);
+      result.deleteOnExit();
+      writeFile(result, content, encoding);
+      return result.getCanonicalFile();
+    } catch (IOException ex) {
+      A4ELogging.debug("Temp dir: %s", System.getProperty("java.io.tmpdir"));
+      A4ELogging.debug("CanWrite: %s", new File(System.getProperty("java.io.tmpdir")).canWrite());
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    }
+  }
+
+  /**
+   * This function stores a file under a specified location using a chosen encoding.
+   * 
+   * @param destination
+   *          The destination where the file has to be written to. Not <code>null</code>.
+   * @param content
+   *          The content that has to be written. Not <code>null</code>.
+   * @param encoding
+   *          The encoding that will be used to write the content. Neither <code>null</code> nor empty.
+   */
+  public static final void writeFile(File destination, String content, String encoding) {
+    Assure.notNull("destination", destination);
+    Assure.notNull("content", content);
+    Assure.nonEmpty("encoding", encoding);
+    OutputStream output = null;
+    Writer writer = null;
+    try {
+      output = new FileOutputStream(destination);
+      writer = new OutputStreamWriter(output, encoding);
+      writer.write(content);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    } finally {
+      close(writer);
+      close(output);
+    }
+  }
+
+  /**
+   * This function stores a file under a specified location using the supplied data.
+   * 
+   * @param destination
+   *          The destination where the file has to be written to. Not <code>null</code>.
+   * @param content
+   *          The content that has to be written. Not <code>null</code>.
+   */
+  public static final void writeFile(File destination, byte[] content) {
+    Assure.notNull("destination", destination);
+    Assure.notNull("content", content);
+    OutputStream output = null;
+    try {
+      output = new FileOutputStream(destination);
+      output.write(content);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, destination);
+    } finally {
+      close(output);
+    }
+  }
+
+  public static synchronized void appendFile(File destination, byte[] content) {
+    Assure.notNull("destination", destination);
+    Assure.notNull("content", content);
+    OutputStream output = null;
+    try {
+      output = new FileOutputStream(destination, true);
+      output.write(content);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, destination);
+    } finally {
+      close(output);
+    }
+  }
+
+  /**
+   * Removes a suffix from a name if it has one.
+   * 
+   * @param name
+   *          The name which suffix has to be removed. Not <code>null</code>.
+   * 
+   * @return The name without the suffix.
+   */
+  public static final String stripSuffix(String name) {
+    Assure.notNull("name", name);
+    int lidx = name.lastIndexOf('.');
+    if (lidx != -1) {
+      return name.substring(0, lidx);
+    } else {
+      return name;
+    }
+  }
+
+  /**
+   * Executes a single command. The output stream can be captured within a buffer if desired. This method does
+   * <b>NOT</b> support to provide some input. Failures will cause exceptions.
+   * 
+   * @param exe
+   *          The location of the executable. Not <code>null</code>.
+   * @param output
+   *          A buffer for the output stream. Maybe <code>null</code>.
+   * @param args
+   *          The arguments for the execution. Maybe <code>null</code>.
+   */
+  public static final void execute(File exe, StringBuffer output, String... args) {
+    execute(exe, output, null, args);
+  }
+
+  /**
+   * <p>
+   * Expands the specified jar file to the expansion directory.
+   * </p>
+   * <p>
+   * The content is written into a staging directory next to the expansion directory which is renamed once the
+   * expansion has been completed, so an existing expansion directory is always complete. Expansions into different
+   * directories usually run concurrently while concurrent expansions into the same directory are serialized (the
+   * directories share a fixed number of locks, so unrelated expansions occasionally wait for each other).
+   * </p>
+   * 
+   * @param jarFile
+   *          the jar file to expand
+   * @param expansionDirectory
+   *          the expansion directory
+   */
+  public static final void expandJarFile(JarFile jarFile, File expansionDirectory) {
+
+    Assure.notNull("jarFile", jarFile);
+    Assure.notNull("expansionDirectory", expansionDirectory);
+
+    // this way we make sure that calls to File#getParentFile always return non-null values
+    expansionDirectory = expansionDirectory.getAbsoluteFile();
+
+    synchronized (getExpansionLock(expansionDirectory)) {
+
+      if (expansionDirectory.exists()) {
+        A4ELogging.debug("%s|Already expanded '%s' to '%s'", Long.valueOf(Thread.currentThread().getId()), jarFile
+            .getName(), expansionDirectory);
+        return;
+      }
+
+      A4ELogging.debug("%s|Expanding '%s' to '%s'", Long.valueOf(Thread.currentThread().getId()), jarFile.getName(),
+          expansionDirectory);
+
+      File stagingDirectory = new File(expansionDirectory.getParentFile(), "." + expansionDirectory.getName()
+          + ".expanding-" + Thread.currentThread().getId() + "-" + System.nanoTime());
+      boolean completed = false;
+      try {
+        mkdirs(stagingDirectory);
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+          expandJarEntry(jarFile, entries.nextElement(), stagingDirectory);
+        }
+        if (!stagingDirectory.renameTo(expansionDirectory)) {
+          if (!expansionDirectory.isDirectory()) {
+            throw new IOException(String.format("Could not rename '%s' to '%s'", stagingDirectory,
+                expansionDirectory));
+          }
+          // another process completed the same expansion in between
+          A4ELogging.debug("%s|Concurrently expanded '%s' to '%s'", Long.valueOf(Thread.currentThread().getId()),
+              jarFile.getName(), expansionDirectory);
+        } else {
+          completed = true;
+        }
+      } catch (IOException ex) {
+        throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+      } finally {
+        if (!completed) {
+          delete(stagingDirectory);
+        }
+      }
+
+    }
+
+  }
+
+  /**
+   * Returns the lock object used to serialize the expansions into the supplied directory. The locks are striped, so
+   * their number doesn't grow with the number of expanded directories.
+   * 
+   * @param expansionDirectory
+   *          The absolute expansion directory. Not <code>null</code>.
+   * 
+   * @return The lock object for the directory. Not <code>null</code>.
+   */
+  private static Object getExpansionLock(File expansionDirectory) {
+    int hash = expansionDirectory.hashCode();
+    hash ^= (hash >>> 20) ^ (hash >>> 12);
+    hash ^= (hash >>> 7) ^ (hash >>> 4);
+    return EXPANSION_LOCKS[(hash & 0x7fffffff) % EXPANSION_LOCKS.length];
+  }
+
+  /**
+   * Writes a single entry of a jar file into the supplied directory.
+   * 
+   * @param jarFile
+   *          The jar file providing the entry. Not <code>null</code>.
+   * @param jarEntry
+   *          The entry which has to be written. Not <code>null</code>.
+   * @param directory
+   *          The directory where the entry has to be written to. Not <code>null</code>.
+   * 
+   * @throws IOException
+   *           Reading or writing the entry failed.
+   */
+  private static void expandJarEntry(JarFile jarFile, JarEntry jarEntry, File directory) throws IOException {
+    File destFile = new File(directory, jarEntry.getName());
+    if (jarEntry.isDirectory()) {
+      mkdirs(destFile);
+      return;
+    }
+    mkdirs(destFile.getParentFile());
+    InputStream inputStream = null;
+    OutputStream outputStream = null;
+    try {
+      inputStream = jarFile.getInputStream(jarEntry);
+      outputStream = new FileOutputStream(destFile);
+      byte[] buffer = EXPANSION_BUFFER.get();
+      int count = inputStream.read(buffer);
+      while (count != -1) {
+        outputStream.write(buffer, 0, count);
+        count = inputStream.read(buffer);
+      }
+    } finally {
+      close(outputStream);
+      close(inputStream);
+    }
+    if (jarEntry.getTime() != -1) {
+      destFile.setLastModified(jarEntry.getTime());
+    }
+  }
+
+  /**
+   * Executes a single command. The output and the error stream can be captured within buffers if desired. This method
+   * does <b>NOT</b> support to provide some input. Failures will cause exceptions.
+   * 
+   * @param exe
+   *          The location of the executable. Not <code>null</code>.
+   * @param output
+   *          A buffer for the output stream. Maybe <code>null</code>.
+   * @param error
+   *          A buffer for the error stream. Maybe <code>null</code>.
+   * @param args
+   *          The arguments for the execution. Maybe <code>null</code>.
+   */
+  public static final void execute(File exe, StringBuffer output, StringBuffer error, String... args) {
+
+    try {
+
+      if (output == null) {
+        output = new StringBuffer();
+      }
+
+      if (error == null) {
+        error = new StringBuffer();
+      }
+
+      String[] cmdarray = null;
+      if (args == null) {
+        cmdarray = new String[] { exe.getAbsolutePath() };
+      } else {
+        cmdarray = new String[args.length + 1];
+        cmdarray[0] = exe.getAbsolutePath();
+        System.arraycopy(args, 0, cmdarray, 1, args.length);
+      }
+
+      Process process = Runtime.getRuntime().exec(cmdarray);
+      OutputCopier outcopier = new OutputCopier(process.getInputStream(), output, ENCODING);
+      OutputCopier errcopier = new OutputCopier(process.getErrorStream(), error, ENCODING);
+      outcopier.start();
+      errcopier.start();
+      int result = process.waitFor();
+      if (result != 0) {
+        A4ELogging.error(CoreExceptionCode.LAUNCHING_FAILURE.getMessage(), exe, Integer.valueOf(result), output, error);
+        throw new Ant4EclipseException(CoreExceptionCode.LAUNCHING_FAILURE, exe, Integer.valueOf(result), output,
+            error);
+      }
+
+    } catch (Exception ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.EXECUTION_FAILURE, exe);
+    }
+
+  }
+
+  /**
+   * Returns <code>true</code> if the supplied objects are equal. This function is capable to deal with
+   * <code>null</code> values.
+   * 
+   * @param <T>
+   *          The type of parameters that will be used.
+   * @param o1
+   *          One object. Maybe <code>null</code>.
+   * @param o2
+   *          Another object. Maybe <code>null</code>.
+   * 
+   * @return <code>true</code> <=> Both objects are equal.
+   */
+  public static final <T> boolean equals(T o1, T o2) {
+    if (o1 == null) {
+      return o2 == null;
+    } else if (o1 == o2) {
+      // not necessary but efficient
+      return true;
+    } else {
+      return o1.equals(o2);
+    }
+  }
+
+  /**
+   * <p>
+   * Performs a textual replacement for variables. Variables must be enclosed within {@link #OPEN} and {@link #CLOSE}.
+   * </p>
+   * 
+   * @param template
+   *          The template containing variable references. Not <code>null</code>.
+   * @param replacements
+   *          The replacement for the variables. Not <code>null</code>.
+   * 
+   * @return The evaluated result. Not <code>null</code>.
+   */
+  public static final String replaceTokens(String template, Map<String, String> replacements) {
+    return replaceTokens(template, replacements, OPEN, CLOSE);
+  }
+
+  /**
+   * <p>
+   * Performs a textual replacement for variables.
+   * </p>
+   * 
+   * @param template
+   *          The template containing variable references. Not <code>null</code>.
+   * @param replacements
+   *          The replacement for the variables. Not <code>null</code>.
+   * @param openlit
+   *          The opening literal for a variable reference. Neither <code>null</code> nor empty.
+   * @param closelit
+   *          The closing literal for a variable reference. Neither <code>null</code> nor empty.
+   * 
+   * @return The evaluated result. Not <code>null</code>.
+   */
+  public static final String replaceTokens(String template, Map<String, String> replacements, String openlit,
+      String closelit) {
+    Assure.notNull("template", template);
+    Assure.notNull("replacements", replacements);
+    Assure.notNull("openlit", openlit);
+    Assure.notNull("closelit", closelit);
+    StringBuffer buffer = new StringBuffer(template);
+    int index = buffer.indexOf(openlit);
+    while (index != -1) {
+      int next = buffer.indexOf(openlit, index + openlit.length());
+      int close = buffer.indexOf(closelit, index + openlit.length());
+      if (close == -1) {
+        // no closing anymore available, so there's no replacement operation to be done anymore
+        break;
+      }
+      if ((next != -1) && (next < close)) {
+        // no close for the current literal, so continue with the next candidate
+        index = next;
+        continue;
+      }
+      String key = buffer.substring(index + openlit.length(), close);
+      String value = replacements.get(key);
+      if (value != null) {
+        // remove the existing content
+        buffer.delete(index, close + closelit.length());
+        buffer.insert(index, value);
+        // this is advisable as the value might contain the key, so we're preventing a loop here
+        index += value.length();
+      } else {
+        // no replacement value found, so go on with the next candidate
+        index = close + closelit.length();
+      }
+      index = buffer.indexOf(openlit, index);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Returns <code>true</<code> if we're currently running under windows.
+   * 
+   * @return <code>true</code> <=> We're currently running under windows.
+   */
+  public static final boolean isWindows() {
+    return OS.toLowerCase().startsWith("windows");
+  }
+
+  /**
+   * Splits the supplied text into a list of lines. Only lines with content will be delivered. The returned list is
+   * allowed to be altered.
+   * 
+   * @param text
+   *          The text which has to be splitted. Not <code>null</code>.
+   * 
+   * @return The list of lines provided by the supplied text.
+   */
+  public static final List<String> splitText(String text) {
+    return splitText(text, false);
+  }
+
+  /**
+   * Splits the supplied text into a list of lines. Only lines with content will be delivered. The returned list is
+   * allowed to be altered.
+   * 
+   * @param text
+   *          The text which has to be splitted. Not <code>null</code>.
+   * @param incall
+   *          <code>true</code> <=> Include all lines.
+   * 
+   * @return The list of lines provided by the supplied text.
+   */
+  public static final List<String> splitText(String text, boolean incall) {
+    List<String> result = new ArrayList<String>();
+    BufferedReader reader = new BufferedReader(new StringReader(text));
+    try {
+      String line = reader.readLine();
+      while (line != null) {
+        if (incall || (Utilities.cleanup(line) != null)) {
+          result.add(line);
+        }
+        line = reader.readLine();
+      }
+    } catch (IOException ex) {
+      // as we're only working within memory this shouldn't happen
+      throw new Ant4EclipseException(CoreExceptionCode.IO_FAILURE);
+    }
+    return result;
+  }
+
+  /**
+   * Simple Thread extension that copies content from an InputStream into StringBuffer.
+   * 
+   * @author Daniel Kasmeroglu
+   */
+  private static final class OutputCopier extends Thread {
+
+    private BufferedReader _source;
+
+    private StringBuffer   _receiver;
+
+    /**
+     * Initalises this copiying process.
+     * 
+     * @param instream
+     *          The stream which provides the content. Not <code>null</code>.
+     * @param dest
+     *          The destination buffer used to get the output. Maybe <code>null</code>.
+     * @param encoding
+     *          The encoding to be used while accessing the strem. Not <code>null</code>.
+     */
+    public OutputCopier(InputStream instream, StringBuffer dest, String encoding) throws UnsupportedEncodingException {
+      if (encoding == null) {
+        encoding = ENCODING;
+      }
+      this._source = new BufferedReader(new InputStreamReader(instream, encoding));
+      this._receiver = dest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+      try {
+        String line = this._source.readLine();
+        while (line != null) {
+          this._receiver.append(line);
+          this._receiver.append(NL);
+          line = this._source.readLine();
+        }
+      } catch (IOException ex) {
+        /** @todo [06-Aug-2009:KASI] We might need something more precise here. */
+        throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+      }
+    }
+
+  } /* ENDCLASS */
+
+  /**
+   * <p>
+   * Map of canonical files with a limited size. One-off files (f.e. generated class files) don't let the map grow
+   * without bounds, they are dropped in the order of their last access. The map isn't synchronized.
+   * </p>
+   */
+  private static class CanonicalFiles extends LinkedHashMap<File, File> {
+
+    /** serialVersionUID */
+    private static final long serialVersionUID = 4425394823185637312L;
+
+    /** the maximum number of entries */
+    private int               _limit;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link CanonicalFiles}.
+     * </p>
+     * 
+     * @param limit
+     *          the maximum number of entries
+     */
+    public CanonicalFiles(int limit) {
+      super(16, 0.75f, true);
+      this._limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean removeEldestEntry(Entry<File, File> eldest) {
+      return size() > this._limit;
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
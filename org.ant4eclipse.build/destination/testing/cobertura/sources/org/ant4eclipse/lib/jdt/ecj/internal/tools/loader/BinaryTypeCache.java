@@ -0,0 +1,964 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj.internal.tools.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.Lifecycle;
+import org.ant4eclipse.lib.core.Revalidatable;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
+import org.ant4eclipse.lib.core.util.FileFingerprint;
+import org.ant4eclipse.lib.core.util.PerformanceLogging;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.jdt.ecj.EcjExceptionCodes;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryType;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * <p>
+ * Build-wide cache of the archives (jar files) used as class path entries and of the binary types read from archives
+ * and class files. Each archive is read once and its package names and binary types are shared by all compilations
+ * of a build, so projects with common class path entries (f.e. the JRE or a target platform) don't read the same
+ * binary types again.
+ * </p>
+ * <p>
+ * Binary types are identified by the location, modification time and size of their archive or class file, so a changed
+ * class is read again even if the file system only provides a coarse modification time. The most recently used binary
+ * types are kept as long as the size of their class files doesn't exceed the limit, which is a share of the maximum
+ * heap size by default. The binary types beyond the limit are only softly referenced, so they are read again if the
+ * memory runs short. The cache is thread safe and the binary types are immutable once they have been read, so they can
+ * be used by concurrent compilations.
+ * </p>
+ * <p>
+ * The number of opened jar files is limited. If the limit has been exceeded the least recently used jar files are
+ * closed and opened again as soon as they are accessed.
+ * </p>
+ */
+public class BinaryTypeCache implements Lifecycle, Revalidatable {
+
+  /** the default limit for the size of the class files of the strongly referenced binary types */
+  public static final long                            DEFAULT_LIMIT             = Runtime.getRuntime().maxMemory() / 8;
+
+  /** the default limit for the number of opened jar files */
+  public static final int                             DEFAULT_MAX_OPEN_ARCHIVES = 256;
+
+  /** the cache instance provided by the registry */
+  private static final ServiceHandle<BinaryTypeCache> INSTANCE                  = new ServiceHandle<BinaryTypeCache>(
+      BinaryTypeCache.class);
+
+  /** the shared archives (canonical file -> archive) */
+  private ConcurrentMap<File, Archive>   _archives;
+
+  /** the archives with an opened jar file in the order of their usage (guarded by itself) */
+  private LinkedHashMap<Archive, Archive> _openArchives;
+
+  /** the limit for the number of opened jar files */
+  private int                            _maxOpenArchives;
+
+  /** all binary types which have been read and not been collected yet */
+  private ConcurrentMap<Key, CachedType> _binaryTypes;
+
+  /** the queue receiving the binary types which have been collected */
+  private ReferenceQueue<IBinaryType>    _collected;
+
+  /** the strongly referenced binary types in the order of their usage (guarded by itself) */
+  private LinkedHashMap<Key, CachedType> _recentTypes;
+
+  /** the limit for the size of the class files of the strongly referenced binary types */
+  private long                           _limit;
+
+  /** the size of the class files of the strongly referenced binary types (guarded by _recentTypes) */
+  private long                           _size;
+
+  /** the number of binary types which have been found in the cache */
+  private AtomicLong                     _hits;
+
+  /** the number of binary types which had to be read */
+  private AtomicLong                     _misses;
+
+  /** the number of binary types which are no longer strongly referenced because the limit has been exceeded */
+  private AtomicLong                     _evictions;
+
+  /** the number of jar files which have been opened */
+  private AtomicLong                     _opened;
+
+  /** - */
+  private boolean                        _initialized;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link BinaryTypeCache} using the {@link #DEFAULT_LIMIT}.
+   * </p>
+   */
+  public BinaryTypeCache() {
+    this(DEFAULT_LIMIT);
+  }
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link BinaryTypeCache}.
+   * </p>
+   *
+   * @param limit
+   *          The limit for the size of the class files of the strongly referenced binary types.
+   */
+  public BinaryTypeCache(long limit) {
+    this(limit, DEFAULT_MAX_OPEN_ARCHIVES);
+  }
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link BinaryTypeCache}.
+   * </p>
+   *
+   * @param limit
+   *          The limit for the size of the class files of the strongly referenced binary types.
+   * @param maxOpenArchives
+   *          The limit for the number of opened jar files. Must be greater than 0.
+   */
+  public BinaryTypeCache(long limit, int maxOpenArchives) {
+    Assure.assertTrue(maxOpenArchives > 0, "maxOpenArchives must be greater than 0");
+    this._limit = limit;
+    this._maxOpenArchives = maxOpenArchives;
+    this._archives = new ConcurrentHashMap<File, Archive>();
+    this._openArchives = new LinkedHashMap<Archive, Archive>(16, 0.75f, true);
+    this._binaryTypes = new ConcurrentHashMap<Key, CachedType>();
+    this._collected = new ReferenceQueue<IBinaryType>();
+    this._recentTypes = new LinkedHashMap<Key, CachedType>(16, 0.75f, true);
+    this._hits = new AtomicLong();
+    this._misses = new AtomicLong();
+    this._evictions = new AtomicLong();
+    this._opened = new AtomicLong();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isInitialized() {
+    return this._initialized;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void initialize() {
+    this._initialized = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void dispose() {
+    this._initialized = false;
+    PerformanceLogging.report(BinaryTypeCache.class, "binaryTypes",
+        "%d archives (%d jar files opened), %d hits, %d misses, %d evictions, %d of %d bytes used", Integer
+            .valueOf(this._archives.size()), Long.valueOf(getOpenedCount()), Long.valueOf(getHitCount()), Long
+            .valueOf(getMissCount()), Long.valueOf(getEvictionCount()), Long.valueOf(getSize()), Long
+            .valueOf(this._limit));
+    this._archives.clear();
+    // the opened jar files include those of replaced archives
+    for (Archive archive : getOpenArchives()) {
+      archive.close();
+    }
+    synchronized (this._recentTypes) {
+      this._recentTypes.clear();
+      this._size = 0;
+    }
+    this._binaryTypes.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * Archives which have been changed since they've been opened are removed and closed. A cached class file loader
+   * which still uses such an archive opens its jar file again.
+   * </p>
+   */
+  public void revalidate() {
+    Iterator<Archive> iterator = this._archives.values().iterator();
+    while (iterator.hasNext()) {
+      Archive archive = iterator.next();
+      if (!archive.isUpToDate()) {
+        iterator.remove();
+        archive.close();
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the shared archive for the supplied jar file. The archive is opened again if the file has been changed
+   * since it has been opened.
+   * </p>
+   *
+   * @param file
+   *          The jar file. Not <code>null</code>.
+   *
+   * @return The shared archive. Not <code>null</code>.
+   */
+  public Archive getArchive(File file) {
+    Assure.isFile("file", file);
+    File key = Utilities.getCanonicalFile(file);
+    Archive result = this._archives.get(key);
+    if ((result == null) || (!result.isUpToDate())) {
+      Archive outdated = null;
+      synchronized (this) {
+        result = this._archives.get(key);
+        if ((result == null) || (!result.isUpToDate())) {
+          outdated = result;
+          result = new Archive(this, key);
+          this._archives.put(key, result);
+        }
+      }
+      if (outdated != null) {
+        // a running compilation still using the outdated archive opens its jar file again
+        outdated.close();
+      }
+      closeExcessArchives();
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Releases the shared archive of a jar file which is no longer needed and closes its jar file. A running
+   * compilation which still uses the archive opens the jar file again, so it's closed later on like any other jar file
+   * exceeding the limit.
+   * </p>
+   *
+   * @param file
+   *          The jar file. Not <code>null</code>.
+   */
+  public void release(File file) {
+    Assure.notNull("file", file);
+    Archive archive = this._archives.remove(Utilities.getCanonicalFile(file));
+    if (archive != null) {
+      archive.close();
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the binary type of a class file. The binary type is read again if the class file has been changed.
+   * </p>
+   *
+   * @param classfile
+   *          The class file. Not <code>null</code>.
+   *
+   * @return The binary type. Not <code>null</code>.
+   *
+   * @throws ClassFormatException
+   *           The class file is invalid.
+   * @throws IOException
+   *           The class file could not be read.
+   */
+  public IBinaryType getBinaryType(File classfile) throws ClassFormatException, IOException {
+    Assure.notNull("classfile", classfile);
+    Key key = new Key(classfile.getPath(), classfile.lastModified(), classfile.length(), "");
+    IBinaryType result = lookup(key);
+    if (result == null) {
+      byte[] bytes = Util.getFileByteContent(classfile);
+      result = BinaryTypes.read(bytes, classfile.getAbsolutePath());
+      store(key, result, bytes.length);
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Returns the number of opened archives.
+   * </p>
+   *
+   * @return The number of opened archives.
+   */
+  public int getArchiveCount() {
+    return this._archives.size();
+  }
+
+  /**
+   * <p>
+   * Returns the number of opened jar files.
+   * </p>
+   *
+   * @return The number of opened jar files.
+   */
+  public int getOpenArchiveCount() {
+    synchronized (this._openArchives) {
+      return this._openArchives.size();
+    }
+  }
+
+  /**
+   * <p>
+   * Returns how often jar files have been opened (including jar files which have been opened again).
+   * </p>
+   *
+   * @return How often jar files have been opened.
+   */
+  public long getOpenedCount() {
+    return this._opened.get();
+  }
+
+  /**
+   * <p>
+   * Returns the number of binary types which have been found in the cache.
+   * </p>
+   *
+   * @return The number of binary types which have been found in the cache.
+   */
+  public long getHitCount() {
+    return this._hits.get();
+  }
+
+  /**
+   * <p>
+   * Returns the number of binary types which had to be read.
+   * </p>
+   *
+   * @return The number of binary types which had to be read.
+   */
+  public long getMissCount() {
+    return this._misses.get();
+  }
+
+  /**
+   * <p>
+   * Returns the number of binary types which are no longer strongly referenced because the limit has been exceeded.
+   * </p>
+   *
+   * @return The number of evicted binary types.
+   */
+  public long getEvictionCount() {
+    return this._evictions.get();
+  }
+
+  /**
+   * <p>
+   * Returns the size of the class files of the strongly referenced binary types.
+   * </p>
+   *
+   * @return The size of the class files of the strongly referenced binary types.
+   */
+  public long getSize() {
+    synchronized (this._recentTypes) {
+      return this._size;
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the instance provided by the registry.
+   * </p>
+   *
+   * @return The instance provided by the registry. Not <code>null</code>.
+   */
+  public static BinaryTypeCache getInstance() {
+    return INSTANCE.get();
+  }
+
+  /**
+   * <p>
+   * Marks an archive as opened and recently used. The caller has to hold the lock of the archive.
+   * </p>
+   *
+   * @param archive
+   *          The archive with an opened jar file. Not <code>null</code>.
+   * @param opened
+   *          <code>true</code> if the jar file has just been opened.
+   */
+  private void used(Archive archive, boolean opened) {
+    if (opened) {
+      this._opened.incrementAndGet();
+    }
+    synchronized (this._openArchives) {
+      this._openArchives.put(archive, archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Marks an archive as closed. The caller has to hold the lock of the archive.
+   * </p>
+   *
+   * @param archive
+   *          The archive with a closed jar file. Not <code>null</code>.
+   */
+  private void closed(Archive archive) {
+    synchronized (this._openArchives) {
+      this._openArchives.remove(archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the archives with an opened jar file.
+   * </p>
+   *
+   * @return The archives with an opened jar file. Not <code>null</code>.
+   */
+  private List<Archive> getOpenArchives() {
+    synchronized (this._openArchives) {
+      return new ArrayList<Archive>(this._openArchives.keySet());
+    }
+  }
+
+  /**
+   * <p>
+   * Closes the least recently used jar files if the limit for the number of opened jar files has been exceeded. The
+   * caller must not hold the lock of any archive, since the archives are locked while they are closed.
+   * </p>
+   */
+  private void closeExcessArchives() {
+    List<Archive> excess;
+    synchronized (this._openArchives) {
+      int count = this._openArchives.size() - this._maxOpenArchives;
+      if (count <= 0) {
+        return;
+      }
+      excess = new ArrayList<Archive>(count);
+      Iterator<Archive> iterator = this._openArchives.keySet().iterator();
+      while ((count-- > 0) && iterator.hasNext()) {
+        excess.add(iterator.next());
+      }
+    }
+    for (Archive archive : excess) {
+      archive.close();
+    }
+  }
+
+  /**
+   * <p>
+   * Returns a cached binary type and marks it as recently used.
+   * </p>
+   *
+   * @param key
+   *          The key of the binary type. Not <code>null</code>.
+   *
+   * @return The binary type or <code>null</code> if it has to be read.
+   */
+  private IBinaryType lookup(Key key) {
+    CachedType cached = this._binaryTypes.get(key);
+    IBinaryType result = cached != null ? cached.get() : null;
+    if (result == null) {
+      this._misses.incrementAndGet();
+      return null;
+    }
+    this._hits.incrementAndGet();
+    synchronized (this._recentTypes) {
+      if (this._recentTypes.get(key) == null) {
+        // the binary type has been evicted but not collected, so it's strongly referenced again
+        add(key, cached, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Stores a binary type which has been read.
+   * </p>
+   *
+   * @param key
+   *          The key of the binary type. Not <code>null</code>.
+   * @param binaryType
+   *          The binary type. Not <code>null</code>.
+   * @param weight
+   *          The size of the class file.
+   */
+  private void store(Key key, IBinaryType binaryType, int weight) {
+    purge();
+    // concurrent reads of the same class file are harmless since they create equal binary types
+    CachedType cached = new CachedType(key, binaryType, weight, this._collected);
+    this._binaryTypes.put(key, cached);
+    synchronized (this._recentTypes) {
+      CachedType previous = this._recentTypes.remove(key);
+      if (previous != null) {
+        previous._binaryType = null;
+        this._size -= previous._weight;
+      }
+      add(key, cached, binaryType);
+    }
+  }
+
+  /**
+   * <p>
+   * Strongly references a binary type and evicts the least recently used binary types if the limit has been exceeded.
+   * The caller has to hold the lock of <code>_recentTypes</code>.
+   * </p>
+   *
+   * @param key
+   *          The key of the binary type. Not <code>null</code>.
+   * @param cached
+   *          The cached binary type. Not <code>null</code>.
+   * @param binaryType
+   *          The binary type. Not <code>null</code>.
+   */
+  private void add(Key key, CachedType cached, IBinaryType binaryType) {
+    cached._binaryType = binaryType;
+    this._recentTypes.put(key, cached);
+    this._size += cached._weight;
+    Iterator<CachedType> iterator = this._recentTypes.values().iterator();
+    while ((this._size > this._limit) && iterator.hasNext()) {
+      CachedType eldest = iterator.next();
+      iterator.remove();
+      eldest._binaryType = null;
+      this._size -= eldest._weight;
+      this._evictions.incrementAndGet();
+    }
+  }
+
+  /**
+   * <p>
+   * Removes the binary types which have been collected.
+   * </p>
+   */
+  private void purge() {
+    CachedType collected = (CachedType) this._collected.poll();
+    while (collected != null) {
+      this._binaryTypes.remove(collected._key, collected);
+      collected = (CachedType) this._collected.poll();
+    }
+  }
+
+  /**
+   * <p>
+   * A shared jar file together with its package names. The binary types read from the jar file are kept by the owning
+   * cache. The jar file is opened on demand, so it can be closed by the owning cache at any time.
+   * </p>
+   */
+  public static class Archive {
+
+    /** the cache which owns this archive */
+    private BinaryTypeCache _owner;
+
+    /** the jar file */
+    private File            _file;
+
+    /** the location of the jar file */
+    private String          _location;
+
+    /** the identity of the jar file when it has been opened (guarded by this) */
+    private FileFingerprint _fingerprint;
+
+    /** the modification time of the jar file when it has been opened (guarded by this) */
+    private long            _timestamp;
+
+    /** the size of the jar file when it has been opened (guarded by this) */
+    private long            _length;
+
+    /** the opened jar file or <code>null</code> if it has been closed (guarded by this) */
+    private ZipFile         _zipFile;
+
+    /** the names of all packages including their parent packages (guarded by this) */
+    private String[]        _packages;
+
+    /**
+     * <p>
+     * Opens the supplied jar file.
+     * </p>
+     *
+     * @param owner
+     *          The cache which owns this archive. Not <code>null</code>.
+     * @param file
+     *          The jar file. Not <code>null</code>.
+     */
+    Archive(BinaryTypeCache owner, File file) {
+      this._owner = owner;
+      this._file = file;
+      this._location = file.getPath();
+      synchronized (this) {
+        open();
+      }
+    }
+
+    /**
+     * <p>
+     * Returns the location of the jar file.
+     * </p>
+     *
+     * @return The location of the jar file. Not <code>null</code>.
+     */
+    public String getLocation() {
+      return this._location;
+    }
+
+    /**
+     * <p>
+     * Returns the names of the packages that contain entries together with all their parent packages.
+     * </p>
+     *
+     * @return The names of the packages. Not <code>null</code>.
+     */
+    public synchronized String[] getPackages() {
+      String[] result = new String[this._packages.length];
+      System.arraycopy(this._packages, 0, result, 0, result.length);
+      return result;
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> if the jar file contains the supplied entry.
+     * </p>
+     *
+     * @param entryName
+     *          The name of the entry. Neither <code>null</code> nor empty.
+     *
+     * @return <code>true</code> <=> The jar file contains the supplied entry.
+     */
+    public boolean hasEntry(String entryName) {
+      try {
+        synchronized (this) {
+          return open().getEntry(entryName) != null;
+        }
+      } finally {
+        this._owner.closeExcessArchives();
+      }
+    }
+
+    /**
+     * <p>
+     * Returns the content of an entry.
+     * </p>
+     *
+     * @param entryName
+     *          The name of the entry. Neither <code>null</code> nor empty.
+     *
+     * @return The content of the entry. Not <code>null</code>.
+     *
+     * @throws IOException
+     *           The entry could not be read.
+     */
+    public byte[] getBytes(String entryName) throws IOException {
+      try {
+        synchronized (this) {
+          ZipFile zipFile = open();
+          return Util.getZipEntryByteContent(zipFile.getEntry(entryName), zipFile);
+        }
+      } finally {
+        this._owner.closeExcessArchives();
+      }
+    }
+
+    /**
+     * <p>
+     * Returns the binary type of a class file entry. The binary type is shared through the owning cache.
+     * </p>
+     *
+     * @param entryName
+     *          The name of the class file entry. Neither <code>null</code> nor empty.
+     *
+     * @return The binary type or <code>null</code> if there's no such entry.
+     *
+     * @throws ClassFormatException
+     *           The class file is invalid.
+     * @throws IOException
+     *           The class file could not be read.
+     */
+    public IBinaryType getBinaryType(String entryName) throws ClassFormatException, IOException {
+      Key key;
+      byte[] bytes;
+      try {
+        synchronized (this) {
+          ZipFile zipFile = open();
+          key = new Key(this._location, this._timestamp, this._length, entryName);
+          IBinaryType result = this._owner.lookup(key);
+          if (result != null) {
+            return result;
+          }
+          ZipEntry zipEntry = zipFile.getEntry(entryName);
+          if (zipEntry == null) {
+            return null;
+          }
+          bytes = Util.getZipEntryByteContent(zipEntry, zipFile);
+        }
+      } finally {
+        this._owner.closeExcessArchives();
+      }
+      // the binary type is created without holding the lock, so other compilations can read the jar file meanwhile
+      IBinaryType result = BinaryTypes.read(bytes, entryName);
+      this._owner.store(key, result, bytes.length);
+      return result;
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> if the jar file hasn't been changed since it has been opened.
+     * </p>
+     *
+     * @return <code>true</code> <=> The jar file hasn't been changed since it has been opened.
+     */
+    public synchronized boolean isUpToDate() {
+      return this._fingerprint.isUpToDate();
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> if the jar file is currently opened.
+     * </p>
+     *
+     * @return <code>true</code> <=> The jar file is currently opened.
+     */
+    public synchronized boolean isOpen() {
+      return this._zipFile != null;
+    }
+
+    /**
+     * <p>
+     * Returns the opened jar file and opens it if it has been closed. The package names are read again if the jar file
+     * has been changed meanwhile, so the binary types of the changed jar file aren't mixed up with the former ones. The
+     * caller has to hold the lock of this archive.
+     * </p>
+     *
+     * @return The opened jar file. Not <code>null</code>.
+     */
+    private ZipFile open() {
+      boolean opened = false;
+      if (this._zipFile == null) {
+        if ((this._fingerprint == null) || (!this._fingerprint.isUpToDate())) {
+          this._fingerprint = new FileFingerprint(this._file);
+          this._timestamp = this._file.lastModified();
+          this._length = this._file.length();
+          this._packages = null;
+        }
+        try {
+          this._zipFile = new ZipFile(this._file);
+        } catch (IOException e) {
+          throw new Ant4EclipseException(EcjExceptionCodes.COULD_NOT_CREATE_JAR_FILE_FROM_FILE_EXCEPTION, this._file
+              .getAbsolutePath());
+        }
+        if (this._packages == null) {
+          this._packages = readPackages(this._zipFile);
+        }
+        opened = true;
+      }
+      this._owner.used(this, opened);
+      return this._zipFile;
+    }
+
+    /**
+     * <p>
+     * Closes the jar file. It will be opened again as soon as it's accessed.
+     * </p>
+     */
+    synchronized void close() {
+      if (this._zipFile != null) {
+        try {
+          this._zipFile.close();
+        } catch (IOException ex) {
+          // nothing to do here...
+        }
+        this._zipFile = null;
+        this._owner.closed(this);
+      }
+    }
+
+    /**
+     * <p>
+     * Returns all the names of the packages that are contained in the supplied jar file. The package list contains the
+     * packages that contain classes as well as all parent packages of those.
+     * </p>
+     *
+     * @param zipFile
+     *          The jar file. Not <code>null</code>.
+     *
+     * @return The names of the packages. Not <code>null</code>.
+     */
+    private static String[] readPackages(ZipFile zipFile) {
+      Set<String> result = new LinkedHashSet<String>();
+      Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+      while (enumeration.hasMoreElements()) {
+        ZipEntry zipEntry = enumeration.nextElement();
+
+        // the directory name is the name of a directory entry or has to be computed otherwise
+        String name = zipEntry.getName();
+        int splitIndex = name.lastIndexOf('/');
+
+        // there's no directory if a top level entry is processed
+        if (splitIndex > 0) {
+          // add the package with all its parent packages
+          String packageName = name.substring(0, splitIndex).replace('/', '.');
+          while (result.add(packageName)) {
+            int idx = packageName.lastIndexOf('.');
+            if (idx == -1) {
+              break;
+            }
+            packageName = packageName.substring(0, idx);
+          }
+        }
+      }
+      return result.toArray(new String[result.size()]);
+    }
+
+  } /* ENDCLASS */
+
+  /**
+   * <p>
+   * Creates the binary types. The compiler classes are only referenced from here, so the cache can be loaded (f.e. by
+   * the registry) without the compiler being available.
+   * </p>
+   */
+  private static class BinaryTypes {
+
+    /**
+     * <p>
+     * Reads a binary type.
+     * </p>
+     *
+     * @param bytes
+     *          The content of the class file. Not <code>null</code>.
+     * @param fileName
+     *          The name of the class file. Not <code>null</code>.
+     *
+     * @return The fully initialized binary type. Not <code>null</code>.
+     *
+     * @throws ClassFormatException
+     *           The class file is invalid.
+     */
+    public static IBinaryType read(byte[] bytes, String fileName) throws ClassFormatException {
+      return new ClassFileReader(bytes, fileName.toCharArray(), true);
+    }
+
+  } /* ENDCLASS */
+
+  /**
+   * <p>
+   * Identifies a binary type by the location, modification time and size of its archive or class file and its entry
+   * name.
+   * </p>
+   */
+  private static class Key {
+
+    /** the location of the archive or class file */
+    private String _location;
+
+    /** the modification time of the archive or class file */
+    private long   _timestamp;
+
+    /** the size of the archive or class file */
+    private long   _length;
+
+    /** the name of the entry within the archive or an empty string for a class file */
+    private String _entryName;
+
+    /** the precomputed hash code */
+    private int    _hashcode;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link Key}.
+     * </p>
+     *
+     * @param location
+     *          The location of the archive or class file. Not <code>null</code>.
+     * @param timestamp
+     *          The modification time of the archive or class file.
+     * @param length
+     *          The size of the archive or class file.
+     * @param entryName
+     *          The name of the entry. Not <code>null</code>.
+     */
+    public Key(String location, long timestamp, long length, String entryName) {
+      this._location = location;
+      this._timestamp = timestamp;
+      this._length = length;
+      this._entryName = entryName;
+      int result = 31 + location.hashCode();
+      result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+      result = 31 * result + (int) (length ^ (length >>> 32));
+      this._hashcode = 31 * result + entryName.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return this._hashcode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if ((obj == null) || (obj.getClass() != getClass())) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return (this._hashcode == other._hashcode) && (this._timestamp == other._timestamp)
+          && (this._length == other._length) && this._entryName.equals(other._entryName) && this._location.equals(other._location);
+    }
+
+  } /* ENDCLASS */
+
+  /**
+   * <p>
+   * A softly referenced binary type which is strongly referenced as well as long as it has been used recently.
+   * </p>
+   */
+  private static class CachedType extends SoftReference<IBinaryType> {
+
+    /** the key of the binary type */
+    private Key         _key;
+
+    /** the size of the class file */
+    private int         _weight;
+
+    /** the binary type while it's strongly referenced (guarded by _recentTypes) */
+    private IBinaryType _binaryType;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link CachedType}.
+     * </p>
+     *
+     * @param key
+     *          The key of the binary type. Not <code>null</code>.
+     * @param binaryType
+     *          The binary type. Not <code>null</code>.
+     * @param weight
+     *          The size of the class file.
+     * @param queue
+     *          The queue receiving the collected binary types. Not <code>null</code>.
+     */
+    public CachedType(Key key, IBinaryType binaryType, int weight, ReferenceQueue<IBinaryType> queue) {
+      super(binaryType, queue);
+      this._key = key;
+      this._weight = weight;
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
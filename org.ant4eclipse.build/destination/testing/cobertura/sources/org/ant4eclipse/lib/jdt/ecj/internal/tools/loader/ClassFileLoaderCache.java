@@ -0,0 +1,410 @@
+package org.ant4eclipse.lib.jdt.ecj.internal.tools.loader;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.ant4eclipse.lib.core.Lifecycle;
+import org.ant4eclipse.lib.core.Revalidatable;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
+import org.ant4eclipse.lib.core.util.FileFingerprint;
+import org.ant4eclipse.lib.jdt.ecj.ClassFileLoader;
+
+/**
+ * <p>
+ * Build-wide cache of the class file loaders for archives. The weight of a class file loader is the number of its
+ * packages. If the total weight exceeds the limit the least recently used class file loaders are evicted and the
+ * archives which are no longer used by any cached class file loader are released.
+ * </p>
+ *
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ * @author Nils Hartmann
+ */
+public class ClassFileLoaderCache implements Lifecycle, Revalidatable {
+
+  /** the cache instance provided by the registry */
+  private static final ServiceHandle<ClassFileLoaderCache> INSTANCE = new ServiceHandle<ClassFileLoaderCache>(
+      ClassFileLoaderCache.class);
+
+  /**
+   * The default limit for the total weight of the cached class file loaders: one package per four kilobytes of the
+   * maximum heap size
+   */
+  public static final long                    DEFAULT_LIMIT = Math.max(1024, Runtime.getRuntime().maxMemory() >> 12);
+
+  /**
+   * System-Property that enables tracing of the cache. <b>This is very verbose!</b>
+   */
+  private static final boolean                TRACE_CACHE   = Boolean
+                                                                  .getBoolean("ant4eclipse.traceClassFileLoaderCache");
+
+  /** the cached class file loaders in the order of their usage (guarded by itself) */
+  private LinkedHashMap<Object, CachedLoader> _classFileLoaders;
+
+  /** the number of cached class file loaders using each archive (guarded by _classFileLoaders) */
+  private Map<File, Integer>                  _archiveUsages;
+
+  /** the total weight of the cached class file loaders (guarded by _classFileLoaders) */
+  private long                                _weight;
+
+  /** the limit for the total weight of the cached class file loaders */
+  private long                                _limit;
+
+  /**
+   * Hit counter
+   */
+  private AtomicLong                          _hits;
+
+  /**
+   * Miss counter
+   */
+  private AtomicLong                          _missed;
+
+  /**
+   * Eviction counter
+   */
+  private AtomicLong                          _evictions;
+
+  /** - */
+  private boolean                             _initialized;
+
+  /**
+   * <p>
+   * Creates a new instance of type ClassFileLoaderCache using the {@link #DEFAULT_LIMIT}.
+   * </p>
+   */
+  public ClassFileLoaderCache() {
+    this(DEFAULT_LIMIT);
+  }
+
+  /**
+   * <p>
+   * Creates a new instance of type ClassFileLoaderCache.
+   * </p>
+   *
+   * @param limit
+   *          the limit for the total weight of the cached class file loaders
+   */
+  public ClassFileLoaderCache(long limit) {
+    this._limit = limit;
+    this._classFileLoaders = new LinkedHashMap<Object, CachedLoader>(16, 0.75f, true);
+    this._archiveUsages = new HashMap<File, Integer>();
+    this._hits = new AtomicLong();
+    this._missed = new AtomicLong();
+    this._evictions = new AtomicLong();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isInitialized() {
+    return this._initialized;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void initialize() {
+    this._initialized = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void dispose() {
+    this._initialized = false;
+    dump();
+  }
+
+  /**
+   * <p>
+   * </p>
+   */
+  public void clear() {
+    synchronized (this._classFileLoaders) {
+      this._classFileLoaders.clear();
+      this._archiveUsages.clear();
+      this._weight = 0;
+    }
+    this._hits.set(0);
+    this._missed.set(0);
+    this._evictions.set(0);
+  }
+
+  /**
+   * <p>
+   * Stores a class file loader. Only class file loaders for existing archives are stored as the content of directories
+   * can't be validated cheaply. The least recently used class file loaders are evicted if the limit has been exceeded.
+   * </p>
+   *
+   * @param key
+   * @param classFileLoader
+   */
+  public void storeClassFileLoader(Object key, ClassFileLoader classFileLoader) {
+    File[] classpath = classFileLoader.getClasspath();
+    if (!isArchives(classpath)) {
+      if (TRACE_CACHE) {
+        A4ELogging.debug("Skipped ClassFileLoader for: '" + key + "' -> " + classFileLoader);
+      }
+      return;
+    }
+    if (TRACE_CACHE) {
+      A4ELogging.debug("Store ClassFileLoader in cache for: '" + key + "' -> " + classFileLoader);
+      A4ELogging.debug("  Packages: " + Arrays.asList(classFileLoader.getAllPackages()));
+    }
+    CachedLoader cached = new CachedLoader(classFileLoader, new FileFingerprint(classpath), Math.max(1,
+        classFileLoader.getAllPackages().length));
+    synchronized (this._classFileLoaders) {
+      // the archives of the replaced class file loader are not released if they are still used
+      CachedLoader previous = this._classFileLoaders.put(key, cached);
+      add(cached);
+      if (previous != null) {
+        remove(previous);
+      }
+
+      // evict the least recently used class file loaders except the one that has just been stored
+      Iterator<CachedLoader> iterator = this._classFileLoaders.values().iterator();
+      while ((this._weight > this._limit) && iterator.hasNext()) {
+        CachedLoader eldest = iterator.next();
+        if (eldest == cached) {
+          break;
+        }
+        iterator.remove();
+        remove(eldest);
+        this._evictions.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if all supplied class path entries are existing archives.
+   * </p>
+   *
+   * @param classpath
+   *          the class path entries
+   * @return <code>true</code> <=> all class path entries are existing archives.
+   */
+  private static boolean isArchives(File[] classpath) {
+    for (File entry : classpath) {
+      if (!entry.isFile()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * <p>
+   * Registers the weight and the archives of a cached class file loader. The caller has to hold the lock of
+   * <code>_classFileLoaders</code>.
+   * </p>
+   *
+   * @param cached
+   *          the cached class file loader
+   */
+  private void add(CachedLoader cached) {
+    this._weight += cached._weight;
+    for (File archive : cached._fingerprint.getFiles()) {
+      Integer usages = this._archiveUsages.get(archive);
+      this._archiveUsages.put(archive, Integer.valueOf(usages != null ? usages.intValue() + 1 : 1));
+    }
+  }
+
+  /**
+   * <p>
+   * Unregisters the weight and the archives of a class file loader which has been removed. Archives which are no longer
+   * used by any cached class file loader are released and their jar files are closed. The caller has to hold the lock
+   * of <code>_classFileLoaders</code>.
+   * </p>
+   *
+   * @param cached
+   *          the removed class file loader
+   */
+  private void remove(CachedLoader cached) {
+    this._weight -= cached._weight;
+    List<File> released = new ArrayList<File>();
+    for (File archive : cached._fingerprint.getFiles()) {
+      Integer usages = this._archiveUsages.get(archive);
+      if ((usages == null) || (usages.intValue() <= 1)) {
+        this._archiveUsages.remove(archive);
+        released.add(archive);
+      } else {
+        this._archiveUsages.put(archive, Integer.valueOf(usages.intValue() - 1));
+      }
+    }
+    for (File archive : released) {
+      BinaryTypeCache.getInstance().release(archive);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * Class file loaders for archives are kept as long as none of the archives has been changed.
+   * </p>
+   */
+  public void revalidate() {
+    synchronized (this._classFileLoaders) {
+      Iterator<CachedLoader> iterator = this._classFileLoaders.values().iterator();
+      while (iterator.hasNext()) {
+        CachedLoader cached = iterator.next();
+        if (!cached._fingerprint.isUpToDate()) {
+          iterator.remove();
+          remove(cached);
+        }
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * </p>
+   *
+   * @param key
+   * @return
+   */
+  public ClassFileLoader getClassFileLoader(Object key) {
+    CachedLoader cached;
+    synchronized (this._classFileLoaders) {
+      cached = this._classFileLoaders.get(key);
+    }
+    if (cached != null) {
+      this._hits.incrementAndGet();
+      if (TRACE_CACHE) {
+        A4ELogging.debug("Got ClassFileLoader from cache for: " + key);
+      }
+      return cached._classFileLoader;
+    }
+    this._missed.incrementAndGet();
+    if (TRACE_CACHE) {
+      A4ELogging.debug("Missed ClassFileLoader in cache for: " + key);
+    }
+    return null;
+  }
+
+  /**
+   * <p>
+   * </p>
+   *
+   * @param key
+   * @return
+   */
+  public boolean hasClassFileLoader(Object key) {
+    synchronized (this._classFileLoaders) {
+      return this._classFileLoaders.containsKey(key);
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the number of cached class file loaders.
+   * </p>
+   *
+   * @return the number of cached class file loaders
+   */
+  public int getSize() {
+    synchronized (this._classFileLoaders) {
+      return this._classFileLoaders.size();
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the total weight of the cached class file loaders.
+   * </p>
+   *
+   * @return the total weight of the cached class file loaders
+   */
+  public long getWeight() {
+    synchronized (this._classFileLoaders) {
+      return this._weight;
+    }
+  }
+
+  /**
+   * @return the number of class file loaders which have been found in the cache
+   */
+  public long getHitCount() {
+    return this._hits.get();
+  }
+
+  /**
+   * @return the number of class file loaders which have not been found in the cache
+   */
+  public long getMissCount() {
+    return this._missed.get();
+  }
+
+  /**
+   * @return the number of class file loaders which have been evicted because the limit has been exceeded
+   */
+  public long getEvictionCount() {
+    return this._evictions.get();
+  }
+
+  /**
+   * Dumps a summary of the ClassFileLoaderCache via A4ELogging. The cached entries are only dumped if tracing is
+   * enabled.
+   */
+  public void dump() {
+    synchronized (this._classFileLoaders) {
+      A4ELogging.info("ClassFileLoaderCache: %d entries (weight %d of %d), %d hits, %d misses, %d evictions", Integer
+          .valueOf(this._classFileLoaders.size()), Long.valueOf(this._weight), Long.valueOf(this._limit), Long
+          .valueOf(getHitCount()), Long.valueOf(getMissCount()), Long.valueOf(getEvictionCount()));
+      if (TRACE_CACHE) {
+        for (Map.Entry<Object, CachedLoader> entry : this._classFileLoaders.entrySet()) {
+          A4ELogging.debug("  %s -> %d packages", entry.getKey(), Integer.valueOf(entry.getValue()._weight));
+        }
+      }
+    }
+  }
+
+  public static ClassFileLoaderCache getInstance() {
+    return INSTANCE.get();
+  }
+
+  /**
+   * <p>
+   * A cached class file loader together with the fingerprint of its archives and its weight.
+   * </p>
+   */
+  private static class CachedLoader {
+
+    /** the class file loader */
+    private ClassFileLoader _classFileLoader;
+
+    /** the fingerprint of the archives of the class file loader */
+    private FileFingerprint _fingerprint;
+
+    /** the weight of the class file loader */
+    private int             _weight;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link CachedLoader}.
+     * </p>
+     *
+     * @param classFileLoader
+     *          the class file loader
+     * @param fingerprint
+     *          the fingerprint of the archives of the class file loader
+     * @param weight
+     *          the weight of the class file loader
+     */
+    public CachedLoader(ClassFileLoader classFileLoader, FileFingerprint fingerprint, int weight) {
+      this._classFileLoader = classFileLoader;
+      this._fingerprint = fingerprint;
+      this._weight = weight;
+    }
+
+  }
+}
@@ -0,0 +1,34 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.tools.classpathelements;
+
+/**
+ * <p>
+ * Defines the common interface for a class path element that must be resolved during the resolution process.
+ * </p>
+ * <p>
+ * This interface is <b>not</b> intended to be implemented by clients.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public interface ClassPathElement {
+
+  /**
+   * <p>
+   * Returns the name of the class path container.
+   * </p>
+   * 
+   * @return the name the name of the class path container
+   */
+  String getName();
+}
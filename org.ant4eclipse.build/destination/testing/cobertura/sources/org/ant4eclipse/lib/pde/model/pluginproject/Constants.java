@@ -0,0 +1,35 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.pluginproject;
+
+/**
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public interface Constants {
+
+  String FEATURE_MANIFEST           = "feature.xml";
+
+  String OSGI_BUNDLE_MANIFEST       = "META-INF/MANIFEST.MF";
+
+  String BUNDLE_SYMBOLICNAME        = "Bundle-SymbolicName";
+
+  String SYSTEM_BUNDLE_SYMBOLICNAME = "system.bundle";
+
+  String PROP_OS                    = "osgi.os";             //$NON-NLS-1$
+
+  String PROP_WS                    = "osgi.ws";             //$NON-NLS-1$
+
+  String PROP_NL                    = "osgi.nl";             //$NON-NLS-1$
+
+  String PROP_ARCH                  = "osgi.arch";           //$NON-NLS-1$
+
+}
@@ -0,0 +1,31 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.product;
+
+/**
+ * <p>
+ * A constant allowing to identify operating system specific values.
+ * </p>
+ * 
+ * @author Daniel Kasmeroglu (Daniel.Kasmeroglu@Kasisoft.net)
+ */
+public enum ProductOs {
+  /** - */
+  win32,
+  /** - */
+  solaris,
+  /** - */
+  linux,
+  /** - */
+  macosx
+
+} /* ENDENUM */
\ No newline at end of file
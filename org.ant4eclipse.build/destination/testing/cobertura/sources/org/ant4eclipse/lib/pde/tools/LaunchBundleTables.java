@@ -0,0 +1,304 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.tools;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.osgi.BundleLayoutResolver;
+import org.ant4eclipse.lib.jdt.model.project.JavaProjectRole;
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesResolver;
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesResolver.BundleDependency;
+import org.ant4eclipse.lib.pde.internal.tools.UnresolvedBundleException;
+import org.ant4eclipse.lib.pde.model.pluginproject.BundleSource;
+import org.ant4eclipse.lib.pde.model.pluginproject.PluginProjectRole;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Provides the bundle tables of a PDE JUnit launch: the content of the <code>bundles.info</code> file, the
+ * <code>osgi.bundles</code> property, the <code>dev.properties</code> file and the class path of the
+ * <code>pde.test.utils</code> bundle.
+ * </p>
+ * <p>
+ * The tables are computed within a single pass over the selected bundles and are shared by all launches of a build.
+ * They are cached for each target platform by the bundle selection of the launch configuration and are computed again
+ * as soon as the target platform has been resolved again.
+ * </p>
+ */
+public class LaunchBundleTables {
+
+  /** the format of a selected bundle: <code>symbolicName@startLevel:autoStart</code> */
+  private static final Pattern BUNDLE_ENTRY = Pattern.compile("(.*)@(.*):(.*)");
+
+  /** the tables for each target platform, keyed by the bundle selection */
+  private static final Map<TargetPlatform, Map<String, LaunchBundleTables>> CACHE =
+      new WeakHashMap<TargetPlatform, Map<String, LaunchBundleTables>>();
+
+  /** the resolution stamp of the target platform the tables have been computed for */
+  private long   _resolutionStamp;
+
+  /** the content of the 'bundles.info' file */
+  private String _bundlesInfo;
+
+  /** the value of the 'osgi.bundles' property */
+  private String _osgiBundles;
+
+  /** the content of the 'dev.properties' file */
+  private String _devProperties;
+
+  /** the class path of the 'pde.test.utils' bundle (maybe <code>null</code>) */
+  private String _collectorClassPath;
+
+  /**
+   * <p>
+   * Returns the bundle tables for the supplied bundle selection.
+   * </p>
+   * 
+   * @param targetPlatform
+   *          the target platform providing the bundles. Not <code>null</code>.
+   * @param workspaceBundles
+   *          the bundles selected from the workspace (attribute <code>selected_workspace_plugins</code> of the launch
+   *          configuration). Maybe <code>null</code>.
+   * @param targetBundles
+   *          the bundles selected from the target platform (attribute <code>selected_target_plugins</code> of the
+   *          launch configuration). Maybe <code>null</code>.
+   * 
+   * @return the bundle tables. Not <code>null</code>.
+   */
+  public static LaunchBundleTables getLaunchBundleTables(TargetPlatform targetPlatform, String workspaceBundles,
+      String targetBundles) {
+    Assure.notNull("targetPlatform", targetPlatform);
+
+    String key = String.valueOf(workspaceBundles) + "\n" + String.valueOf(targetBundles);
+    long resolutionStamp = targetPlatform.getResolutionStamp();
+
+    synchronized (CACHE) {
+      Map<String, LaunchBundleTables> tables = CACHE.get(targetPlatform);
+      if (tables != null) {
+        LaunchBundleTables result = tables.get(key);
+        if ((result != null) && (result._resolutionStamp == resolutionStamp)) {
+          return result;
+        }
+      }
+    }
+
+    // compute the tables outside of the lock, so launches with different selections don't wait for each other
+    LaunchBundleTables result = new LaunchBundleTables(targetPlatform, resolutionStamp, workspaceBundles,
+        targetBundles);
+
+    synchronized (CACHE) {
+      Map<String, LaunchBundleTables> tables = CACHE.get(targetPlatform);
+      if (tables == null) {
+        tables = new HashMap<String, LaunchBundleTables>();
+        CACHE.put(targetPlatform, tables);
+      }
+      // the tables of a previous resolution are stale
+      for (LaunchBundleTables existing : tables.values()) {
+        if (existing._resolutionStamp != resolutionStamp) {
+          tables.clear();
+          break;
+        }
+      }
+      tables.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link LaunchBundleTables}.
+   * </p>
+   * 
+   * @param targetPlatform
+   *          the target platform providing the bundles
+   * @param resolutionStamp
+   *          the resolution stamp of the target platform
+   * @param workspaceBundles
+   *          the bundles selected from the workspace
+   * @param targetBundles
+   *          the bundles selected from the target platform
+   */
+  private LaunchBundleTables(TargetPlatform targetPlatform, long resolutionStamp, String workspaceBundles,
+      String targetBundles) {
+
+    this._resolutionStamp = resolutionStamp;
+
+    StringBuilder bundlesInfo = new StringBuilder();
+    StringBuilder osgiBundles = new StringBuilder();
+    StringBuilder devProperties = new StringBuilder();
+    devProperties.append("@ignoredot@=true\n");
+
+    // add the selected bundles
+    addBundles(targetPlatform, workspaceBundles, true, bundlesInfo, osgiBundles, devProperties);
+    addBundles(targetPlatform, targetBundles, false, bundlesInfo, osgiBundles, devProperties);
+
+    // add the junit runtime bundles
+    BundleDescription bundle = targetPlatform.getResolvedBundle("org.eclipse.pde.junit.runtime", null);
+    addBundle(targetPlatform, bundle.getSymbolicName(), false, false, bundlesInfo, osgiBundles, devProperties);
+    bundle = targetPlatform.getResolvedBundle("org.eclipse.jdt.junit4.runtime", null);
+    addBundle(targetPlatform, bundle.getSymbolicName(), false, false, bundlesInfo, osgiBundles, devProperties);
+    try {
+      for (BundleDependency dependency : new BundleDependenciesResolver().resolveBundleClasspath(bundle)) {
+        // TODO: fragments
+        addBundle(targetPlatform, dependency.getHost().getSymbolicName(), false, false, bundlesInfo, osgiBundles,
+            devProperties);
+      }
+    } catch (UnresolvedBundleException e) {
+      A4ELogging.warn("Could not resolve the class path of bundle '%s': %s", bundle.getSymbolicName(), e.getMessage());
+    }
+
+    this._bundlesInfo = bundlesInfo.toString();
+    this._osgiBundles = osgiBundles.toString();
+    this._devProperties = devProperties.toString();
+
+    // compute the 'pde.test.utils' class path
+    bundle = targetPlatform.getResolvedBundle("pde.test.utils", null);
+    try {
+      StringBuilder collectorClassPath = new StringBuilder();
+      for (BundleDependency dependency : new BundleDependenciesResolver().resolveBundleClasspath(bundle)) {
+        appendClassPath(dependency.getHost(), collectorClassPath);
+      }
+      appendClassPath(bundle, collectorClassPath);
+      this._collectorClassPath = collectorClassPath.toString();
+    } catch (UnresolvedBundleException e) {
+      A4ELogging.warn("Could not resolve the class path of bundle '%s': %s", bundle.getSymbolicName(), e.getMessage());
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the content of the <code>bundles.info</code> file.
+   * </p>
+   * 
+   * @return the content of the <code>bundles.info</code> file.
+   */
+  public String getBundlesInfo() {
+    return this._bundlesInfo;
+  }
+
+  /**
+   * <p>
+   * Returns the value of the <code>osgi.bundles</code> property.
+   * </p>
+   * 
+   * @return the value of the <code>osgi.bundles</code> property.
+   */
+  public String getOsgiBundles() {
+    return this._osgiBundles;
+  }
+
+  /**
+   * <p>
+   * Returns the content of the <code>dev.properties</code> file.
+   * </p>
+   * 
+   * @return the content of the <code>dev.properties</code> file.
+   */
+  public String getDevProperties() {
+    return this._devProperties;
+  }
+
+  /**
+   * <p>
+   * Returns the class path of the <code>pde.test.utils</code> bundle.
+   * </p>
+   * 
+   * @return the class path of the <code>pde.test.utils</code> bundle or <code>null</code> if the bundle couldn't be
+   *         resolved.
+   */
+  public String getCollectorClassPath() {
+    return this._collectorClassPath;
+  }
+
+  /**
+   * <p>
+   * Adds the bundles of the supplied selection (<code>symbolicName@startLevel:autoStart</code>, separated by
+   * <code>,</code>) to the tables.
+   * </p>
+   */
+  private static void addBundles(TargetPlatform targetPlatform, String bundleList, boolean workspaceBundles,
+      StringBuilder bundlesInfo, StringBuilder osgiBundles, StringBuilder devProperties) {
+    if (bundleList == null) {
+      return;
+    }
+    for (String entry : bundleList.split(",")) {
+      Matcher matcher = BUNDLE_ENTRY.matcher(entry);
+      if (matcher.matches()) {
+        addBundle(targetPlatform, matcher.group(1), "true".equals(matcher.group(3)), workspaceBundles, bundlesInfo,
+            osgiBundles, devProperties);
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Adds the bundle with the given symbolic name to the tables.
+   * </p>
+   */
+  private static void addBundle(TargetPlatform targetPlatform, String symbolicName, boolean autoStart,
+      boolean workspaceBundles, StringBuilder bundlesInfo, StringBuilder osgiBundles, StringBuilder devProperties) {
+
+    if (symbolicName.indexOf('*') != -1) {
+      symbolicName = symbolicName.split("\\*")[0];
+    }
+
+    BundleDescription description = workspaceBundles ? targetPlatform.getBundleDescriptionFromWorkspace(symbolicName)
+        : targetPlatform.getBundleDescriptionFromBinaryBundles(symbolicName);
+    if (description == null) {
+      A4ELogging.warn("Bundle '%s' does not exist!", symbolicName);
+      return;
+    }
+
+    // the system bundle is provided by the framework
+    if (description.getBundleId() == 0) {
+      return;
+    }
+
+    BundleSource bundleSource = (BundleSource) description.getUserObject();
+    if (bundleSource.isEclipseProject()) {
+      JavaProjectRole javaProjectRole = bundleSource.getAsEclipseProject().getRole(JavaProjectRole.class);
+      PluginProjectRole pluginProjectRole = bundleSource.getAsEclipseProject().getRole(PluginProjectRole.class);
+      devProperties.append(pluginProjectRole.getBundleDescription().getSymbolicName()).append('=').append(
+          javaProjectRole.getDefaultOutputFolder()).append('\n');
+    }
+
+    bundlesInfo.append(description.getSymbolicName()).append(',').append(description.getVersion()).append(",file:/")
+        .append(description.getLocation()).append(",4,").append(autoStart).append('\n');
+
+    osgiBundles.append("reference\\:file\\:").append(description.getLocation().replace('\\', '/'));
+    if (autoStart) {
+      osgiBundles.append("@start");
+    }
+    osgiBundles.append(',');
+  }
+
+  /**
+   * <p>
+   * Appends the class path entries of the supplied bundle.
+   * </p>
+   */
+  private static void appendClassPath(BundleDescription bundleDescription, StringBuilder classpath) {
+    BundleLayoutResolver resolver = BundleDependenciesResolver.getBundleLayoutResolver(bundleDescription);
+    for (File file : resolver.resolveBundleClasspathEntries()) {
+      classpath.append(file.getAbsolutePath());
+      classpath.append(File.pathSeparatorChar);
+    }
+  }
+
+} /* ENDCLASS */
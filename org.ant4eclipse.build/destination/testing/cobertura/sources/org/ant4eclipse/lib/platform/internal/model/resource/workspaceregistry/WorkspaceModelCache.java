@@ -0,0 +1,312 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.Utilities;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Persistent cache for the workspace model. It keeps the content of the <code>.project</code> files and the locations
+ * stored within the <code>.location</code> files of the eclipse meta data, so subsequent builds only need to parse the
+ * files whose size or modification time has been changed.
+ * </p>
+ * <p>
+ * The cache is enabled using the system property {@value #PROP_ENABLE} and is stored within the meta data directory of
+ * the workspace (see {@link #CACHE_FILE}). A cache file that can't be read (f.e. written by an incompatible version)
+ * is silently ignored. Entries that haven't been used while building the workspace model are dropped when the cache is
+ * saved.
+ * </p>
+ * <p>
+ * The roles of a project are not cached as they are contributed by several plugins and partially rely on non
+ * serializable models (f.e. the OSGi bundle descriptions).
+ * </p>
+ */
+public class WorkspaceModelCache {
+
+  /** the system property enabling the cache */
+  public static final String                           PROP_ENABLE = "ant4eclipse.enableWorkspaceModelCache";
+
+  /** the location of the cache file relative to the workspace directory */
+  public static final String                           CACHE_FILE  = ".metadata/.plugins/org.ant4eclipse/workspace-model.cache";
+
+  /** identifies the format of the cache file */
+  private static final int                             MAGIC       = 0xA4EC0DE1;
+
+  /** the version of the cache file format */
+  private static final int                             VERSION     = 1;
+
+  private final File                                   _cacheFile;
+
+  /** the content of the .project files (path -> entry) */
+  private final Map<String, Entry<ProjectFileContent>> _projectFiles;
+
+  /** the locations stored in the .location files (path -> entry) */
+  private final Map<String, Entry<String>>             _locationFiles;
+
+  /** the paths of all entries that have been used */
+  private final Set<String>                            _used;
+
+  private boolean                                      _modified;
+
+  private int                                          _hits;
+
+  private int                                          _misses;
+
+  /**
+   * Returns <code>true</code> if the workspace model cache has been enabled.
+   *
+   * @return <code>true</code> <=> The workspace model cache has been enabled.
+   */
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(PROP_ENABLE);
+  }
+
+  /**
+   * Creates a cache which is backed by the supplied file. The file will be loaded immediately if it exists.
+   *
+   * @param cacheFile
+   *          The file used to store the cache. Not <code>null</code>.
+   */
+  public WorkspaceModelCache(File cacheFile) {
+    Assure.notNull("cacheFile", cacheFile);
+    this._cacheFile = cacheFile;
+    this._projectFiles = new HashMap<String, Entry<ProjectFileContent>>();
+    this._locationFiles = new HashMap<String, Entry<String>>();
+    this._used = new HashSet<String>();
+    this._modified = false;
+    if (cacheFile.isFile()) {
+      load();
+    }
+  }
+
+  /**
+   * Returns the content of the supplied <code>.project</code> file. The file is only parsed if it's not cached or if
+   * it has been modified.
+   *
+   * @param projectFile
+   *          The <code>.project</code> file. Not <code>null</code>.
+   *
+   * @return The content of the file. Not <code>null</code>.
+   */
+  public synchronized ProjectFileContent getProjectFileContent(File projectFile) {
+    String key = projectFile.getAbsolutePath();
+    this._used.add(key);
+    Entry<ProjectFileContent> entry = this._projectFiles.get(key);
+    if ((entry != null) && entry.isUpToDate(projectFile)) {
+      this._hits++;
+      return entry.getValue();
+    }
+    this._misses++;
+    // the file is examined before it's parsed, so a concurrent modification is detected by the next build
+    long lastmodified = projectFile.lastModified();
+    long length = projectFile.length();
+    ProjectFileContent result = ProjectFileParser.readProjectFile(projectFile);
+    this._projectFiles.put(key, new Entry<ProjectFileContent>(lastmodified, length, result));
+    this._modified = true;
+    return result;
+  }
+
+  /**
+   * Returns the project directory stored within the supplied <code>.location</code> file. The file is only read if it's
+   * not cached or if it has been modified. The file is read without holding the lock of this cache, so several
+   * <code>.location</code> files can be decoded concurrently.
+   *
+   * @see LocationFileParser#getProjectDirectory(File)
+   *
+   * @param locationFile
+   *          The <code>.location</code> file. Not <code>null</code>.
+   *
+   * @return The project directory or <code>null</code> if the location doesn't point to a valid project directory.
+   */
+  public File getProjectDirectory(File locationFile) {
+    String key = locationFile.getAbsolutePath();
+    Entry<String> entry;
+    synchronized (this) {
+      this._used.add(key);
+      entry = this._locationFiles.get(key);
+      if ((entry != null) && entry.isUpToDate(locationFile)) {
+        this._hits++;
+      } else {
+        this._misses++;
+        entry = null;
+      }
+    }
+    if (entry == null) {
+      long lastmodified = locationFile.lastModified();
+      long length = locationFile.length();
+      File location;
+      try {
+        location = LocationFileParser.readLocation(locationFile);
+      } catch (IOException ex) {
+        A4ELogging.debug("WorkspaceModelCache: failed to read location file '%s': %s", locationFile, ex.getMessage());
+        return null;
+      }
+      entry = new Entry<String>(lastmodified, length, location != null ? location.getPath() : null);
+      synchronized (this) {
+        this._locationFiles.put(key, entry);
+        this._modified = true;
+      }
+    }
+    return LocationFileParser.toProjectDirectory(entry.getValue() != null ? new File(entry.getValue()) : null);
+  }
+
+  /**
+   * Returns the number of requests that have been served from the cache.
+   *
+   * @return The number of requests that have been served from the cache.
+   */
+  public synchronized int getHits() {
+    return this._hits;
+  }
+
+  /**
+   * Returns the number of requests that required to parse a file.
+   *
+   * @return The number of requests that required to parse a file.
+   */
+  public synchronized int getMisses() {
+    return this._misses;
+  }
+
+  /**
+   * Writes the cache file if the cache has been modified. Entries that haven't been used since the cache has been
+   * loaded are dropped. Failures are only logged as the cache is not essential.
+   */
+  public synchronized void save() {
+    boolean unused = !this._used.containsAll(this._projectFiles.keySet())
+        || !this._used.containsAll(this._locationFiles.keySet());
+    if ((!this._modified) && (!unused)) {
+      return;
+    }
+    this._projectFiles.keySet().retainAll(this._used);
+    this._locationFiles.keySet().retainAll(this._used);
+    File parent = this._cacheFile.getAbsoluteFile().getParentFile();
+    File tempFile = new File(parent, this._cacheFile.getName() + ".tmp");
+    DataOutputStream output = null;
+    try {
+      Utilities.mkdirs(parent);
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(this._projectFiles.size());
+      for (Map.Entry<String, Entry<ProjectFileContent>> entry : this._projectFiles.entrySet()) {
+        output.writeUTF(entry.getKey());
+        entry.getValue().write(output);
+        entry.getValue().getValue().write(output);
+      }
+      output.writeInt(this._locationFiles.size());
+      for (Map.Entry<String, Entry<String>> entry : this._locationFiles.entrySet()) {
+        output.writeUTF(entry.getKey());
+        entry.getValue().write(output);
+        ProjectFileContent.writeString(output, entry.getValue().getValue());
+      }
+      output.close();
+      output = null;
+      if (this._cacheFile.exists() && !this._cacheFile.delete()) {
+        throw new IOException("Could not delete '" + this._cacheFile + "'");
+      }
+      if (!tempFile.renameTo(this._cacheFile)) {
+        throw new IOException("Could not rename '" + tempFile + "' to '" + this._cacheFile + "'");
+      }
+      this._modified = false;
+    } catch (Exception ex) {
+      A4ELogging.warn("Failed to write the workspace model cache '%s': %s", this._cacheFile, ex.getMessage());
+      tempFile.delete();
+    } finally {
+      Utilities.close(output);
+    }
+  }
+
+  /**
+   * Loads the cache file. An unreadable file is ignored.
+   */
+  private void load() {
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(this._cacheFile)));
+      if ((input.readInt() != MAGIC) || (input.readInt() != VERSION)) {
+        A4ELogging.debug("WorkspaceModelCache: ignoring incompatible cache file '%s'", this._cacheFile);
+        return;
+      }
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        String key = input.readUTF();
+        long lastmodified = input.readLong();
+        long length = input.readLong();
+        this._projectFiles.put(key, new Entry<ProjectFileContent>(lastmodified, length, ProjectFileContent
+            .read(input)));
+      }
+      count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        String key = input.readUTF();
+        long lastmodified = input.readLong();
+        long length = input.readLong();
+        this._locationFiles.put(key, new Entry<String>(lastmodified, length, ProjectFileContent.readString(input)));
+      }
+    } catch (Exception ex) {
+      A4ELogging.debug("WorkspaceModelCache: ignoring unreadable cache file '%s': %s", this._cacheFile, ex
+          .getMessage());
+      this._projectFiles.clear();
+      this._locationFiles.clear();
+    } finally {
+      Utilities.close(input);
+    }
+  }
+
+  /**
+   * A cached value together with the modification time and the size of the file it has been read from.
+   */
+  private static class Entry<T> {
+
+    private final long _lastmodified;
+
+    private final long _length;
+
+    private final T    _value;
+
+    public Entry(long lastmodified, long length, T value) {
+      this._lastmodified = lastmodified;
+      this._length = length;
+      this._value = value;
+    }
+
+    public boolean isUpToDate(File file) {
+      return (file.lastModified() == this._lastmodified) && (file.length() == this._length);
+    }
+
+    public T getValue() {
+      return this._value;
+    }
+
+    public void write(DataOutputStream output) throws IOException {
+      output.writeLong(this._lastmodified);
+      output.writeLong(this._length);
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
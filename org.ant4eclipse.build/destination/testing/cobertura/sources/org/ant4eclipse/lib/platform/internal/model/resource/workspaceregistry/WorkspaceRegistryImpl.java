@@ -0,0 +1,269 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.Revalidatable;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.FileFingerprint;
+import org.ant4eclipse.lib.platform.internal.model.resource.WorkspaceImpl;
+import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
+import org.ant4eclipse.lib.platform.model.resource.Workspace;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceDefinition;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceModelCacheAccess;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRegistry;
+
+/**
+ * <p>
+ * Implementation of the {@link WorkspaceRegistry} interface.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public class WorkspaceRegistryImpl implements WorkspaceRegistry, Revalidatable {
+
+  /** the files of a project which are recorded to detect changes of the project description */
+  private static final String[]                        PROJECT_DESCRIPTION_FILES = { ".project", ".classpath",
+      ".settings", "META-INF/MANIFEST.MF", "build.properties", "feature.xml" };
+
+  /** The factory used to build projects */
+  private ProjectFactory                               _projectFactory;
+
+  /** the workspace map (String, Workspace) */
+  private Map<String, WorkspaceDefinitionAndWorkspace> _registry;
+
+  /** the 'current' workspace */
+  private Workspace                                    _current;
+
+  public WorkspaceRegistryImpl() {
+    super();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Workspace getCurrent() {
+    return this._current;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean hasCurrent() {
+    return this._current != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setCurrent(Workspace currentWorkspace) {
+    this._current = currentWorkspace;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setCurrent(String id) {
+    this._current = getWorkspace(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Workspace getWorkspace(String id) {
+    return this._registry.get(id).getWorkspace();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean containsWorkspace(String id) {
+    return this._registry.containsKey(id);
+  }
+
+  public void refreshWorkspace(String id) {
+    Assure.nonEmpty("id", id);
+    if (!this._registry.containsKey(id)) {
+      A4ELogging.warn("Attempt to refresh non-existing workspace with id '%s' ignored.", id);
+    }
+
+    // Get original definition
+    WorkspaceDefinitionAndWorkspace workspaceDefinitionAndWorkspace = this._registry.get(id);
+
+    // re-register workspace
+    registerWorkspace(id, workspaceDefinitionAndWorkspace.getWorkspaceDefinition());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Workspace registerWorkspace(String id, WorkspaceDefinition workspaceDefinition) {
+    Assure.nonEmpty("id", id);
+    Assure.notNull("workspaceDefinition", workspaceDefinition);
+
+    // create new workspace implementation
+    WorkspaceImpl workspace = new WorkspaceImpl();
+
+    // the persistent model cache (only available for standard workspaces)
+    WorkspaceModelCache modelCache = WorkspaceModelCacheAccess.getModelCache(workspaceDefinition);
+
+    // retrieve all project folders from the workspace definition
+    File[] projectFolders = workspaceDefinition.getProjectFolders();
+
+    if (A4ELogging.isDebuggingEnabled()) {
+      A4ELogging.debug("WorkspaceRegistry.registerWorkspace: project directory count=%d.",
+          Integer.valueOf(projectFolders.length));
+    }
+
+    // read the projects and add them to the workspace
+    List<EclipseProject> projects = new ArrayList<EclipseProject>();
+    for (File projectFolder : projectFolders) {
+      EclipseProject eclipseProject = this._projectFactory.readProjectFromWorkspace(workspace, projectFolder,
+          modelCache);
+      projects.add(eclipseProject);
+      workspace.registerEclipseProject(eclipseProject);
+    }
+
+    for (EclipseProject project : projects) {
+      this._projectFactory.postProcessRoleSetup(project);
+    }
+
+    if (modelCache != null) {
+      if (A4ELogging.isDebuggingEnabled()) {
+        A4ELogging.debug("WorkspaceRegistry.registerWorkspace: model cache hits=%d, misses=%d.", Integer
+            .valueOf(modelCache.getHits()), Integer.valueOf(modelCache.getMisses()));
+      }
+      modelCache.save();
+    }
+
+    // add the workspace to the registry
+    this._registry.put(id, new WorkspaceDefinitionAndWorkspace(workspaceDefinition, workspace, projectFolders,
+        createFingerprint(projectFolders)));
+
+    // return the workspace
+    return workspace;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>
+   * A workspace is dropped if the set of project folders has been changed or if one of the project description files
+   * has been modified. It will be registered again as soon as it's requested.
+   * </p>
+   */
+  public void revalidate() {
+    Iterator<Map.Entry<String, WorkspaceDefinitionAndWorkspace>> iterator = this._registry.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, WorkspaceDefinitionAndWorkspace> entry = iterator.next();
+      WorkspaceDefinitionAndWorkspace value = entry.getValue();
+      if (!value.isUpToDate()) {
+        A4ELogging.debug("WorkspaceRegistry.revalidate: workspace '%s' has been changed.", entry.getKey());
+        if (value.getWorkspace() == this._current) {
+          this._current = null;
+        }
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void dispose() {
+    this._registry.clear();
+    this._registry = null;
+    this._projectFactory = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void initialize() {
+    this._registry = new HashMap<String, WorkspaceDefinitionAndWorkspace>();
+    this._projectFactory = new ProjectFactory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isInitialized() {
+    return (this._registry != null) && (this._projectFactory != null);
+  }
+
+  /**
+   * Records the project folders together with their project description files.
+   * 
+   * @param projectFolders
+   *          The project folders of a workspace. Not <code>null</code>.
+   * 
+   * @return The fingerprint of the project folders. Not <code>null</code>.
+   */
+  private static FileFingerprint createFingerprint(File[] projectFolders) {
+    List<File> files = new ArrayList<File>(projectFolders.length * (PROJECT_DESCRIPTION_FILES.length + 1));
+    for (File projectFolder : projectFolders) {
+      files.add(projectFolder);
+      for (String name : PROJECT_DESCRIPTION_FILES) {
+        files.add(new File(projectFolder, name));
+      }
+    }
+    return new FileFingerprint(files);
+  }
+
+  final class WorkspaceDefinitionAndWorkspace {
+    private final WorkspaceDefinition _workspaceDefinition;
+
+    private final Workspace           _workspace;
+
+    private final File[]              _projectFolders;
+
+    private final FileFingerprint     _fingerprint;
+
+    public WorkspaceDefinitionAndWorkspace(WorkspaceDefinition workspaceDefinition, Workspace workspace,
+        File[] projectFolders, FileFingerprint fingerprint) {
+      super();
+      this._workspaceDefinition = workspaceDefinition;
+      this._workspace = workspace;
+      this._projectFolders = projectFolders;
+      this._fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns <code>true</code> if the workspace still consists of the same project folders and none of their project
+     * description files has been changed.
+     * 
+     * @return <code>true</code> <=> The workspace is up to date.
+     */
+    public boolean isUpToDate() {
+      return this._fingerprint.isUpToDate()
+          && Arrays.equals(this._projectFolders, this._workspaceDefinition.getProjectFolders());
+    }
+
+    public WorkspaceDefinition getWorkspaceDefinition() {
+      return this._workspaceDefinition;
+    }
+
+    public Workspace getWorkspace() {
+      return this._workspace;
+    }
+
+  }
+
+}
@@ -0,0 +1,271 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.model.resource.workspaceregistry;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry.LocationFileParser;
+import org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry.ProjectFileParser;
+import org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry.WorkspaceModelCache;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Implements a {@link WorkspaceDefinition} for the 'standard' eclipse workspace.
+ * </p>
+ * 
+ * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
+ */
+public class DefaultEclipseWorkspaceDefinition implements WorkspaceDefinition {
+
+  /** path to the projects directory in the meta data */
+  private static final String METADATA_PROJECTS      = ".metadata/.plugins/org.eclipse.core.resources/.projects";
+
+  /** the minimum number of .location files decoded by a single thread */
+  private static final int    MIN_FILES_PER_THREAD   = 8;
+
+  /** the message used to log the acceptance of a directory */
+  private static final String MSG_ACCEPTED_DIRECTORY = "DefaultEclipseWorkspaceDefinition.getProjectFolders(): "
+                                                           + "directory '%s' - accept as project directory: '%s'";
+
+  /** the workspace directory */
+  private File                _workspaceDirectory;
+
+  /** the meta data location directory */
+  private File                _metadataLocationDirectory;
+
+  /** the persistent model cache (lazy initialized, only if enabled) */
+  private WorkspaceModelCache _modelCache;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link DefaultEclipseWorkspaceDefinition}.
+   * </p>
+   * 
+   * @param workspaceDirectory
+   *          the workspace directory
+   */
+  public DefaultEclipseWorkspaceDefinition(File workspaceDirectory) {
+    Assure.isDirectory("workspaceDirectory", workspaceDirectory);
+    this._workspaceDirectory = workspaceDirectory;
+    this._metadataLocationDirectory = new File(workspaceDirectory, METADATA_PROJECTS);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public File[] getProjectFolders() {
+
+    // define the result
+    Set<File> result = new LinkedHashSet<File>();
+
+    final boolean debug = A4ELogging.isDebuggingEnabled();
+
+    // read all directories in the workspace directory
+    File[] directories = this._workspaceDirectory.listFiles(new FileFilter() {
+      public boolean accept(File file) {
+        boolean accepted = file.isDirectory() && !".metadata".equals(file.getName()) && isProjectDirectory(file);
+        if (debug) {
+          A4ELogging.debug(MSG_ACCEPTED_DIRECTORY, file.getAbsolutePath(), Boolean.valueOf(accepted));
+        }
+        return accepted;
+      }
+    });
+
+    // add all project directories to the result
+    result.addAll(Arrays.asList(directories));
+
+    // check the METADATA_PROJECTS directory
+    if (isDirectory(this._metadataLocationDirectory)) {
+
+      // read all directories in the METADATA_PROJECTS directory
+      directories = this._metadataLocationDirectory.listFiles(new FileFilter() {
+        public boolean accept(File file) {
+          boolean accepted = file.isDirectory() && isLocationDirectory(file);
+          if (debug) {
+            A4ELogging.debug(MSG_ACCEPTED_DIRECTORY, file.getAbsolutePath(), Boolean.valueOf(accepted));
+          }
+          return accepted;
+        }
+      });
+
+      // add the resolved linked directories to the result
+      for (File linkedProject : getProjectDirectories(directories)) {
+        if (linkedProject != null) {
+          result.add(linkedProject);
+        }
+      }
+    }
+
+    // return the result
+    return result.toArray(new File[0]);
+  }
+
+  /**
+   * <p>
+   * Returns the persistent model cache of this workspace if it has been enabled using the system property
+   * {@value WorkspaceModelCache#PROP_ENABLE}.
+   * </p>
+   * 
+   * @return The persistent model cache of this workspace or <code>null</code> if it's disabled.
+   */
+  synchronized WorkspaceModelCache getModelCache() {
+    if ((this._modelCache == null) && WorkspaceModelCache.isEnabled()) {
+      this._modelCache = new WorkspaceModelCache(new File(this._workspaceDirectory, WorkspaceModelCache.CACHE_FILE));
+    }
+    return this._modelCache;
+  }
+
+  /**
+   * <p>
+   * Returns the project directories stored within the <code>.location</code> files of the supplied meta data
+   * directories. Larger numbers of <code>.location</code> files are decoded concurrently.
+   * </p>
+   * 
+   * @param directories
+   *          the meta data directories of the projects
+   * @return the project directories in the order of the supplied meta data directories. An element is
+   *         <code>null</code> if the corresponding location doesn't point to a valid project directory.
+   */
+  private File[] getProjectDirectories(final File[] directories) {
+    final File[] result = new File[directories.length];
+    int threads = Math.min(Runtime.getRuntime().availableProcessors(), directories.length / MIN_FILES_PER_THREAD);
+    if (threads < 2) {
+      for (int i = 0; i < directories.length; i++) {
+        result[i] = getProjectDirectory(new File(directories[i], ".location"));
+      }
+      return result;
+    }
+    // every task decodes each n-th .location file, so no more than 'threads' workers are used per call
+    List<Future<Object>> futures = new ArrayList<Future<Object>>(threads);
+    try {
+      for (int i = 0; i < threads; i++) {
+        final int first = i;
+        final int step = threads;
+        futures.add(LocationReaders.EXECUTOR.submit(new Callable<Object>() {
+          public Object call() {
+            for (int j = first; j < result.length; j += step) {
+              result[j] = getProjectDirectory(new File(directories[j], ".location"));
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new Ant4EclipseException(ex.getCause(), CoreExceptionCode.IO_FAILURE);
+    } finally {
+      for (Future<Object> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Returns the project directory stored within the supplied <code>.location</code> file.
+   * </p>
+   * 
+   * @param locationFile
+   *          the <code>.location</code> file
+   * @return the project directory or <code>null</code> if the location doesn't point to a valid project directory
+   */
+  private File getProjectDirectory(File locationFile) {
+    WorkspaceModelCache modelCache = getModelCache();
+    if (modelCache != null) {
+      return modelCache.getProjectDirectory(locationFile);
+    }
+    return LocationFileParser.getProjectDirectory(locationFile);
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code>, if the specified directory is an eclipse project directory.
+   * </p>
+   * 
+   * @param directory
+   *          the directory
+   * @return <code>true</code>, if the specified directory is an eclipse project directory.
+   */
+  private boolean isProjectDirectory(File directory) {
+    return ProjectFileParser.isProjectDirectory(directory);
+  }
+
+  /**
+   * <p>
+   * </p>
+   * 
+   * @param directory
+   * @return
+   */
+  private boolean isLocationDirectory(File directory) {
+    return isDirectory(directory) && new File(directory, ".location").exists();
+  }
+
+  /**
+   * @param directory
+   * @return
+   */
+  private boolean isDirectory(File directory) {
+    return (directory != null) && directory.exists();
+  }
+
+  /**
+   * <p>
+   * Holds the executor used to decode the <code>.location</code> files concurrently. It's shared by all workspace
+   * definitions and created on first use. The threads are daemons, so they don't prevent the vm from exiting.
+   * </p>
+   */
+  private static class LocationReaders {
+
+    /** the shared executor */
+    static final ExecutorService EXECUTOR = createExecutor();
+
+    private static ExecutorService createExecutor() {
+      final AtomicInteger threadNumber = new AtomicInteger();
+      return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "LocationReader-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
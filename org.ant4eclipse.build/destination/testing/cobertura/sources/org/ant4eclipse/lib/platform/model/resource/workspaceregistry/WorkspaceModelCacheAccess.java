@@ -0,0 +1,50 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.model.resource.workspaceregistry;
+
+import org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry.WorkspaceModelCache;
+
+/**
+ * <p>
+ * Gives the workspace registry access to the {@link WorkspaceModelCache} of a workspace definition. This class is not
+ * intended to be used by clients.
+ * </p>
+ */
+public final class WorkspaceModelCacheAccess {
+
+  /**
+   * <p>
+   * Returns the persistent model cache of the supplied workspace definition.
+   * </p>
+   * 
+   * @param workspaceDefinition
+   *          the workspace definition. Not <code>null</code>.
+   * @return the persistent model cache or <code>null</code> if the workspace definition doesn't provide one or the cache
+   *         is disabled.
+   */
+  public static WorkspaceModelCache getModelCache(WorkspaceDefinition workspaceDefinition) {
+    if (workspaceDefinition instanceof DefaultEclipseWorkspaceDefinition) {
+      return ((DefaultEclipseWorkspaceDefinition) workspaceDefinition).getModelCache();
+    }
+    return null;
+  }
+
+  /**
+   * <p>
+   * Prevents instantiation.
+   * </p>
+   */
+  private WorkspaceModelCacheAccess() {
+    // nothing to do
+  }
+
+} /* ENDCLASS */
@@ -17,9 +17,13 @@ import org.ant4eclipse.lib.core.logging.Failuretest;
 import org.ant4eclipse.lib.core.logging.LoggingUsageTest;
 import org.ant4eclipse.lib.core.nls.NLSTest;
 import org.ant4eclipse.lib.core.service.PropertiesBasedServiceRegistryConfigurationTest;
+import org.ant4eclipse.lib.core.service.ServiceHandleTest;
 import org.ant4eclipse.lib.core.service.ServiceRegistryTest;
+import org.ant4eclipse.lib.core.util.DirectoryWalkerTest;
 import org.ant4eclipse.lib.core.util.ManifestHelperTest;
+import org.ant4eclipse.lib.core.util.StopWatchServiceImplTest;
 import org.ant4eclipse.lib.core.util.UtilitiesTest;
+import org.ant4eclipse.lib.core.util.ZipArchiveWriterTest;
 import org.ant4eclipse.lib.core.xquery.XQueryHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -27,7 +31,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ AssureTest.class, ClassNameTest.class, DefaultConfiguratorTest.class, VersionTest.class,
     DependencyGraphTest.class, Failuretest.class, LoggingUsageTest.class, NLSTest.class,
-    PropertiesBasedServiceRegistryConfigurationTest.class, ServiceRegistryTest.class, ManifestHelperTest.class,
-    UtilitiesTest.class, XQueryHandlerTest.class })
+    PropertiesBasedServiceRegistryConfigurationTest.class, ServiceRegistryTest.class, ServiceHandleTest.class,
+    ManifestHelperTest.class, StopWatchServiceImplTest.class, UtilitiesTest.class, DirectoryWalkerTest.class,
+    XQueryHandlerTest.class, ZipArchiveWriterTest.class })
 public class AllCoreTests {
 } /* ENDCLASS */
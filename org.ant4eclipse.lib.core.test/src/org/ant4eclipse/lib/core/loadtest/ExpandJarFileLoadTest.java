@@ -0,0 +1,170 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * <p>
+ * Load test for {@link Utilities#expandJarFile(JarFile, File)} which expands a number of synthetic bundles using 1, 4
+ * and 16 threads and logs the throughput.
+ * </p>
+ * <p>
+ * The number of bundles is taken from the system property <code>ant4eclipse.loadtest.bundles</code> (default: 500).
+ * </p>
+ */
+public class ExpandJarFileLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the system property containing the number of bundles */
+  private static final String BUNDLES_PROPERTY = "ant4eclipse.loadtest.bundles";
+
+  /** the thread counts used to expand the bundles */
+  private static final int[]  THREAD_COUNTS    = { 1, 4, 16 };
+
+  /** the number of class entries per bundle */
+  private static final int    CLASS_ENTRIES    = 10;
+
+  private TestDirectory       _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void loadTest() throws Exception {
+    int bundleCount = Integer.parseInt(System.getProperty(BUNDLES_PROPERTY, "500").trim());
+    File[] bundles = createBundles(bundleCount);
+    long bytes = 0;
+    for (File bundle : bundles) {
+      bytes += bundle.length();
+    }
+    for (int threads : THREAD_COUNTS) {
+      File destination = new File(this._testDirectory.getRootDir(), "expanded-" + threads);
+      Utilities.mkdirs(destination);
+      long start = System.currentTimeMillis();
+      expand(bundles, destination, threads);
+      long duration = Math.max(1, System.currentTimeMillis() - start);
+      A4ELogging.info("%d bundles, %d threads: %dms, %d bundles/s, %d KB/s", Integer.valueOf(bundleCount), Integer
+          .valueOf(threads), Long.valueOf(duration), Long.valueOf(bundleCount * 1000L / duration), Long.valueOf(bytes
+          * 1000L / 1024 / duration));
+      assertExpanded(destination, bundleCount);
+    }
+  }
+
+  private void expand(File[] bundles, final File destination, int threads) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Object>> futures = new ArrayList<Future<Object>>();
+      for (final File bundle : bundles) {
+        futures.add(executor.submit(new Callable<Object>() {
+          public Object call() throws IOException {
+            JarFile jarFile = new JarFile(bundle);
+            try {
+              String name = bundle.getName();
+              Utilities.expandJarFile(jarFile, new File(destination, name.substring(0, name.length() - 4)));
+            } finally {
+              jarFile.close();
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void assertExpanded(File destination, int bundleCount) {
+    File[] children = destination.listFiles();
+    // no staging directories must be left
+    assertEquals(bundleCount, children.length);
+    for (File child : children) {
+      assertTrue(new File(child, JarFile.MANIFEST_NAME).isFile());
+      assertTrue(new File(child, "lib/nested.jar").isFile());
+      for (int i = 0; i < CLASS_ENTRIES; i++) {
+        assertTrue(new File(child, "org/ant4eclipse/synthetic/Class" + i + ".class").isFile());
+      }
+    }
+  }
+
+  private File[] createBundles(int count) throws IOException {
+    File directory = new File(this._testDirectory.getRootDir(), "bundles");
+    Utilities.mkdirs(directory);
+    Random random = new Random(count);
+    byte[] classContent = new byte[4 * 1024];
+    byte[] nestedContent = new byte[64 * 1024];
+    File[] result = new File[count];
+    for (int i = 0; i < count; i++) {
+      Manifest manifest = new Manifest();
+      manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+      manifest.getMainAttributes().putValue("Bundle-SymbolicName", "org.ant4eclipse.synthetic" + i);
+      manifest.getMainAttributes().putValue("Bundle-ClassPath", "., lib/nested.jar");
+      result[i] = new File(directory, "org.ant4eclipse.synthetic" + i + "_1.0.0.jar");
+      JarOutputStream output = new JarOutputStream(new FileOutputStream(result[i]), manifest);
+      try {
+        for (int j = 0; j < CLASS_ENTRIES; j++) {
+          random.nextBytes(classContent);
+          output.putNextEntry(new JarEntry("org/ant4eclipse/synthetic/Class" + j + ".class"));
+          output.write(classContent);
+          output.closeEntry();
+        }
+        random.nextBytes(nestedContent);
+        output.putNextEntry(new JarEntry("lib/nested.jar"));
+        output.write(nestedContent);
+        output.closeEntry();
+      } finally {
+        output.close();
+      }
+    }
+    return result;
+  }
+
+} /* ENDCLASS */
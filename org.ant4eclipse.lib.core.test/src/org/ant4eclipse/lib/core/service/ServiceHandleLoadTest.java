@@ -0,0 +1,45 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.service;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.logging.Ant4EclipseLogger;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Compares concurrent lookups of a service using a {@link ServiceHandle} with lookups using the
+ * {@link ServiceRegistry}.
+ * </p>
+ */
+public class ServiceHandleLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  private static final int                              THREADS = 8;
+
+  private static final int                              LOOKUPS = 200000;
+
+  private static final ServiceHandle<Ant4EclipseLogger> LOGGER  = new ServiceHandle<Ant4EclipseLogger>(
+      Ant4EclipseLogger.class);
+
+  @Test
+  public void loadTest() throws Exception {
+    Ant4EclipseLogger logger = ServiceRegistryAccess.instance().getService(Ant4EclipseLogger.class);
+
+    long handles = ServiceHandleTest.lookupConcurrently(LOGGER, logger, THREADS, LOOKUPS, true);
+    long registry = ServiceHandleTest.lookupConcurrently(LOGGER, logger, THREADS, LOOKUPS, false);
+
+    A4ELogging.info("%d threads x %d lookups: handle=%dms, registry=%dms", Integer.valueOf(THREADS), Integer
+        .valueOf(LOOKUPS), Long.valueOf(handles / 1000000), Long.valueOf(registry / 1000000));
+  }
+
+} /* ENDCLASS */
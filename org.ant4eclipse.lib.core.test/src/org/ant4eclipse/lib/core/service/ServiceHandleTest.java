@@ -0,0 +1,143 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.service;
+
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ServiceHandleTest {
+
+  private static final int                     THREADS = 8;
+
+  private static final int                     LOOKUPS = 10000;
+
+  private static final ServiceHandle<Runnable> SERVICE = new ServiceHandle<Runnable>(Runnable.class);
+
+  @After
+  public void dispose() {
+    if (ServiceRegistryAccess.isConfigured()) {
+      ServiceRegistryAccess.reset();
+    }
+  }
+
+  @Test
+  public void rebindAfterReconfiguration() {
+    Runnable first = configure();
+    Assert.assertSame(first, SERVICE.get());
+    Assert.assertSame(first, SERVICE.get());
+
+    ServiceRegistry firstRegistry = ServiceRegistryAccess.instance();
+    ServiceRegistryAccess.reset();
+    try {
+      SERVICE.get();
+      Assert.fail();
+    } catch (Ant4EclipseException ex) {
+      Assert.assertEquals(CoreExceptionCode.PRECONDITION_VIOLATION, ex.getExceptionCode());
+    }
+
+    Runnable second = configure();
+    Assert.assertNotSame(first, second);
+    Assert.assertSame(second, SERVICE.get());
+
+    // restoring a registry binds its services again
+    ServiceRegistry secondRegistry = ServiceRegistryAccess.instance();
+    ServiceRegistryAccess.restore(firstRegistry);
+    Assert.assertSame(first, SERVICE.get());
+    ServiceRegistryAccess.restore(secondRegistry);
+    Assert.assertSame(second, SERVICE.get());
+  }
+
+  @Test
+  public void missingService() {
+    ServiceRegistryAccess.configure(new ServiceRegistryConfiguration() {
+      public void configure(ConfigurationContext context) {
+        // no services
+      }
+    });
+    try {
+      SERVICE.get();
+      Assert.fail();
+    } catch (Ant4EclipseException ex) {
+      Assert.assertEquals(CoreExceptionCode.SERVICE_NOT_AVAILABLE, ex.getExceptionCode());
+    }
+  }
+
+  @Test
+  public void concurrentLookups() throws Exception {
+    Runnable service = configure();
+    lookupConcurrently(SERVICE, service, THREADS, LOOKUPS, true);
+  }
+
+  /**
+   * <p>
+   * Looks up the service from several threads which start at the same time and returns the elapsed time.
+   * </p>
+   */
+  static <T> long lookupConcurrently(final ServiceHandle<T> handle, final T expected, int threads,
+      final int lookups, final boolean useHandle) throws Exception {
+    final CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(new Callable<Integer>() {
+          public Integer call() throws Exception {
+            start.await();
+            int mismatches = 0;
+            for (int j = 0; j < lookups; j++) {
+              T service = useHandle ? handle.get() : ServiceRegistryAccess.instance().getService(
+                  handle.getServiceType());
+              if (service != expected) {
+                mismatches++;
+              }
+            }
+            return Integer.valueOf(mismatches);
+          }
+        }));
+      }
+      long begin = System.nanoTime();
+      start.countDown();
+      for (Future<Integer> future : futures) {
+        Assert.assertEquals(0, future.get().intValue());
+      }
+      return System.nanoTime() - begin;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Runnable configure() {
+    final Runnable service = new Runnable() {
+      public void run() {
+        // nothing to do
+      }
+    };
+    ServiceRegistryAccess.configure(new ServiceRegistryConfiguration() {
+      public void configure(ConfigurationContext context) {
+        context.registerService(service, Runnable.class.getName());
+      }
+    });
+    return service;
+  }
+
+} /* ENDCLASS */
@@ -132,6 +132,28 @@ public class ServiceRegistryTest {
     }
   }
 
+  @Test
+  public void publishInitializedRegistry() throws Exception {
+
+    final PublicationDummyService dummyService = new PublicationDummyService();
+
+    ServiceRegistryAccess.configure(new ServiceRegistryConfiguration() {
+
+      public void configure(ConfigurationContext context) {
+        context.registerService(dummyService, PublicationDummyService.class.getName());
+      }
+    });
+
+    try {
+      // the configuring thread accesses the registry while the services are initialized, other threads don't
+      Assert.assertTrue(dummyService._accessible);
+      Assert.assertFalse(dummyService._published);
+      Assert.assertTrue(ServiceRegistryAccess.isConfigured());
+    } finally {
+      ServiceRegistryAccess.reset();
+    }
+  }
+
   /**
    */
   public class DummyService implements Lifecycle {
@@ -158,6 +180,31 @@ public class ServiceRegistryTest {
     }
   }
 
+  public class PublicationDummyService extends DummyService {
+
+    private volatile boolean _accessible;
+
+    private volatile boolean _published;
+
+    @Override
+    public void initialize() {
+      super.initialize();
+      this._accessible = ServiceRegistryAccess.instance().hasService(PublicationDummyService.class);
+      Thread thread = new Thread() {
+        @Override
+        public void run() {
+          PublicationDummyService.this._published = ServiceRegistryAccess.isConfigured();
+        }
+      };
+      thread.start();
+      try {
+        thread.join();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
   public class NonDisposeDummyService extends DummyService {
     @Override
     public void dispose() {
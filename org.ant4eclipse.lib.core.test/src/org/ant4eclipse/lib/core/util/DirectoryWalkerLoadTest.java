@@ -0,0 +1,109 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Compares the scan of a class file tree for its directories using the {@link DirectoryWalker} with a recursive
+ * listing of the directories.
+ * </p>
+ */
+public class DirectoryWalkerLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the number of packages */
+  private static final int PACKAGE_COUNT = 100;
+
+  /** the number of class files within each package */
+  private static final int CLASS_COUNT   = 50;
+
+  private File             _root;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._root = Utilities.createTempDir();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    Utilities.delete(this._root);
+    super.dispose();
+  }
+
+  @Test
+  public void loadTest() {
+    File root = new File(this._root, "bin");
+    for (int i = 0; i < PACKAGE_COUNT; i++) {
+      File directory = new File(root, "org/ant4eclipse/package" + (i / 10) + "/sub" + i);
+      Utilities.mkdirs(directory);
+      for (int j = 0; j < CLASS_COUNT; j++) {
+        Utilities.writeFile(new File(directory, "Class" + j + ".class"), "", "UTF-8");
+      }
+    }
+
+    // recursive listing of the directories (the previous package scan)
+    long start = System.nanoTime();
+    List<File> listed = new ArrayList<File>();
+    listDirectories(root, listed);
+    long recursive = System.nanoTime() - start;
+
+    // directory walker skipping the class files by their names
+    start = System.nanoTime();
+    final List<File> walked = new ArrayList<File>();
+    DirectoryWalker.walk(root, new DirectoryWalker.Visitor() {
+      @Override
+      public boolean acceptName(File directory, String name) {
+        return name.indexOf('.') == -1;
+      }
+
+      @Override
+      public boolean enterDirectory(File directory, String path) {
+        walked.add(directory);
+        return true;
+      }
+    });
+    long walker = System.nanoTime() - start;
+
+    A4ELogging.info("%d files: listFiles=%dms, walker=%dms", Integer.valueOf(PACKAGE_COUNT * CLASS_COUNT), Long
+        .valueOf(recursive / 1000000), Long.valueOf(walker / 1000000));
+    Assert.assertEquals(listed, walked);
+    Assert.assertEquals(PACKAGE_COUNT * CLASS_COUNT, Utilities.getAllChildren(root).size());
+  }
+
+  private void listDirectories(File directory, List<File> result) {
+    for (File child : directory.listFiles(new FileFilter() {
+      public boolean accept(File pathname) {
+        return pathname.isDirectory();
+      }
+    })) {
+      result.add(child);
+      listDirectories(child, result);
+    }
+  }
+
+} /* ENDCLASS */
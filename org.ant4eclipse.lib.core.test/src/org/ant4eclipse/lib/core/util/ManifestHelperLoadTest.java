@@ -0,0 +1,68 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * Compares the single pass parser of {@link ManifestHelper} with the previous implementation based on nested splits
+ * using the manifest headers found on the class path.
+ * </p>
+ */
+public class ManifestHelperLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  @Test
+  public void loadTest() throws IOException {
+    List<String> headers = ManifestHelperTest.realHeaders();
+    int rounds = 200;
+    int characters = 0;
+    for (String header : headers) {
+      characters += header.length();
+    }
+
+    // warm up both implementations
+    int referenceClauses = parseAll(headers, 20, true);
+    int clauses = parseAll(headers, 20, false);
+    Assert.assertEquals(referenceClauses, clauses);
+
+    long start = System.nanoTime();
+    parseAll(headers, rounds, true);
+    long reference = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    parseAll(headers, rounds, false);
+    long singlePass = System.nanoTime() - start;
+
+    A4ELogging.info("%d headers (%d chars) x %d: nested splits=%dms, single pass=%dms", Integer.valueOf(headers
+        .size()), Integer.valueOf(characters), Integer.valueOf(rounds), Long.valueOf(reference / 1000000), Long
+        .valueOf(singlePass / 1000000));
+  }
+
+  private int parseAll(List<String> headers, int rounds, boolean reference) {
+    int result = 0;
+    for (int i = 0; i < rounds; i++) {
+      for (String header : headers) {
+        result += reference ? ManifestHelperTest.referenceHeaderElements(header).length : ManifestHelper
+            .getManifestHeaderElements(header).length;
+      }
+    }
+    return result;
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,153 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.testframework.JUnitUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class StopWatchServiceImplTest {
+
+  private static final int THREADS    = 8;
+
+  private static final int ITERATIONS = 500;
+
+  @Test
+  public void concurrentInvocations() throws Exception {
+    final StopWatchServiceImpl service = new StopWatchServiceImpl();
+    final CountDownLatch start = new CountDownLatch(1);
+    final StopWatch[] seen = new StopWatch[THREADS];
+    final Throwable[] failure = new Throwable[1];
+    Thread[] threads = new Thread[THREADS];
+    for (int i = 0; i < THREADS; i++) {
+      final int index = i;
+      threads[i] = new Thread("stopwatch-" + i) {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            for (int j = 0; j < ITERATIONS; j++) {
+              StopWatch stopwatch = service.getOrCreateStopWatch("shared");
+              seen[index] = stopwatch;
+              stopwatch.start();
+              stopwatch.stop();
+            }
+          } catch (Throwable ex) {
+            failure[0] = ex;
+          }
+        }
+      };
+      threads[i].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertNull(failure[0]);
+    for (int i = 1; i < THREADS; i++) {
+      Assert.assertSame(seen[0], seen[i]);
+    }
+    StopWatch stopwatch = service.getOrCreateStopWatch("shared");
+    Assert.assertEquals(THREADS * ITERATIONS, stopwatch.getInvocations());
+    Assert.assertEquals(THREADS * ITERATIONS, service.getSpans().size());
+    Assert.assertEquals(1, service.getStopWatches().size());
+    Assert.assertTrue(stopwatch.getPercentile(50) <= stopwatch.getPercentile(99));
+    Assert.assertTrue(stopwatch.getPercentile(99) <= stopwatch.getMaxTime());
+  }
+
+  @Test
+  public void nestedSpans() throws Exception {
+    StopWatchServiceImpl service = new StopWatchServiceImpl();
+    StopWatch outer = service.getOrCreateStopWatch("outer");
+    StopWatch inner = service.getOrCreateStopWatch("inner");
+    outer.start();
+    inner.start();
+    Thread.sleep(2);
+    inner.stop();
+    inner.start();
+    inner.stop();
+    outer.stop();
+
+    List<StopWatchSpan> spans = service.getSpans();
+    Assert.assertEquals(3, spans.size());
+    Assert.assertEquals("outer", spans.get(0).getName());
+    Assert.assertEquals(0, spans.get(0).getDepth());
+    Assert.assertEquals("inner", spans.get(1).getName());
+    Assert.assertEquals(1, spans.get(1).getDepth());
+    Assert.assertEquals(1, spans.get(2).getDepth());
+    Assert.assertEquals(Thread.currentThread().getId(), spans.get(1).getThreadId());
+    Assert.assertTrue(spans.get(0).getDuration() >= spans.get(1).getDuration() + spans.get(2).getDuration());
+    Assert.assertEquals(2, inner.getInvocations());
+    Assert.assertTrue(inner.getMaxTime() >= 1.0);
+  }
+
+  @Test
+  public void export() throws Exception {
+    StopWatchServiceImpl service = new StopWatchServiceImpl();
+    StopWatch stopwatch = service.getOrCreateStopWatch("a \"quoted\", name");
+    stopwatch.start();
+    stopwatch.stop();
+
+    String json = StopWatchExporter.toJson(service.getStopWatches(), service.getSpans());
+    Assert.assertTrue(json.contains("\"name\": \"a \\\"quoted\\\", name\""));
+    Assert.assertTrue(json.contains("\"invocations\": 1"));
+    Assert.assertTrue(json.contains("\"depth\": 0"));
+
+    String csv = StopWatchExporter.toCsv(service.getStopWatches());
+    Assert.assertTrue(csv.startsWith("name,invocations,total_ms,average_ms,p50_ms,p90_ms,p99_ms,max_ms\n"));
+    Assert.assertTrue(csv.contains("\"a \"\"quoted\"\", name\",1,"));
+
+    String trace = StopWatchExporter.toTraceEvents(service.getSpans());
+    Assert.assertTrue(trace.contains("\"ph\": \"X\""));
+    Assert.assertTrue(trace.contains("\"ph\": \"M\""));
+    Assert.assertTrue(trace.contains("\"tid\": " + Thread.currentThread().getId()));
+
+    File dir = JUnitUtilities.createTempDir();
+    service.exportAll(dir);
+    Assert.assertTrue(new File(dir, StopWatchExporter.JSON_FILE).isFile());
+    Assert.assertTrue(new File(dir, StopWatchExporter.CSV_FILE).isFile());
+    Assert.assertTrue(new File(dir, StopWatchExporter.TRACE_FILE).isFile());
+    Utilities.delete(dir);
+  }
+
+  @Test
+  public void resetAll() {
+    StopWatchServiceImpl service = new StopWatchServiceImpl();
+    StopWatch stopwatch = service.getOrCreateStopWatch("reset");
+    stopwatch.start();
+    stopwatch.stop();
+    service.resetAll();
+    Assert.assertTrue(service.getStopWatches().isEmpty());
+    Assert.assertTrue(service.getSpans().isEmpty());
+    Assert.assertEquals(0, service.getOrCreateStopWatch("reset").getInvocations());
+  }
+
+  @Test
+  public void resetAllDropsRunningInvocations() {
+    StopWatchServiceImpl service = new StopWatchServiceImpl();
+    // an invocation which has never been stopped (f.e. due to an exception)
+    service.getOrCreateStopWatch("outer").start();
+    service.resetAll();
+
+    StopWatch stopwatch = service.getOrCreateStopWatch("outer");
+    stopwatch.start();
+    stopwatch.stop();
+    Assert.assertEquals(1, service.getSpans().size());
+    Assert.assertEquals(0, service.getSpans().get(0).getDepth());
+    Assert.assertEquals(1, stopwatch.getInvocations());
+  }
+
+} /* ENDCLASS */
@@ -32,6 +32,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarFile;
 
 public class UtilitiesTest extends ConfigurableAnt4EclipseTestCase {
@@ -52,6 +56,39 @@ public class UtilitiesTest extends ConfigurableAnt4EclipseTestCase {
 
   }
 
+  @Test
+  public void concurrentExpandJarFile() throws Exception {
+    final File file = Utilities.exportResource("/util/test-jar.jar");
+    File parent = JUnitUtilities.createTempDir();
+    final File destdir = new File(parent, "expanded");
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<Object>> futures = new ArrayList<Future<Object>>();
+      for (int i = 0; i < 16; i++) {
+        futures.add(executor.submit(new Callable<Object>() {
+          public Object call() throws IOException {
+            JarFile jarfile = new JarFile(file);
+            try {
+              Utilities.expandJarFile(jarfile, destdir);
+            } finally {
+              jarfile.close();
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // no staging directories must be left
+    Assert.assertArrayEquals(new String[] { "expanded" }, parent.list());
+    Assert.assertTrue(new File(destdir, "test.jar").isFile());
+    Assert.assertTrue(new File(destdir, "META-INF/MANIFEST.MF").isFile());
+  }
+
   /**
    * This function would be necessary under TestNG !
    * 
@@ -111,6 +148,71 @@ public class UtilitiesTest extends ConfigurableAnt4EclipseTestCase {
 
   }
 
+  @Test
+  public void calcLexicalRelative() {
+    File root = File.listRoots()[0];
+    File from = new File(root, "schnerd/sub");
+    Assert.assertEquals("../../temp/rep".replace('/', File.separatorChar), Utilities.calcLexicalRelative(from,
+        new File(root, "temp/rep")));
+    Assert.assertEquals("deeper/file".replace('/', File.separatorChar), Utilities.calcLexicalRelative(from, new File(
+        from, "deeper/file")));
+    Assert.assertEquals("", Utilities.calcLexicalRelative(from, from));
+    Assert.assertEquals("temp/rep".replace('/', File.separatorChar), Utilities.calcLexicalRelative(root, new File(root,
+        "temp/rep")));
+    // the paths are used as they are
+    Assert.assertEquals(Utilities.calcRelative(from, new File(root, "temp/rep")), Utilities.calcLexicalRelative(from,
+        new File(root, "temp/rep")));
+  }
+
+  @Test
+  public void hasSameContent() {
+    File dir = JUnitUtilities.createTempDir();
+    byte[] content = new byte[20000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    File file1 = new File(dir, "file1");
+    File file2 = new File(dir, "file2");
+    Utilities.writeFile(file1, content);
+    Utilities.writeFile(file2, content);
+    Assert.assertTrue(Utilities.hasSameContent(file1, file2));
+    // a difference within the last chunk
+    content[content.length - 1]++;
+    Utilities.writeFile(file2, content);
+    Assert.assertFalse(Utilities.hasSameContent(file1, file2));
+    Utilities.writeFile(file2, new byte[10]);
+    Assert.assertFalse(Utilities.hasSameContent(file1, file2));
+    Assert.assertFalse(Utilities.hasSameContent(file1, new File(dir, "missing")));
+  }
+
+  @Test
+  public void canonicalFiles() {
+    File file = new File(".");
+    File canonical = Utilities.getCanonicalFile(file);
+    Assert.assertEquals(new File("").getAbsoluteFile(), canonical);
+    // the canonical file is remembered until the build scope ends
+    Assert.assertSame(canonical, Utilities.getCanonicalFile(file));
+    Utilities.clearCanonicalFiles();
+    File recomputed = Utilities.getCanonicalFile(file);
+    Assert.assertNotSame(canonical, recomputed);
+    Assert.assertEquals(canonical, recomputed);
+  }
+
+  @Test
+  public void canonicalFilesLimit() {
+    File file = new File("recent");
+    File canonical = Utilities.getCanonicalFile(file);
+    File oneoff = Utilities.getCanonicalFile(new File("oneoff0"));
+    // the recently used file is kept while the one-off files are dropped
+    for (int i = 1; i <= Utilities.CANONICAL_FILES_LIMIT; i++) {
+      Utilities.getCanonicalFile(new File("oneoff" + i));
+      Assert.assertSame(canonical, Utilities.getCanonicalFile(file));
+    }
+    File recomputed = Utilities.getCanonicalFile(new File("oneoff0"));
+    Assert.assertNotSame(oneoff, recomputed);
+    Assert.assertEquals(oneoff, recomputed);
+  }
+
   @Test
   public void cleanup() {
 
@@ -11,7 +11,7 @@
  **********************************************************************/
 package org.ant4eclipse.lib.core.logging;
 
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 
 /**
  * <p>
@@ -23,6 +23,10 @@ import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
  */
 public class A4ELogging {
 
+  /** the logger provided by the registry */
+  private static final ServiceHandle<Ant4EclipseLogger> LOGGER = new ServiceHandle<Ant4EclipseLogger>(
+      Ant4EclipseLogger.class);
+
   /**
    * Returns <code>true</code> if the debugging is enabled.
    * 
@@ -137,7 +141,7 @@ public class A4ELogging {
    * @return An instance of a logger currently provided by the registry. Not <code>null</code>.
    */
   private static final Ant4EclipseLogger getLogger() {
-    return ServiceRegistryAccess.instance().getService(Ant4EclipseLogger.class);
+    return LOGGER.get();
   }
 
 } /* ENDCLASS */
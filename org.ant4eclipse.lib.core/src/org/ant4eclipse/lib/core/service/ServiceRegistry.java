@@ -14,9 +14,11 @@ package org.ant4eclipse.lib.core.service;
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.CoreExceptionCode;
 import org.ant4eclipse.lib.core.Lifecycle;
+import org.ant4eclipse.lib.core.Revalidatable;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,7 +43,9 @@ import java.util.Map;
  * ServiceRegistry.configure(configuration);</pre></code>
  * </p>
  * <p>
- * After configuring the registry, services can be requested.
+ * After configuring the registry, services can be requested. The registered services can't be changed afterwards, so
+ * the registry can be read concurrently without locking. Frequently used services should be accessed through a
+ * {@link ServiceHandle} which avoids the lookup by name.
  * </p>
  * 
  * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
@@ -52,13 +56,13 @@ import java.util.Map;
 public class ServiceRegistry {
 
   /** the service map **/
-  private Map<String, Object> _serviceMap;
+  private final Map<String, Object> _serviceMap;
 
   /** list that contains the ordering of the services **/
-  private List<Object>        _serviceOrdering;
+  private final List<Object>        _serviceOrdering;
 
   /** indicates whether the registry instance is initialized **/
-  private boolean             _isInitialized = false;
+  private volatile boolean          _isInitialized = false;
 
   /**
    * <p>
@@ -183,6 +187,24 @@ public class ServiceRegistry {
     setInitialized(false);
   }
 
+  /**
+   * <p>
+   * Asks all services implementing {@link Revalidatable} to drop their stale models. Services registered under several
+   * identifiers are only revalidated once.
+   * </p>
+   */
+  void revalidate() {
+
+    Assure.assertTrue(isInitialized(), "Service registry is not initialized.");
+
+    Map<Object, Object> revalidated = new IdentityHashMap<Object, Object>();
+    for (Object service : this._serviceOrdering) {
+      if ((service instanceof Revalidatable) && (revalidated.put(service, service) == null)) {
+        ((Revalidatable) service).revalidate();
+      }
+    }
+  }
+
   /**
    * @param b
    */
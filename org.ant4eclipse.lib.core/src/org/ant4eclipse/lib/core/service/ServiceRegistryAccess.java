@@ -12,6 +12,7 @@
 package org.ant4eclipse.lib.core.service;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.util.Utilities;
 
 /**
  * <p>
@@ -23,12 +24,20 @@ import org.ant4eclipse.lib.core.Assure;
  */
 public class ServiceRegistryAccess {
 
-  /** the instance */
-  private static ServiceRegistry _instance;
+  /** the instance (volatile, so a configured registry and its services are safely published to all threads) */
+  private static volatile ServiceRegistry           _instance;
+
+  /** the registry which is currently initialized by the configuring thread, so its services can access it */
+  private static final ThreadLocal<ServiceRegistry> INITIALIZING = new ThreadLocal<ServiceRegistry>();
 
   /**
    * <p>
-   * Configures the {@link ServiceRegistry}. The registry has to be configured before it can be used.
+   * Configures the {@link ServiceRegistry}. The registry has to be configured before it can be used. As a new build
+   * starts the canonical files remembered by {@link Utilities#getCanonicalFile(java.io.File)} are dropped.
+   * </p>
+   * <p>
+   * The registry is published once it has been initialized, so other threads never see a registry which isn't
+   * initialized yet. While the services are initialized only the configuring thread can access the registry.
    * </p>
    * 
    * @param configuration
@@ -37,13 +46,15 @@ public class ServiceRegistryAccess {
   public static final void configure(ServiceRegistryConfiguration configuration) {
     Assure.notNull("configuration", configuration);
     Assure.assertTrue(!isConfigured(), "ServiceRegistry already is configured.");
-    _instance = new ServiceRegistry(configuration);
+    Utilities.clearCanonicalFiles();
+    ServiceRegistry registry = new ServiceRegistry(configuration);
+    INITIALIZING.set(registry);
     try {
-      _instance.initialize();
-    } catch (RuntimeException exception) {
-      _instance = null;
-      throw exception;
+      registry.initialize();
+    } finally {
+      INITIALIZING.remove();
     }
+    _instance = registry;
   }
 
   /**
@@ -73,24 +84,45 @@ public class ServiceRegistryAccess {
 
   /**
    * <p>
-   * Resets the {@link ServiceRegistry}.
+   * Resets the {@link ServiceRegistry} and drops the canonical files remembered within the build.
    * </p>
    */
   public static final void reset() {
-    instance().dispose();
-    _instance = null;
+    try {
+      instance().dispose();
+    } finally {
+      _instance = null;
+      Utilities.clearCanonicalFiles();
+    }
   }
 
   /**
    * <p>
-   * Returns the instance.
+   * Revalidates the {@link ServiceRegistry} so it can be reused for another build. All services implementing
+   * {@link org.ant4eclipse.lib.core.Revalidatable} drop their stale models, just like the canonical files remembered
+   * within the previous build.
+   * </p>
+   */
+  public static final void revalidate() {
+    Utilities.clearCanonicalFiles();
+    instance().revalidate();
+  }
+
+  /**
+   * <p>
+   * Returns the instance. Services that are accessed very often should be accessed through a {@link ServiceHandle}.
    * </p>
    * 
    * @return the instance.
    */
   public static final ServiceRegistry instance() {
-    Assure.assertTrue(isConfigured(), "ServiceRegistry has to be configured.");
-    return _instance;
+    ServiceRegistry result = _instance;
+    if (result == null) {
+      // the services of a registry which is currently initialized might access it
+      result = INITIALIZING.get();
+    }
+    Assure.assertTrue(result != null, "ServiceRegistry has to be configured.");
+    return result;
   }
 
 }
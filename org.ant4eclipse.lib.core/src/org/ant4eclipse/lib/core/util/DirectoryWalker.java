@@ -0,0 +1,144 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.Assure;
+
+import java.io.File;
+
+/**
+ * <p>
+ * Walks a directory tree depth first, in the order the entries are listed by the file system. Each directory is
+ * listed exactly once and the type of each entry is determined with a single file system access. Entries can be
+ * filtered by their name before their type is determined, subtrees can be skipped and the walk can be terminated
+ * early.
+ * </p>
+ */
+public class DirectoryWalker {
+
+  /**
+   * <p>
+   * Receives the entries of a walked directory tree. The paths passed to the visitor are relative to the walked
+   * directory and use <code>/</code> as separator. All entries are accepted by default, so implementations only need
+   * to override the methods they are interested in.
+   * </p>
+   */
+  public abstract static class Visitor {
+
+    /**
+     * <p>
+     * Filters an entry by its name before its type is determined. Rejected entries are neither visited nor entered,
+     * so the file system doesn't need to be accessed for them.
+     * </p>
+     *
+     * @param directory
+     *          The directory containing the entry. Not <code>null</code>.
+     * @param name
+     *          The name of the entry. Neither <code>null</code> nor empty.
+     *
+     * @return <code>true</code> <=> The entry has to be visited.
+     */
+    public boolean acceptName(File directory, String name) {
+      return true;
+    }
+
+    /**
+     * <p>
+     * Invoked before the children of a directory are walked.
+     * </p>
+     *
+     * @param directory
+     *          The directory. Not <code>null</code>.
+     * @param path
+     *          The path of the directory relative to the walked directory. Neither <code>null</code> nor empty.
+     *
+     * @return <code>true</code> <=> The children of the directory have to be walked.
+     */
+    public boolean enterDirectory(File directory, String path) {
+      return true;
+    }
+
+    /**
+     * <p>
+     * Invoked for each entry which is not a directory.
+     * </p>
+     *
+     * @param file
+     *          The file. Not <code>null</code>.
+     * @param path
+     *          The path of the file relative to the walked directory. Neither <code>null</code> nor empty.
+     *
+     * @return <code>true</code> <=> The walk has to be continued, <code>false</code> terminates the walk.
+     */
+    public boolean visitFile(File file, String path) {
+      return true;
+    }
+
+  } /* ENDCLASS */
+
+  /**
+   * <p>
+   * Walks the supplied directory. The directory itself is not passed to the visitor.
+   * </p>
+   *
+   * @param directory
+   *          The directory which has to be walked. Not <code>null</code>. If it's not a directory nothing is visited.
+   * @param visitor
+   *          The visitor receiving the entries. Not <code>null</code>.
+   *
+   * @return <code>true</code> <=> The walk has been completed, <code>false</code> if it has been terminated by the
+   *         visitor.
+   */
+  public static boolean walk(File directory, Visitor visitor) {
+    Assure.notNull("directory", directory);
+    Assure.notNull("visitor", visitor);
+    return walk(directory, null, visitor);
+  }
+
+  /**
+   * <p>
+   * Walks the children of the supplied directory.
+   * </p>
+   *
+   * @param directory
+   *          The directory which children have to be walked. Not <code>null</code>.
+   * @param path
+   *          The relative path of the directory. <code>null</code> for the walked directory.
+   * @param visitor
+   *          The visitor receiving the entries. Not <code>null</code>.
+   *
+   * @return <code>true</code> <=> The walk has to be continued.
+   */
+  private static boolean walk(File directory, String path, Visitor visitor) {
+    // the listed files are cheaper to create than files which are resolved against the directory
+    File[] children = directory.listFiles();
+    if (children == null) {
+      return true;
+    }
+    for (File child : children) {
+      String name = child.getName();
+      if (!visitor.acceptName(directory, name)) {
+        continue;
+      }
+      String childpath = path == null ? name : path + '/' + name;
+      if (child.isDirectory()) {
+        if (visitor.enterDirectory(child, childpath) && (!walk(child, childpath, visitor))) {
+          return false;
+        }
+      } else if (!visitor.visitFile(child, childpath)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+} /* ENDCLASS */
@@ -11,7 +11,7 @@
  **********************************************************************/
 package org.ant4eclipse.lib.core.util;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.jar.Manifest;
 
@@ -145,125 +145,172 @@ public class ManifestHelper {
     return getManifestHeaderElements(manifestValue);
   }
 
+  /**
+   * <p>
+   * Parses the supplied header value into its clauses. Each clause provides its values, attributes and directives.
+   * </p>
+   * <p>
+   * The header is read within a single pass: clauses (separated by <code>,</code>), parts (separated by
+   * <code>;</code>), directives (<code>key:=value</code>) and attributes (<code>key=value</code>) are recognised at
+   * once and the tokens are sliced from the header value. Separators within quoted strings are ignored and escaped
+   * quotes (<code>\"</code>) are kept. Keys and values aren't trimmed, a single leading and trailing quote is removed
+   * from attribute and directive values.
+   * </p>
+   * 
+   * @param manifestValue
+   *          the header value. Neither <code>null</code> nor empty.
+   * 
+   * @return the clauses of the header. Not <code>null</code>.
+   */
   public static ManifestHeaderElement[] getManifestHeaderElements(String manifestValue) {
     Assure.nonEmpty("manifestValue", manifestValue);
 
-    String[] elements = splitHeader(manifestValue);
-    List<ManifestHeaderElement> result = new LinkedList<ManifestHeaderElement>();
-    for (String element : elements) {
-      ManifestHeaderElement manifestHeaderElement = new ManifestHeaderElement();
-      result.add(manifestHeaderElement);
-      String[] elementParts = splitHeader(element, ";");
-
-      for (String elementPart : elementParts) {
-        String[] splitted = splitHeader(elementPart, ":=");
-        // Directive found...
-        if (splitted.length > 1) {
-          manifestHeaderElement.addDirective(splitted[0], removeQuotes(splitted[1]));
-        } else {
-          splitted = splitHeader(elementPart, "=");
-          if (splitted.length > 1) {
-            manifestHeaderElement.addAttribute(splitted[0], removeQuotes(splitted[1]));
+    int length = manifestValue.length();
+    if (isBlank(manifestValue, 0, length)) {
+      return new ManifestHeaderElement[0];
+    }
+
+    List<ManifestHeaderElement> result = new ArrayList<ManifestHeaderElement>();
+    ManifestHeaderElement element = new ManifestHeaderElement();
+    boolean quoted = false;
+    boolean blankClause = true;
+    int partStart = 0;
+    // the positions of the first and the second unquoted ':=' and '=' within the current part
+    int directive = -1;
+    int directiveEnd = -1;
+    int attribute = -1;
+    int attributeEnd = -1;
+
+    for (int i = 0; i <= length; i++) {
+      char c = i < length ? manifestValue.charAt(i) : ',';
+      if ((i == length) || (!quoted && ((c == ',') || (c == ';')))) {
+        if (c == ';') {
+          blankClause = false;
+        }
+
+        // end of part: add the value, the attribute or the directive (blank clauses don't have any parts)
+        if (!blankClause) {
+          if (directive != -1) {
+            element.addDirective(manifestValue.substring(partStart, directive), removeQuotes(manifestValue.substring(
+                directive + 2, directiveEnd != -1 ? directiveEnd : i)));
+          } else if ((attribute != -1) && !isBlank(manifestValue, partStart, i)) {
+            element.addAttribute(manifestValue.substring(partStart, attribute), removeQuotes(manifestValue.substring(
+                attribute + 1, attributeEnd != -1 ? attributeEnd : i)));
           } else {
-            manifestHeaderElement.addValue(elementPart);
+            element.addValue(manifestValue.substring(partStart, i));
           }
         }
+        partStart = i + 1;
+        directive = -1;
+        directiveEnd = -1;
+        attribute = -1;
+        attributeEnd = -1;
+
+        // end of clause
+        if (c == ',') {
+          result.add(element);
+          element = new ManifestHeaderElement();
+          blankClause = true;
+        }
+        continue;
+      }
+
+      if (c > ' ') {
+        blankClause = false;
+      }
+      if (c == '"') {
+        // quoted string begins or ends
+        quoted = !quoted;
+      } else if ((c == '\\') && (i + 1 < length) && (manifestValue.charAt(i + 1) == '"')) {
+        // escaped quote
+        i++;
+      } else if (!quoted && (c == ':') && (i + 1 < length) && (manifestValue.charAt(i + 1) == '=')) {
+        if (directive == -1) {
+          directive = i;
+        } else if (directiveEnd == -1) {
+          directiveEnd = i;
+        }
+        i++;
+      } else if (!quoted && (c == '=')) {
+        if (attribute == -1) {
+          attribute = i;
+        } else if (attributeEnd == -1) {
+          attributeEnd = i;
+        }
       }
     }
 
-    return result.toArray(new ManifestHeaderElement[0]);
+    return result.toArray(new ManifestHeaderElement[result.size()]);
   }
 
   /**
+   * <p>
+   * Splits the supplied header value into its clauses (separated by <code>,</code>).
+   * </p>
+   * 
    * @param header
-   * @return
+   *          the header value. Maybe <code>null</code>.
+   * 
+   * @return the clauses of the header. Not <code>null</code>.
    */
   public static String[] splitHeader(String header) {
     return splitHeader(header, ",");
   }
 
   /**
+   * <p>
+   * Splits the supplied header value at each occurrence of the separator which isn't part of a quoted string. Escaped
+   * quotes (<code>\"</code>) neither begin nor end a quoted string. The tokens are slices of the header value, they are
+   * neither trimmed nor unquoted.
+   * </p>
+   * 
    * @param header
+   *          the header value. Maybe <code>null</code>.
    * @param separator
-   * @return
+   *          the separator. Neither <code>null</code> nor empty.
+   * 
+   * @return the tokens of the header or an empty array if the header is <code>null</code> or blank. Not
+   *         <code>null</code>.
    */
   public static String[] splitHeader(String header, String separator) {
-    if ((header == null) || (header.trim().length() == 0)) {
+    Assure.nonEmpty("separator", separator);
+    if ((header == null) || isBlank(header, 0, header.length())) {
       return new String[0];
     }
-    List<String> result = new LinkedList<String>();
-
-    char[] chars = header.toCharArray();
-    StringBuilder currentValue = new StringBuilder();
-    boolean inQuotedString = false;
-    for (int i = 0; i < chars.length; i++) {
-
-      // separator string is not found:
-      // - append char to current value
-      // - check for the beginning or ending of quoted strings
-      if (!lookup(chars, i, separator)) {
-
-        // single '"' found: quoted string begins or ends
-        if (lookup(chars, i, "\"")) {
-          inQuotedString = !inQuotedString;
-        }
-
-        // filter for '\"'
-        else if (lookup(chars, i, "\\\"")) {
-          currentValue.append(chars[i]);
-          i++;
-        }
 
-        // append char to current value
-        currentValue.append(chars[i]);
-      }
-
-      // separator char found:
-      // - split if we are not in a quoted string
-      // - no split if we are
-      else {
-
-        // - split if we are not in a quoted string
-        if (!inQuotedString) {
-          result.add(currentValue.toString());
-          currentValue = new StringBuilder();
-          i = i + (separator.length() - 1);
-        }
-
-        // - no split if we are in a quoted string
-        else {
-          currentValue.append(chars[i]);
-        }
+    List<String> result = new ArrayList<String>();
+    int length = header.length();
+    int start = 0;
+    boolean quoted = false;
+    for (int i = 0; i < length; i++) {
+      char c = header.charAt(i);
+      if (!quoted && header.startsWith(separator, i)) {
+        result.add(header.substring(start, i));
+        i += separator.length() - 1;
+        start = i + 1;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if ((c == '\\') && (i + 1 < length) && (header.charAt(i + 1) == '"')) {
+        i++;
       }
     }
+    result.add(header.substring(start));
 
-    // add the current value
-    result.add(currentValue.toString());
-
-    return result.toArray(new String[0]);
+    return result.toArray(new String[result.size()]);
   }
 
   /**
-   * @param array
-   * @param index
-   * @param pattern
-   * @return
+   * <p>
+   * Returns <code>true</code> if the supplied region of the string only consists of whitespace (in the sense of
+   * {@link String#trim()}).
+   * </p>
    */
-  private static boolean lookup(char[] array, int index, String pattern) {
-    Assure.nonEmpty("pattern", pattern);
-
-    if (index + pattern.length() > array.length) {
-      return false;
-    }
-
-    char[] patternChars = pattern.toCharArray();
-
-    for (int i = 0; i < patternChars.length; i++) {
-      if (array[index + i] != patternChars[i]) {
+  private static boolean isBlank(String value, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (value.charAt(i) > ' ') {
         return false;
       }
     }
-
     return true;
   }
 
@@ -302,7 +349,7 @@ public class ManifestHelper {
     protected StringMap    _directives;
 
     public ManifestHeaderElement() {
-      this._values = new LinkedList<String>();
+      this._values = new ArrayList<String>(1);
       this._attributes = new StringMap();
       this._directives = new StringMap();
     }
@@ -11,7 +11,8 @@
  **********************************************************************/
 package org.ant4eclipse.lib.core.util;
 
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 
 /**
  * Used for ant4eclipse internal performance logging
@@ -21,6 +22,10 @@ import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
  */
 public class PerformanceLogging {
 
+  /** the stop watch service provided by the registry */
+  private static final ServiceHandle<StopWatchService> STOP_WATCH_SERVICE = new ServiceHandle<StopWatchService>(
+      StopWatchService.class);
+
   private static final boolean ENABLE_PERFORMANCE_LOGGING = Boolean.getBoolean("ant4eclipse.enablePerformanceLogging");
 
   /**
@@ -51,11 +56,28 @@ public class PerformanceLogging {
     return -1;
   }
 
+  /**
+   * Reports figures (f.e. the number of bytes written) gathered while performing the operation identified by the given
+   * class and name.
+   * 
+   * @param source
+   * @param name
+   * @param message
+   *          the format of the figures
+   * @param args
+   *          the figures
+   */
+  public static void report(Class<?> source, String name, String message, Object... args) {
+    if (ENABLE_PERFORMANCE_LOGGING) {
+      A4ELogging.info("%s::%s: %s", source.getName(), name, String.format(message, args));
+    }
+  }
+
   /**
    * @return the registered instance of the {@link StopWatchService}
    */
   private static StopWatchService getStopWatchService() {
-    return ServiceRegistryAccess.instance().getService(StopWatchService.class);
+    return STOP_WATCH_SERVICE.get();
   }
 
 }
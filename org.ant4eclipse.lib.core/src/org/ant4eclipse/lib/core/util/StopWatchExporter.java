@@ -0,0 +1,215 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import org.ant4eclipse.lib.core.Assure;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>
+ * Renders the data collected by a {@link StopWatchService} in machine readable formats:
+ * <ul>
+ * <li>JSON: the statistics of all stop watches (including percentiles) together with all recorded spans.</li>
+ * <li>CSV: one line of statistics per stop watch.</li>
+ * <li>Trace events: the recorded spans in the Chrome trace event format (viewable with <code>chrome://tracing</code>
+ * or compatible tools).</li>
+ * </ul>
+ * </p>
+ */
+public class StopWatchExporter {
+
+  /** the name of the json file written by {@link #exportAll(StopWatchService, File)} */
+  public static final String  JSON_FILE  = "stopwatches.json";
+
+  /** the name of the csv file written by {@link #exportAll(StopWatchService, File)} */
+  public static final String  CSV_FILE   = "stopwatches.csv";
+
+  /** the name of the trace event file written by {@link #exportAll(StopWatchService, File)} */
+  public static final String  TRACE_FILE = "stopwatches-trace.json";
+
+  private static final String ENCODING   = "UTF-8";
+
+  /**
+   * Writes the json, csv and trace event representation of the supplied service into a directory.
+   * 
+   * @param service
+   *          The service providing the data. Not <code>null</code>.
+   * @param directory
+   *          The destination directory which will be created if necessary. Not <code>null</code>.
+   */
+  public static void exportAll(StopWatchService service, File directory) {
+    Assure.notNull("service", service);
+    Assure.notNull("directory", directory);
+    Utilities.mkdirs(directory);
+    List<StopWatch> stopwatches = service.getStopWatches();
+    List<StopWatchSpan> spans = service.getSpans();
+    Utilities.writeFile(new File(directory, JSON_FILE), toJson(stopwatches, spans), ENCODING);
+    Utilities.writeFile(new File(directory, CSV_FILE), toCsv(stopwatches), ENCODING);
+    Utilities.writeFile(new File(directory, TRACE_FILE), toTraceEvents(spans), ENCODING);
+  }
+
+  /**
+   * Renders the statistics of the stop watches and the spans as a json document.
+   * 
+   * @param stopwatches
+   *          The stop watches that shall be rendered. Not <code>null</code>.
+   * @param spans
+   *          The spans that shall be rendered. Not <code>null</code>.
+   * 
+   * @return The json document. Not <code>null</code>.
+   */
+  public static String toJson(List<StopWatch> stopwatches, List<StopWatchSpan> spans) {
+    StringBuilder builder = new StringBuilder();
+    builder.append("{\n  \"stopwatches\": [");
+    for (int i = 0; i < stopwatches.size(); i++) {
+      StopWatch stopwatch = stopwatches.get(i);
+      builder.append(i > 0 ? ",\n    " : "\n    ");
+      builder.append("{\"name\": ");
+      appendJsonString(builder, stopwatch.getName());
+      builder.append(", \"invocations\": ").append(stopwatch.getInvocations());
+      builder.append(", \"totalMs\": ").append(stopwatch.getElapsedTime());
+      builder.append(", \"averageMs\": ").append(format(stopwatch.getAverageTime()));
+      builder.append(", \"p50Ms\": ").append(format(stopwatch.getPercentile(50)));
+      builder.append(", \"p90Ms\": ").append(format(stopwatch.getPercentile(90)));
+      builder.append(", \"p99Ms\": ").append(format(stopwatch.getPercentile(99)));
+      builder.append(", \"maxMs\": ").append(format(stopwatch.getMaxTime()));
+      builder.append("}");
+    }
+    builder.append("\n  ],\n  \"spans\": [");
+    for (int i = 0; i < spans.size(); i++) {
+      StopWatchSpan span = spans.get(i);
+      builder.append(i > 0 ? ",\n    " : "\n    ");
+      builder.append("{\"name\": ");
+      appendJsonString(builder, span.getName());
+      builder.append(", \"threadId\": ").append(span.getThreadId());
+      builder.append(", \"threadName\": ");
+      appendJsonString(builder, span.getThreadName());
+      builder.append(", \"startUs\": ").append(span.getStart() / 1000);
+      builder.append(", \"durationUs\": ").append(span.getDuration() / 1000);
+      builder.append(", \"depth\": ").append(span.getDepth());
+      builder.append("}");
+    }
+    builder.append("\n  ]\n}\n");
+    return builder.toString();
+  }
+
+  /**
+   * Renders the statistics of the stop watches as csv (one line per stop watch, preceded by a header line).
+   * 
+   * @param stopwatches
+   *          The stop watches that shall be rendered. Not <code>null</code>.
+   * 
+   * @return The csv content. Not <code>null</code>.
+   */
+  public static String toCsv(List<StopWatch> stopwatches) {
+    StringBuilder builder = new StringBuilder();
+    builder.append("name,invocations,total_ms,average_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+    for (StopWatch stopwatch : stopwatches) {
+      appendCsvString(builder, stopwatch.getName());
+      builder.append(',').append(stopwatch.getInvocations());
+      builder.append(',').append(stopwatch.getElapsedTime());
+      builder.append(',').append(format(stopwatch.getAverageTime()));
+      builder.append(',').append(format(stopwatch.getPercentile(50)));
+      builder.append(',').append(format(stopwatch.getPercentile(90)));
+      builder.append(',').append(format(stopwatch.getPercentile(99)));
+      builder.append(',').append(format(stopwatch.getMaxTime()));
+      builder.append('\n');
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Renders the spans as complete events (phase <code>X</code>) of the Chrome trace event format. Each thread gets a
+   * metadata event providing its name.
+   * 
+   * @param spans
+   *          The spans that shall be rendered. Not <code>null</code>.
+   * 
+   * @return The trace event document. Not <code>null</code>.
+   */
+  public static String toTraceEvents(List<StopWatchSpan> spans) {
+    StringBuilder builder = new StringBuilder();
+    builder.append("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [");
+    Map<Long, String> threads = new HashMap<Long, String>();
+    boolean first = true;
+    for (StopWatchSpan span : spans) {
+      if (!threads.containsKey(Long.valueOf(span.getThreadId()))) {
+        threads.put(Long.valueOf(span.getThreadId()), span.getThreadName());
+        builder.append(first ? "\n  " : ",\n  ");
+        first = false;
+        builder.append("{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": ").append(span.getThreadId());
+        builder.append(", \"args\": {\"name\": ");
+        appendJsonString(builder, span.getThreadName());
+        builder.append("}}");
+      }
+      builder.append(first ? "\n  " : ",\n  ");
+      first = false;
+      builder.append("{\"name\": ");
+      appendJsonString(builder, span.getName());
+      builder.append(", \"cat\": \"ant4eclipse\", \"ph\": \"X\", \"pid\": 1, \"tid\": ").append(span.getThreadId());
+      builder.append(", \"ts\": ").append(format(span.getStart() / 1000.0));
+      builder.append(", \"dur\": ").append(format(span.getDuration() / 1000.0));
+      builder.append(", \"args\": {\"depth\": ").append(span.getDepth()).append("}}");
+    }
+    builder.append("\n]}\n");
+    return builder.toString();
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ENGLISH, "%.3f", Double.valueOf(value));
+  }
+
+  private static void appendJsonString(StringBuilder builder, String value) {
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      switch (ch) {
+      case '"':
+        builder.append("\\\"");
+        break;
+      case '\\':
+        builder.append("\\\\");
+        break;
+      case '\n':
+        builder.append("\\n");
+        break;
+      case '\r':
+        builder.append("\\r");
+        break;
+      case '\t':
+        builder.append("\\t");
+        break;
+      default:
+        if (ch < 0x20) {
+          builder.append(String.format("\\u%04x", Integer.valueOf(ch)));
+        } else {
+          builder.append(ch);
+        }
+      }
+    }
+    builder.append('"');
+  }
+
+  private static void appendCsvString(StringBuilder builder, String value) {
+    if ((value.indexOf(',') == -1) && (value.indexOf('"') == -1) && (value.indexOf('\n') == -1)) {
+      builder.append(value);
+    } else {
+      builder.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+  }
+
+} /* ENDCLASS */
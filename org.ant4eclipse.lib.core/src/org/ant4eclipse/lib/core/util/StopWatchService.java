@@ -11,6 +11,9 @@
  **********************************************************************/
 package org.ant4eclipse.lib.core.util;
 
+import java.io.File;
+import java.util.List;
+
 /**
  * A service managing stop watches.
  * 
@@ -34,7 +37,21 @@ public interface StopWatchService {
   public StopWatch getOrCreateStopWatch(String name);
 
   /**
-   * Resets all managed stopwatches
+   * Returns a snapshot of all managed stopwatches.
+   * 
+   * @return A list of all managed stopwatches. Not <code>null</code>.
+   */
+  public List<StopWatch> getStopWatches();
+
+  /**
+   * Returns a snapshot of all recorded spans ordered by their start.
+   * 
+   * @return A list of all recorded spans. Not <code>null</code>.
+   */
+  public List<StopWatchSpan> getSpans();
+
+  /**
+   * Resets all managed stopwatches including the invocations which are still running on any thread
    */
   public void resetAll();
 
@@ -43,4 +60,12 @@ public interface StopWatchService {
    */
   public void dumpAll();
 
+  /**
+   * Writes all stopwatches and spans into the supplied directory (see {@link StopWatchExporter#exportAll}).
+   * 
+   * @param directory
+   *          The directory where the files have to be written to. Not <code>null</code>.
+   */
+  public void exportAll(File directory);
+
 }
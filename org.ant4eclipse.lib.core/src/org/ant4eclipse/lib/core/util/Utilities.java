@@ -16,7 +16,6 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -36,7 +35,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -64,31 +63,60 @@ import org.ant4eclipse.lib.core.nls.NLSMessage;
 public class Utilities {
 
   /** - */
-  private static final String OPEN            = "${";
+  private static final String                      OPEN                  = "${";
 
   /** - */
-  private static final String CLOSE           = "}";
+  private static final String                      CLOSE                 = "}";
 
   @NLSMessage("Exporting a resource is only supported for root based pathes !")
-  public static String        MSG_INVALIDRESOURCEPATH;
+  public static String                             MSG_INVALIDRESOURCEPATH;
 
   @NLSMessage("Failed to delete '%s' !")
-  public static String        MSG_FAILEDTODELETE;
+  public static String                             MSG_FAILEDTODELETE;
 
   /** - */
-  public static final String  PROP_A4ETEMPDIR = "ant4eclipse.temp";
+  public static final String                       PROP_A4ETEMPDIR       = "ant4eclipse.temp";
 
   /** - */
-  public static final String  NL              = System.getProperty("line.separator");
+  public static final String                       NL                    = System.getProperty("line.separator");
 
   /** - */
-  public static final String  ENCODING        = System.getProperty("file.encoding");
+  public static final String                       ENCODING              = System.getProperty("file.encoding");
 
   /** - */
-  private static final String OS              = System.getProperty("os.name");
+  private static final String                      OS                    = System.getProperty("os.name");
+
+  /** the size of the buffers used to expand jar files */
+  private static final int                         EXPANSION_BUFFER_SIZE = 64 * 1024;
+
+  /** the buffers used to expand jar files (one per thread) */
+  private static final ThreadLocal<byte[]>         EXPANSION_BUFFER      = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[EXPANSION_BUFFER_SIZE];
+    }
+  };
+
+  /** the number of locks used to serialize expansions into the same directory */
+  private static final int                         EXPANSION_LOCK_COUNT  = 64;
+
+  /** the locks used to serialize expansions into the same directory (striped by the directory) */
+  private static final Object[]                    EXPANSION_LOCKS       = new Object[EXPANSION_LOCK_COUNT];
+
+  /** the size of the buffers used to compare file contents */
+  private static final int                         COMPARE_BUFFER_SIZE   = 8 * 1024;
+
+  /** the maximum number of canonical files remembered, the least recently used ones are dropped beyond */
+  static final int                                 CANONICAL_FILES_LIMIT = 16384;
+
+  /** the canonical files computed within the current build (file -> canonical file) */
+  private static final Map<File, File>             CANONICAL_FILES       = new CanonicalFiles(CANONICAL_FILES_LIMIT);
 
   static {
     NLS.initialize(Utilities.class);
+    for (int i = 0; i < EXPANSION_LOCKS.length; i++) {
+      EXPANSION_LOCKS[i] = new Object();
+    }
   }
 
   /**
@@ -102,12 +130,49 @@ public class Utilities {
   public static final File getCanonicalFile(File file) {
     Assure.notNull("file", file);
     try {
-      return file.getCanonicalFile();
+      return canonicalFile(file);
     } catch (IOException ex) {
       throw new Ant4EclipseException(ex, CoreExceptionCode.CANONICAL_FILE, file);
     }
   }
 
+  /**
+   * Returns the canonical representation of the supplied file. Canonical files are remembered until
+   * {@link #clearCanonicalFiles()} is invoked, so the file system is only accessed once per file and build.
+   * 
+   * @param file
+   *          The file which canonical representation is desired. Not <code>null</code>.
+   * 
+   * @return The canonical file. Not <code>null</code>.
+   * 
+   * @throws IOException
+   *           The canonical file could not be determined.
+   */
+  private static final File canonicalFile(File file) throws IOException {
+    File result;
+    synchronized (CANONICAL_FILES) {
+      result = CANONICAL_FILES.get(file);
+    }
+    if (result == null) {
+      // the file system is accessed without holding the lock, so a file might be resolved twice concurrently
+      result = file.getCanonicalFile();
+      synchronized (CANONICAL_FILES) {
+        CANONICAL_FILES.put(file, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Drops all canonical files remembered so far. This happens whenever a build starts, so this function only needs to
+   * be invoked explicitly if links within the file system have been changed during a build.
+   */
+  public static final void clearCanonicalFiles() {
+    synchronized (CANONICAL_FILES) {
+      CANONICAL_FILES.clear();
+    }
+  }
+
   /**
    * Reads the complete content of a text into a StringBuffer. Newlines will be transformed into the system specific
    * newlines (@see {@link #NL} unless requested otherwise.
@@ -331,19 +396,16 @@ public class Utilities {
    */
   public static final List<File> getAllChildren(File file) {
     Assure.notNull("file", file);
-    List<File> result = new LinkedList<File>();
+    final List<File> result = new ArrayList<File>();
     if (file.isDirectory()) {
       // add the children
-      File[] children = file.listFiles();
-      if (children != null) {
-        for (File element : children) {
-          if (element.isFile()) {
-            result.add(element);
-          } else {
-            result.addAll(getAllChildren(element));
-          }
+      DirectoryWalker.walk(file, new DirectoryWalker.Visitor() {
+        @Override
+        public boolean visitFile(File child, String path) {
+          result.add(child);
+          return true;
         }
-      }
+      });
     } else {
       result.add(file);
     }
@@ -354,16 +416,39 @@ public class Utilities {
     return getChild(directory, childName) != null;
   }
 
+  /**
+   * Returns the child with the supplied name. The name must match exactly, even if the file system is case
+   * insensitive.
+   * 
+   * @param directory
+   *          The directory which child is requested. Not <code>null</code>.
+   * @param childName
+   *          The name of the child. Not <code>null</code>.
+   * 
+   * @return The child or <code>null</code> if there's no child with the supplied name.
+   */
   public static final File getChild(File directory, final String childName) {
-    File[] children = directory.listFiles(new FilenameFilter() {
-      public boolean accept(File dir, String name) {
-        return name.equals(childName);
-      }
-    });
-    if (children.length < 1) {
+    File result = new File(directory, childName);
+    if (!result.exists()) {
       return null;
     }
-    return children[0];
+    try {
+      if (childName.equals(result.getCanonicalFile().getName())) {
+        return result;
+      }
+    } catch (IOException ex) {
+      // the directory will be listed
+    }
+    // the name differs in case or the child is a link, so the listing decides
+    String[] names = directory.list();
+    if (names != null) {
+      for (String name : names) {
+        if (name.equals(childName)) {
+          return result;
+        }
+      }
+    }
+    return null;
   }
 
   /**
@@ -424,18 +509,29 @@ public class Utilities {
   public static final String calcRelative(File fromfile, File tofile) {
     Assure.notNull("fromfile", fromfile);
     Assure.notNull("tofile", tofile);
-    String frompath = null;
-    String topath = null;
     try {
-      frompath = fromfile.getCanonicalPath().replace('\\', '/');
-    } catch (IOException ex) {
-      return null;
-    }
-    try {
-      topath = tofile.getCanonicalPath().replace('\\', '/');
+      return calcLexicalRelative(canonicalFile(fromfile), canonicalFile(tofile));
     } catch (IOException ex) {
       return null;
     }
+  }
+
+  /**
+   * Calculates a relative path for the supplied files without accessing the file system. Both files must already be
+   * canonical (f.e. obtained through {@link #getCanonicalFile(File)}) as their paths are compared as they are.
+   * 
+   * @param fromfile
+   *          Canonical starting point within a file system. Not <code>null</code>.
+   * @param tofile
+   *          Canonical ending point within a file system. Not <code>null</code>.
+   * 
+   * @return The file which indicates the relative path. null in case the relative path could not be calculated.
+   */
+  public static final String calcLexicalRelative(File fromfile, File tofile) {
+    Assure.notNull("fromfile", fromfile);
+    Assure.notNull("tofile", tofile);
+    String frompath = fromfile.getPath().replace('\\', '/');
+    String topath = tofile.getPath().replace('\\', '/');
     if (frompath.equals("/")) {
       // special treatment for unix filesystems since split would result in an empty list
       if (topath.startsWith("/")) {
@@ -887,6 +983,91 @@ public class Utilities {
     }
   }
 
+  /**
+   * Checks whether two files have the same content. The files are only read if they have the same size.
+   * 
+   * @param file1
+   *          The first file. Not <code>null</code>.
+   * @param file2
+   *          The second file. Not <code>null</code>.
+   * 
+   * @return <code>true</code> <=> Both files exist and have the same content.
+   */
+  public static final boolean hasSameContent(File file1, File file2) {
+    Assure.notNull("file1", file1);
+    Assure.notNull("file2", file2);
+    if ((!file1.isFile()) || (!file2.isFile()) || (file1.length() != file2.length())) {
+      return false;
+    }
+    InputStream instream1 = null;
+    InputStream instream2 = null;
+    try {
+      instream1 = new FileInputStream(file1);
+      instream2 = new FileInputStream(file2);
+      byte[] buffer1 = new byte[COMPARE_BUFFER_SIZE];
+      byte[] buffer2 = new byte[COMPARE_BUFFER_SIZE];
+      int read = readFully(instream1, buffer1);
+      while (read > 0) {
+        if ((readFully(instream2, buffer2) != read) || (!equals(buffer1, buffer2, read))) {
+          return false;
+        }
+        read = readFully(instream1, buffer1);
+      }
+      return readFully(instream2, buffer2) == 0;
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, file1);
+    } finally {
+      close(instream1);
+      close(instream2);
+    }
+  }
+
+  /**
+   * Fills the supplied buffer as far as possible.
+   * 
+   * @param instream
+   *          The stream providing the content. Not <code>null</code>.
+   * @param buffer
+   *          The buffer which has to be filled. Not <code>null</code>.
+   * 
+   * @return The number of bytes which have been read. 0 if the end of the stream has been reached.
+   * 
+   * @throws IOException
+   *           Reading failed for some reason.
+   */
+  private static final int readFully(InputStream instream, byte[] buffer) throws IOException {
+    int offset = 0;
+    while (offset < buffer.length) {
+      int read = instream.read(buffer, offset, buffer.length - offset);
+      if (read == -1) {
+        break;
+      }
+      offset += read;
+    }
+    return offset;
+  }
+
+  /**
+   * Compares the beginning of two buffers.
+   * 
+   * @param buffer1
+   *          The first buffer. Not <code>null</code>.
+   * @param buffer2
+   *          The second buffer. Not <code>null</code>.
+   * @param length
+   *          The number of bytes which have to be compared.
+   * 
+   * @return <code>true</code> <=> The first <code>length</code> bytes of both buffers are equal.
+   */
+  private static final boolean equals(byte[] buffer1, byte[] buffer2, int length) {
+    for (int i = 0; i < length; i++) {
+      if (buffer1[i] != buffer2[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Copies the complete content from an InputStream into an OutputStream using a specified buffer. Both streams will be
    * closed after completion or in case an exception comes up.
@@ -1127,52 +1308,62 @@ public class Utilities {
    * <p>
    * Expands the specified jar file to the expansion directory.
    * </p>
+   * <p>
+   * The content is written into a staging directory next to the expansion directory which is renamed once the
+   * expansion has been completed, so an existing expansion directory is always complete. Expansions into different
+   * directories usually run concurrently while concurrent expansions into the same directory are serialized (the
+   * directories share a fixed number of locks, so unrelated expansions occasionally wait for each other).
+   * </p>
    * 
    * @param jarFile
    *          the jar file to expand
    * @param expansionDirectory
    *          the expansion directory
    */
-  public static synchronized final void expandJarFile(JarFile jarFile, File expansionDirectory) {
+  public static final void expandJarFile(JarFile jarFile, File expansionDirectory) {
 
     Assure.notNull("jarFile", jarFile);
     Assure.notNull("expansionDirectory", expansionDirectory);
 
-    if (expansionDirectory.exists()) {
-      A4ELogging.debug("%s|Already expanded '%s' to '%s'", Thread.currentThread().getId(), jarFile, expansionDirectory);
-      return;
-    }
-
-    A4ELogging.debug("%s|Expanding '%s' to '%s'", Thread.currentThread().getId(), jarFile, expansionDirectory);
-
-    mkdirs(expansionDirectory);
-
     // this way we make sure that calls to File#getParentFile always return non-null values
     expansionDirectory = expansionDirectory.getAbsoluteFile();
 
-    Enumeration<JarEntry> entries = jarFile.entries();
-    while (entries.hasMoreElements()) {
-
-      ZipEntry zipEntry = entries.nextElement();
+    synchronized (getExpansionLock(expansionDirectory)) {
 
-      File destFile = new File(expansionDirectory, zipEntry.getName());
-      if (destFile.exists()) {
-        // a directory might already have been created
-        continue;
+      if (expansionDirectory.exists()) {
+        A4ELogging.debug("%s|Already expanded '%s' to '%s'", Long.valueOf(Thread.currentThread().getId()), jarFile
+            .getName(), expansionDirectory);
+        return;
       }
 
-      if (zipEntry.isDirectory()) {
-        mkdirs(destFile);
-      } else {
-        mkdirs(destFile.getParentFile());
-        InputStream inputStream = null;
-        try {
-          inputStream = jarFile.getInputStream(zipEntry);
-          writeFile(inputStream, destFile);
-        } catch (IOException ex) {
-          throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
-        } finally {
-          close(inputStream);
+      A4ELogging.debug("%s|Expanding '%s' to '%s'", Long.valueOf(Thread.currentThread().getId()), jarFile.getName(),
+          expansionDirectory);
+
+      File stagingDirectory = new File(expansionDirectory.getParentFile(), "." + expansionDirectory.getName()
+          + ".expanding-" + Thread.currentThread().getId() + "-" + System.nanoTime());
+      boolean completed = false;
+      try {
+        mkdirs(stagingDirectory);
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+          expandJarEntry(jarFile, entries.nextElement(), stagingDirectory);
+        }
+        if (!stagingDirectory.renameTo(expansionDirectory)) {
+          if (!expansionDirectory.isDirectory()) {
+            throw new IOException(String.format("Could not rename '%s' to '%s'", stagingDirectory,
+                expansionDirectory));
+          }
+          // another process completed the same expansion in between
+          A4ELogging.debug("%s|Concurrently expanded '%s' to '%s'", Long.valueOf(Thread.currentThread().getId()),
+              jarFile.getName(), expansionDirectory);
+        } else {
+          completed = true;
+        }
+      } catch (IOException ex) {
+        throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+      } finally {
+        if (!completed) {
+          delete(stagingDirectory);
         }
       }
 
@@ -1180,29 +1371,60 @@ public class Utilities {
 
   }
 
-  private static void writeFile(InputStream inputStream, File file) {
-    Assure.notNull("inputStream", inputStream);
+  /**
+   * Returns the lock object used to serialize the expansions into the supplied directory. The locks are striped, so
+   * their number doesn't grow with the number of expanded directories.
+   * 
+   * @param expansionDirectory
+   *          The absolute expansion directory. Not <code>null</code>.
+   * 
+   * @return The lock object for the directory. Not <code>null</code>.
+   */
+  private static Object getExpansionLock(File expansionDirectory) {
+    int hash = expansionDirectory.hashCode();
+    hash ^= (hash >>> 20) ^ (hash >>> 12);
+    hash ^= (hash >>> 7) ^ (hash >>> 4);
+    return EXPANSION_LOCKS[(hash & 0x7fffffff) % EXPANSION_LOCKS.length];
+  }
 
-    FileOutputStream fos = null;
+  /**
+   * Writes a single entry of a jar file into the supplied directory.
+   * 
+   * @param jarFile
+   *          The jar file providing the entry. Not <code>null</code>.
+   * @param jarEntry
+   *          The entry which has to be written. Not <code>null</code>.
+   * @param directory
+   *          The directory where the entry has to be written to. Not <code>null</code>.
+   * 
+   * @throws IOException
+   *           Reading or writing the entry failed.
+   */
+  private static void expandJarEntry(JarFile jarFile, JarEntry jarEntry, File directory) throws IOException {
+    File destFile = new File(directory, jarEntry.getName());
+    if (jarEntry.isDirectory()) {
+      mkdirs(destFile);
+      return;
+    }
+    mkdirs(destFile.getParentFile());
+    InputStream inputStream = null;
+    OutputStream outputStream = null;
     try {
-      fos = new FileOutputStream(file);
-
-      byte buffer[] = new byte[1024];
-      int count;
-      while ((count = inputStream.read(buffer, 0, buffer.length)) > 0) {
-        fos.write(buffer, 0, count);
+      inputStream = jarFile.getInputStream(jarEntry);
+      outputStream = new FileOutputStream(destFile);
+      byte[] buffer = EXPANSION_BUFFER.get();
+      int count = inputStream.read(buffer);
+      while (count != -1) {
+        outputStream.write(buffer, 0, count);
+        count = inputStream.read(buffer);
       }
-    } catch (IOException e) {
-      /**
-       * @todo [28-Jun-2009:KASI] The original code didn't take care of this, since it only closed the streams (now done
-       *       within the finally sequence). Nevertheless the resource might not have been copied completely, so there's
-       *       need to be a valid treatment.
-       */
     } finally {
-      // close open streams
-      close(fos);
+      close(outputStream);
       close(inputStream);
     }
+    if (jarEntry.getTime() != -1) {
+      destFile.setLastModified(jarEntry.getTime());
+    }
   }
 
   /**
@@ -1450,4 +1672,41 @@ public class Utilities {
 
   } /* ENDCLASS */
 
+  /**
+   * <p>
+   * Map of canonical files with a limited size. One-off files (f.e. generated class files) don't let the map grow
+   * without bounds, they are dropped in the order of their last access. The map isn't synchronized.
+   * </p>
+   */
+  private static class CanonicalFiles extends LinkedHashMap<File, File> {
+
+    /** serialVersionUID */
+    private static final long serialVersionUID = 4425394823185637312L;
+
+    /** the maximum number of entries */
+    private int               _limit;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link CanonicalFiles}.
+     * </p>
+     * 
+     * @param limit
+     *          the maximum number of entries
+     */
+    public CanonicalFiles(int limit) {
+      super(16, 0.75f, true);
+      this._limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean removeEldestEntry(Entry<File, File> eldest) {
+      return size() > this._limit;
+    }
+
+  } /* ENDCLASS */
+
 } /* ENDCLASS */
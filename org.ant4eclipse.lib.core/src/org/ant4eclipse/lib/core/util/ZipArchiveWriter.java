@@ -0,0 +1,876 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.core.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+
+/**
+ * <p>
+ * Writes a zip archive directly from files, directories and generated content, so the content doesn't have to be
+ * copied into a staging directory first. Archives (jar and zip files) are already compressed and therefore copied raw
+ * as stored entries while all other files are deflated.
+ * </p>
+ * <p>
+ * If more than one thread is used the files are deflated concurrently. The entries are nevertheless written in the
+ * order they have been added, so the resulting archive doesn't depend on the number of threads. The zip64 extensions
+ * aren't supported which limits an archive to 65535 entries and 4 GB.
+ * </p>
+ * <p>
+ * The entries carry unix file modes, so executables like the native launcher keep their executable bit. Generated
+ * content and implicitly created directories don't use the current time, so the same input produces the same archive.
+ * </p>
+ */
+public class ZipArchiveWriter implements Closeable {
+
+  /** the signature of a local file header */
+  private static final int                  LOCAL_HEADER_SIGNATURE    = 0x04034b50;
+
+  /** the signature of a data descriptor */
+  private static final int                  DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+
+  /** the signature of a central directory file header */
+  private static final int                  CENTRAL_HEADER_SIGNATURE  = 0x02014b50;
+
+  /** the signature of the end of central directory record */
+  private static final int                  END_SIGNATURE             = 0x06054b50;
+
+  /** the version needed to extract the entries (2.0: deflate and directories) */
+  private static final int                  VERSION                   = 20;
+
+  /** the version made by (unix, 2.0), so the external attributes are interpreted as unix file modes */
+  private static final int                  VERSION_MADE_BY           = (3 << 8) | VERSION;
+
+  /** the default unix permissions of files */
+  public static final int                   DEFAULT_FILE_MODE         = 0644;
+
+  /** the default unix permissions of directories */
+  public static final int                   DEFAULT_DIRECTORY_MODE    = 0755;
+
+  /** the unix file type of regular files */
+  private static final int                  UNIX_FILE                 = 0100000;
+
+  /** the unix file type of directories */
+  private static final int                  UNIX_DIRECTORY            = 040000;
+
+  /** the msdos time stamp of generated content (1980-01-01) */
+  private static final long                 GENERATED_TIME            = (1 << 21) | (1 << 16);
+
+  /** the flag indicating that crc and sizes are stored in a data descriptor */
+  private static final int                  FLAG_DATA_DESCRIPTOR      = 0x0008;
+
+  /** the flag indicating that the entry name is encoded with UTF-8 */
+  private static final int                  FLAG_UTF8                 = 0x0800;
+
+  /** the compression method 'stored' */
+  private static final int                  STORED                    = 0;
+
+  /** the compression method 'deflated' */
+  private static final int                  DEFLATED                  = 8;
+
+  /** the msdos attribute for directories */
+  private static final int                  ATTRIBUTE_DIRECTORY       = 0x10;
+
+  /** the maximum size and offset without zip64 extensions */
+  private static final long                 MAX_SIZE                  = 0xFFFFFFFFL;
+
+  /** the maximum number of entries without zip64 extensions */
+  private static final int                  MAX_ENTRIES               = 0xFFFF;
+
+  /** files bigger than this are deflated by the writing thread rather than buffered in memory */
+  private static final long                 MAX_BUFFERED_SIZE         = 8 * 1024 * 1024;
+
+  /** the size of the buffers used to read files */
+  private static final int                  BUFFER_SIZE               = 64 * 1024;
+
+  /** the suffixes of files that are already compressed and therefore stored */
+  private static final String[]             STORED_SUFFIXES           = { ".jar", ".zip" };
+
+  /** the archive */
+  private File                              _archive;
+
+  /** the stream used to write the archive */
+  private CountingOutputStream              _output;
+
+  /** the entries of the central directory */
+  private List<CentralEntry>                _entries;
+
+  /** the names of all entries */
+  private Set<String>                       _names;
+
+  /** the executor used to deflate files concurrently. <code>null</code> if only one thread is used */
+  private ExecutorService                   _executor;
+
+  /** the maximum number of files that are deflated but not written yet */
+  private int                               _maxPending;
+
+  /** the files that are deflated but not written yet (in the order they have been added) */
+  private LinkedList<Future<DeflatedEntry>> _pending;
+
+  /** the buffer used by the writing thread */
+  private byte[]                            _buffer;
+
+  /** the calendar used to convert time stamps */
+  private Calendar                          _calendar;
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link ZipArchiveWriter}.
+   * </p>
+   * 
+   * @param archive
+   *          the archive to write. Not <code>null</code>.
+   * @param threadCount
+   *          the number of threads used to deflate files. Must be greater than 0.
+   */
+  public ZipArchiveWriter(File archive, int threadCount) {
+    Assure.notNull("archive", archive);
+    Assure.assertTrue(threadCount > 0, "threadCount must be greater than 0");
+    this._archive = archive;
+    this._entries = new ArrayList<CentralEntry>();
+    this._names = new HashSet<String>();
+    this._pending = new LinkedList<Future<DeflatedEntry>>();
+    this._buffer = new byte[BUFFER_SIZE];
+    this._calendar = Calendar.getInstance();
+    if (threadCount > 1) {
+      this._executor = Executors.newFixedThreadPool(threadCount);
+      this._maxPending = threadCount * 2;
+    }
+    if (archive.getParentFile() != null) {
+      Utilities.mkdirs(archive.getParentFile());
+    }
+    try {
+      this._output = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(archive), BUFFER_SIZE));
+    } catch (IOException ex) {
+      close(this._executor);
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Adds the given file. Jar and zip files are copied raw, all other files are deflated.
+   * </p>
+   * 
+   * @param file
+   *          the file to add. Not <code>null</code>.
+   * @param name
+   *          the name of the entry. Neither <code>null</code> nor empty.
+   */
+  public void addFile(File file, String name) {
+    addFile(file, name, DEFAULT_FILE_MODE, DEFAULT_DIRECTORY_MODE);
+  }
+
+  /**
+   * <p>
+   * Adds the given file with the given unix permissions. Jar and zip files are copied raw, all other files are deflated.
+   * </p>
+   * 
+   * @param file
+   *          the file to add. Not <code>null</code>.
+   * @param name
+   *          the name of the entry. Neither <code>null</code> nor empty.
+   * @param fileMode
+   *          the unix permissions of the file (e.g. <code>0755</code> for executables)
+   * @param dirMode
+   *          the unix permissions of parent directories which haven't been added yet
+   */
+  public void addFile(File file, String name, int fileMode, int dirMode) {
+    Assure.isFile("file", file);
+    Assure.nonEmpty("name", name);
+    final long time = toDosTime(file.lastModified());
+    final String entryname = addName(normalize(name), time, dirMode);
+    if (entryname == null) {
+      return;
+    }
+    final long attributes = toAttributes(UNIX_FILE, fileMode);
+    try {
+      if (isCompressed(entryname)) {
+        writeStored(file, entryname, time, attributes);
+      } else if (file.length() > MAX_BUFFERED_SIZE) {
+        writeDeflated(file, entryname, time, attributes);
+      } else if (this._executor == null) {
+        // deflated in memory as well, so the entry is written just like with more than one thread
+        writePending(deflate(file, entryname, time, attributes));
+      } else {
+        final File source = file;
+        this._pending.add(this._executor.submit(new Callable<DeflatedEntry>() {
+          public DeflatedEntry call() throws IOException {
+            return deflate(source, entryname, time, attributes);
+          }
+        }));
+        if (this._pending.size() > this._maxPending) {
+          writePending(this._pending.removeFirst());
+        }
+      }
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, file);
+    }
+  }
+
+  /**
+   * <p>
+   * Adds the content of the given directory recursively.
+   * </p>
+   * 
+   * @param directory
+   *          the directory to add. Not <code>null</code>.
+   * @param prefix
+   *          the name of the directory within the archive. Maybe empty to add the content to the root.
+   */
+  public void addDirectory(File directory, String prefix) {
+    Assure.isDirectory("directory", directory);
+    Assure.notNull("prefix", prefix);
+    String path = normalize(prefix);
+    if (path.length() > 0) {
+      path = path + "/";
+      addDirectoryEntry(path, toDosTime(directory.lastModified()), DEFAULT_DIRECTORY_MODE);
+    }
+    File[] children = directory.listFiles();
+    if (children == null) {
+      throw new Ant4EclipseException(CoreExceptionCode.FILEIO_FAILURE, directory);
+    }
+    // sort the children, so the archive doesn't depend on the file system
+    Arrays.sort(children);
+    for (File child : children) {
+      if (child.isDirectory()) {
+        addDirectory(child, path + child.getName());
+      } else {
+        addFile(child, path + child.getName());
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Adds generated content like a <code>config.ini</code> file. The content is deflated and gets a fixed time stamp.
+   * </p>
+   * 
+   * @param content
+   *          the content to add. Not <code>null</code>.
+   * @param name
+   *          the name of the entry. Neither <code>null</code> nor empty.
+   */
+  public void addContent(byte[] content, String name) {
+    Assure.notNull("content", content);
+    Assure.nonEmpty("name", name);
+    String entryname = addName(normalize(name), GENERATED_TIME, DEFAULT_DIRECTORY_MODE);
+    if (entryname == null) {
+      return;
+    }
+    try {
+      CRC32 crc = new CRC32();
+      crc.update(content);
+      ByteArrayOutputStream data = new ByteArrayOutputStream(content.length / 2 + 64);
+      Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      try {
+        DeflaterOutputStream deflaterStream = new DeflaterOutputStream(data, deflater);
+        deflaterStream.write(content);
+        deflaterStream.finish();
+      } finally {
+        deflater.end();
+      }
+      writePendingEntries();
+      writePending(new DeflatedEntry(entryname, GENERATED_TIME, toAttributes(UNIX_FILE, DEFAULT_FILE_MODE), crc
+          .getValue(), content.length, data));
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, this._archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Writes all pending entries and the central directory and closes the archive.
+   * </p>
+   */
+  public void close() {
+    if (this._output == null) {
+      return;
+    }
+    try {
+      while (!this._pending.isEmpty()) {
+        writePending(this._pending.removeFirst());
+      }
+      writeCentralDirectory();
+      this._output.close();
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, this._archive);
+    } finally {
+      Utilities.close((Closeable) this._output);
+      this._output = null;
+      close(this._executor);
+    }
+  }
+
+  /**
+   * <p>
+   * Discards the archive after a failure. Pending entries are dropped and the archive is deleted instead of being
+   * completed, so a failed build doesn't leave a truncated but valid looking archive behind. This method doesn't throw
+   * any exception, so it doesn't hide the original failure.
+   * </p>
+   */
+  public void abort() {
+    close(this._executor);
+    this._pending.clear();
+    if (this._output != null) {
+      Utilities.close((Closeable) this._output);
+      this._output = null;
+    }
+    if (this._archive.exists() && !this._archive.delete()) {
+      A4ELogging.warn("Failed to delete the incomplete archive '%s'.", this._archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Adds the given name unless it has already been added before. The parent directories are added as well.
+   * </p>
+   * 
+   * @param name
+   *          the normalized name of a file entry
+   * @param time
+   *          the msdos time stamp of parent directories which haven't been added yet
+   * @param dirMode
+   *          the unix permissions of parent directories which haven't been added yet
+   * @return the name or <code>null</code> if the name has already been added
+   */
+  private String addName(String name, long time, int dirMode) {
+    int index = name.lastIndexOf('/');
+    if (index > 0) {
+      addDirectoryEntry(name.substring(0, index + 1), time, dirMode);
+    }
+    if (!this._names.add(name)) {
+      A4ELogging.warn("Skipping duplicate entry '%s' in archive '%s'.", name, this._archive);
+      return null;
+    }
+    return name;
+  }
+
+  /**
+   * <p>
+   * Adds an entry for the given directory and its parent directories unless they have already been added.
+   * </p>
+   * 
+   * @param name
+   *          the normalized name of the directory ending with a slash
+   * @param time
+   *          the msdos time stamp of the directory
+   * @param dirMode
+   *          the unix permissions of the directory
+   */
+  private void addDirectoryEntry(String name, long time, int dirMode) {
+    if (this._names.contains(name)) {
+      return;
+    }
+    int index = name.lastIndexOf('/', name.length() - 2);
+    if (index > 0) {
+      addDirectoryEntry(name.substring(0, index + 1), time, dirMode);
+    }
+    this._names.add(name);
+    try {
+      // the entries added before are written first, so the order doesn't depend on the number of threads
+      writePendingEntries();
+      writeLocalHeader(name, 0, STORED, time, toAttributes(UNIX_DIRECTORY, dirMode) | ATTRIBUTE_DIRECTORY, 0, 0, 0);
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, this._archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Copies the given file raw as a stored entry. The file is read twice since the crc has to be known before the
+   * content is written.
+   * </p>
+   */
+  private void writeStored(File file, String name, long time, long attributes) throws IOException {
+    writePendingEntries();
+    long size = file.length();
+    CRC32 crc = new CRC32();
+    InputStream input = new FileInputStream(file);
+    try {
+      for (int count = input.read(this._buffer); count != -1; count = input.read(this._buffer)) {
+        crc.update(this._buffer, 0, count);
+      }
+    } finally {
+      Utilities.close((Closeable) input);
+    }
+    writeLocalHeader(name, 0, STORED, time, attributes, crc.getValue(), size, size);
+    long written = 0;
+    input = new FileInputStream(file);
+    try {
+      for (int count = input.read(this._buffer); count != -1; count = input.read(this._buffer)) {
+        this._output.write(this._buffer, 0, count);
+        written += count;
+      }
+    } finally {
+      Utilities.close((Closeable) input);
+    }
+    if (written != size) {
+      throw new IOException(String.format("The file '%s' has been modified while it has been archived.", file));
+    }
+  }
+
+  /**
+   * <p>
+   * Deflates the given file directly into the archive. Since the crc and the compressed size aren't known in advance
+   * they are written to a data descriptor following the content.
+   * </p>
+   */
+  private void writeDeflated(File file, String name, long time, long attributes) throws IOException {
+    writePendingEntries();
+    CentralEntry entry = writeLocalHeader(name, FLAG_DATA_DESCRIPTOR, DEFLATED, time, attributes, 0, 0, 0);
+    long start = this._output.getCount();
+    CRC32 crc = new CRC32();
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    long size = 0;
+    InputStream input = new FileInputStream(file);
+    try {
+      DeflaterOutputStream deflaterStream = new DeflaterOutputStream(this._output, deflater, BUFFER_SIZE);
+      for (int count = input.read(this._buffer); count != -1; count = input.read(this._buffer)) {
+        crc.update(this._buffer, 0, count);
+        deflaterStream.write(this._buffer, 0, count);
+        size += count;
+      }
+      deflaterStream.finish();
+    } finally {
+      deflater.end();
+      Utilities.close((Closeable) input);
+    }
+    entry._crc = crc.getValue();
+    entry._compressedSize = this._output.getCount() - start;
+    entry._size = size;
+    checkSize(entry._compressedSize);
+    checkSize(entry._size);
+    writeInt(DATA_DESCRIPTOR_SIGNATURE);
+    writeInt(entry._crc);
+    writeInt(entry._compressedSize);
+    writeInt(entry._size);
+  }
+
+  /**
+   * <p>
+   * Waits until all pending entries have been deflated and writes them.
+   * </p>
+   */
+  private void writePendingEntries() throws IOException {
+    while (!this._pending.isEmpty()) {
+      writePending(this._pending.removeFirst());
+    }
+  }
+
+  /**
+   * <p>
+   * Waits until the given entry has been deflated and writes it.
+   * </p>
+   */
+  private void writePending(Future<DeflatedEntry> future) throws IOException {
+    try {
+      writePending(future.get());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, this._archive);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof IOException) {
+        throw (IOException) ex.getCause();
+      } else if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new Ant4EclipseException(ex.getCause(), CoreExceptionCode.FILEIO_FAILURE, this._archive);
+    }
+  }
+
+  /**
+   * <p>
+   * Writes the given deflated entry.
+   * </p>
+   */
+  private void writePending(DeflatedEntry entry) throws IOException {
+    writeLocalHeader(entry._name, 0, DEFLATED, entry._time, entry._attributes, entry._crc, entry._data.size(),
+        entry._size);
+    entry._data.writeTo(this._output);
+  }
+
+  /**
+   * <p>
+   * Writes the local file header of an entry and registers the entry for the central directory.
+   * </p>
+   */
+  private CentralEntry writeLocalHeader(String name, int flags, int method, long time, long attributes, long crc,
+      long compressedSize, long size) throws IOException {
+    if (this._entries.size() >= MAX_ENTRIES) {
+      throw new Ant4EclipseException(CoreExceptionCode.PRECONDITION_VIOLATION, String.format(
+          "The archive '%s' exceeds %d entries.", this._archive, Integer.valueOf(MAX_ENTRIES)));
+    }
+    checkSize(compressedSize);
+    checkSize(size);
+    CentralEntry result = new CentralEntry();
+    result._name = toBytes(name);
+    result._flags = flags | FLAG_UTF8;
+    result._method = method;
+    result._time = time;
+    result._crc = crc;
+    result._compressedSize = compressedSize;
+    result._size = size;
+    result._attributes = attributes;
+    result._offset = this._output.getCount();
+    checkSize(result._offset);
+    writeInt(LOCAL_HEADER_SIGNATURE);
+    writeShort(VERSION);
+    writeShort(result._flags);
+    writeShort(method);
+    writeInt(time);
+    writeInt(crc);
+    writeInt(compressedSize);
+    writeInt(size);
+    writeShort(result._name.length);
+    writeShort(0);
+    this._output.write(result._name);
+    this._entries.add(result);
+    return result;
+  }
+
+  /**
+   * <p>
+   * Writes the central directory and the end of central directory record.
+   * </p>
+   */
+  private void writeCentralDirectory() throws IOException {
+    long start = this._output.getCount();
+    checkSize(start);
+    for (CentralEntry entry : this._entries) {
+      writeInt(CENTRAL_HEADER_SIGNATURE);
+      writeShort(VERSION_MADE_BY);
+      writeShort(VERSION);
+      writeShort(entry._flags);
+      writeShort(entry._method);
+      writeInt(entry._time);
+      writeInt(entry._crc);
+      writeInt(entry._compressedSize);
+      writeInt(entry._size);
+      writeShort(entry._name.length);
+      // extra field length, comment length, disk number, internal attributes
+      writeShort(0);
+      writeShort(0);
+      writeShort(0);
+      writeShort(0);
+      writeInt(entry._attributes);
+      writeInt(entry._offset);
+      this._output.write(entry._name);
+    }
+    long size = this._output.getCount() - start;
+    checkSize(size);
+    writeInt(END_SIGNATURE);
+    writeShort(0);
+    writeShort(0);
+    writeShort(this._entries.size());
+    writeShort(this._entries.size());
+    writeInt(size);
+    writeInt(start);
+    writeShort(0);
+  }
+
+  /**
+   * <p>
+   * Makes sure that the given size or offset doesn't require the zip64 extensions.
+   * </p>
+   */
+  private void checkSize(long size) {
+    if (size > MAX_SIZE) {
+      throw new Ant4EclipseException(CoreExceptionCode.PRECONDITION_VIOLATION, String.format(
+          "The archive '%s' exceeds 4 GB.", this._archive));
+    }
+  }
+
+  /**
+   * <p>
+   * Writes the given value as a little endian short.
+   * </p>
+   */
+  private void writeShort(int value) throws IOException {
+    this._output.write(value & 0xFF);
+    this._output.write((value >>> 8) & 0xFF);
+  }
+
+  /**
+   * <p>
+   * Writes the given value as a little endian int.
+   * </p>
+   */
+  private void writeInt(long value) throws IOException {
+    writeShort((int) (value & 0xFFFF));
+    writeShort((int) ((value >>> 16) & 0xFFFF));
+  }
+
+  /**
+   * <p>
+   * Converts the given java time stamp into a msdos time stamp.
+   * </p>
+   */
+  private long toDosTime(long time) {
+    this._calendar.setTimeInMillis(time);
+    int year = this._calendar.get(Calendar.YEAR);
+    if (year < 1980) {
+      // 1980-01-01
+      return (1 << 21) | (1 << 16);
+    }
+    return ((year - 1980) << 25) | ((this._calendar.get(Calendar.MONTH) + 1) << 21)
+        | (this._calendar.get(Calendar.DAY_OF_MONTH) << 16) | (this._calendar.get(Calendar.HOUR_OF_DAY) << 11)
+        | (this._calendar.get(Calendar.MINUTE) << 5) | (this._calendar.get(Calendar.SECOND) >> 1);
+  }
+
+  /**
+   * <p>
+   * Returns the external attributes for the given unix file type and permissions.
+   * </p>
+   */
+  private static long toAttributes(int type, int mode) {
+    return ((long) (type | (mode & 07777))) << 16;
+  }
+
+  /**
+   * <p>
+   * Deflates the given file into memory.
+   * </p>
+   */
+  private static DeflatedEntry deflate(File file, String name, long time, long attributes) throws IOException {
+    CRC32 crc = new CRC32();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    ByteArrayOutputStream data = new ByteArrayOutputStream((int) (file.length() / 2) + 64);
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    long size = 0;
+    InputStream input = new FileInputStream(file);
+    try {
+      DeflaterOutputStream deflaterStream = new DeflaterOutputStream(data, deflater, BUFFER_SIZE);
+      for (int count = input.read(buffer); count != -1; count = input.read(buffer)) {
+        crc.update(buffer, 0, count);
+        deflaterStream.write(buffer, 0, count);
+        size += count;
+      }
+      deflaterStream.finish();
+    } finally {
+      deflater.end();
+      Utilities.close((Closeable) input);
+    }
+    return new DeflatedEntry(name, time, attributes, crc.getValue(), size, data);
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if the entry with the given name is an archive that is already compressed.
+   * </p>
+   */
+  private static boolean isCompressed(String name) {
+    String lowercase = name.toLowerCase();
+    for (String suffix : STORED_SUFFIXES) {
+      if (lowercase.endsWith(suffix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * <p>
+   * Normalizes the given entry name (forward slashes, no leading or trailing slashes).
+   * </p>
+   */
+  private static String normalize(String name) {
+    String result = name.replace('\\', '/');
+    while (result.startsWith("/")) {
+      result = result.substring(1);
+    }
+    while (result.endsWith("/")) {
+      result = result.substring(0, result.length() - 1);
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Returns the UTF-8 encoded name.
+   * </p>
+   */
+  private static byte[] toBytes(String name) {
+    try {
+      return name.getBytes("UTF-8");
+    } catch (UnsupportedEncodingException ex) {
+      // UTF-8 is always supported
+      throw new Ant4EclipseException(ex, CoreExceptionCode.ILLEGAL_FORMAT, name);
+    }
+  }
+
+  /**
+   * <p>
+   * Shuts the given executor down.
+   * </p>
+   */
+  private static void close(ExecutorService executor) {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * <p>
+   * An entry of the central directory.
+   * </p>
+   */
+  private static class CentralEntry {
+
+    /** the UTF-8 encoded name */
+    private byte[] _name;
+
+    /** the general purpose flags */
+    private int    _flags;
+
+    /** the compression method */
+    private int    _method;
+
+    /** the msdos time stamp */
+    private long   _time;
+
+    /** the crc of the uncompressed content */
+    private long   _crc;
+
+    /** the compressed size */
+    private long   _compressedSize;
+
+    /** the uncompressed size */
+    private long   _size;
+
+    /** the external file attributes */
+    private long   _attributes;
+
+    /** the offset of the local file header */
+    private long   _offset;
+
+  }
+
+  /**
+   * <p>
+   * An entry that has been deflated into memory.
+   * </p>
+   */
+  private static class DeflatedEntry {
+
+    /** the normalized name */
+    private String                _name;
+
+    /** the msdos time stamp */
+    private long                  _time;
+
+    /** the external file attributes */
+    private long                  _attributes;
+
+    /** the crc of the uncompressed content */
+    private long                  _crc;
+
+    /** the uncompressed size */
+    private long                  _size;
+
+    /** the deflated content */
+    private ByteArrayOutputStream _data;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link DeflatedEntry}.
+     * </p>
+     */
+    private DeflatedEntry(String name, long time, long attributes, long crc, long size, ByteArrayOutputStream data) {
+      this._name = name;
+      this._time = time;
+      this._attributes = attributes;
+      this._crc = crc;
+      this._size = size;
+      this._data = data;
+    }
+
+  }
+
+  /**
+   * <p>
+   * Counts the bytes that have been written, so the offsets of the entries are known.
+   * </p>
+   */
+  private static class CountingOutputStream extends FilterOutputStream {
+
+    /** the number of bytes written */
+    private long _count;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link CountingOutputStream}.
+     * </p>
+     */
+    private CountingOutputStream(OutputStream output) {
+      super(output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(int value) throws IOException {
+      this.out.write(value);
+      this._count++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+      this.out.write(buffer, offset, length);
+      this._count += length;
+    }
+
+    /**
+     * <p>
+     * Returns the number of bytes written.
+     * </p>
+     */
+    private long getCount() {
+      return this._count;
+    }
+
+  }
+
+} /* ENDCLASS */
@@ -20,6 +20,8 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import javax.xml.parsers.FactoryConfigurationError;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import java.io.File;
@@ -49,7 +51,10 @@ public class XQueryHandler extends DefaultHandler {
   private String                  _fileName;
 
   /** - */
-  private static SAXParserFactory factory;
+  private static SAXParserFactory       factory;
+
+  /** the SAX parsers of the current threads (SAX parsers can be reused but must not be shared among threads) */
+  private static ThreadLocal<SAXParser> parsers = new ThreadLocal<SAXParser>();
 
   /**
    * Initialises this handler.
@@ -156,8 +161,7 @@ public class XQueryHandler extends DefaultHandler {
     Assure.isFile("xmlfile", xmlfile);
     Assure.notNull("handler", handler);
     try {
-      SAXParserFactory factory = getSAXParserFactory();
-      factory.newSAXParser().parse(new FileInputStream(xmlfile), handler);
+      getSAXParser().parse(new FileInputStream(xmlfile), handler);
     } catch (Exception ex) {
       A4ELogging.error(ex.getMessage());
       throw (new Ant4EclipseException(ex, CoreExceptionCode.X_QUERY_PARSE_EXCEPTION));
@@ -173,18 +177,50 @@ public class XQueryHandler extends DefaultHandler {
    *          The handler which provides all queries.
    */
   public static void queryInputStream(InputStream inputStream, XQueryHandler handler) {
+    parseInputStream(inputStream, handler);
+  }
+
+  /**
+   * Parses the supplied XML inputstream using a custom SAX handler. This allows to collect the data of frequently
+   * parsed documents within a single pass without setting up queries for each document. The SAX parser is reused by
+   * the current thread, so this method can be called concurrently (as long as each thread uses its own handler).
+   * 
+   * @param inputStream
+   *          The XML inputstream that shall be parsed.
+   * @param handler
+   *          The handler which receives the SAX events.
+   */
+  public static void parseInputStream(InputStream inputStream, DefaultHandler handler) {
     Assure.notNull("inputStream", inputStream);
     Assure.notNull("handler", handler);
     try {
-      SAXParserFactory factory = getSAXParserFactory();
-      factory.newSAXParser().parse(inputStream, handler);
+      getSAXParser().parse(inputStream, handler);
     } catch (Exception ex) {
       A4ELogging.error(ex.getMessage());
       throw (new Ant4EclipseException(ex, CoreExceptionCode.X_QUERY_PARSE_EXCEPTION));
     }
   }
 
-  private static SAXParserFactory getSAXParserFactory() throws FactoryConfigurationError {
+  /**
+   * Returns the SAX parser of the current thread.
+   * 
+   * @return The SAX parser of the current thread. Not <code>null</code>.
+   */
+  private static SAXParser getSAXParser() throws ParserConfigurationException, SAXException {
+    SAXParser result = parsers.get();
+    if (result == null) {
+      // the factory itself isn't thread-safe
+      synchronized (XQueryHandler.class) {
+        result = getSAXParserFactory().newSAXParser();
+      }
+      parsers.set(result);
+    } else {
+      result.reset();
+    }
+    return result;
+  }
+
+  private static synchronized SAXParserFactory getSAXParserFactory() throws FactoryConfigurationError {
 
     if (factory == null) {
       factory = SAXParserFactory.newInstance();
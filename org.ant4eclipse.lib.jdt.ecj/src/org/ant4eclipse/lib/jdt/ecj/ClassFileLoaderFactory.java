@@ -103,23 +103,27 @@ public class ClassFileLoaderFactory {
 
     private final File[] _sourcepathEntries;
 
+    /** the hash code is computed once as the keys are looked up for every class file loader that is requested */
+    private final int    _hashCode;
+
     public ClassFileLoaderCacheKey(File source, byte type, File[] classpathEntries, File[] sourcepathEntries) {
       super();
       this._source = source;
       this._type = type;
       this._classpathEntries = classpathEntries;
       this._sourcepathEntries = sourcepathEntries;
-    }
-
-    @Override
-    public int hashCode() {
       final int prime = 31;
       int result = 1;
       result = prime * result + Arrays.hashCode(this._classpathEntries);
       result = prime * result + ((this._source == null) ? 0 : this._source.hashCode());
       result = prime * result + Arrays.hashCode(this._sourcepathEntries);
       result = prime * result + this._type;
-      return result;
+      this._hashCode = result;
+    }
+
+    @Override
+    public int hashCode() {
+      return this._hashCode;
     }
 
     @Override
@@ -134,6 +138,10 @@ public class ClassFileLoaderFactory {
         return false;
       }
       ClassFileLoaderCacheKey other = (ClassFileLoaderCacheKey) obj;
+      // different hash codes rule out equal keys without comparing the class path entries
+      if (this._hashCode != other._hashCode) {
+        return false;
+      }
       if (!Arrays.equals(this._classpathEntries, other._classpathEntries)) {
         return false;
       }
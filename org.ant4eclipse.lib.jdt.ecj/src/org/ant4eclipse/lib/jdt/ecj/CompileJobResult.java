@@ -50,4 +50,17 @@ public interface CompileJobResult {
    */
   Map<String, File> getCompiledClassFiles();
 
+  /**
+   * <p>
+   * Returns the lines of a compiled source file for which problems have been reported. The lines are computed once per
+   * source file, so they can be used to show all of its problems.
+   * </p>
+   * 
+   * @param fileName
+   *          The originating file name of a problem. Not <code>null</code>.
+   * 
+   * @return The lines of the source file or <code>null</code> if no problems have been reported for the file.
+   */
+  SourceLines getSourceLines(String fileName);
+
 }
@@ -13,13 +13,18 @@
  **********************************************************************/
 package org.ant4eclipse.lib.jdt.ecj.internal.tools;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
@@ -61,14 +66,36 @@ public class CompilationUnitImpl implements ICompilationUnit {
 	private char[][] _packageName;
 
 	/**
-	 * <p>Creates a new instance of type {@link CompilationUnitImpl}.</p>
+	 * the cache which limits the contents kept by the compilation units of a compilation, maybe <code>null</code>
+	 */
+	private ContentCache _contentCache;
+
+	/**
+	 * the softly referenced contents, <code>null</code> as long as they haven't been cached
+	 */
+	private volatile Reference<char[]> _contents;
+
+	/**
+	 * <p>Creates a new instance of type {@link CompilationUnitImpl} which doesn't cache its contents.</p>
 	 *
 	 * @param  sourceFile  the source file
 	 */
 	public CompilationUnitImpl(SourceFile sourceFile) {
+		this(sourceFile, null);
+	}
+
+	/**
+	 * <p>Creates a new instance of type {@link CompilationUnitImpl}.</p>
+	 *
+	 * @param  sourceFile    the source file
+	 * @param  contentCache  the cache which limits the cached contents of a compilation. If <code>null</code> the
+	 *                       contents are read each time they are requested.
+	 */
+	public CompilationUnitImpl(SourceFile sourceFile, ContentCache contentCache) {
 		Assure.notNull("sourceFile", sourceFile);
 
 		this._sourceFile = sourceFile;
+		this._contentCache = contentCache;
 
 		this._fileName = this._sourceFile.getSourceFileName().toCharArray();
 
@@ -114,29 +141,50 @@ public class CompilationUnitImpl implements ICompilationUnit {
 
 	/**
 	 * {@inheritDoc}
+	 *
+	 * <p>The contents are read and decoded at once. Line terminators are converted into <code>\n</code> and the last
+	 * line is always terminated, so the compiler sees the same contents as if the file would have been read line by
+	 * line.</p>
 	 */
 	public final char[] getContents() {
+		Reference<char[]> reference = this._contents;
+		char[] result = reference != null ? reference.get() : null;
+		if (result == null) {
+			result = readContents();
+			// contents which have been collected already got their space within the cache
+			if ((reference != null) || ((this._contentCache != null) && this._contentCache.reserve(result.length))) {
+				this._contents = new SoftReference<char[]>(result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <p>Reads the contents of the source file with a single read and decodes them.</p>
+	 *
+	 * @return  the contents of the source file
+	 */
+	private char[] readContents() {
 		String filename = new String(this._fileName);
 		File sourceFile = new File(this._sourceFile.getSourceFolder(), filename);
 
-		StringBuilder result = new StringBuilder();
-		BufferedReader in = null;
-
+		FileInputStream in = null;
 		try {
-			in =
-				new BufferedReader(
-					new InputStreamReader(
-						new FileInputStream(sourceFile),
-						this._sourceFile.getEncoding()
-					)
-				);
-
-			String str;
-			while ((str = in.readLine()) != null) {
-				result.append(str);
-				result.append("\n");
+			Charset charset = Charset.forName(this._sourceFile.getEncoding());
+			in = new FileInputStream(sourceFile);
+			FileChannel channel = in.getChannel();
+			ByteBuffer bytes = ByteBuffer.allocate((int) channel.size());
+			while (bytes.hasRemaining() && (channel.read(bytes) != -1)) {
+				// read until the buffer is filled
 			}
-		} catch (UnsupportedEncodingException e) {
+			bytes.flip();
+			CharBuffer chars =
+				charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(
+					CodingErrorAction.REPLACE
+				).decode(bytes);
+			return normalizeLineTerminators(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+		} catch (IllegalArgumentException e) {
+			// the encoding is not supported
 			throw new Ant4EclipseException(
 				e,
 				EcjExceptionCodes.UNABLE_TO_READ_COMPILATION_CONTENT_EXCEPTION,
@@ -161,7 +209,46 @@ public class CompilationUnitImpl implements ICompilationUnit {
 				}
 			}
 		}
-		return result.toString().toCharArray();
+	}
+
+	/**
+	 * <p>Converts all line terminators (<code>\r\n</code>, <code>\r</code> and <code>\n</code>) into <code>\n</code>
+	 * and terminates the last line.</p>
+	 *
+	 * @param   chars   the decoded characters
+	 * @param   offset  the offset of the first character
+	 * @param   length  the number of characters
+	 *
+	 * @return  an exactly sized array with the normalized characters
+	 */
+	static char[] normalizeLineTerminators(char[] chars, int offset, int length) {
+		int end = offset + length;
+		int size = length;
+		for (int i = offset; i < end; i++) {
+			if ((chars[i] == '\r') && (i + 1 < end) && (chars[i + 1] == '\n')) {
+				size--;
+			}
+		}
+		boolean terminate = (length > 0) && (chars[end - 1] != '\n') && (chars[end - 1] != '\r');
+		if (terminate) {
+			size++;
+		}
+		char[] result = new char[size];
+		int pos = 0;
+		for (int i = offset; i < end; i++) {
+			char ch = chars[i];
+			if (ch == '\r') {
+				if ((i + 1 < end) && (chars[i + 1] == '\n')) {
+					i++;
+				}
+				ch = '\n';
+			}
+			result[pos++] = ch;
+		}
+		if (terminate) {
+			result[pos] = '\n';
+		}
+		return result;
 	}
 
 	/**
@@ -192,6 +279,60 @@ public class CompilationUnitImpl implements ICompilationUnit {
 	public boolean ignoreOptionalProblems() {
 		return false;
 	}
+
+	/**
+	 * <p>Limits the contents cached by the compilation units of a single compilation. The compiler requests the contents
+	 * of a compilation unit several times (f.e. for each annotation processing round or while reporting problems), so
+	 * they are kept as long as the limit isn't exceeded and there's enough memory left.</p>
+	 */
+	public static class ContentCache {
+
+		/**
+		 * the default limit in characters (an eighth of the maximum heap)
+		 */
+		public static final long DEFAULT_LIMIT = Runtime.getRuntime().maxMemory() / 16;
+
+		/**
+		 * the number of characters which still can be cached
+		 */
+		private AtomicLong _remaining;
+
+		/**
+		 * <p>Creates a new instance of type {@link ContentCache}.</p>
+		 *
+		 * @param  limit  the maximum number of characters which can be cached
+		 */
+		public ContentCache(long limit) {
+			this._remaining = new AtomicLong(limit);
+		}
+
+		/**
+		 * <p>Reserves space for the contents of a compilation unit.</p>
+		 *
+		 * @param   length  the number of characters
+		 *
+		 * @return  <code>true</code> if the contents can be cached, <code>false</code> if the limit would be exceeded
+		 */
+		boolean reserve(int length) {
+			long remaining = this._remaining.get();
+			while (remaining >= length) {
+				if (this._remaining.compareAndSet(remaining, remaining - length)) {
+					return true;
+				}
+				remaining = this._remaining.get();
+			}
+			return false;
+		}
+
+		/**
+		 * <p>Returns the number of characters which still can be cached.</p>
+		 *
+		 * @return  the number of characters which still can be cached
+		 */
+		public long getRemaining() {
+			return this._remaining.get();
+		}
+	}
 }
 
 /*--- Formatiert nach TK Code Konventionen vom 05.03.2002 ---*/
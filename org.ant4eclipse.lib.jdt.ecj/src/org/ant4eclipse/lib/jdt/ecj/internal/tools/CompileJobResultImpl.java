@@ -12,19 +12,28 @@
 package org.ant4eclipse.lib.jdt.ecj.internal.tools;
 
 import org.ant4eclipse.lib.jdt.ecj.CompileJobResult;
+import org.ant4eclipse.lib.jdt.ecj.SourceLines;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 
 import java.io.File;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 public class CompileJobResultImpl implements CompileJobResult {
 
-  private boolean              _succeeded;
+  private boolean                       _succeeded;
 
-  private CategorizedProblem[] _categorizedProblems;
+  private CategorizedProblem[]          _categorizedProblems;
 
-  private Map<String, File>    _compiledclassfiles;
+  private Map<String, File>             _compiledclassfiles;
+
+  /** the compilation units for which problems have been reported (file name -> compilation unit) */
+  private Map<String, ICompilationUnit> _problemunits;
+
+  /** the lines of the compilation units which have been requested so far (file name -> lines) */
+  private Map<String, SourceLines>      _sourcelines = new HashMap<String, SourceLines>();
 
   /**
    * {@inheritDoc}
@@ -69,4 +78,29 @@ public class CompileJobResultImpl implements CompileJobResult {
     this._compiledclassfiles = compiledclasses;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public SourceLines getSourceLines(String fileName) {
+    SourceLines result = this._sourcelines.get(fileName);
+    if ((result == null) && (this._problemunits != null)) {
+      ICompilationUnit unit = this._problemunits.get(fileName);
+      if (unit != null) {
+        result = new SourceLines(unit.getContents());
+        this._sourcelines.put(fileName, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Changes the map which contains the compilation units for which problems have been reported.
+   * 
+   * @param problemunits
+   *          A map for the compilation units. Maybe <code>null</code>.
+   */
+  public void setProblemUnits(Map<String, ICompilationUnit> problemunits) {
+    this._problemunits = problemunits;
+  }
+
 }
@@ -20,6 +20,7 @@ import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.internal.compiler.ClassFile;
 import org.eclipse.jdt.internal.compiler.CompilationResult;
 import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 
 import java.io.File;
 import java.util.Arrays;
@@ -41,13 +42,16 @@ import java.util.Map;
 public class CompilerRequestorImpl implements ICompilerRequestor {
 
   /** indicates whether the compilation was successful or not */
-  protected boolean                  _compilationSuccessful;
+  protected boolean                     _compilationSuccessful;
 
   /** the list of categorized problems */
-  protected List<CategorizedProblem> _categorizedProblems;
+  protected List<CategorizedProblem>    _categorizedProblems;
 
   /** collection of class files which have been compiled */
-  private Map<String, File>          _compiledClassFiles;
+  private Map<String, File>             _compiledClassFiles;
+
+  /** the compilation units for which problems have been reported */
+  private Map<String, ICompilationUnit> _problemUnits;
 
   /**
    * <p>
@@ -58,6 +62,7 @@ public class CompilerRequestorImpl implements ICompilerRequestor {
     this._compilationSuccessful = true;
     this._categorizedProblems = new LinkedList<CategorizedProblem>();
     this._compiledClassFiles = new Hashtable<String, File>();
+    this._problemUnits = new Hashtable<String, ICompilationUnit>();
   }
 
   /**
@@ -69,6 +74,16 @@ public class CompilerRequestorImpl implements ICompilerRequestor {
     return Collections.unmodifiableMap(this._compiledClassFiles);
   }
 
+  /**
+   * Returns a map for the compilation units for which problems have been reported. The keys correspond to the
+   * originating file names of the problems.
+   * 
+   * @return A map for the compilation units for which problems have been reported. Not <code>null</code>.
+   */
+  public Map<String, ICompilationUnit> getProblemUnits() {
+    return Collections.unmodifiableMap(this._problemUnits);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -131,6 +146,7 @@ public class CompilerRequestorImpl implements ICompilerRequestor {
     // add the problems...
     if (result.getAllProblems() != null) {
       this._categorizedProblems.addAll(Arrays.asList(result.getAllProblems()));
+      this._problemUnits.put(String.valueOf(result.getFileName()), compilationUnitImpl);
     }
   }
 
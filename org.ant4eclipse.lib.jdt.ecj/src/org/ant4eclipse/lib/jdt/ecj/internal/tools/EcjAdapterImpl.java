@@ -87,6 +87,7 @@ public final class EcjAdapterImpl implements EcjAdapter {
     result.setSucceeded(requestor.isCompilationSuccessful());
     result.setCategorizedProblems(requestor.getCategorizedProblems());
     result.setCompiledClassFiles(requestor.getCompiledClassFiles());
+    result.setProblemUnits(requestor.getProblemUnits());
 
     // return the result
     return result;
@@ -114,10 +115,14 @@ public final class EcjAdapterImpl implements EcjAdapter {
     // create result list
     List<ICompilationUnit> result = new LinkedList<ICompilationUnit>();
 
+    // the contents of the compilation units are kept for the duration of the compilation
+    CompilationUnitImpl.ContentCache contentCache = new CompilationUnitImpl.ContentCache(
+        CompilationUnitImpl.ContentCache.DEFAULT_LIMIT);
+
     // iterate over source folders
     for (SourceFile sourceFile : sourceFiles) {
 
-      CompilationUnitImpl compilationUnitImpl = new CompilationUnitImpl(sourceFile);
+      CompilationUnitImpl compilationUnitImpl = new CompilationUnitImpl(sourceFile, contentCache);
 
       if (!result.contains(compilationUnitImpl)) {
         result.add(compilationUnitImpl);
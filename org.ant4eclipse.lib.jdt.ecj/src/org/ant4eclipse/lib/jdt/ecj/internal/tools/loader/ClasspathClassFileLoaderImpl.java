@@ -12,24 +12,20 @@
 package org.ant4eclipse.lib.jdt.ecj.internal.tools.loader;
 
 import java.io.File;
-import java.io.FileFilter;
 import java.io.IOException;
-import java.util.Enumeration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.StringTokenizer;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.ClassName;
-import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.util.DirectoryWalker;
+import org.ant4eclipse.lib.core.util.Utilities;
 import org.ant4eclipse.lib.jdt.ecj.ClassFile;
 import org.ant4eclipse.lib.jdt.ecj.ClassFileLoader;
-import org.ant4eclipse.lib.jdt.ecj.EcjExceptionCodes;
 import org.ant4eclipse.lib.jdt.ecj.ReferableSourceFile;
 import org.ant4eclipse.lib.jdt.ecj.internal.tools.ReferableSourceFileImpl;
 
@@ -44,19 +40,22 @@ import org.ant4eclipse.lib.jdt.ecj.internal.tools.ReferableSourceFileImpl;
 public class ClasspathClassFileLoaderImpl implements ClassFileLoader {
 
   /** the class path entries */
-  private File[]                       _classpathEntries;
+  private File[]                             _classpathEntries;
 
   /** the class path entries */
-  private File[]                       _sourcepathEntries;
+  private File[]                             _sourcepathEntries;
 
   /** the source */
-  private File                         _location;
+  private File                               _location;
 
   /** the type of the associated bundle (PROJECT or LIBRARY) */
-  private byte                         _type;
+  private byte                               _type;
 
   /** maps packages to package providers */
-  private Map<String, PackageProvider> _allPackages;
+  private Map<String, PackageProvider>       _allPackages;
+
+  /** the shared archives of the jar files on the class path */
+  private Map<File, BinaryTypeCache.Archive> _archives;
 
   /**
    * <p>
@@ -230,6 +229,7 @@ public class ClasspathClassFileLoaderImpl implements ClassFileLoader {
 
     // create allPackages hash map
     this._allPackages = new HashMap<String, PackageProvider>();
+    this._archives = new HashMap<File, BinaryTypeCache.Archive>();
 
     // add all existing packages to the hash map
     for (File file : this._classpathEntries) {
@@ -237,8 +237,10 @@ public class ClasspathClassFileLoaderImpl implements ClassFileLoader {
         String[] allPackages = getAllPackagesFromDirectory(file);
         addAllPackagesFromClassPathEntry(allPackages, file);
       } else if (file.isFile()) {
-        String[] allPackages = getAllPackagesFromJar(file);
-        addAllPackagesFromClassPathEntry(allPackages, file);
+        // the jar file is opened only once per build and shared with all other class file loaders
+        BinaryTypeCache.Archive archive = BinaryTypeCache.getInstance().getArchive(file);
+        this._archives.put(file, archive);
+        addAllPackagesFromClassPathEntry(archive.getPackages(), file);
       }
     }
 
@@ -320,151 +322,35 @@ public class ClasspathClassFileLoaderImpl implements ClassFileLoader {
 
   /**
    * <p>
-   * Returns all the names of the packages that are contained in the specified jar file. The package list contains the
-   * packages that contain classes as well as all parent packages of those.
+   * Returns the names of all packages (directories) of the specified directory.
    * </p>
-   * 
-   * @param jar
-   * @return
-   * @throws IOException
-   */
-  private String[] getAllPackagesFromJar(File jar) {
-    Assure.isFile("jar", jar);
-
-    // prepare result...
-    List<String> result = new LinkedList<String>();
-
-    // create the jarFile wrapper...
-    JarFile jarFile = null;
-
-    try {
-      jarFile = new JarFile(jar);
-    } catch (IOException e) {
-      throw new Ant4EclipseException(EcjExceptionCodes.COULD_NOT_CREATE_JAR_FILE_FROM_FILE_EXCEPTION,
-          jar.getAbsolutePath());
-    }
-
-    // Iterate over entries...
-    Enumeration<?> enumeration = jarFile.entries();
-    while (enumeration.hasMoreElements()) {
-      JarEntry jarEntry = (JarEntry) enumeration.nextElement();
-
-      // add package for each found directory...
-      String directoryName = null;
-
-      // if the jar entry is a directory, the directory name is the name of the jar entry...
-      if (jarEntry.isDirectory()) {
-        directoryName = jarEntry.getName();
-      }
-      // otherwise the directory name has to be computed
-      else {
-        int splitIndex = jarEntry.getName().lastIndexOf('/');
-        if (splitIndex != -1) {
-          directoryName = jarEntry.getName().substring(0, splitIndex);
-        }
-      }
-
-      // directoryName can be null if a top level entry is processed
-      if (directoryName != null) {
-        // convert path to package name
-        String packageName = directoryName.replace('/', '.');
-        packageName = packageName.endsWith(".") ? packageName.substring(0, packageName.length() - 1) : packageName;
-
-        // at package with all the parent packages (!) to the result list
-        String[] packages = allPackages(packageName);
-        for (int i = 0; i < packages.length; i++) {
-          if (!result.contains(packages[i])) {
-            result.add(packages[i]);
-          }
-        }
-      }
-    }
-
-    // return result...
-    return result.toArray(new String[0]);
-
-  }
-
-  /**
    * <p>
-   * Returns all package names (including parent package names) for the specified package.
-   * </p>
-   * <p>
-   * <b>Example:</b><br/>
-   * Given the package name <code>net.sf.ant4eclipse.tools</code> this method will return {"net", "net.sf",
-   * "net.sf.ant4eclipse", "net.sf.ant4eclipse.tools"}.
+   * Entries which names contain a '.' (f.e. class files) are skipped without accessing the file system: a directory
+   * with such a name can't be a package segment, so its classes couldn't be loaded anyway.
    * </p>
    * 
-   * @param packageName
-   *          the name of the package.
-   * @return all package names (including parent package names) for the specified package.
-   */
-  private String[] allPackages(String packageName) {
-
-    // split the package name
-    StringTokenizer tokenizer = new StringTokenizer(packageName, ".");
-
-    // declare result
-    String[] result = new String[tokenizer.countTokens()];
-
-    // compute result
-    for (int i = 0; i < result.length; i++) {
-      if (i == 0) {
-        result[i] = tokenizer.nextToken();
-      } else {
-        result[i] = result[i - 1] + "." + tokenizer.nextToken();
-      }
-    }
-
-    // return result
-    return result;
-  }
-
-  /**
    * @param directory
    * @return
    */
   private String[] getAllPackagesFromDirectory(File directory) {
 
-    List<String> result = new LinkedList<String>();
+    final List<String> result = new ArrayList<String>();
 
-    File[] children = directory.listFiles(new FileFilter() {
-      public boolean accept(File pathname) {
-        return pathname.isDirectory();
-      }
-    });
+    DirectoryWalker.walk(directory, new DirectoryWalker.Visitor() {
 
-    if (children != null) {
-      for (File element : children) {
-        getAllPackagesFromDirectory(null, element, result);
+      @Override
+      public boolean acceptName(File parent, String name) {
+        return name.indexOf('.') == -1;
       }
-    }
-
-    return result.toArray(new String[0]);
-  }
-
-  /**
-   * @param prefix
-   * @param directory
-   * @param result
-   */
-  private void getAllPackagesFromDirectory(String prefix, File directory, List<String> result) {
-
-    String newPrefix = prefix == null ? "" : prefix + ".";
-
-    result.add(newPrefix + directory.getName());
 
-    File[] children = directory.listFiles(new FileFilter() {
-      public boolean accept(File pathname) {
-        return pathname.isDirectory();
+      @Override
+      public boolean enterDirectory(File child, String path) {
+        result.add(path.replace('/', '.'));
+        return true;
       }
     });
 
-    if (children != null) {
-      for (File element : children) {
-        getAllPackagesFromDirectory(newPrefix + directory.getName(), element, result);
-      }
-    }
+    return result.toArray(new String[result.size()]);
   }
 
   /**
@@ -591,17 +477,10 @@ public class ClasspathClassFileLoaderImpl implements ClassFileLoader {
             }
           }
         } else {
-          try {
-            JarFile jarFile = new JarFile(classpathEntry);
-
-            JarEntry entry = jarFile.getJarEntry(className.asClassFileName());
-
-            if ((entry != null)) {
-              return new JarClassFileImpl(className.asClassFileName(), jarFile, classpathEntry.getAbsolutePath(),
-                  ClasspathClassFileLoaderImpl.this._type);
-            }
-          } catch (IOException e) {
-            // nothing to do here...
+          BinaryTypeCache.Archive archive = ClasspathClassFileLoaderImpl.this._archives.get(classpathEntry);
+          if ((archive != null) && archive.hasEntry(className.asClassFileName())) {
+            return new JarClassFileImpl(className.asClassFileName(), archive, classpathEntry.getAbsolutePath(),
+                ClasspathClassFileLoaderImpl.this._type);
           }
         }
       }
@@ -623,16 +502,10 @@ public class ClasspathClassFileLoaderImpl implements ClassFileLoader {
 
         if (classpathEntry.isDirectory()) {
           File packageDir = new File(classpathEntry, className.getPackageAsDirectoryName());
-          if (packageDir.isDirectory()) {
-            for (String name : packageDir.list()) {
-              if (javaFileName.equals(name) && new File(classpathEntry,
-                  className.asSourceFileName().replace('/', File.separatorChar).replace('\\', File.separatorChar))
-                      .exists()) {
-                return new ReferableSourceFileImpl(classpathEntry,
-                    className.asSourceFileName().replace('/', File.separatorChar).replace('\\', File.separatorChar),
-                    classpathEntry.getAbsolutePath(), ClasspathClassFileLoaderImpl.this._type);
-              }
-            }
+          if (Utilities.hasChild(packageDir, javaFileName)) {
+            return new ReferableSourceFileImpl(classpathEntry,
+                className.asSourceFileName().replace('/', File.separatorChar).replace('\\', File.separatorChar),
+                classpathEntry.getAbsolutePath(), ClasspathClassFileLoaderImpl.this._type);
           }
         }
 
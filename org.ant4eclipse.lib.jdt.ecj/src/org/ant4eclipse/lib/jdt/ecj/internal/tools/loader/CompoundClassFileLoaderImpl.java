@@ -21,9 +21,11 @@ import org.ant4eclipse.lib.jdt.ecj.ReferableSourceFile;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class CompoundClassFileLoaderImpl implements ClassFileLoader {
 
@@ -47,18 +49,18 @@ public class CompoundClassFileLoaderImpl implements ClassFileLoader {
    */
   public File[] getClasspath() {
     List<File> files = new ArrayList<File>();
-    List<String> set = new ArrayList<String>();
+    Set<String> set = new HashSet<String>();
+    boolean windows = Utilities.isWindows();
     for (ClassFileLoader loader : this._classFileLoaders) {
       File[] entries = loader.getClasspath();
       for (File entry : entries) {
         entry = Utilities.getCanonicalFile(entry);
-        String path = entry.getAbsolutePath();
-        if (Utilities.isWindows()) {
+        String path = entry.getPath();
+        if (windows) {
           // for windows the case makes no difference
           path = path.toLowerCase();
         }
-        if (!set.contains(path)) {
-          set.add(path);
+        if (set.add(path)) {
           files.add(entry);
         }
       }
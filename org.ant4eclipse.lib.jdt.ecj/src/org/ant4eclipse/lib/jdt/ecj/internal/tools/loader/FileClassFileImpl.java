@@ -16,7 +16,6 @@ import java.io.File;
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.jdt.ecj.ClassFile;
 import org.ant4eclipse.lib.jdt.ecj.internal.tools.DefaultReferableType;
-import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.env.IBinaryType;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
@@ -52,7 +51,8 @@ public class FileClassFileImpl extends DefaultReferableType implements ClassFile
    */
   public final IBinaryType getBinaryType() {
     try {
-      return ClassFileReader.read(this._classfile, true);
+      // the binary type is shared with all compilations using the same class file
+      return BinaryTypeCache.getInstance().getBinaryType(this._classfile);
     } catch (Exception e) {
       // return null if an exception occurs
       e.printStackTrace();
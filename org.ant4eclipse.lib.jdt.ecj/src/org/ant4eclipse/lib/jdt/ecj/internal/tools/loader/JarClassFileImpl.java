@@ -12,17 +12,14 @@
 package org.ant4eclipse.lib.jdt.ecj.internal.tools.loader;
 
 import java.io.IOException;
-import java.util.zip.ZipFile;
 
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.jdt.ecj.ClassFile;
 import org.ant4eclipse.lib.jdt.ecj.EcjExceptionCodes;
 import org.ant4eclipse.lib.jdt.ecj.internal.tools.DefaultReferableType;
-import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
 import org.eclipse.jdt.internal.compiler.env.IBinaryType;
-import org.eclipse.jdt.internal.compiler.util.Util;
 
 /**
  * DefaultClassFile --
@@ -31,30 +28,32 @@ import org.eclipse.jdt.internal.compiler.util.Util;
  */
 public class JarClassFileImpl extends DefaultReferableType implements ClassFile {
 
-  /** the zip file */
-  private ZipFile _zipFile;
+  /** the shared archive of the jar file */
+  private BinaryTypeCache.Archive _archive;
 
   /** the zip entry name */
-  private String  _zipEntryName;
+  private String                  _zipEntryName;
 
   /**
    * @param zipEntryName
-   * @param zipFile
+   * @param archive
+   *          the shared archive of the jar file
    */
-  public JarClassFileImpl(String zipEntryName, ZipFile zipFile, String libraryLocation, byte libraryType) {
+  public JarClassFileImpl(String zipEntryName, BinaryTypeCache.Archive archive, String libraryLocation,
+      byte libraryType) {
 
     super(libraryLocation, libraryType);
 
     Assure.nonEmpty("zipEntryName", zipEntryName);
-    Assure.notNull("zipFile", zipFile);
+    Assure.notNull("archive", archive);
 
     this._zipEntryName = zipEntryName;
-    this._zipFile = zipFile;
+    this._archive = archive;
   }
 
   public byte[] getBytes() {
     try {
-      return Util.getZipEntryByteContent(this._zipFile.getEntry(this._zipEntryName), this._zipFile);
+      return this._archive.getBytes(this._zipEntryName);
     } catch (Exception e) {
       throw new RuntimeException(e.getMessage(), e);
     }
@@ -65,16 +64,17 @@ public class JarClassFileImpl extends DefaultReferableType implements ClassFile
    */
   public final IBinaryType getBinaryType() {
     try {
-      return ClassFileReader.read(this._zipFile, this._zipEntryName, true);
+      // the binary type is shared with all compilations using the same jar file
+      return this._archive.getBinaryType(this._zipEntryName);
     } catch (ClassFormatException e) {
       throw new Ant4EclipseException(e, EcjExceptionCodes.UNABLE_TO_READ_BINARY_TYPE_FROM_JAR_EXCEPTION,
-          this._zipFile.getName(), this._zipEntryName);
+          this._archive.getLocation(), this._zipEntryName);
     } catch (IOException e) {
       throw new Ant4EclipseException(e, EcjExceptionCodes.UNABLE_TO_READ_BINARY_TYPE_FROM_JAR_EXCEPTION,
-          this._zipFile.getName(), this._zipEntryName);
+          this._archive.getLocation(), this._zipEntryName);
     } catch (java.lang.SecurityException e) {
       throw new Ant4EclipseException(e, EcjExceptionCodes.UNABLE_TO_READ_BINARY_TYPE_FROM_JAR_EXCEPTION,
-          this._zipFile.getName(), this._zipEntryName);
+          this._archive.getLocation(), this._zipEntryName);
     }
   }
 
@@ -92,7 +92,7 @@ public class JarClassFileImpl extends DefaultReferableType implements ClassFile
     buffer.append(" accessRestriction: ");
     buffer.append(getAccessRestriction());
     buffer.append(" zipFile: ");
-    buffer.append(this._zipFile);
+    buffer.append(this._archive.getLocation());
     buffer.append(" zipEntryName: ");
     buffer.append(this._zipEntryName);
     buffer.append("]");
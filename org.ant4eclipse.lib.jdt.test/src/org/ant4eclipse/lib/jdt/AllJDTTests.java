@@ -11,12 +11,17 @@
  **********************************************************************/
 package org.ant4eclipse.lib.jdt;
 
+import org.ant4eclipse.lib.jdt.ecj.SourceLinesTest;
+import org.ant4eclipse.lib.jdt.ecj.internal.tools.CompilationUnitImplTest;
+import org.ant4eclipse.lib.jdt.ecj.internal.tools.loader.BinaryTypeCacheTest;
+import org.ant4eclipse.lib.jdt.ecj.internal.tools.loader.ClassFileLoaderCacheTest;
 import org.ant4eclipse.lib.jdt.internal.model.userlibrary.UserLibrariesFileParserImplTest;
 import org.ant4eclipse.lib.jdt.tools.BuildOrderResolverTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses( { BuildOrderResolverTest.class, UserLibrariesFileParserImplTest.class })
+@Suite.SuiteClasses( { BuildOrderResolverTest.class, UserLibrariesFileParserImplTest.class,
+    SourceLinesTest.class, CompilationUnitImplTest.class, BinaryTypeCacheTest.class, ClassFileLoaderCacheTest.class })
 public class AllJDTTests {
 } /* ENDCLASS */
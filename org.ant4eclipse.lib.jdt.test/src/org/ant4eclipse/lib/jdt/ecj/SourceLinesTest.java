@@ -0,0 +1,47 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SourceLinesTest {
+
+  @Test
+  public void lines() {
+    SourceLines sourceLines = new SourceLines("class A {\n\tint a;\r\n\r}".toCharArray());
+    assertEquals(4, sourceLines.getLineCount());
+    assertEquals("class A {", sourceLines.getLine(1));
+    assertEquals("\tint a;", sourceLines.getLine(2));
+    assertEquals("", sourceLines.getLine(3));
+    assertEquals("}", sourceLines.getLine(4));
+    assertEquals(0, sourceLines.getLineStart(1));
+    assertEquals(10, sourceLines.getLineStart(2));
+    assertEquals(19, sourceLines.getLineStart(3));
+    assertEquals(20, sourceLines.getLineStart(4));
+    assertNull(sourceLines.getLine(0));
+    assertNull(sourceLines.getLine(5));
+    assertEquals(-1, sourceLines.getLineStart(5));
+  }
+
+  @Test
+  public void trailingTerminator() {
+    SourceLines sourceLines = new SourceLines("a\nb\n".toCharArray());
+    assertEquals(3, sourceLines.getLineCount());
+    assertEquals("b", sourceLines.getLine(2));
+    assertEquals("", sourceLines.getLine(3));
+    assertEquals(1, new SourceLines(new char[0]).getLineCount());
+  }
+
+} /* ENDCLASS */
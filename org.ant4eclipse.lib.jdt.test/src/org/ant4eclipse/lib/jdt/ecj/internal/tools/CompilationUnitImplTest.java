@@ -0,0 +1,115 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj.internal.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.jdt.ecj.SourceFileFactory;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+public class CompilationUnitImplTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void lineTerminators() throws IOException {
+    String[] contents = new String[] { "", "class A {}", "class A {\n}\n", "class A {\r\n}\r\n", "class A {\r}\r",
+        "class A {\r\n\r\n\n\r}", "\n", "\r\n\r" };
+    for (String content : contents) {
+      File file = this._testDirectory.createFile("A.java", content);
+      CompilationUnitImpl compilationUnit = new CompilationUnitImpl(SourceFileFactory.createSourceFile(file
+          .getParentFile(), "A.java", this._testDirectory.getRootDir(), "UTF-8"));
+      assertEquals(readLineByLine(file, "UTF-8"), new String(compilationUnit.getContents()));
+    }
+  }
+
+  @Test
+  public void encodings() throws IOException {
+    String content = "class A { String s = \"\u00e4\u00f6\u00fc \u20ac\"; }";
+    for (String encoding : new String[] { "UTF-8", "ISO-8859-15", "UTF-16" }) {
+      File file = new File(this._testDirectory.getRootDir(), "A.java");
+      Utilities.writeFile(file, content, encoding);
+      CompilationUnitImpl compilationUnit = new CompilationUnitImpl(SourceFileFactory.createSourceFile(file
+          .getParentFile(), "A.java", this._testDirectory.getRootDir(), encoding));
+      assertEquals(content + "\n", new String(compilationUnit.getContents()));
+      assertEquals(readLineByLine(file, encoding), new String(compilationUnit.getContents()));
+    }
+  }
+
+  @Test
+  public void contentCache() {
+    File file = this._testDirectory.createFile("A.java", "class A {}");
+    CompilationUnitImpl.ContentCache contentCache = new CompilationUnitImpl.ContentCache(15);
+
+    // the contents are cached as long as the limit isn't exceeded
+    CompilationUnitImpl cached = new CompilationUnitImpl(SourceFileFactory.createSourceFile(file.getParentFile(),
+        "A.java", this._testDirectory.getRootDir(), "UTF-8"), contentCache);
+    char[] contents = cached.getContents();
+    assertSame(contents, cached.getContents());
+    assertEquals(4, contentCache.getRemaining());
+
+    CompilationUnitImpl uncached = new CompilationUnitImpl(SourceFileFactory.createSourceFile(file.getParentFile(),
+        "A.java", this._testDirectory.getRootDir(), "UTF-8"), contentCache);
+    assertNotSame(uncached.getContents(), uncached.getContents());
+    assertEquals(4, contentCache.getRemaining());
+  }
+
+  /**
+   * <p>
+   * Reads the file line by line like the compilation units did before.
+   * </p>
+   */
+  private String readLineByLine(File file, String encoding) throws IOException {
+    StringBuilder result = new StringBuilder();
+    BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), encoding));
+    try {
+      String str;
+      while ((str = in.readLine()) != null) {
+        result.append(str);
+        result.append("\n");
+      }
+    } finally {
+      in.close();
+    }
+    return result.toString();
+  }
+
+} /* ENDCLASS */
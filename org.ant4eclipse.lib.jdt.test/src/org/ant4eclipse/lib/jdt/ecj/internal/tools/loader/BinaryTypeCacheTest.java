@@ -0,0 +1,250 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.ecj.internal.tools.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.ClassName;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.jdt.ecj.ClassFile;
+import org.ant4eclipse.lib.jdt.ecj.ClassFileLoader;
+import org.ant4eclipse.lib.jdt.ecj.EcjAdapter;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.eclipse.jdt.internal.compiler.env.IBinaryType;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+public class BinaryTypeCacheTest extends ConfigurableAnt4EclipseTestCase {
+
+  private static final String CLASS_ENTRY = "org/ant4eclipse/test/Test.class";
+
+  private TestDirectory       _testDirectory;
+
+  private BinaryTypeCache     _binaryTypeCache;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+    this._binaryTypeCache = new BinaryTypeCache();
+    this._binaryTypeCache.initialize();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._binaryTypeCache.dispose();
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void sharedArchive() throws Exception {
+    File jar = createJar("test.jar", CLASS_ENTRY, "org/ant4eclipse/other/readme.txt", "top.txt");
+    BinaryTypeCache.Archive archive = this._binaryTypeCache.getArchive(jar);
+    assertSame(archive, this._binaryTypeCache.getArchive(new File(jar.getParentFile(), "./test.jar")));
+    assertEquals(1, this._binaryTypeCache.getArchiveCount());
+
+    assertEquals(Arrays.asList("org.ant4eclipse.test", "org.ant4eclipse", "org", "org.ant4eclipse.other"), Arrays
+        .asList(archive.getPackages()));
+    assertTrue(archive.hasEntry(CLASS_ENTRY));
+    assertFalse(archive.hasEntry("org/ant4eclipse/test/Missing.class"));
+    assertTrue(Arrays.equals(getClassBytes(), archive.getBytes(CLASS_ENTRY)));
+  }
+
+  @Test
+  public void binaryTypes() throws Exception {
+    BinaryTypeCache.Archive archive = this._binaryTypeCache.getArchive(createJar("test.jar", CLASS_ENTRY));
+    assertNotNull(archive.getBinaryType(CLASS_ENTRY));
+    assertSame(archive.getBinaryType(CLASS_ENTRY), archive.getBinaryType(CLASS_ENTRY));
+    assertNull(archive.getBinaryType("org/ant4eclipse/test/Missing.class"));
+  }
+
+  @Test
+  public void limit() throws Exception {
+    int weight = getClassBytes().length;
+    this._binaryTypeCache.dispose();
+    this._binaryTypeCache = new BinaryTypeCache(weight * 3 / 2);
+    BinaryTypeCache.Archive archive = this._binaryTypeCache.getArchive(createJar("test.jar", CLASS_ENTRY,
+        "org/ant4eclipse/test/Other.class"));
+
+    // the least recently used binary type is evicted but remains softly referenced
+    IBinaryType binaryType = archive.getBinaryType(CLASS_ENTRY);
+    archive.getBinaryType("org/ant4eclipse/test/Other.class");
+    assertEquals(weight, this._binaryTypeCache.getSize());
+    assertEquals(1, this._binaryTypeCache.getEvictionCount());
+    assertSame(binaryType, archive.getBinaryType(CLASS_ENTRY));
+    assertEquals(weight, this._binaryTypeCache.getSize());
+    assertEquals(2, this._binaryTypeCache.getEvictionCount());
+    assertEquals(1, this._binaryTypeCache.getHitCount());
+    assertEquals(2, this._binaryTypeCache.getMissCount());
+  }
+
+  @Test
+  public void classFiles() throws Exception {
+    File classfile = new File(this._testDirectory.getRootDir(), "Test.class");
+    Utilities.writeFile(classfile, getClassBytes());
+    IBinaryType binaryType = this._binaryTypeCache.getBinaryType(classfile);
+    assertNotNull(binaryType);
+    assertSame(binaryType, this._binaryTypeCache.getBinaryType(classfile));
+
+    // the changed class file is read again
+    classfile.setLastModified(classfile.lastModified() - 10000);
+    IBinaryType changed = this._binaryTypeCache.getBinaryType(classfile);
+    assertNotSame(binaryType, changed);
+    assertEquals(1, this._binaryTypeCache.getHitCount());
+    assertEquals(2, this._binaryTypeCache.getMissCount());
+
+    // a class file rewritten within the same second is read again if its size has been changed
+    long lastModified = classfile.lastModified();
+    byte[] bytes = getClassBytes();
+    byte[] extended = new byte[bytes.length + 16];
+    System.arraycopy(bytes, 0, extended, 0, bytes.length);
+    Utilities.writeFile(classfile, extended);
+    classfile.setLastModified(lastModified);
+    assertNotSame(changed, this._binaryTypeCache.getBinaryType(classfile));
+    assertEquals(3, this._binaryTypeCache.getMissCount());
+  }
+
+  @Test
+  public void changedArchive() throws Exception {
+    File jar = createJar("test.jar", CLASS_ENTRY);
+    BinaryTypeCache.Archive archive = this._binaryTypeCache.getArchive(jar);
+
+    // the changed jar file is opened again while the outdated archive remains usable
+    long lastModified = jar.lastModified();
+    assertTrue(createJar("changed.jar", CLASS_ENTRY, "org/ant4eclipse/changed/Changed.class").renameTo(jar));
+    jar.setLastModified(lastModified - 10000);
+    assertFalse(archive.isUpToDate());
+    BinaryTypeCache.Archive changed = this._binaryTypeCache.getArchive(jar);
+    assertNotSame(archive, changed);
+    assertFalse(archive.isOpen());
+    assertTrue(changed.hasEntry("org/ant4eclipse/changed/Changed.class"));
+    assertNotNull(archive.getBinaryType(CLASS_ENTRY));
+    assertTrue(archive.isOpen());
+
+    this._binaryTypeCache.revalidate();
+    assertEquals(1, this._binaryTypeCache.getArchiveCount());
+    jar.setLastModified(lastModified - 20000);
+    this._binaryTypeCache.revalidate();
+    assertEquals(0, this._binaryTypeCache.getArchiveCount());
+    assertFalse(changed.isOpen());
+  }
+
+  @Test
+  public void openArchives() throws Exception {
+    this._binaryTypeCache.dispose();
+    this._binaryTypeCache = new BinaryTypeCache(BinaryTypeCache.DEFAULT_LIMIT, 2);
+    BinaryTypeCache.Archive first = this._binaryTypeCache.getArchive(createJar("first.jar", CLASS_ENTRY));
+    BinaryTypeCache.Archive second = this._binaryTypeCache.getArchive(createJar("second.jar", CLASS_ENTRY));
+    BinaryTypeCache.Archive third = this._binaryTypeCache.getArchive(createJar("third.jar", CLASS_ENTRY));
+
+    // the least recently used jar file is closed and opened again on demand
+    assertEquals(2, this._binaryTypeCache.getOpenArchiveCount());
+    assertFalse(first.isOpen());
+    assertTrue(first.hasEntry(CLASS_ENTRY));
+    assertTrue(first.isOpen());
+    assertFalse(second.isOpen());
+    assertTrue(third.isOpen());
+    assertNotNull(second.getBinaryType(CLASS_ENTRY));
+    assertEquals(2, this._binaryTypeCache.getOpenArchiveCount());
+    assertEquals(5, this._binaryTypeCache.getOpenedCount());
+    assertEquals(Arrays.asList("org.ant4eclipse.test", "org.ant4eclipse", "org"), Arrays.asList(third.getPackages()));
+
+    this._binaryTypeCache.dispose();
+    assertEquals(0, this._binaryTypeCache.getOpenArchiveCount());
+    assertFalse(first.isOpen());
+    assertFalse(second.isOpen());
+  }
+
+  @Test
+  public void reopenChangedArchive() throws Exception {
+    this._binaryTypeCache.dispose();
+    this._binaryTypeCache = new BinaryTypeCache(BinaryTypeCache.DEFAULT_LIMIT, 1);
+    File jar = createJar("test.jar", CLASS_ENTRY);
+    BinaryTypeCache.Archive archive = this._binaryTypeCache.getArchive(jar);
+    IBinaryType binaryType = archive.getBinaryType(CLASS_ENTRY);
+    this._binaryTypeCache.getArchive(createJar("other.jar", CLASS_ENTRY));
+    assertFalse(archive.isOpen());
+
+    // a jar file which has been changed while it has been closed is read again
+    long lastModified = jar.lastModified();
+    assertTrue(createJar("changed.jar", CLASS_ENTRY, "org/ant4eclipse/changed/Changed.class").renameTo(jar));
+    jar.setLastModified(lastModified - 10000);
+    assertNotSame(binaryType, archive.getBinaryType(CLASS_ENTRY));
+    assertTrue(Arrays.asList(archive.getPackages()).contains("org.ant4eclipse.changed"));
+  }
+
+  @Test
+  public void classFileLoaders() throws Exception {
+    File jar = createJar("test.jar", CLASS_ENTRY);
+    ClassName className = ClassName.fromQualifiedClassName("org.ant4eclipse.test.Test");
+
+    // class file loaders using the same jar file share the binary types
+    ClassFileLoader loader = new ClasspathClassFileLoaderImpl(jar, EcjAdapter.LIBRARY);
+    ClassFileLoader other = new ClasspathClassFileLoaderImpl(jar, EcjAdapter.LIBRARY);
+    assertTrue(loader.hasPackage("org.ant4eclipse"));
+    ClassFile classFile = loader.loadClass(className);
+    assertNotNull(classFile);
+    assertSame(classFile.getBinaryType(), other.loadClass(className).getBinaryType());
+    assertNull(loader.loadClass(ClassName.fromQualifiedClassName("org.ant4eclipse.test.Missing")));
+  }
+
+  private File createJar(String name, String... entries) throws IOException {
+    File result = new File(this._testDirectory.getRootDir(), name);
+    JarOutputStream outstream = new JarOutputStream(new FileOutputStream(result));
+    try {
+      for (String entry : entries) {
+        outstream.putNextEntry(new ZipEntry(entry));
+        if (entry.endsWith(".class")) {
+          outstream.write(getClassBytes());
+        }
+        outstream.closeEntry();
+      }
+    } finally {
+      Utilities.close(outstream);
+    }
+    return result;
+  }
+
+  private byte[] getClassBytes() throws IOException {
+    InputStream instream = getClass().getResourceAsStream("BinaryTypeCacheTest.class");
+    try {
+      ByteArrayOutputStream byteout = new ByteArrayOutputStream();
+      Utilities.copy(instream, byteout, new byte[1024]);
+      return byteout.toByteArray();
+    } finally {
+      Utilities.close(instream);
+    }
+  }
+
+} /* ENDCLASS */
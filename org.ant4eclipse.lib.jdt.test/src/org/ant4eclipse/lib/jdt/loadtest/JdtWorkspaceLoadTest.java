@@ -0,0 +1,146 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.jdt.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.jdt.tools.JdtResolver;
+import org.ant4eclipse.lib.jdt.tools.container.JdtClasspathContainerArgument;
+import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
+import org.ant4eclipse.lib.platform.model.resource.Workspace;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.DefaultEclipseWorkspaceDefinition;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRegistry;
+import org.ant4eclipse.lib.platform.tools.BuildOrderResolver;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.JdtProjectBuilder;
+import org.ant4eclipse.testframework.LoadTests;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * <p>
+ * Load test for the jdt layer. It generates workspaces of java projects depending on each other and checks that the
+ * registration of the workspace, the class path resolution and the computation of the build order stay within
+ * per-project time budgets. The workspace sizes are taken from the system property {@value LoadTests#PROP_SIZES}.
+ * </p>
+ */
+public class JdtWorkspaceLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** no class path container arguments */
+  private static final List<JdtClasspathContainerArgument> NO_ARGUMENTS        = Collections.emptyList();
+
+  /** the maximum number of projects a project depends on */
+  private static final int                                 FAN_OUT             = 3;
+
+  /** time budget for the registration of the workspace (ms per project) */
+  private static final long                                REGISTRATION_BUDGET = 10;
+
+  /** time budget for the class path resolution (ms per project) */
+  private static final long                                CLASSPATH_BUDGET    = 50;
+
+  /** time budget for the build order computation (ms per project) */
+  private static final long                                BUILD_ORDER_BUDGET  = 50;
+
+  @Test
+  public void loadTest() {
+    for (int size : LoadTests.getSizes()) {
+      runLoadTest(size);
+    }
+  }
+
+  private void runLoadTest(int projectCount) {
+
+    // re-initialize the service registry for every run
+    dispose();
+    setup();
+
+    TestDirectory testDirectory = new TestDirectory();
+    try {
+
+      // Step 1: generate the workspace (every project only depends on projects with a lower index)
+      Random random = new Random(4711L);
+      String[] projectNames = new String[projectCount];
+      Map<String, Set<String>> dependencies = new HashMap<String, Set<String>>();
+      for (int i = 0; i < projectCount; i++) {
+        projectNames[i] = String.format("synthetic.java%05d", Integer.valueOf(i));
+        Set<String> required = new LinkedHashSet<String>();
+        while (required.size() < Math.min(FAN_OUT, i)) {
+          required.add(projectNames[random.nextInt(i)]);
+        }
+        JdtProjectBuilder builder = JdtProjectBuilder.getPreConfiguredJdtBuilder(projectNames[i]);
+        for (String name : required) {
+          builder.withClasspathEntry(String.format(
+              "<classpathentry combineaccessrules=\"false\" kind=\"src\" path=\"/%s\"/>", name));
+        }
+        builder.withSourceClass("src", projectNames[i] + ".Type");
+        builder.createIn(testDirectory.getRootDir());
+        dependencies.put(projectNames[i], required);
+      }
+
+      // Step 2: registration
+      long start = System.currentTimeMillis();
+      WorkspaceRegistry workspaceRegistry = ServiceRegistryAccess.instance().getService(WorkspaceRegistry.class);
+      Workspace workspace = workspaceRegistry.registerWorkspace(testDirectory.getRootDir().getAbsolutePath(),
+          new DefaultEclipseWorkspaceDefinition(testDirectory.getRootDir()));
+      long registration = System.currentTimeMillis() - start;
+      assertEquals(projectCount, workspace.getAllProjects().length);
+
+      // Step 3: class path resolution
+      start = System.currentTimeMillis();
+      Map<String, File[]> classpathes = new HashMap<String, File[]>();
+      for (EclipseProject project : workspace.getAllProjects()) {
+        classpathes.put(project.getSpecifiedName(), JdtResolver.resolveProjectClasspath(project, false, false,
+            NO_ARGUMENTS).getClasspathFiles());
+      }
+      long classpathResolution = System.currentTimeMillis() - start;
+      for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+        List<File> classpath = Arrays.asList(classpathes.get(entry.getKey()));
+        for (String name : entry.getValue()) {
+          File output = workspace.getProject(name).getChild("bin");
+          assertTrue(String.format("The class path of '%s' doesn't contain '%s'.", entry.getKey(), output), classpath
+              .contains(output));
+        }
+      }
+
+      // Step 4: build order
+      start = System.currentTimeMillis();
+      List<EclipseProject> buildOrder = BuildOrderResolver.resolveBuildOrder(workspace, projectNames, null, null);
+      long buildOrdering = System.currentTimeMillis() - start;
+      assertEquals(projectCount, buildOrder.size());
+
+      A4ELogging.info("%d projects: registration=%dms, classpath=%dms, buildorder=%dms", Integer
+          .valueOf(projectCount), Long.valueOf(registration), Long.valueOf(classpathResolution), Long
+          .valueOf(buildOrdering));
+
+      LoadTests.assertWithinBudget("registration", registration, REGISTRATION_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("class path resolution", classpathResolution, CLASSPATH_BUDGET, projectCount);
+      LoadTests.assertWithinBudget("build order", buildOrdering, BUILD_ORDER_BUDGET, projectCount);
+
+    } finally {
+      testDirectory.dispose();
+    }
+  }
+
+} /* ENDCLASS */
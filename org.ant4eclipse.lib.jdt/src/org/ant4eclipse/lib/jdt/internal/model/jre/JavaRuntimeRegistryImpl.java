@@ -14,14 +14,19 @@ package org.ant4eclipse.lib.jdt.internal.model.jre;
 import static org.ant4eclipse.lib.core.logging.A4ELogging.trace;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.Revalidatable;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.FileFingerprint;
 import org.ant4eclipse.lib.jdt.JdtExceptionCode;
 import org.ant4eclipse.lib.jdt.model.ContainerTypes;
 import org.ant4eclipse.lib.jdt.model.jre.JavaProfile;
@@ -36,16 +41,22 @@ import org.ant4eclipse.lib.jdt.model.jre.JavaRuntimeRegistry;
  * @author Daniel Kasmeroglu (daniel.kasmeroglu@kasisoft.net)
  * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
  */
-public class JavaRuntimeRegistryImpl implements JavaRuntimeRegistry {
+public class JavaRuntimeRegistryImpl implements JavaRuntimeRegistry, Revalidatable {
 
   /** the default java runtime key * */
-  private String                         _defaultJavaRuntimeKey = null;
+  private String                             _defaultJavaRuntimeKey = null;
 
   /** the default java runtime (lazy initialized) */
-  private JavaRuntime                    _defaultJavaRuntime    = null;
+  private JavaRuntime                        _defaultJavaRuntime    = null;
 
   /** the java runtime cache */
-  private final Map<String, JavaRuntime> _javaRuntimeCache      = new HashMap<String, JavaRuntime>();
+  private final Map<String, JavaRuntime>     _javaRuntimeCache      = new HashMap<String, JavaRuntime>();
+
+  /** the arguments used to register the java runtimes (id -> description) */
+  private final Map<String, String>          _registrations         = new HashMap<String, String>();
+
+  /** the fingerprints of the registered java runtimes */
+  private final Map<String, FileFingerprint> _fingerprints          = new HashMap<String, FileFingerprint>();
 
   /**
    * <p>
@@ -76,9 +87,41 @@ public class JavaRuntimeRegistryImpl implements JavaRuntimeRegistry {
     A4ELogging.info("registerJavaRuntime: id = %s, location = %s, extDirs = %s, endorsedDirs = %s, jreFiles = %s", id,
         location, extDirs, endorsedDirs, jreFiles);
 
+    // the same java runtime might have been registered before (f.e. by a previous build reusing the registry)
+    String registration = location.getAbsolutePath() + "|" + extDirs + "|" + endorsedDirs + "|" + jreFiles;
+    if (registration.equals(this._registrations.get(id)) && this._javaRuntimeCache.containsKey(id)) {
+      return this._javaRuntimeCache.get(id);
+    }
+
     JavaRuntime javaRuntime = JavaRuntimeLoader.loadJavaRuntime(id, location, extDirs, endorsedDirs, jreFiles);
 
-    return registerJavaRuntime(javaRuntime);
+    JavaRuntime result = registerJavaRuntime(javaRuntime);
+    this._registrations.put(id, registration);
+    this._fingerprints.put(id, createFingerprint(location, jreFiles, javaRuntime.getLibraries()));
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>
+   * Drops all java runtimes whose installation has been changed since they have been registered. The default java
+   * runtime has to be selected again by the next build.
+   * </p>
+   */
+  public void revalidate() {
+    this._defaultJavaRuntimeKey = null;
+    this._defaultJavaRuntime = null;
+    Iterator<Map.Entry<String, FileFingerprint>> iterator = this._fingerprints.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, FileFingerprint> entry = iterator.next();
+      if (!entry.getValue().isUpToDate()) {
+        A4ELogging.debug("JavaRuntimeRegistry.revalidate: java runtime '%s' has been changed.", entry.getKey());
+        this._javaRuntimeCache.remove(entry.getKey());
+        this._registrations.remove(entry.getKey());
+        iterator.remove();
+      }
+    }
   }
 
   /**
@@ -319,6 +362,33 @@ public class JavaRuntimeRegistryImpl implements JavaRuntimeRegistry {
     return javaRuntime;
   }
 
+  /**
+   * Records the files of a java runtime installation which change whenever the installation is modified. The
+   * libraries are recorded one by one as a library updated in place doesn't change the modification time of its
+   * directory.
+   * 
+   * @param location
+   *          The location of the java runtime. Not <code>null</code>.
+   * @param jreFiles
+   *          The explicitly configured runtime libraries. Maybe <code>null</code>.
+   * @param libraries
+   *          The libraries of the loaded java runtime. Not <code>null</code>.
+   * 
+   * @return The fingerprint of the installation. Not <code>null</code>.
+   */
+  private FileFingerprint createFingerprint(File location, List<File> jreFiles, File[] libraries) {
+    List<File> files = new ArrayList<File>();
+    files.add(location);
+    files.add(new File(location, "release"));
+    files.add(new File(location, "lib"));
+    files.add(new File(location, "jre/lib"));
+    if (jreFiles != null) {
+      files.addAll(jreFiles);
+    }
+    files.addAll(Arrays.asList(libraries));
+    return new FileFingerprint(files);
+  }
+
   /**
    * <p>
    * Tries to create a java runtime for the JRE defined under system property 'java.home'. If the system property is not
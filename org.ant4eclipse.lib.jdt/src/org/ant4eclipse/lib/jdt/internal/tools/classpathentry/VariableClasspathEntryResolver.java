@@ -12,7 +12,7 @@
 package org.ant4eclipse.lib.jdt.internal.tools.classpathentry;
 
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 import org.ant4eclipse.lib.jdt.JdtExceptionCode;
 import org.ant4eclipse.lib.jdt.model.ClasspathEntry;
 import org.ant4eclipse.lib.jdt.model.project.RawClasspathEntry;
@@ -33,6 +33,10 @@ import java.io.File;
  */
 public class VariableClasspathEntryResolver extends AbstractClasspathEntryResolver {
 
+  /** the class path elements registry */
+  private static final ServiceHandle<ClassPathElementsRegistry> CLASS_PATH_ELEMENTS_REGISTRY =
+      new ServiceHandle<ClassPathElementsRegistry>(ClassPathElementsRegistry.class);
+
   /** the SEPARATOR */
   private final String SEPARATOR = "/";
 
@@ -67,8 +71,7 @@ public class VariableClasspathEntryResolver extends AbstractClasspathEntryResolv
     }
 
     // get variablesRegistry
-    ClassPathElementsRegistry elementsRegistry = ServiceRegistryAccess.instance().getService(
-        ClassPathElementsRegistry.class);
+    ClassPathElementsRegistry elementsRegistry = CLASS_PATH_ELEMENTS_REGISTRY.get();
 
     // resolve variable
     if (elementsRegistry.hasClassPathVariable(variable)) {
@@ -11,7 +11,7 @@
  **********************************************************************/
 package org.ant4eclipse.lib.jdt.internal.tools.container;
 
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 import org.ant4eclipse.lib.jdt.model.ClasspathEntry;
 import org.ant4eclipse.lib.jdt.tools.ResolvedClasspathEntry;
 import org.ant4eclipse.lib.jdt.tools.classpathelements.ClassPathContainer;
@@ -27,6 +27,10 @@ import org.ant4eclipse.lib.jdt.tools.container.ClasspathResolverContext;
  */
 public class ClassPathElementsRegistryResolver implements ClasspathContainerResolver {
 
+  /** the class path elements registry */
+  private static final ServiceHandle<ClassPathElementsRegistry> CLASS_PATH_ELEMENTS_REGISTRY =
+      new ServiceHandle<ClassPathElementsRegistry>(ClassPathElementsRegistry.class);
+
   /**
    * {@inheritDoc}
    */
@@ -49,6 +53,6 @@ public class ClassPathElementsRegistryResolver implements ClasspathContainerReso
    * @return
    */
   private ClassPathElementsRegistry getClassPathElementsRegistry() {
-    return ServiceRegistryAccess.instance().getService(ClassPathElementsRegistry.class);
+    return CLASS_PATH_ELEMENTS_REGISTRY.get();
   }
 }
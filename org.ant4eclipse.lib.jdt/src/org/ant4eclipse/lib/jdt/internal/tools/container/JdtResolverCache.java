@@ -3,7 +3,7 @@ package org.ant4eclipse.lib.jdt.internal.tools.container;
 import java.util.Hashtable;
 import java.util.Map;
 
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 import org.ant4eclipse.lib.jdt.tools.ResolvedClasspath;
 import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
 
@@ -15,6 +15,10 @@ import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
  */
 public class JdtResolverCache {
 
+  /** the cache instance provided by the registry */
+  private static final ServiceHandle<JdtResolverCache> INSTANCE = new ServiceHandle<JdtResolverCache>(
+      JdtResolverCache.class);
+
   /** the class path cache */
   private static final Map<String, ResolvedClasspath> _classpathCache = new Hashtable<String, ResolvedClasspath>();
 
@@ -61,6 +65,6 @@ public class JdtResolverCache {
    * @return
    */
   public static JdtResolverCache getInstance() {
-    return ServiceRegistryAccess.instance().getService(JdtResolverCache.class);
+    return INSTANCE.get();
   }
 }
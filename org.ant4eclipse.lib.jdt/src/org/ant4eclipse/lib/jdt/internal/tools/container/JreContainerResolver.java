@@ -12,7 +12,7 @@
 package org.ant4eclipse.lib.jdt.internal.tools.container;
 
 import org.ant4eclipse.lib.core.logging.A4ELogging;
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 import org.ant4eclipse.lib.jdt.model.ClasspathEntry;
 import org.ant4eclipse.lib.jdt.model.ContainerTypes;
 import org.ant4eclipse.lib.jdt.model.jre.JavaRuntime;
@@ -28,6 +28,10 @@ import java.util.Set;
 
 public class JreContainerResolver implements ClasspathContainerResolver {
 
+  /** the java runtime registry */
+  private static final ServiceHandle<JavaRuntimeRegistry> JAVA_RUNTIME_REGISTRY =
+      new ServiceHandle<JavaRuntimeRegistry>(JavaRuntimeRegistry.class);
+
   /**
    * {@inheritDoc}
    */
@@ -45,7 +49,7 @@ public class JreContainerResolver implements ClasspathContainerResolver {
       return;
     }
 
-    JavaRuntimeRegistry javaRuntimeRegistry = ServiceRegistryAccess.instance().getService(JavaRuntimeRegistry.class);
+    JavaRuntimeRegistry javaRuntimeRegistry = JAVA_RUNTIME_REGISTRY.get();
 
     String path = classpathEntry.getPath();
 
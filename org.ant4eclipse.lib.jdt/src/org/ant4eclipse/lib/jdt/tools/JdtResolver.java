@@ -106,30 +106,34 @@ public class JdtResolver {
 
     // Start performance logging
     PerformanceLogging.start(JdtResolver.class, "doResolveProjectClasspath");
+    try {
 
-    // create a ResolverJob
-    ResolverJob job = new ResolverJob(project, project.getWorkspace(), resolveRelative, isRuntimeClasspath,
-        classpathContainerArguments);
+      // create a ResolverJob
+      ResolverJob job = new ResolverJob(project, project.getWorkspace(), resolveRelative, isRuntimeClasspath,
+          classpathContainerArguments);
 
-    // create the ClasspathEntryResolverExecutor
-    ClasspathEntryResolverExecutor executor = new ClasspathEntryResolverExecutor(true);
+      // create the ClasspathEntryResolverExecutor
+      ClasspathEntryResolverExecutor executor = new ClasspathEntryResolverExecutor(true);
 
-    // create the ClasspathEntryResolvers
-    ClasspathEntryResolver[] resolvers = new ClasspathEntryResolver[] { new VariableClasspathEntryResolver(),
-        new ContainerClasspathEntryResolver(), new SourceClasspathEntryResolver(), new ProjectClasspathEntryResolver(),
-        new LibraryClasspathEntryResolver(), new OutputClasspathEntryResolver() };
+      // create the ClasspathEntryResolvers
+      ClasspathEntryResolver[] resolvers = new ClasspathEntryResolver[] { new VariableClasspathEntryResolver(),
+          new ContainerClasspathEntryResolver(), new SourceClasspathEntryResolver(),
+          new ProjectClasspathEntryResolver(), new LibraryClasspathEntryResolver(),
+          new OutputClasspathEntryResolver() };
 
-    // create the result object
-    ResolvedClasspathImpl resolvedClasspath = new ResolvedClasspathImpl();
+      // create the result object
+      ResolvedClasspathImpl resolvedClasspath = new ResolvedClasspathImpl();
 
-    // execute the job
-    executor.resolve(job.getRootProject(), resolvers,
-        new ClasspathResolverContextImpl(executor, job, resolvedClasspath));
+      // execute the job
+      executor.resolve(job.getRootProject(), resolvers, new ClasspathResolverContextImpl(executor, job,
+          resolvedClasspath));
 
-    // stop performance logging
-    PerformanceLogging.stop(JdtResolver.class, "doResolveProjectClasspath");
+      // return the ResolvedClasspath
+      return resolvedClasspath;
 
-    // return the ResolvedClasspath
-    return resolvedClasspath;
+    } finally {
+      // stop performance logging
+      PerformanceLogging.stop(JdtResolver.class, "doResolveProjectClasspath");
+    }
   }
 }
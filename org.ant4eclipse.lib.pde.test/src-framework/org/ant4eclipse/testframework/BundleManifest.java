@@ -39,6 +39,8 @@ public class BundleManifest {
 
   private String _exportPackage;
 
+  private String _requireBundle;
+
   private String _fragmentHost;
 
   private String _classpath;
@@ -97,6 +99,15 @@ public class BundleManifest {
     return this;
   }
 
+  /**
+   * @param requireBundle
+   *          the requireBundle to set
+   */
+  public BundleManifest withRequireBundle(String requireBundle) {
+    this._requireBundle = requireBundle;
+    return this;
+  }
+
   public BundleManifest withFragmentHost(String fragmentHost) {
     this._fragmentHost = fragmentHost;
     return this;
@@ -153,6 +164,10 @@ public class BundleManifest {
       attributes.putValue("Export-Package", this._exportPackage);
     }
 
+    if (Utilities.hasText(this._requireBundle)) {
+      attributes.putValue("Require-Bundle", this._requireBundle);
+    }
+
     if (Utilities.hasText(this._fragmentHost)) {
       attributes.putValue("Fragment-Host", this._fragmentHost);
     }
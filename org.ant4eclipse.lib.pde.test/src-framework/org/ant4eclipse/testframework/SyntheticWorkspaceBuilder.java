@@ -0,0 +1,429 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ * 
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * 
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.testframework;
+
+import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * <p>
+ * Generates large synthetic workspaces for load tests. The generator is deterministic: two builders configured with the
+ * same values (including the seed) create exactly the same workspace.
+ * </p>
+ * <p>
+ * The following directory layout is created within the destination directory:
+ * <ul>
+ * <li><tt>workspace</tt> - the java and plug-in projects</li>
+ * <li><tt>targetplatform</tt> - the jared bundles of the synthetic target platform</li>
+ * <li><tt>libraries</tt> - the archives of the user libraries</li>
+ * <li><tt>linked</tt> - the folders referenced by linked resources</li>
+ * <li><tt>userlibraries.xml</tt> - the user library definitions</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Every project only depends on projects with a lower index, so the generated dependency graph is always acyclic.
+ * </p>
+ */
+public class SyntheticWorkspaceBuilder {
+
+  /** the prefix used for the user library container */
+  public static final String USER_LIBRARY_PREFIX = "org.eclipse.jdt.USER_LIBRARY/";
+
+  /** the number of java projects */
+  private int                _javaProjects;
+
+  /** the number of plug-in projects */
+  private int                _pdeProjects;
+
+  /** the maximum number of dependencies per project */
+  private int                _fanOut             = 3;
+
+  /** the number of source files per project */
+  private int                _sourceFiles        = 5;
+
+  /** the number of linked resources per project */
+  private int                _linkedResources;
+
+  /** the number of user libraries */
+  private int                _userLibraries;
+
+  /** the number of bundles within the target platform */
+  private int                _targetBundles;
+
+  /** the seed used to compute the dependencies */
+  private long               _seed               = 4711L;
+
+  /** the names of the generated projects (in creation order) */
+  private List<String>       _projectNames       = new ArrayList<String>();
+
+  /** the root directory of the generated content */
+  private File               _rootDir;
+
+  /**
+   * Sets the number of java projects.
+   * 
+   * @param count
+   *          the number of java projects
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withJavaProjects(int count) {
+    Assert.assertTrue(count >= 0);
+    this._javaProjects = count;
+    return this;
+  }
+
+  /**
+   * Sets the number of plug-in projects.
+   * 
+   * @param count
+   *          the number of plug-in projects
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withPdeProjects(int count) {
+    Assert.assertTrue(count >= 0);
+    this._pdeProjects = count;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of dependencies of each project (and each target platform bundle).
+   * 
+   * @param fanOut
+   *          the maximum number of dependencies
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withDependencyFanOut(int fanOut) {
+    Assert.assertTrue(fanOut >= 0);
+    this._fanOut = fanOut;
+    return this;
+  }
+
+  /**
+   * Sets the number of source files per project.
+   * 
+   * @param count
+   *          the number of source files per project, at least one
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withSourceFiles(int count) {
+    Assert.assertTrue(count > 0);
+    this._sourceFiles = count;
+    return this;
+  }
+
+  /**
+   * Sets the number of linked resources per project.
+   * 
+   * @param count
+   *          the number of linked resources per project
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withLinkedResources(int count) {
+    Assert.assertTrue(count >= 0);
+    this._linkedResources = count;
+    return this;
+  }
+
+  /**
+   * Sets the number of user libraries. Each java project references one of them.
+   * 
+   * @param count
+   *          the number of user libraries
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withUserLibraries(int count) {
+    Assert.assertTrue(count >= 0);
+    this._userLibraries = count;
+    return this;
+  }
+
+  /**
+   * Sets the number of bundles within the synthetic target platform.
+   * 
+   * @param count
+   *          the number of target platform bundles
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withTargetPlatformBundles(int count) {
+    Assert.assertTrue(count >= 0);
+    this._targetBundles = count;
+    return this;
+  }
+
+  /**
+   * Sets the seed used to compute the project dependencies.
+   * 
+   * @param seed
+   *          the seed
+   * @return this
+   */
+  public SyntheticWorkspaceBuilder withSeed(long seed) {
+    this._seed = seed;
+    return this;
+  }
+
+  /**
+   * Creates the synthetic workspace, the target platform and the user libraries.
+   * 
+   * @param destinationDirectory
+   *          the directory where the content should be created to
+   * @return the workspace directory
+   */
+  public File createIn(File destinationDirectory) {
+    Assure.isDirectory("destinationDirectory", destinationDirectory);
+
+    this._rootDir = destinationDirectory;
+    this._projectNames.clear();
+
+    Utilities.mkdirs(getWorkspaceDirectory());
+    Utilities.mkdirs(getTargetPlatformDirectory());
+
+    Random random = new Random(this._seed);
+
+    createTargetPlatform(random);
+    createUserLibraries();
+    createLinkedFolders();
+    createJavaProjects(random);
+    createPdeProjects(random);
+
+    return getWorkspaceDirectory();
+  }
+
+  /**
+   * @return the directory containing the generated projects
+   */
+  public File getWorkspaceDirectory() {
+    return new File(this._rootDir, "workspace");
+  }
+
+  /**
+   * @return the directory containing the bundles of the synthetic target platform
+   */
+  public File getTargetPlatformDirectory() {
+    return new File(this._rootDir, "targetplatform");
+  }
+
+  /**
+   * @return the user libraries file or <code>null</code> if no user libraries have been generated
+   */
+  public File getUserLibrariesFile() {
+    return this._userLibraries > 0 ? new File(this._rootDir, "userlibraries.xml") : null;
+  }
+
+  /**
+   * @return the names of all generated projects in creation order
+   */
+  public String[] getProjectNames() {
+    return this._projectNames.toArray(new String[this._projectNames.size()]);
+  }
+
+  /**
+   * @return the total number of generated projects
+   */
+  public int getProjectCount() {
+    return this._javaProjects + this._pdeProjects;
+  }
+
+  public static String getJavaProjectName(int index) {
+    return String.format("synthetic.java%05d", Integer.valueOf(index));
+  }
+
+  public static String getPdeProjectName(int index) {
+    return String.format("synthetic.pde%05d", Integer.valueOf(index));
+  }
+
+  public static String getTargetBundleName(int index) {
+    return String.format("synthetic.target%05d", Integer.valueOf(index));
+  }
+
+  public static String getUserLibraryName(int index) {
+    return String.format("synthetic.library%05d", Integer.valueOf(index));
+  }
+
+  private void createTargetPlatform(Random random) {
+    for (int i = 0; i < this._targetBundles; i++) {
+      String name = getTargetBundleName(i);
+      BundleManifest manifest = new BundleManifest(name).withBundleVersion("1.0.0").withExportPackage(name)
+          .withRequireBundle(toRequireBundle(pickDependencies(random, i), false));
+      writeJar(new File(getTargetPlatformDirectory(), name + "_1.0.0.jar"), manifest.getManifest());
+    }
+  }
+
+  private void createUserLibraries() {
+    if (this._userLibraries == 0) {
+      return;
+    }
+    File librariesDir = new File(this._rootDir, "libraries");
+    Utilities.mkdirs(librariesDir);
+    TextEmitter emitter = new TextEmitter();
+    emitter.appendln("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>");
+    emitter.appendln("<eclipse-userlibraries version=\"2\">");
+    emitter.indent();
+    for (int i = 0; i < this._userLibraries; i++) {
+      File archive = new File(librariesDir, getUserLibraryName(i) + ".jar");
+      Manifest manifest = new Manifest();
+      manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+      writeJar(archive, manifest);
+      emitter.appendln("<library name=\"%s\" systemlibrary=\"false\">", getUserLibraryName(i));
+      emitter.indent();
+      emitter.appendln("<archive path=\"%s\"/>", archive.getAbsolutePath().replace('\\', '/'));
+      emitter.dedent();
+      emitter.appendln("</library>");
+    }
+    emitter.dedent();
+    emitter.appendln("</eclipse-userlibraries>");
+    Utilities.writeFile(getUserLibrariesFile(), emitter.toString(), "UTF-8");
+  }
+
+  private void createLinkedFolders() {
+    for (int i = 0; i < this._linkedResources; i++) {
+      File folder = getLinkedFolder(i);
+      Utilities.mkdirs(folder);
+      Utilities.writeFile(new File(folder, "readme.txt"), "linked resource " + i, "UTF-8");
+    }
+  }
+
+  private File getLinkedFolder(int index) {
+    return new File(new File(this._rootDir, "linked"), "folder" + index);
+  }
+
+  private void createJavaProjects(Random random) {
+    for (int i = 0; i < this._javaProjects; i++) {
+      String name = getJavaProjectName(i);
+      JdtProjectBuilder builder = JdtProjectBuilder.getPreConfiguredJdtBuilder(name);
+      List<Integer> dependencies = pickDependencies(random, i);
+      for (Integer dependency : dependencies) {
+        builder.withClasspathEntry(String.format(
+            "<classpathentry combineaccessrules=\"false\" kind=\"src\" path=\"/%s\"/>",
+            getJavaProjectName(dependency.intValue())));
+      }
+      if (this._userLibraries > 0) {
+        builder.withContainerClasspathEntry(USER_LIBRARY_PREFIX + getUserLibraryName(i % this._userLibraries));
+      }
+      addLinkedResources(builder);
+      addSourceClasses(builder, name, toProjectNames(dependencies, true));
+      builder.createIn(getWorkspaceDirectory());
+      this._projectNames.add(name);
+    }
+  }
+
+  private void createPdeProjects(Random random) {
+    for (int i = 0; i < this._pdeProjects; i++) {
+      String name = getPdeProjectName(i);
+      PdeProjectBuilder builder = PdeProjectBuilder.getPreConfiguredPdeProjectBuilder(name);
+      builder.withDefaultBuildProperties();
+      List<Integer> dependencies = pickDependencies(random, i);
+      StringBuilder requireBundle = new StringBuilder(toRequireBundle(dependencies, true));
+      if (this._targetBundles > 0) {
+        int targetBundle = random.nextInt(this._targetBundles);
+        if (requireBundle.length() > 0) {
+          requireBundle.append(",");
+        }
+        requireBundle.append(getTargetBundleName(targetBundle));
+      }
+      builder.withBundleManifest().withBundleVersion("1.0.0").withExportPackage(name).withRequireBundle(
+          requireBundle.toString());
+      addLinkedResources(builder);
+      addSourceClasses(builder, name, toProjectNames(dependencies, false));
+      builder.createIn(getWorkspaceDirectory());
+      this._projectNames.add(name);
+    }
+  }
+
+  private void addLinkedResources(EclipseProjectBuilder builder) {
+    for (int i = 0; i < this._linkedResources; i++) {
+      builder.withLinkedResource("linked" + i, 2, getLinkedFolder(i).getAbsolutePath().replace('\\', '/'));
+    }
+  }
+
+  /**
+   * Adds the source classes to the supplied project. The first class of each project uses the first class of each
+   * dependency, so the classes can only be compiled if the class path has been resolved correctly.
+   */
+  private void addSourceClasses(JdtProjectBuilder builder, String packageName, List<String> dependencies) {
+    SourceClass first = builder.withSourceClass("src", getClassName(packageName, 0));
+    for (String dependency : dependencies) {
+      first.withClassUsed(getClassName(dependency, 0));
+    }
+    for (int i = 1; i < this._sourceFiles; i++) {
+      builder.withSourceClass("src", getClassName(packageName, i)).withClassUsed(getClassName(packageName, i - 1));
+    }
+  }
+
+  private String getClassName(String packageName, int index) {
+    return String.format("%s.Type%d", packageName, Integer.valueOf(index));
+  }
+
+  /**
+   * Picks up to <tt>fanOut</tt> distinct dependencies out of the indices <tt>0..index-1</tt>.
+   */
+  private List<Integer> pickDependencies(Random random, int index) {
+    List<Integer> result = new LinkedList<Integer>();
+    int count = Math.min(this._fanOut, index);
+    while (result.size() < count) {
+      Integer candidate = Integer.valueOf(random.nextInt(index));
+      if (!result.contains(candidate)) {
+        result.add(candidate);
+      }
+    }
+    Collections.sort(result);
+    return result;
+  }
+
+  private List<String> toProjectNames(List<Integer> indices, boolean java) {
+    List<String> result = new LinkedList<String>();
+    for (Integer index : indices) {
+      result.add(java ? getJavaProjectName(index.intValue()) : getPdeProjectName(index.intValue()));
+    }
+    return result;
+  }
+
+  private String toRequireBundle(List<Integer> indices, boolean projects) {
+    StringBuilder result = new StringBuilder();
+    for (Integer index : indices) {
+      if (result.length() > 0) {
+        result.append(",");
+      }
+      result.append(projects ? getPdeProjectName(index.intValue()) : getTargetBundleName(index.intValue()));
+    }
+    return result.toString();
+  }
+
+  private void writeJar(File destination, Manifest manifest) {
+    JarOutputStream out = null;
+    try {
+      out = new JarOutputStream(new FileOutputStream(destination), manifest);
+      out.putNextEntry(new JarEntry("about.txt"));
+      out.write(destination.getName().getBytes("UTF-8"));
+      out.closeEntry();
+    } catch (IOException ex) {
+      Assert.fail(ex.getMessage());
+    } finally {
+      Utilities.close(out);
+    }
+  }
+
+} /* ENDCLASS */
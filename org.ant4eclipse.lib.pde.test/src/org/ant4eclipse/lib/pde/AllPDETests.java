@@ -11,14 +11,23 @@
  **********************************************************************/
 package org.ant4eclipse.lib.pde;
 
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesCacheTest;
+import org.ant4eclipse.lib.pde.internal.tools.PlatformFilterMatcherTest;
+import org.ant4eclipse.lib.pde.internal.tools.TargetPlatformImplTest;
+import org.ant4eclipse.lib.pde.internal.tools.TargetPlatformRegistryImplTest;
 import org.ant4eclipse.lib.pde.model.buildproperties.BuildPropertiesParserTest;
+import org.ant4eclipse.lib.pde.model.featureproject.FeatureManifestParserTest;
 import org.ant4eclipse.lib.pde.model.launcher.SelectedLaunchConfigurationBundleParserTest;
 import org.ant4eclipse.lib.pde.model.launcher.SimpleConfiguratorBundlesTest;
+import org.ant4eclipse.lib.pde.model.product.ProductDefinitionParserTest;
+import org.ant4eclipse.lib.pde.tools.LaunchBundleTablesTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ SelectedLaunchConfigurationBundleParserTest.class, SimpleConfiguratorBundlesTest.class,
-    BuildPropertiesParserTest.class })
+    BuildPropertiesParserTest.class, PlatformFilterMatcherTest.class, FeatureManifestParserTest.class,
+    ProductDefinitionParserTest.class, TargetPlatformImplTest.class, LaunchBundleTablesTest.class,
+    BundleDependenciesCacheTest.class, TargetPlatformRegistryImplTest.class })
 public class AllPDETests {
 } /* ENDCLASS */
@@ -0,0 +1,100 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesResolver.BundleDependency;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+public class BundleDependenciesCacheTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory      _testDirectory;
+
+  private TargetPlatformImpl _targetPlatform;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+    File location = TargetPlatformImplTest.createTargetPlatform(this._testDirectory.getRootDir(), 3);
+    this._targetPlatform = TargetPlatformImplTest.createTargetPlatform(new BinaryBundleAndFeatureSet(location),
+        location);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void memoizeBundleClasspath() throws Exception {
+    BundleDescription description = getBundle(2);
+    BundleDependenciesCache cache = BundleDependenciesCache.getCache(description);
+    assertSame(cache, BundleDependenciesCache.getCache(description));
+    assertNull(cache.getBundleClasspath(description));
+
+    List<BundleDependency> bundleClasspath = new BundleDependenciesResolver().resolveBundleClasspath(description);
+    assertEquals(1, bundleClasspath.size());
+    assertEquals(bundleClasspath, cache.getBundleClasspath(description));
+
+    // the memoized bundle class path is returned (as a copy)
+    List<BundleDependency> memoized = new BundleDependenciesResolver().resolveBundleClasspath(description);
+    assertEquals(bundleClasspath, memoized);
+    assertNotSame(cache.getBundleClasspath(description), memoized);
+  }
+
+  @Test
+  public void invalidateModifiedState() {
+    BundleDescription description = getBundle(2);
+    BundleDependenciesCache cache = BundleDependenciesCache.getCache(description);
+    State state = description.getContainingState();
+    state.setTimeStamp(state.getTimeStamp() + 1);
+    BundleDependenciesCache modified = BundleDependenciesCache.getCache(description);
+    assertNotSame(cache, modified);
+    assertSame(modified, BundleDependenciesCache.getCache(description));
+  }
+
+  @Test
+  public void discardReplacedState() {
+    BundleDescription description = getBundle(2);
+    BundleDependenciesCache cache = BundleDependenciesCache.getCache(description);
+    this._targetPlatform.refresh();
+    BundleDescription refreshed = getBundle(2);
+    assertNotSame(description.getContainingState(), refreshed.getContainingState());
+    assertNotSame(cache, BundleDependenciesCache.getCache(refreshed));
+    // the cache of the replaced state has been discarded
+    assertNotSame(cache, BundleDependenciesCache.getCache(description));
+  }
+
+  private BundleDescription getBundle(int index) {
+    return this._targetPlatform.getResolvedBundle(TargetPlatformImplTest.symbolicName(index), null);
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,47 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.pde.tools.PlatformConfiguration;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Test;
+
+public class PlatformFilterMatcherTest extends ConfigurableAnt4EclipseTestCase {
+
+  @Test
+  public void matches() {
+    PlatformFilterMatcher matcher = new PlatformFilterMatcher(createConfiguration("linux", "gtk", "x86_64", "de"));
+    assertTrue(matcher.matches(null));
+    assertTrue(matcher.matches("(osgi.os=linux)"));
+    assertTrue(matcher.matches("(& (osgi.ws=gtk) (osgi.os=linux) (osgi.arch=x86_64))"));
+    assertTrue(matcher.matches("(osgi.nl=de)"));
+    assertFalse(matcher.matches("(& (osgi.ws=win32) (osgi.os=win32))"));
+    assertFalse(matcher.matches("(osgi.os=linux"));
+    // cached results
+    assertTrue(matcher.matches("(osgi.os=linux)"));
+    assertFalse(matcher.matches("(osgi.os=linux"));
+  }
+
+  private PlatformConfiguration createConfiguration(String os, String ws, String arch, String nl) {
+    PlatformConfiguration result = new PlatformConfiguration();
+    result.setOperatingSystem(os);
+    result.setWindowingSystem(ws);
+    result.setArchitecture(arch);
+    result.setLanguageSetting(nl);
+    result.lock();
+    return result;
+  }
+
+} /* ENDCLASS */
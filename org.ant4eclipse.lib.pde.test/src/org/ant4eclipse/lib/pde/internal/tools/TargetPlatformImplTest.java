@@ -0,0 +1,152 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.pde.PdeExceptionCode;
+import org.ant4eclipse.lib.pde.model.pluginproject.BundleSource;
+import org.ant4eclipse.lib.pde.tools.PlatformConfiguration;
+import org.ant4eclipse.testframework.BundleManifest;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+public class TargetPlatformImplTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the number of bundles of the synthetic target platform */
+  private static final int    BUNDLE_COUNT  = 10;
+
+  /** the number of packages exported by each bundle */
+  private static final int    PACKAGE_COUNT = 20;
+
+  private TestDirectory       _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void releaseBundleManifests() {
+    File location = createTargetPlatform(this._testDirectory.getRootDir(), BUNDLE_COUNT);
+
+    BinaryBundleAndFeatureSet bundleSet = new BinaryBundleAndFeatureSet(location);
+    TargetPlatformImpl targetPlatform = createTargetPlatform(bundleSet, location);
+
+    // the bundle descriptions are shared with the resolver state, the manifests have been released
+    List<BundleDescription> descriptions = bundleSet.getAllBundleDescriptions();
+    assertEquals(BUNDLE_COUNT, descriptions.size());
+    for (BundleDescription description : descriptions) {
+      assertSame(description, targetPlatform.getResolvedBundle(description.getSymbolicName(), description
+          .getVersion()));
+      assertTrue(description.isResolved());
+      BundleSource bundleSource = BundleSource.getBundleSource(description);
+      assertTrue(bundleSource.isBundleManifestReleased());
+      assertEquals(description.getSymbolicName(), bundleSource.getBundleName());
+    }
+    // released manifests are read again on demand
+    assertEquals(descriptions.get(0).getSymbolicName(), BundleSource.getBundleSource(descriptions.get(0))
+        .getBundleManifest().getMainAttributes().getValue("Bundle-SymbolicName"));
+  }
+
+  @Test
+  public void missingBundleManifest() throws IOException {
+    // a jar without a manifest replacing a released bundle
+    File jar = new File(this._testDirectory.getRootDir(), "replaced_1.0.0.jar");
+    JarOutputStream output = new JarOutputStream(new FileOutputStream(jar));
+    output.putNextEntry(new ZipEntry("plugin.properties"));
+    output.close();
+
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().putValue("Bundle-SymbolicName", "replaced");
+    BundleSource bundleSource = new BundleSource(jar, manifest);
+    bundleSource.releaseBundleManifest();
+    try {
+      bundleSource.getBundleManifest();
+      fail();
+    } catch (Ant4EclipseException ex) {
+      assertEquals(PdeExceptionCode.BUNDLE_MANIFEST_FILE_NOT_FOUND, ex.getExceptionCode());
+    }
+  }
+
+  /**
+   * <p>
+   * Creates and resolves a target platform consisting of the supplied bundle set.
+   * </p>
+   */
+  static TargetPlatformImpl createTargetPlatform(BinaryBundleAndFeatureSet bundleSet, File location) {
+    PlatformConfiguration configuration = new PlatformConfiguration();
+    configuration.lock();
+    return new TargetPlatformImpl(null, new BinaryBundleAndFeatureSet[] { bundleSet }, configuration,
+        new File[] { location });
+  }
+
+  /**
+   * <p>
+   * Creates exploded bundles which export a number of packages and import the packages of their predecessor.
+   * </p>
+   */
+  static File createTargetPlatform(File directory, int bundleCount) {
+    File plugins = new File(directory, "target/plugins");
+    for (int i = 0; i < bundleCount; i++) {
+      File metaInf = new File(plugins, symbolicName(i) + "_1.0.0/META-INF");
+      Utilities.mkdirs(metaInf);
+      new BundleManifest(symbolicName(i)).withBundleVersion("1.0.0").withExportPackage(packages(i)).withImportPackage(
+          i > 0 ? packages(i - 1) : null).write(new File(metaInf, "MANIFEST.MF"));
+    }
+    return plugins.getParentFile();
+  }
+
+  static String symbolicName(int index) {
+    return "org.ant4eclipse.synthetic.bundle" + index;
+  }
+
+  private static String packages(int index) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < PACKAGE_COUNT; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(symbolicName(index)).append(".package").append(i).append(";version=\"1.0.0\"");
+    }
+    return builder.toString();
+  }
+
+} /* ENDCLASS */
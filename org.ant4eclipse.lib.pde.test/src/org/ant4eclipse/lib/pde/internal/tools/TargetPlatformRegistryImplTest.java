@@ -0,0 +1,92 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.ant4eclipse.lib.pde.tools.PlatformConfiguration;
+import org.ant4eclipse.lib.pde.tools.TargetPlatform;
+import org.ant4eclipse.lib.pde.tools.TargetPlatformDefinition;
+import org.ant4eclipse.testframework.BundleManifest;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.junit.Test;
+import org.osgi.framework.Version;
+
+import java.io.File;
+
+public class TargetPlatformRegistryImplTest extends ConfigurableAnt4EclipseTestCase {
+
+  private TestDirectory _testDirectory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setup() {
+    super.setup();
+    this._testDirectory = new TestDirectory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dispose() {
+    this._testDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void revalidateReplacedBundle() {
+    File location = TargetPlatformImplTest.createTargetPlatform(this._testDirectory.getRootDir(), 2);
+    String symbolicName = TargetPlatformImplTest.symbolicName(0);
+
+    TargetPlatformDefinition definition = new TargetPlatformDefinition();
+    definition.addLocation(location);
+    TargetPlatformRegistryImpl registry = new TargetPlatformRegistryImpl();
+    registry.addTargetPlatformDefinition("target", definition);
+    PlatformConfiguration configuration = new PlatformConfiguration();
+    configuration.lock();
+
+    BundleDescription description = registry.getInstance(null, "target", configuration)
+        .getBundleDescriptionFromBinaryBundles(symbolicName);
+    assertEquals(new Version("1.0.0"), description.getVersion());
+
+    // unchanged locations are kept
+    registry.revalidate();
+    assertSame(description, registry.getInstance(null, "target", configuration).getBundleDescriptionFromBinaryBundles(
+        symbolicName));
+
+    // the bundle is replaced in place, so neither the plugins directory nor the bundle directory change
+    File plugins = new File(location, "plugins");
+    File bundle = new File(plugins, symbolicName + "_1.0.0");
+    long pluginsModified = plugins.lastModified();
+    long bundleModified = bundle.lastModified();
+    File manifest = new File(bundle, "META-INF/MANIFEST.MF");
+    long manifestModified = manifest.lastModified();
+    new BundleManifest(symbolicName).withBundleVersion("1.0.1").write(manifest);
+    manifest.setLastModified(manifestModified + 2000);
+    plugins.setLastModified(pluginsModified);
+    bundle.setLastModified(bundleModified);
+
+    registry.revalidate();
+    TargetPlatform targetPlatform = registry.getInstance(null, "target", configuration);
+    BundleDescription replaced = targetPlatform.getBundleDescriptionFromBinaryBundles(symbolicName);
+    assertNotSame(description, replaced);
+    assertEquals(new Version("1.0.1"), replaced.getVersion());
+  }
+
+} /* ENDCLASS */
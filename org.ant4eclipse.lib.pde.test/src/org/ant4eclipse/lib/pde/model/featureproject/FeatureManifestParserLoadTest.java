@@ -0,0 +1,80 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.featureproject;
+
+import static org.junit.Assert.assertEquals;
+
+import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.xquery.XQuery;
+import org.ant4eclipse.lib.core.xquery.XQueryHandler;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * <p>
+ * Compares the single pass {@link FeatureManifestParser} with the previous implementation that set up a query for
+ * each attribute of a feature manifest.
+ * </p>
+ */
+public class FeatureManifestParserLoadTest extends ConfigurableAnt4EclipseTestCase {
+
+  /** the number of feature manifests parsed */
+  private static final int      FEATURE_COUNT = 800;
+
+  /** the queries used by the previous, query based implementation */
+  private static final String[] QUERIES       = { "/feature/@id", "/feature/@version", "/feature/@label",
+      "/feature/@provider-name", "/feature/@image", "/feature/@os", "/feature/@arch", "/feature/@ws", "/feature/@nl",
+      "/feature/@colocation-affinity", "/feature/@primary", "/feature/@exclusive", "/feature/@plugin",
+      "/feature/@application", "/feature/{plugin}/@id", "/feature/{plugin}/@version", "/feature/{plugin}/@fragment",
+      "/feature/{plugin}/@os", "/feature/{plugin}/@arch", "/feature/{plugin}/@ws", "/feature/{plugin}/@nl",
+      "/feature/{plugin}/@download-size", "/feature/{plugin}/@install-size", "/feature/{plugin}/@unpack",
+      "/feature/{includes}/@id", "/feature/{includes}/@version", "/feature/{includes}/@name",
+      "/feature/{includes}/@optional", "/feature/{includes}/@search-location", "/feature/{includes}/@os",
+      "/feature/{includes}/@arch", "/feature/{includes}/@ws", "/feature/{includes}/@nl" };
+
+  @Test
+  public void loadTest() throws Exception {
+    byte[][] contents = new byte[FEATURE_COUNT][];
+    for (int i = 0; i < contents.length; i++) {
+      contents[i] = FeatureManifestParserTest.createFeatureXml(i, 20);
+    }
+
+    // query based: set up the queries for each feature manifest (the previous implementation)
+    long start = System.nanoTime();
+    int queriedPlugins = 0;
+    for (byte[] content : contents) {
+      XQueryHandler queryhandler = new XQueryHandler();
+      XQuery[] queries = new XQuery[QUERIES.length];
+      for (int i = 0; i < QUERIES.length; i++) {
+        queries[i] = queryhandler.createQuery(QUERIES[i]);
+      }
+      XQueryHandler.queryInputStream(new ByteArrayInputStream(content), queryhandler);
+      queriedPlugins += queries[14].getResult().length;
+    }
+    long queried = System.nanoTime() - start;
+
+    // single pass
+    start = System.nanoTime();
+    int parsedPlugins = 0;
+    for (byte[] content : contents) {
+      parsedPlugins += FeatureManifestParser.parseFeature(new ByteArrayInputStream(content)).getPlugins().size();
+    }
+    long parsed = System.nanoTime() - start;
+
+    A4ELogging.info("%d features: queries=%dms, single pass=%dms", Integer.valueOf(FEATURE_COUNT), Long
+        .valueOf(queried / 1000000), Long.valueOf(parsed / 1000000));
+    assertEquals(queriedPlugins, parsedPlugins);
+  }
+
+} /* ENDCLASS */
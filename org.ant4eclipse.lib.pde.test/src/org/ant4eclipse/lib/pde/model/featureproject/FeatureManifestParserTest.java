@@ -0,0 +1,119 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.featureproject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.ant4eclipse.lib.pde.model.featureproject.FeatureManifest.Includes;
+import org.ant4eclipse.lib.pde.model.featureproject.FeatureManifest.Plugin;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Test;
+import org.osgi.framework.Version;
+
+import java.io.ByteArrayInputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class FeatureManifestParserTest extends ConfigurableAnt4EclipseTestCase {
+
+  @Test
+  public void parseFeature() throws Exception {
+    FeatureManifest feature = FeatureManifestParser.parseFeature(new ByteArrayInputStream(createFeatureXml(0, 3)));
+
+    assertEquals("org.ant4eclipse.feature0", feature.getId());
+    assertEquals(new Version("1.0.0.qualifier"), feature.getVersion());
+    assertEquals("Feature 0", feature.getLabel());
+    assertEquals("ant4eclipse", feature.getProviderName());
+    assertEquals("linux", feature.getOperatingSystem());
+    assertNull(feature.getWindowingSystem());
+    assertTrue(feature.isPrimary());
+    assertFalse(feature.isExclusive());
+
+    List<Plugin> plugins = feature.getPlugins();
+    assertEquals(3, plugins.size());
+    for (int i = 0; i < plugins.size(); i++) {
+      Plugin plugin = plugins.get(i);
+      assertEquals("org.ant4eclipse.feature0.plugin" + i, plugin.getId());
+      assertEquals(new Version("2.0." + i), plugin.getVersion());
+      assertEquals(i == 1, plugin.isFragment());
+      assertEquals(i == 2, plugin.isUnpack());
+      assertEquals(i == 1 ? "win32" : null, plugin.getOperatingSystem());
+      assertEquals("0", plugin.getDownloadSize());
+    }
+
+    List<Includes> includes = feature.getIncludes();
+    assertEquals(1, includes.size());
+    assertEquals("org.ant4eclipse.feature0.included", includes.get(0).getId());
+    assertEquals(new Version("3.0.0"), includes.get(0).getVersion());
+    assertTrue(includes.get(0).isOptional());
+  }
+
+  @Test
+  public void parseFeaturesConcurrently() throws Exception {
+    final byte[][] contents = new byte[64][];
+    for (int i = 0; i < contents.length; i++) {
+      contents[i] = createFeatureXml(i, i % 7);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<FeatureManifest>> futures = new ArrayList<Future<FeatureManifest>>();
+      for (final byte[] content : contents) {
+        futures.add(executor.submit(new Callable<FeatureManifest>() {
+          public FeatureManifest call() {
+            return FeatureManifestParser.parseFeature(new ByteArrayInputStream(content));
+          }
+        }));
+      }
+      for (int i = 0; i < contents.length; i++) {
+        FeatureManifest feature = futures.get(i).get();
+        assertEquals("org.ant4eclipse.feature" + i, feature.getId());
+        assertEquals(i % 7, feature.getPlugins().size());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  static byte[] createFeatureXml(int index, int plugins) throws UnsupportedEncodingException {
+    StringBuilder builder = new StringBuilder();
+    builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    builder.append("<feature id=\"org.ant4eclipse.feature").append(index).append("\" label=\"Feature ").append(index)
+        .append("\" version=\"1.0.0.qualifier\" provider-name=\"ant4eclipse\" os=\"linux\" primary=\"true\">\n");
+    builder.append("  <description url=\"http://www.ant4eclipse.org\">\n    A synthetic feature.\n  </description>\n");
+    builder.append("  <license url=\"http://www.eclipse.org/legal/epl-v10.html\">EPL</license>\n");
+    builder.append("  <includes id=\"org.ant4eclipse.feature").append(index).append(
+        ".included\" version=\"3.0.0\" optional=\"true\"/>\n");
+    builder.append("  <requires>\n    <import plugin=\"org.eclipse.core.runtime\"/>\n  </requires>\n");
+    for (int i = 0; i < plugins; i++) {
+      builder.append("  <plugin id=\"org.ant4eclipse.feature").append(index).append(".plugin").append(i).append(
+          "\" download-size=\"0\" install-size=\"0\" version=\"2.0.").append(i).append("\"");
+      if (i == 1) {
+        builder.append(" fragment=\"true\" os=\"win32\"");
+      }
+      if (i == 2) {
+        builder.append(" unpack=\"true\"");
+      }
+      builder.append(">\n    <plugin id=\"org.ant4eclipse.nested\" version=\"9.9.9\"/>\n  </plugin>\n");
+    }
+    builder.append("</feature>\n");
+    return builder.toString().getBytes("UTF-8");
+  }
+
+} /* ENDCLASS */
@@ -0,0 +1,122 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.model.product;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.pde.tools.BundleStartRecord;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.junit.Test;
+import org.osgi.framework.Version;
+
+import java.io.ByteArrayInputStream;
+import java.io.UnsupportedEncodingException;
+
+public class ProductDefinitionParserTest extends ConfigurableAnt4EclipseTestCase {
+
+  private static final String PRODUCT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                                          + "<?pde version=\"3.5\"?>\n"
+                                          + "<product name=\"Test Product\" uid=\"test.uid\" id=\"test.product\" "
+                                          + "application=\"test.application\" version=\"1.2.3\" useFeatures=\"false\">\n"
+                                          + "  <configIni use=\"default\">\n"
+                                          + "    <linux>/test.project/config.ini</linux>\n"
+                                          + "  </configIni>\n"
+                                          + "  <launcherArgs>\n"
+                                          + "    <programArgs>-console</programArgs>\n"
+                                          + "    <programArgsWin>-noSplash</programArgsWin>\n"
+                                          + "    <vmArgs>-Xmx256m\n  -Dtest=true</vmArgs>\n"
+                                          + "  </launcherArgs>\n"
+                                          + "  <windowImages/>\n"
+                                          + "  <splash location=\"test.splash\"/>\n"
+                                          + "  <launcher name=\"test\">\n"
+                                          + "    <solaris/>\n"
+                                          + "    <win useIco=\"false\"><bmp/></win>\n"
+                                          + "  </launcher>\n"
+                                          + "  <vm>\n"
+                                          + "    <linux include=\"false\">jre1.6</linux>\n"
+                                          + "  </vm>\n"
+                                          + "  <plugins>\n"
+                                          + "    <plugin id=\"org.eclipse.osgi\"/>\n"
+                                          + "    <plugin id=\"org.eclipse.swt.gtk.linux.x86\" fragment=\"true\"/>\n"
+                                          + "  </plugins>\n"
+                                          + "  <features>\n"
+                                          + "    <feature id=\"test.feature\" version=\"2.0.0\"/>\n"
+                                          + "    <feature id=\"test.other.feature\"/>\n"
+                                          + "  </features>\n"
+                                          + "  <configurations>\n"
+                                          + "    <plugin id=\"org.eclipse.core.runtime\" autoStart=\"true\" "
+                                          + "startLevel=\"4\"/>\n" + "  </configurations>\n" + "</product>\n";
+
+  @Test
+  public void parseProductDefinition() throws Exception {
+    ProductDefinition product = parse(PRODUCT);
+
+    assertEquals("Test Product", product.getName());
+    assertEquals("test.uid", product.getUid());
+    assertEquals("test.product", product.getId());
+    assertEquals("test.application", product.getApplication());
+    assertEquals(new Version("1.2.3"), product.getVersion());
+    assertFalse(product.isBasedOnFeatures());
+    assertEquals("test", product.getLaunchername());
+    assertEquals("test.splash", product.getSplashplugin());
+
+    assertEquals("/test.project/config.ini", product.getConfigIni(ProductOs.linux));
+    assertNull(product.getConfigIni(ProductOs.win32));
+    assertEquals("-console", product.getProgramArgs(ProductOs.linux));
+    assertEquals("-console -noSplash", product.getProgramArgs(ProductOs.win32));
+    assertEquals("-Xmx256m   -Dtest=true", product.getVmArgs(ProductOs.macosx));
+    assertEquals("jre1.6", product.getVm(ProductOs.linux));
+    assertNull(product.getVm(ProductOs.win32));
+
+    assertArrayEquals(new String[] { "org.eclipse.osgi" }, product.getPluginIds());
+    assertArrayEquals(new String[] { "org.eclipse.swt.gtk.linux.x86" }, product.getFragmentIds());
+    assertArrayEquals(new String[] { "test.feature", "test.other.feature" }, product.getFeatureIds());
+    assertEquals(new Version("2.0.0"), product.getFeatureVersion("test.feature"));
+    assertEquals(Version.emptyVersion, product.getFeatureVersion("test.other.feature"));
+
+    assertEquals(1, product.getConfigurationRecords().length);
+    BundleStartRecord record = product.getConfigurationRecord("org.eclipse.core.runtime");
+    assertTrue(record.isAutoStart());
+    assertEquals(4, record.getStartLevel());
+  }
+
+  @Test
+  public void duplicateEntry() throws Exception {
+    try {
+      parse(PRODUCT.replace("<linux>/test.project/config.ini</linux>",
+          "<linux>/test.project/config.ini</linux><linux>/test.project/other.ini</linux>"));
+      fail();
+    } catch (Ant4EclipseException ex) {
+      // expected
+    }
+  }
+
+  @Test
+  public void duplicateUnreadEntry() throws Exception {
+    ProductDefinition product = parse(PRODUCT.replace("<programArgs>-console</programArgs>",
+        "<programArgs>-console</programArgs><programArgsAix/><programArgsAix/>").replace(
+        "<linux include=\"false\">jre1.6</linux>", "<linux include=\"false\">jre1.6</linux><hpux/><hpux/>"));
+    assertEquals("-console", product.getProgramArgs(ProductOs.linux));
+    assertEquals("jre1.6", product.getVm(ProductOs.linux));
+  }
+
+  private ProductDefinition parse(String content) throws UnsupportedEncodingException {
+    return ProductDefinitionParser.parseProductDefinition(new ByteArrayInputStream(content.getBytes("UTF-8")));
+  }
+
+} /* ENDCLASS */
@@ -81,6 +81,9 @@ public class BundleDescriptionLoader {
 
   /**
    * <p>
+   * Converts the main attributes of the given manifest into properties. The header values aren't pooled: the bundle
+   * description parses them into new strings and doesn't keep the header values themselves, so pooling them would only
+   * fill the pool with large strings which are mostly unique.
    * </p>
    * 
    * @param manifest
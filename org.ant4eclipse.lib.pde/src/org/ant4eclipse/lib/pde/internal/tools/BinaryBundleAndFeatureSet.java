@@ -12,6 +12,8 @@
 package org.ant4eclipse.lib.pde.internal.tools;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.pde.internal.model.pluginproject.BundleDescriptionLoader;
 import org.ant4eclipse.lib.pde.internal.model.pluginproject.FeatureDescriptionLoader;
 import org.ant4eclipse.lib.pde.model.link.LinkFile;
@@ -19,6 +21,15 @@ import org.ant4eclipse.lib.pde.model.link.LinkFileFactory;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -37,6 +48,9 @@ public class BinaryBundleAndFeatureSet extends AbstractBundleAndFeatureSet {
   /** the constant that defines the default feature directory */
   public static final String DEFAULT_FEATURE_DIRECTORY = "features";
 
+  /** the minimum number of features parsed by a single thread */
+  private static final int   MIN_FEATURES_PER_THREAD   = 16;
+
   /** the location of the platform against which the workspace plug-ins will be compiled and tested */
   private File               _targetPlatformLocation;
 
@@ -125,9 +139,12 @@ public class BinaryBundleAndFeatureSet extends AbstractBundleAndFeatureSet {
 
   /**
    * <p>
+   * Reads the features contained in the given directory. Larger numbers of features are parsed concurrently, the
+   * feature descriptions are added in the order of the directory listing nevertheless.
    * </p>
    * 
    * @param directory
+   *          the directory containing the features
    */
   private void readFeature(File directory) {
 
@@ -135,12 +152,87 @@ public class BinaryBundleAndFeatureSet extends AbstractBundleAndFeatureSet {
       return;
     }
 
-    for (File feature : directory.listFiles()) {
-      FeatureDescription featureDescription = FeatureDescriptionLoader.parseFeature(feature);
-
+    for (FeatureDescription featureDescription : parseFeatures(directory.listFiles())) {
       if (featureDescription != null) {
         addFeaturesDescription(featureDescription);
       }
     }
   }
+
+  /**
+   * <p>
+   * Parses the supplied features.
+   * </p>
+   * 
+   * @param features
+   *          the feature directories or jar files
+   * @return the feature descriptions in the order of the supplied features. An element is <code>null</code> if the
+   *         corresponding file doesn't contain a feature.
+   */
+  private FeatureDescription[] parseFeatures(final File[] features) {
+    final FeatureDescription[] result = new FeatureDescription[features.length];
+    int threads = Math.min(Runtime.getRuntime().availableProcessors(), features.length / MIN_FEATURES_PER_THREAD);
+    if (threads < 2) {
+      for (int i = 0; i < features.length; i++) {
+        result[i] = FeatureDescriptionLoader.parseFeature(features[i]);
+      }
+      return result;
+    }
+    // every task parses each n-th feature, so no more than 'threads' workers are used per call
+    List<Future<Object>> futures = new ArrayList<Future<Object>>(threads);
+    try {
+      for (int i = 0; i < threads; i++) {
+        final int first = i;
+        final int step = threads;
+        futures.add(FeatureParsers.EXECUTOR.submit(new Callable<Object>() {
+          public Object call() {
+            for (int j = first; j < result.length; j += step) {
+              result[j] = FeatureDescriptionLoader.parseFeature(features[j]);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new Ant4EclipseException(ex, CoreExceptionCode.IO_FAILURE);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new Ant4EclipseException(ex.getCause(), CoreExceptionCode.IO_FAILURE);
+    } finally {
+      for (Future<Object> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Holds the executor used to parse the features concurrently. It's shared by all target platform locations and
+   * created on first use. The threads are daemons, so they don't prevent the vm from exiting.
+   * </p>
+   */
+  private static class FeatureParsers {
+
+    /** the shared executor */
+    static final ExecutorService EXECUTOR = createExecutor();
+
+    private static ExecutorService createExecutor() {
+      final AtomicInteger threadNumber = new AtomicInteger();
+      return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "FeatureParser-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+
+  } /* ENDCLASS */
 }
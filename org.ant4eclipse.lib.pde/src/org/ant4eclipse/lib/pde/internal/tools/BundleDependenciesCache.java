@@ -0,0 +1,201 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.pde.internal.tools;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.ant4eclipse.lib.core.osgi.BundleLayoutResolver;
+import org.ant4eclipse.lib.pde.internal.tools.BundleDependenciesResolver.BundleDependency;
+import org.eclipse.osgi.internal.resolver.StateHelperImpl;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * <p>
+ * Memoizes the results of the {@link BundleDependenciesResolver} for the bundles of a resolved {@link State}. Plug-in
+ * projects of a workspace usually share the same base bundles, so their visible packages, their bundle class pathes
+ * and their layouts only need to be computed once.
+ * </p>
+ * <p>
+ * A cache is tied to the time stamp of its state and will be discarded as soon as the state has been modified or the
+ * state has been replaced by it's target platform. The caches are only softly referenced since they refer to their
+ * state through the bundle descriptions, so they never keep an unused state alive if memory gets low.
+ * </p>
+ */
+final class BundleDependenciesCache {
+
+  /** the caches of the states (state -> cache) */
+  private static final Map<State, SoftReference<BundleDependenciesCache>> CACHES;
+
+  /** the time stamp of the state when this cache has been created */
+  private final long                                                      _timestamp;
+
+  /** the visible packages (bundle -> packages) */
+  private final Map<BundleDescription, ExportPackageDescription[]>        _visiblePackages;
+
+  /** the resolved bundle class pathes (bundle -> dependencies) */
+  private final Map<BundleDescription, List<BundleDependency>>            _bundleClasspathes;
+
+  /** the layout resolvers of binary bundles (bundle -> resolver) */
+  private final Map<BundleDescription, BundleLayoutResolver>              _layoutResolvers;
+
+  static {
+    CACHES = new WeakHashMap<State, SoftReference<BundleDependenciesCache>>();
+  }
+
+  /**
+   * <p>
+   * Returns the cache for the state containing the supplied bundle.
+   * </p>
+   * 
+   * @param description
+   *          the bundle description
+   * @return the cache for the state containing the supplied bundle or <code>null</code> if the bundle isn't part of a
+   *         state.
+   */
+  static BundleDependenciesCache getCache(BundleDescription description) {
+    State state = description.getContainingState();
+    if (state == null) {
+      return null;
+    }
+    synchronized (CACHES) {
+      SoftReference<BundleDependenciesCache> reference = CACHES.get(state);
+      BundleDependenciesCache result = reference != null ? reference.get() : null;
+      if ((result == null) || (result._timestamp != state.getTimeStamp())) {
+        result = new BundleDependenciesCache(state.getTimeStamp());
+        CACHES.put(state, new SoftReference<BundleDependenciesCache>(result));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * <p>
+   * Discards the cache of the supplied state. This is used as soon as a state isn't needed anymore.
+   * </p>
+   * 
+   * @param state
+   *          the state which cache has to be discarded. Maybe <code>null</code>.
+   */
+  static void discard(State state) {
+    if (state != null) {
+      synchronized (CACHES) {
+        CACHES.remove(state);
+      }
+    }
+  }
+
+  /**
+   * <p>
+   * Creates a new instance of type {@link BundleDependenciesCache}.
+   * </p>
+   * 
+   * @param timestamp
+   *          the time stamp of the state
+   */
+  private BundleDependenciesCache(long timestamp) {
+    this._timestamp = timestamp;
+    this._visiblePackages = new HashMap<BundleDescription, ExportPackageDescription[]>();
+    this._bundleClasspathes = new HashMap<BundleDescription, List<BundleDependency>>();
+    this._layoutResolvers = new HashMap<BundleDescription, BundleLayoutResolver>();
+  }
+
+  /**
+   * <p>
+   * Returns the packages that are visible to the supplied bundle.
+   * </p>
+   * 
+   * @see StateHelperImpl#getVisiblePackages(BundleDescription)
+   * 
+   * @param description
+   *          the bundle description
+   * @return the visible packages
+   */
+  ExportPackageDescription[] getVisiblePackages(BundleDescription description) {
+    synchronized (this._visiblePackages) {
+      ExportPackageDescription[] result = this._visiblePackages.get(description);
+      if (result == null) {
+        result = StateHelperImpl.getInstance().getVisiblePackages(description);
+        this._visiblePackages.put(description, result);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the memoized bundle class path of the supplied bundle.
+   * </p>
+   * 
+   * @param description
+   *          the bundle description
+   * @return the bundle class path or <code>null</code> if it hasn't been computed yet
+   */
+  List<BundleDependency> getBundleClasspath(BundleDescription description) {
+    synchronized (this._bundleClasspathes) {
+      return this._bundleClasspathes.get(description);
+    }
+  }
+
+  /**
+   * <p>
+   * Memoizes the bundle class path of the supplied bundle.
+   * </p>
+   * 
+   * @param description
+   *          the bundle description
+   * @param bundleClasspath
+   *          the bundle class path
+   */
+  void putBundleClasspath(BundleDescription description, List<BundleDependency> bundleClasspath) {
+    synchronized (this._bundleClasspathes) {
+      this._bundleClasspathes.put(description, bundleClasspath);
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the memoized layout resolver of the supplied bundle.
+   * </p>
+   * 
+   * @param description
+   *          the bundle description
+   * @return the layout resolver or <code>null</code> if it hasn't been created yet
+   */
+  BundleLayoutResolver getBundleLayoutResolver(BundleDescription description) {
+    synchronized (this._layoutResolvers) {
+      return this._layoutResolvers.get(description);
+    }
+  }
+
+  /**
+   * <p>
+   * Memoizes the layout resolver of the supplied bundle.
+   * </p>
+   * 
+   * @param description
+   *          the bundle description
+   * @param layoutResolver
+   *          the layout resolver
+   */
+  void putBundleLayoutResolver(BundleDescription description, BundleLayoutResolver layoutResolver) {
+    synchronized (this._layoutResolvers) {
+      this._layoutResolvers.put(description, layoutResolver);
+    }
+  }
+
+} /* ENDCLASS */
@@ -77,16 +77,25 @@ public class BundleDependenciesResolver {
     // step 2: if the bundle is a fragment - get the host
     BundleDescription rootDescription = isFragment(description) ? getHost(description) : description;
 
+    // the bundle class path is memoized per state unless it depends on 'additional bundles'
+    BundleDependenciesCache cache = BundleDependenciesCache.getCache(rootDescription);
+    boolean memoize = (cache != null) && (additionalBundles == null);
+    if (memoize) {
+      List<BundleDependency> bundleClasspath = cache.getBundleClasspath(rootDescription);
+      if (bundleClasspath != null) {
+        return new ArrayList<BundleDependency>(bundleClasspath);
+      }
+    }
+
     // step 3: get visible packages that are exported by other bundles
-    List<ExportPackageDescription> allPackageDescriptions = new LinkedList<ExportPackageDescription>();
+    Set<ExportPackageDescription> allPackageDescriptions = new LinkedHashSet<ExportPackageDescription>();
 
     // step 4: add the host visible packages
-    allPackageDescriptions.addAll(Arrays.asList(StateHelperImpl.getInstance().getVisiblePackages(rootDescription)));
+    allPackageDescriptions.addAll(Arrays.asList(getVisiblePackages(cache, rootDescription)));
 
     // step 5: add the fragment visible packages
     for (BundleDescription fragmentDescription : rootDescription.getFragments()) {
-      allPackageDescriptions.addAll(Arrays
-          .asList(StateHelperImpl.getInstance().getVisiblePackages(fragmentDescription)));
+      allPackageDescriptions.addAll(Arrays.asList(getVisiblePackages(cache, fragmentDescription)));
     }
 
     // step 6: Get exported packages from 'additional bundles'
@@ -119,10 +128,33 @@ public class BundleDependenciesResolver {
       bundleDependency.addExportedPackage(exportPackageDescription.getName());
     }
 
+    if (memoize) {
+      cache.putBundleClasspath(rootDescription, new ArrayList<BundleDependency>(result));
+    }
+
     // return the result
     return result;
   }
 
+  /**
+   * <p>
+   * Returns the packages that are visible to the given bundle.
+   * </p>
+   * 
+   * @param cache
+   *          the cache of the bundle's state. Maybe <code>null</code>.
+   * @param bundleDescription
+   *          the {@link BundleDescription}
+   * @return the packages that are visible to the given bundle.
+   */
+  private ExportPackageDescription[] getVisiblePackages(BundleDependenciesCache cache,
+      BundleDescription bundleDescription) {
+    if (cache != null) {
+      return cache.getVisiblePackages(bundleDescription);
+    }
+    return StateHelperImpl.getInstance().getVisiblePackages(bundleDescription);
+  }
+
   /**
    * <p>
    * </p>
@@ -132,9 +164,9 @@ public class BundleDependenciesResolver {
    * @param additionalBundles
    * @return
    */
-  private List<ExportPackageDescription> addAdditionalPackages(TargetPlatform targetPlatform, String[] additionalBundles) {
+  private Set<ExportPackageDescription> addAdditionalPackages(TargetPlatform targetPlatform, String[] additionalBundles) {
 
-    List<ExportPackageDescription> result = new LinkedList<ExportPackageDescription>();
+    Set<ExportPackageDescription> result = new LinkedHashSet<ExportPackageDescription>();
 
     for (String additionalBundle : additionalBundles) {
       A4ELogging.debug("Adding additional bundle '%s'", additionalBundle);
@@ -158,16 +190,15 @@ public class BundleDependenciesResolver {
    * @param targetPlatform
    * @param resolvedBundle
    */
-  private void addAdditionalPackages(List<ExportPackageDescription> exportedPackages, TargetPlatform targetPlatform,
+  private void addAdditionalPackages(Set<ExportPackageDescription> exportedPackages, TargetPlatform targetPlatform,
       BundleDescription resolvedBundle) {
 
     // Add exported package from resolvedBundle
     A4ELogging.debug("Adding packages from '%s' to classpath", resolvedBundle);
     ExportPackageDescription[] exportPackages = resolvedBundle.getExportPackages();
     for (ExportPackageDescription exportPackageDescription : exportPackages) {
-      if (!exportedPackages.contains(exportPackageDescription)) {
+      if (exportedPackages.add(exportPackageDescription)) {
         A4ELogging.debug("Add additional exported package %s", exportPackageDescription);
-        exportedPackages.add(exportPackageDescription);
       }
     }
 
@@ -227,7 +258,8 @@ public class BundleDependenciesResolver {
 
   /**
    * <p>
-   * Returns a {@link BundleLayoutResolver} for the given {@link BundleDescription}.
+   * Returns a {@link BundleLayoutResolver} for the given {@link BundleDescription}. The resolvers of binary bundles
+   * are shared as long as the state containing the bundle isn't modified.
    * </p>
    * 
    * @param bundleDescription
@@ -246,14 +278,24 @@ public class BundleDependenciesResolver {
     if (bundleSource.isEclipseProject()) {
       return new PluginProjectLayoutResolver(bundleSource.getAsEclipseProject());
     }
-    // directory -> ExplodedBundleLayoutResolver
-    else if (location.isDirectory()) {
-      return new ExplodedBundleLayoutResolver(location);
-    }
-    // jar -> JaredBundleLayoutResolver
-    else {
-      return new JaredBundleLayoutResolver(location, ExpansionDirectory.getExpansionDir());
+
+    // binary bundles don't change as long as the state is valid
+    BundleDependenciesCache cache = BundleDependenciesCache.getCache(bundleDescription);
+    BundleLayoutResolver result = cache != null ? cache.getBundleLayoutResolver(bundleDescription) : null;
+    if (result == null) {
+      // directory -> ExplodedBundleLayoutResolver
+      if (location.isDirectory()) {
+        result = new ExplodedBundleLayoutResolver(location);
+      }
+      // jar -> JaredBundleLayoutResolver
+      else {
+        result = new JaredBundleLayoutResolver(location, ExpansionDirectory.getExpansionDir());
+      }
+      if (cache != null) {
+        cache.putBundleLayoutResolver(bundleDescription, result);
+      }
     }
+    return result;
   }
 
   /**
@@ -24,6 +24,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
@@ -45,9 +46,6 @@ import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.service.resolver.VersionConstraint;
-import org.osgi.framework.Filter;
-import org.osgi.framework.FrameworkUtil;
-import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.Version;
 
 /**
@@ -61,6 +59,9 @@ import org.osgi.framework.Version;
  */
 public final class TargetPlatformImpl implements TargetPlatform {
 
+  /** generates the resolution stamps of all target platforms */
+  private static final AtomicLong   RESOLUTION_STAMPS = new AtomicLong();
+
   /** the bundle set that contains the plug-in projects */
   private BundleAndFeatureSet       _pluginProjectSet;
 
@@ -70,9 +71,15 @@ public final class TargetPlatformImpl implements TargetPlatform {
   /** the target platform configuration */
   private PlatformConfiguration     _configuration;
 
+  /** evaluates the platform filters of the bundles against the configuration */
+  private PlatformFilterMatcher     _platformFilterMatcher;
+
   /** the state object */
   private State                     _state;
 
+  /** identifies the current state */
+  private long                      _resolutionStamp;
+
   /** - */
   private File[]                    _targetplatformLocations;
 
@@ -106,6 +113,7 @@ public final class TargetPlatformImpl implements TargetPlatform {
 
     // set the configuration
     this._configuration = configuration;
+    this._platformFilterMatcher = new PlatformFilterMatcher(configuration);
 
     this._targetplatformLocations = targetlocations;
 
@@ -168,6 +176,7 @@ public final class TargetPlatformImpl implements TargetPlatform {
       }
 
       this._state = resolve();
+      this._resolutionStamp = RESOLUTION_STAMPS.incrementAndGet();
     }
   }
 
@@ -184,7 +193,16 @@ public final class TargetPlatformImpl implements TargetPlatform {
       bundleSet.refresh();
     }
 
+    BundleDependenciesCache.discard(this._state);
     this._state = resolve();
+    this._resolutionStamp = RESOLUTION_STAMPS.incrementAndGet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getResolutionStamp() {
+    return this._resolutionStamp;
   }
 
   public List<File> getAllBundleFiles() {
@@ -341,36 +359,19 @@ public final class TargetPlatformImpl implements TargetPlatform {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
   public boolean matchesPlatformFilter(String id) {
-    try {
-
-      //
-      BundleDescription bundleDescription = getBundleDescription(id);
-      if (bundleDescription == null) {
-        return true;
-      }
-
-      //
-      String platformFilter = bundleDescription.getPlatformFilter();
-      if (platformFilter == null) {
-        return true;
-      }
-
-      String arch = getTargetPlatformConfiguration().getArchitecture();
-      String os = getTargetPlatformConfiguration().getOperatingSystem();
-      String ws = getTargetPlatformConfiguration().getWindowingSystem();
 
-      Properties dictionary = new Properties();
-      dictionary.put("osgi.ws", ws);
-      dictionary.put("osgi.os", os);
-      dictionary.put("osgi.arch", arch);
-
-      Filter filter = FrameworkUtil.createFilter(platformFilter);
-      return filter.match(dictionary);
-    } catch (InvalidSyntaxException e) {
-      e.printStackTrace();
-      return false;
+    //
+    BundleDescription bundleDescription = getBundleDescription(id);
+    if (bundleDescription == null) {
+      return true;
     }
+
+    // the filters are parsed and evaluated only once
+    return this._platformFilterMatcher.matches(bundleDescription.getPlatformFilter());
   }
 
   /**
@@ -596,14 +597,21 @@ public final class TargetPlatformImpl implements TargetPlatform {
     State state = StateObjectFactory.defaultFactory.createState(true);
 
     for (BundleDescription bundleDescription : getAllBundleDescriptions(this._configuration.isPreferProjects())) {
-      BundleDescription copy = StateObjectFactory.defaultFactory.createBundleDescription(bundleDescription);
-      copy.setUserObject(bundleDescription.getUserObject());
-      if (!state.addBundle(copy)) {
+      // bundle descriptions that don't belong to a state yet are shared with the bundle sets, descriptions that
+      // already belong to the state of another target platform (f.e. with a different platform configuration) have
+      // to be copied
+      BundleDescription description = bundleDescription;
+      if (bundleDescription.getContainingState() != null) {
+        description = StateObjectFactory.defaultFactory.createBundleDescription(bundleDescription);
+        description.setUserObject(bundleDescription.getUserObject());
+      }
+      if (!state.addBundle(description)) {
         // TODO: NLS
         throw new RuntimeException("Could not add bundle '" + bundleDescription + "' to state!");
       }
       if (A4ELogging.isTraceingEnabled()) {
-        A4ELogging.trace("Copied bundle to state: '%s'", getBundleInfo(bundleDescription));
+        A4ELogging.trace("%s bundle to state: '%s'", description == bundleDescription ? "Added" : "Copied",
+            getBundleInfo(bundleDescription));
       }
     }
 
@@ -619,6 +627,13 @@ public final class TargetPlatformImpl implements TargetPlatform {
 
     // log errors if any
     BundleDescription[] bundleDescriptions = state.getBundles();
+
+    // the manifest headers of the binary bundles aren't needed anymore
+    for (BundleDescription bundleDescription : bundleDescriptions) {
+      if (bundleDescription.getUserObject() instanceof BundleSource) {
+        ((BundleSource) bundleDescription.getUserObject()).releaseBundleManifest();
+      }
+    }
     // boolean allStatesResolved = true;
 
     if (A4ELogging.isDebuggingEnabled()) {
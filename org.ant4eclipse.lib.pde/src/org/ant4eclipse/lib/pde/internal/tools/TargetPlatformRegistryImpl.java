@@ -12,17 +12,23 @@
 package org.ant4eclipse.lib.pde.internal.tools;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.Revalidatable;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.FileFingerprint;
 import org.ant4eclipse.lib.pde.PdeExceptionCode;
+import org.ant4eclipse.lib.pde.model.link.LinkFile;
+import org.ant4eclipse.lib.pde.model.link.LinkFileFactory;
 import org.ant4eclipse.lib.pde.tools.PlatformConfiguration;
 import org.ant4eclipse.lib.pde.tools.TargetPlatform;
 import org.ant4eclipse.lib.pde.tools.TargetPlatformDefinition;
@@ -37,7 +43,7 @@ import org.ant4eclipse.lib.platform.model.resource.Workspace;
  * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
  * @author Nils Hartmann (nils@nilshartmann.net)
  */
-public class TargetPlatformRegistryImpl implements TargetPlatformRegistry {
+public class TargetPlatformRegistryImpl implements TargetPlatformRegistry, Revalidatable {
 
   /** the current {@link TargetPlatform}, maybe null **/
   private TargetPlatform                         _currentTargetPlatform;
@@ -54,6 +60,9 @@ public class TargetPlatformRegistryImpl implements TargetPlatformRegistry {
   /** - */
   private Map<TargetPlatformKey, TargetPlatform> _targetPlatformMap          = new HashMap<TargetPlatformKey, TargetPlatform>();
 
+  /** the fingerprints of the target locations used for the binary bundle sets */
+  private Map<File, FileFingerprint>             _locationFingerprints       = new HashMap<File, FileFingerprint>();
+
   /**
    * {@inheritDoc}
    */
@@ -91,6 +100,35 @@ public class TargetPlatformRegistryImpl implements TargetPlatformRegistry {
     this._bundleAndFeatureSetMap.clear();
     this._targetPlatformDefnitionMap.clear();
     this._targetPlatformMap.clear();
+    this._locationFingerprints.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>
+   * The binary bundle sets of unchanged target locations are kept. A location counts as changed if one of its bundles
+   * or features has been added, removed or replaced. All bundle sets of workspaces and all target platform instances
+   * are dropped as the workspace might have been changed.
+   * </p>
+   */
+  public void revalidate() {
+    Iterator<Map.Entry<Object, BundleAndFeatureSet>> iterator = this._bundleAndFeatureSetMap.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Object key = iterator.next().getKey();
+      if (key instanceof File) {
+        FileFingerprint fingerprint = this._locationFingerprints.get(key);
+        if ((fingerprint == null) || (!fingerprint.isUpToDate())) {
+          A4ELogging.debug("TargetPlatformRegistry.revalidate: target location '%s' has been changed.", key);
+          this._locationFingerprints.remove(key);
+          iterator.remove();
+        }
+      } else {
+        iterator.remove();
+      }
+    }
+    this._targetPlatformMap.clear();
+    this._currentTargetPlatform = null;
   }
 
   /**
@@ -233,11 +271,77 @@ public class TargetPlatformRegistryImpl implements TargetPlatformRegistry {
 
     if (!this._bundleAndFeatureSetMap.containsKey(file)) {
       this._bundleAndFeatureSetMap.put(file, new BinaryBundleAndFeatureSet(file));
+      this._locationFingerprints.put(file, createFingerprint(file));
     }
 
     return (BinaryBundleAndFeatureSet) this._bundleAndFeatureSetMap.get(file);
   }
 
+  /**
+   * <p>
+   * Creates the fingerprint of a target location. The directory modification times don't change if a bundle is
+   * replaced in place (f.e. a rebuilt snapshot with the same name), so each bundle and feature is recorded together
+   * with its manifest. The same applies to the locations referenced by link files.
+   * </p>
+   * 
+   * @param location
+   *          the target location
+   * @return the fingerprint of the target location
+   */
+  private FileFingerprint createFingerprint(File location) {
+    List<File> files = new ArrayList<File>();
+    files.add(location);
+    addContent(files, getDirectory(location, BinaryBundleAndFeatureSet.DEFAULT_PLUGIN_DIRECTORY),
+        "META-INF/MANIFEST.MF");
+    addContent(files, getDirectory(location, BinaryBundleAndFeatureSet.DEFAULT_FEATURE_DIRECTORY), "feature.xml");
+    addContent(files, new File(location, "links"), null);
+    for (LinkFile linkFile : LinkFileFactory.getLinkFiles(location)) {
+      if (linkFile.isValidDestination()) {
+        addContent(files, linkFile.getPluginsDirectory(), "META-INF/MANIFEST.MF");
+        addContent(files, linkFile.getFeaturesDirectory(), "feature.xml");
+      }
+    }
+    return new FileFingerprint(files);
+  }
+
+  /**
+   * <p>
+   * Returns the directory containing the bundles or features of a target location. Like the
+   * {@link BinaryBundleAndFeatureSet} the location itself is used if it doesn't contain the given directory.
+   * </p>
+   */
+  private File getDirectory(File location, String name) {
+    File result = new File(location, name);
+    return result.exists() ? result : location;
+  }
+
+  /**
+   * <p>
+   * Adds the given directory and its children to the supplied list. Child directories are represented by the given
+   * descriptor file.
+   * </p>
+   * 
+   * @param files
+   *          the list receiving the files
+   * @param directory
+   *          the directory. Maybe not existing.
+   * @param descriptor
+   *          the path of the descriptor within a child directory. Maybe <code>null</code>.
+   */
+  private void addContent(List<File> files, File directory, String descriptor) {
+    files.add(directory);
+    File[] children = directory.listFiles();
+    if (children == null) {
+      return;
+    }
+    for (File child : children) {
+      files.add(child);
+      if ((descriptor != null) && child.isDirectory()) {
+        files.add(new File(child, descriptor));
+      }
+    }
+  }
+
   /**
    * @param files
    * @return
@@ -12,10 +12,13 @@
 package org.ant4eclipse.lib.pde.model.featureproject;
 
 import org.ant4eclipse.lib.core.Assure;
-import org.ant4eclipse.lib.core.xquery.XQuery;
+import org.ant4eclipse.lib.core.util.StringPool;
 import org.ant4eclipse.lib.core.xquery.XQueryHandler;
 import org.ant4eclipse.lib.pde.internal.model.featureproject.FeatureManifestImpl;
 import org.osgi.framework.Version;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.InputStream;
 
@@ -23,6 +26,10 @@ import java.io.InputStream;
  * <p>
  * Implements a parser for feature manifest files.
  * </p>
+ * <p>
+ * The feature manifest is read within a single pass: the SAX events are directly bound to the feature model instead of
+ * being matched against a set of queries. The parser is thread-safe, so feature manifests can be parsed concurrently.
+ * </p>
  * 
  * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
  */
@@ -43,112 +50,131 @@ public class FeatureManifestParser {
 
     FeatureManifestImpl feature = new FeatureManifestImpl();
 
-    XQueryHandler queryhandler = new XQueryHandler();
-
-    XQuery idQuery = queryhandler.createQuery("/feature/@id");
-    XQuery versionQuery = queryhandler.createQuery("/feature/@version");
-    XQuery labelQuery = queryhandler.createQuery("/feature/@label");
-    XQuery providerNameQuery = queryhandler.createQuery("/feature/@provider-name");
-    XQuery imageQuery = queryhandler.createQuery("/feature/@image");
-    XQuery osQuery = queryhandler.createQuery("/feature/@os");
-    XQuery archQuery = queryhandler.createQuery("/feature/@arch");
-    XQuery wsQuery = queryhandler.createQuery("/feature/@ws");
-    XQuery nlQuery = queryhandler.createQuery("/feature/@nl");
-    XQuery colocationAffinityQuery = queryhandler.createQuery("/feature/@colocation-affinity");
-    XQuery primaryQuery = queryhandler.createQuery("/feature/@primary");
-    XQuery exclusiveQuery = queryhandler.createQuery("/feature/@exclusive");
-    XQuery pluginQuery = queryhandler.createQuery("/feature/@plugin");
-    XQuery applicationQuery = queryhandler.createQuery("/feature/@application");
-
-    XQuery pluginIdQuery = queryhandler.createQuery("/feature/{plugin}/@id");
-    XQuery pluginversionQuery = queryhandler.createQuery("/feature/{plugin}/@version");
-    XQuery pluginFragmentQuery = queryhandler.createQuery("/feature/{plugin}/@fragment");
-    XQuery pluginOsQuery = queryhandler.createQuery("/feature/{plugin}/@os");
-    XQuery pluginArchQuery = queryhandler.createQuery("/feature/{plugin}/@arch");
-    XQuery pluginWsQuery = queryhandler.createQuery("/feature/{plugin}/@ws");
-    XQuery pluginNlQuery = queryhandler.createQuery("/feature/{plugin}/@nl");
-    XQuery pluginDownloadSizeQuery = queryhandler.createQuery("/feature/{plugin}/@download-size");
-    XQuery pluginInstallSizeQuery = queryhandler.createQuery("/feature/{plugin}/@install-size");
-    XQuery pluginUnpackQuery = queryhandler.createQuery("/feature/{plugin}/@unpack");
-
-    XQuery includesIdQuery = queryhandler.createQuery("/feature/{includes}/@id");
-    XQuery includesVersionQuery = queryhandler.createQuery("/feature/{includes}/@version");
-    XQuery includesNameQuery = queryhandler.createQuery("/feature/{includes}/@name");
-    XQuery includesOptionalQuery = queryhandler.createQuery("/feature/{includes}/@optional");
-    XQuery includesSearchLocationQuery = queryhandler.createQuery("/feature/{includes}/@search-location");
-    XQuery includesOsQuery = queryhandler.createQuery("/feature/{includes}/@os");
-    XQuery includesArchQuery = queryhandler.createQuery("/feature/{includes}/@arch");
-    XQuery includesWsQuery = queryhandler.createQuery("/feature/{includes}/@ws");
-    XQuery includesNlQuery = queryhandler.createQuery("/feature/{includes}/@nl");
-
     // parse the file
-    XQueryHandler.queryInputStream(inputStream, queryhandler);
-
-    feature.setId(idQuery.getSingleResult());
-    feature.setVersion(new Version(versionQuery.getSingleResult()));
-    feature.setLabel(labelQuery.getSingleResult());
-    feature.setProviderName(providerNameQuery.getSingleResult());
-    feature.setImage(imageQuery.getSingleResult());
-    feature.setOperatingSystem(osQuery.getSingleResult());
-    feature.setMachineArchitecture(archQuery.getSingleResult());
-    feature.setWindowingSystem(wsQuery.getSingleResult());
-    feature.setLocale(nlQuery.getSingleResult());
-    feature.setColocationAffinity(colocationAffinityQuery.getSingleResult());
-    feature.setPrimary(Boolean.valueOf(primaryQuery.getSingleResult()).booleanValue());
-    feature.setExclusive(Boolean.valueOf(exclusiveQuery.getSingleResult()).booleanValue());
-    feature.setPlugin(pluginQuery.getSingleResult());
-    feature.setApplication(applicationQuery.getSingleResult());
-
-    String[] pluginIds = pluginIdQuery.getResult();
-    String[] pluginVersions = pluginversionQuery.getResult();
-    String[] pluginFragments = pluginFragmentQuery.getResult();
-    String[] pluginOSs = pluginOsQuery.getResult();
-    String[] pluginArchs = pluginArchQuery.getResult();
-    String[] pluginWSs = pluginWsQuery.getResult();
-    String[] pluginNls = pluginNlQuery.getResult();
-    String[] pluginDownloadSizes = pluginDownloadSizeQuery.getResult();
-    String[] pluginInstallSizes = pluginInstallSizeQuery.getResult();
-    String[] pluginUnpacks = pluginUnpackQuery.getResult();
-
-    for (int i = 0; i < pluginIds.length; i++) {
+    FeatureManifestHandler handler = new FeatureManifestHandler(feature);
+    XQueryHandler.parseInputStream(inputStream, handler);
+
+    Attributes attributes = handler.getFeatureAttributes();
+    feature.setId(attributes.getValue("id"));
+    feature.setVersion(new Version(attributes.getValue("version")));
+    feature.setLabel(attributes.getValue("label"));
+    feature.setProviderName(attributes.getValue("provider-name"));
+    feature.setImage(attributes.getValue("image"));
+    feature.setOperatingSystem(attributes.getValue("os"));
+    feature.setMachineArchitecture(attributes.getValue("arch"));
+    feature.setWindowingSystem(attributes.getValue("ws"));
+    feature.setLocale(attributes.getValue("nl"));
+    feature.setColocationAffinity(attributes.getValue("colocation-affinity"));
+    feature.setPrimary(Boolean.valueOf(attributes.getValue("primary")).booleanValue());
+    feature.setExclusive(Boolean.valueOf(attributes.getValue("exclusive")).booleanValue());
+    feature.setPlugin(attributes.getValue("plugin"));
+    feature.setApplication(attributes.getValue("application"));
+
+    return feature;
+  }
+
+  /**
+   * <p>
+   * SAX handler which adds the <code>plugin</code> and <code>includes</code> elements to the feature model while
+   * parsing and keeps the attributes of the <code>feature</code> element. The ids and platform attributes of the
+   * plug-ins are pooled since they are repeated by many features.
+   * </p>
+   */
+  private static class FeatureManifestHandler extends DefaultHandler {
+
+    /** the feature model */
+    private FeatureManifestImpl _feature;
+
+    /** the attributes of the root element (empty if the root element isn't a <code>feature</code> element) */
+    private AttributesImpl      _featureAttributes;
+
+    /** the current depth within the document */
+    private int                 _depth;
+
+    /** indicates whether the root element is a <code>feature</code> element */
+    private boolean             _featureRoot;
+
+    /**
+     * <p>
+     * Creates a new instance of type {@link FeatureManifestHandler}.
+     * </p>
+     * 
+     * @param feature
+     *          the feature model
+     */
+    public FeatureManifestHandler(FeatureManifestImpl feature) {
+      this._feature = feature;
+      this._featureAttributes = new AttributesImpl();
+    }
+
+    /**
+     * <p>
+     * Returns the attributes of the <code>feature</code> element.
+     * </p>
+     * 
+     * @return the attributes of the <code>feature</code> element
+     */
+    public Attributes getFeatureAttributes() {
+      return this._featureAttributes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startElement(String uri, String localname, String qname, Attributes attributes) {
+      if (this._depth == 0) {
+        this._featureRoot = "feature".equals(qname);
+        if (this._featureRoot) {
+          this._featureAttributes.setAttributes(attributes);
+        }
+      } else if ((this._depth == 1) && this._featureRoot) {
+        if ("plugin".equals(qname)) {
+          addPlugin(attributes);
+        } else if ("includes".equals(qname)) {
+          addIncludes(attributes);
+        }
+      }
+      this._depth++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endElement(String uri, String localname, String qname) {
+      this._depth--;
+    }
+
+    private void addPlugin(Attributes attributes) {
       FeatureManifestImpl.PluginImpl plugin = new FeatureManifestImpl.PluginImpl();
-      plugin.setId(pluginIds[i]);
-      plugin.setVersion(new Version(pluginVersions[i]));
-      plugin.setFragment(Boolean.valueOf(pluginFragments[i]).booleanValue());
-      plugin.setOperatingSystem(pluginOSs[i]);
-      plugin.setMachineArchitecture(pluginArchs[i]);
-      plugin.setWindowingSystem(pluginWSs[i]);
-      plugin.setLocale(pluginNls[i]);
-      plugin.setDownloadSize(pluginDownloadSizes[i]);
-      plugin.setInstallSize(pluginInstallSizes[i]);
-      plugin.setUnpack(Boolean.valueOf(pluginUnpacks[i]).booleanValue());
-      feature.addPlugin(plugin);
+      plugin.setId(StringPool.intern(attributes.getValue("id")));
+      plugin.setVersion(new Version(attributes.getValue("version")));
+      plugin.setFragment(Boolean.valueOf(attributes.getValue("fragment")).booleanValue());
+      plugin.setOperatingSystem(StringPool.intern(attributes.getValue("os")));
+      plugin.setMachineArchitecture(StringPool.intern(attributes.getValue("arch")));
+      plugin.setWindowingSystem(StringPool.intern(attributes.getValue("ws")));
+      plugin.setLocale(StringPool.intern(attributes.getValue("nl")));
+      plugin.setDownloadSize(StringPool.intern(attributes.getValue("download-size")));
+      plugin.setInstallSize(StringPool.intern(attributes.getValue("install-size")));
+      plugin.setUnpack(Boolean.valueOf(attributes.getValue("unpack")).booleanValue());
+      this._feature.addPlugin(plugin);
     }
 
-    String[] includesId = includesIdQuery.getResult();
-    String[] includesVersion = includesVersionQuery.getResult();
-    String[] includesName = includesNameQuery.getResult();
-    String[] includesOptional = includesOptionalQuery.getResult();
-    String[] includesSearchLocation = includesSearchLocationQuery.getResult();
-    String[] includesOs = includesOsQuery.getResult();
-    String[] includesArch = includesArchQuery.getResult();
-    String[] includesWs = includesWsQuery.getResult();
-    String[] includesNl = includesNlQuery.getResult();
-
-    for (int i = 0; i < includesId.length; i++) {
+    private void addIncludes(Attributes attributes) {
       FeatureManifestImpl.IncludesImpl includes = new FeatureManifestImpl.IncludesImpl();
-      includes.setId(includesId[i]);
-      includes.setVersion(new Version(includesVersion[i]));
-      includes.setName(includesName[i]);
-      includes.setOptional(Boolean.valueOf(includesOptional[i]).booleanValue());
-      includes.setSearchLocation(includesSearchLocation[i]);
-      includes.setOperatingSystem(includesOs[i]);
-      includes.setMachineArchitecture(includesArch[i]);
-      includes.setWindowingSystem(includesWs[i]);
-      includes.setLocale(includesNl[i]);
-      feature.addIncludes(includes);
+      includes.setId(StringPool.intern(attributes.getValue("id")));
+      includes.setVersion(new Version(attributes.getValue("version")));
+      includes.setName(attributes.getValue("name"));
+      includes.setOptional(Boolean.valueOf(attributes.getValue("optional")).booleanValue());
+      includes.setSearchLocation(attributes.getValue("search-location"));
+      includes.setOperatingSystem(attributes.getValue("os"));
+      includes.setMachineArchitecture(attributes.getValue("arch"));
+      includes.setWindowingSystem(attributes.getValue("ws"));
+      includes.setLocale(attributes.getValue("nl"));
+      this._feature.addIncludes(includes);
     }
 
-    return feature;
-  }
-}
+  } /* ENDCLASS */
+
+} /* ENDCLASS */
@@ -12,12 +12,21 @@
 package org.ant4eclipse.lib.pde.model.pluginproject;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
+import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
+import org.ant4eclipse.lib.core.util.StringPool;
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.pde.PdeExceptionCode;
 import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.ManifestElement;
 import org.osgi.framework.Constants;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
 /**
@@ -56,9 +65,15 @@ public class BundleSource {
   /** the bundle source */
   private Object   _source;
 
-  /** The properties read from the manifest (=headers) */
+  /** The properties read from the manifest (=headers), <code>null</code> if it has been released */
   private Manifest _bundleManifest;
 
+  /** the 'Bundle-Classpath' entries, only set if the manifest has been released */
+  private String[] _bundleClasspath;
+
+  /** the name of the bundle, only set if the manifest has been released */
+  private String   _bundleName;
+
   /** The file or directory to load classes from. This might point to a directory. */
   private File     _classpathRoot;
 
@@ -137,13 +152,45 @@ public class BundleSource {
 
   /**
    * <p>
-   * Returns the bundle manifest.
+   * Returns the bundle manifest. If the manifest has been released it will be read again from the bundle.
    * </p>
    * 
    * @return the bundle manifest.
    */
   public Manifest getBundleManifest() {
-    return this._bundleManifest;
+    Manifest result = this._bundleManifest;
+    if (result == null) {
+      result = readBundleManifest(getAsFile());
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Releases the bundle manifest of a binary bundle. The header map of a manifest is large compared to the information
+   * kept by the resolver state, so the manifest is only kept as long as it's needed to build the state. The headers
+   * still provided by this bundle source are kept in a compact form. Bundle sources of plug-in projects always keep
+   * their manifest.
+   * </p>
+   */
+  public void releaseBundleManifest() {
+    if ((this._bundleManifest == null) || isEclipseProject()) {
+      return;
+    }
+    this._bundleClasspath = StringPool.intern(getBundleClasspath());
+    this._bundleName = StringPool.intern(getBundleName());
+    this._bundleManifest = null;
+  }
+
+  /**
+   * <p>
+   * Returns <code>true</code> if the bundle manifest has been released.
+   * </p>
+   * 
+   * @return <code>true</code> if the bundle manifest has been released.
+   */
+  public boolean isBundleManifestReleased() {
+    return this._bundleManifest == null;
   }
 
   /**
@@ -197,6 +244,11 @@ public class BundleSource {
    */
   public String[] getBundleClasspath() {
 
+    // return the compact form if the manifest has been released
+    if (this._bundleManifest == null) {
+      return this._bundleClasspath.clone();
+    }
+
     // parse the 'Bundle-Classpath' manifest entry
     String[] bundleClasspath = ManifestElement.getArrayFromList(this._bundleManifest.getMainAttributes().getValue(
         Constants.BUNDLE_CLASSPATH));
@@ -221,6 +273,11 @@ public class BundleSource {
    */
   public String getBundleName() {
 
+    // return the compact form if the manifest has been released
+    if (this._bundleManifest == null) {
+      return this._bundleName;
+    }
+
     // retrieve the bundle name
     String bundleName = this._bundleManifest.getMainAttributes().getValue(Constants.BUNDLE_NAME);
 
@@ -233,6 +290,41 @@ public class BundleSource {
     return bundleName;
   }
 
+  /**
+   * <p>
+   * Reads the manifest of the given bundle jar file or bundle directory.
+   * </p>
+   * 
+   * @param location
+   *          the bundle jar file or bundle directory
+   * @return the manifest of the bundle
+   */
+  private static Manifest readBundleManifest(File location) {
+    try {
+      if (location.isDirectory()) {
+        InputStream inputStream = new FileInputStream(new File(location, JarFile.MANIFEST_NAME));
+        try {
+          return new Manifest(inputStream);
+        } finally {
+          Utilities.close(inputStream);
+        }
+      }
+      JarFile jarFile = new JarFile(location);
+      try {
+        Manifest result = jarFile.getManifest();
+        if (result == null) {
+          // the jar has been replaced since the bundle description has been created
+          throw new Ant4EclipseException(PdeExceptionCode.BUNDLE_MANIFEST_FILE_NOT_FOUND, location);
+        }
+        return result;
+      } finally {
+        jarFile.close();
+      }
+    } catch (IOException ex) {
+      throw new Ant4EclipseException(ex, CoreExceptionCode.FILEIO_FAILURE, location);
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -12,20 +12,34 @@
 package org.ant4eclipse.lib.pde.model.product;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.CoreExceptionCode;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.core.util.Utilities;
-import org.ant4eclipse.lib.core.xquery.XQuery;
 import org.ant4eclipse.lib.core.xquery.XQueryHandler;
 import org.ant4eclipse.lib.pde.PdeExceptionCode;
 import org.ant4eclipse.lib.pde.tools.BundleStartRecord;
 import org.osgi.framework.Version;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * <p>
  * Parser for an eclipse product definition (<code>*.product</code>).
  * </p>
+ * <p>
+ * The product definition is read within a single pass using a SAX handler which collects the relevant attributes and
+ * element contents by their position instead of matching each element against a set of queries. The parser is
+ * thread-safe.
+ * </p>
  * 
  * @author Daniel Kasmeroglu (Daniel.Kasmeroglu@Kasisoft.net)
  */
@@ -45,124 +59,74 @@ public class ProductDefinitionParser {
 
     Assure.notNull("inputstream", inputstream);
 
-    XQueryHandler queryhandler = new XQueryHandler();
-
-    XQuery namequery = queryhandler.createQuery("/product/@name");
-    XQuery uidquery = queryhandler.createQuery("/product/@uid");
-    XQuery idquery = queryhandler.createQuery("/product/@id");
-    XQuery applicationquery = queryhandler.createQuery("/product/@application");
-    XQuery versionquery = queryhandler.createQuery("/product/@version");
-    XQuery usefeaturesquery = queryhandler.createQuery("/product/@useFeatures");
-
-    XQuery launchernamequery = queryhandler.createQuery("/product/launcher/@name");
-    XQuery splashquery = queryhandler.createQuery("/product/splash/@location");
-
-    XQuery pluginidquery = queryhandler.createQuery("/product/plugins/plugin/@id");
-    XQuery fragmentquery = queryhandler.createQuery("/product/plugins/plugin/@fragment");
-
-    XQuery featureidquery = queryhandler.createQuery("/product/features/feature/@id");
-    XQuery featureversionquery = queryhandler.createQuery("/product/features/feature/@version");
-
-    XQuery configinilinuxquery = queryhandler.createQuery("/product/configIni/linux");
-    XQuery configinimacosxquery = queryhandler.createQuery("/product/configIni/macosx");
-    XQuery configinisolarisquery = queryhandler.createQuery("/product/configIni/solaris");
-    XQuery configiniwin32query = queryhandler.createQuery("/product/configIni/win32");
-
-    XQuery programallquery = queryhandler.createQuery("/product/launcherArgs/programArgs");
-    XQuery programlinuxquery = queryhandler.createQuery("/product/launcherArgs/programArgsLin");
-    XQuery programmacquery = queryhandler.createQuery("/product/launcherArgs/programArgsMac");
-    XQuery programsolarisquery = queryhandler.createQuery("/product/launcherArgs/programArgsSol");
-    XQuery programwinquery = queryhandler.createQuery("/product/launcherArgs/programArgsWin");
-
-    XQuery vmargsallquery = queryhandler.createQuery("/product/launcherArgs/vmArgs");
-    XQuery vmargslinuxquery = queryhandler.createQuery("/product/launcherArgs/vmArgsLin");
-    XQuery vmargsmacquery = queryhandler.createQuery("/product/launcherArgs/vmArgsMac");
-    XQuery vmargssolarisquery = queryhandler.createQuery("/product/launcherArgs/vmArgsSol");
-    XQuery vmargswinquery = queryhandler.createQuery("/product/launcherArgs/vmArgsWin");
-
-    XQuery vmlinuxquery = queryhandler.createQuery("/product/vm/linux");
-    XQuery vmmacosxquery = queryhandler.createQuery("/product/vm/macosx");
-    XQuery vmsolarisquery = queryhandler.createQuery("/product/vm/solaris");
-    XQuery vmwin32query = queryhandler.createQuery("/product/vm/win32");
-
-    XQuery configidquery = queryhandler.createQuery("/product/configurations/plugin/@id");
-    XQuery configstartquery = queryhandler.createQuery("/product/configurations/plugin/@autoStart");
-    XQuery configlevelquery = queryhandler.createQuery("/product/configurations/plugin/@startLevel");
-
-    XQueryHandler.queryInputStream(inputstream, queryhandler);
+    ProductDefinitionHandler handler = new ProductDefinitionHandler();
+    XQueryHandler.parseInputStream(inputstream, handler);
 
     ProductDefinition result = new ProductDefinition();
 
-    result.setUid(uidquery.getSingleResult());
-    result.setName(namequery.getSingleResult());
-    String versionString = versionquery.getSingleResult();
+    result.setUid(handler.getSingleResult("@uid"));
+    result.setName(handler.getSingleResult("@name"));
+    String versionString = handler.getSingleResult("@version");
     try {
       result.setVersion(new Version(versionString == null || "null".equals(versionString) ? "0.0.0" : versionString));
     } catch (Exception e) {
       throw new Ant4EclipseException(e, PdeExceptionCode.INVALID_CONFIGURATION_VALUE, versionString, "version");
     }
 
-    result.setApplication(applicationquery.getSingleResult());
-    result.setId(idquery.getSingleResult());
+    result.setApplication(handler.getSingleResult("@application"));
+    result.setId(handler.getSingleResult("@id"));
 
-    result.setLaunchername(launchernamequery.getSingleResult());
-    result.setSplashplugin(splashquery.getSingleResult());
-    result.setBasedOnFeatures(Boolean.parseBoolean(usefeaturesquery.getSingleResult()));
+    result.setLaunchername(handler.getSingleResult("launcher/@name"));
+    result.setSplashplugin(handler.getSingleResult("splash/@location"));
+    result.setBasedOnFeatures(Boolean.parseBoolean(handler.getSingleResult("@useFeatures")));
 
-    result.addConfigIni(ProductOs.linux, configinilinuxquery.getSingleResult());
-    result.addConfigIni(ProductOs.macosx, configinimacosxquery.getSingleResult());
-    result.addConfigIni(ProductOs.solaris, configinisolarisquery.getSingleResult());
-    result.addConfigIni(ProductOs.win32, configiniwin32query.getSingleResult());
+    result.addConfigIni(ProductOs.linux, handler.getSingleResult("configIni/linux"));
+    result.addConfigIni(ProductOs.macosx, handler.getSingleResult("configIni/macosx"));
+    result.addConfigIni(ProductOs.solaris, handler.getSingleResult("configIni/solaris"));
+    result.addConfigIni(ProductOs.win32, handler.getSingleResult("configIni/win32"));
 
-    String programarg = Utilities.cleanup(programallquery.getSingleResult());
+    String programarg = Utilities.cleanup(handler.getSingleResult("launcherArgs/programArgs"));
     if (programarg != null) {
       for (ProductOs os : ProductOs.values()) {
         result.addProgramArgs(os, programarg);
       }
     }
-    result.addProgramArgs(ProductOs.linux, programlinuxquery.getSingleResult());
-    result.addProgramArgs(ProductOs.macosx, programmacquery.getSingleResult());
-    result.addProgramArgs(ProductOs.solaris, programsolarisquery.getSingleResult());
-    result.addProgramArgs(ProductOs.win32, programwinquery.getSingleResult());
+    result.addProgramArgs(ProductOs.linux, handler.getSingleResult("launcherArgs/programArgsLin"));
+    result.addProgramArgs(ProductOs.macosx, handler.getSingleResult("launcherArgs/programArgsMac"));
+    result.addProgramArgs(ProductOs.solaris, handler.getSingleResult("launcherArgs/programArgsSol"));
+    result.addProgramArgs(ProductOs.win32, handler.getSingleResult("launcherArgs/programArgsWin"));
 
-    String vmarg = Utilities.cleanup(vmargsallquery.getSingleResult());
+    String vmarg = Utilities.cleanup(handler.getSingleResult("launcherArgs/vmArgs"));
     if (vmarg != null) {
       for (ProductOs os : ProductOs.values()) {
         result.addVmArgs(os, vmarg);
       }
     }
-    result.addVmArgs(ProductOs.linux, vmargslinuxquery.getSingleResult());
-    result.addVmArgs(ProductOs.macosx, vmargsmacquery.getSingleResult());
-    result.addVmArgs(ProductOs.solaris, vmargssolarisquery.getSingleResult());
-    result.addVmArgs(ProductOs.win32, vmargswinquery.getSingleResult());
-
-    result.addVm(ProductOs.linux, vmlinuxquery.getSingleResult());
-    result.addVm(ProductOs.macosx, vmmacosxquery.getSingleResult());
-    result.addVm(ProductOs.solaris, vmsolarisquery.getSingleResult());
-    result.addVm(ProductOs.win32, vmwin32query.getSingleResult());
-
-    String[] pluginids = pluginidquery.getResult();
-    String[] isfragment = fragmentquery.getResult();
-    for (int i = 0; i < pluginids.length; i++) {
-      result.addPlugin(pluginids[i], Boolean.parseBoolean(isfragment[i]));
+    result.addVmArgs(ProductOs.linux, handler.getSingleResult("launcherArgs/vmArgsLin"));
+    result.addVmArgs(ProductOs.macosx, handler.getSingleResult("launcherArgs/vmArgsMac"));
+    result.addVmArgs(ProductOs.solaris, handler.getSingleResult("launcherArgs/vmArgsSol"));
+    result.addVmArgs(ProductOs.win32, handler.getSingleResult("launcherArgs/vmArgsWin"));
+
+    result.addVm(ProductOs.linux, handler.getSingleResult("vm/linux"));
+    result.addVm(ProductOs.macosx, handler.getSingleResult("vm/macosx"));
+    result.addVm(ProductOs.solaris, handler.getSingleResult("vm/solaris"));
+    result.addVm(ProductOs.win32, handler.getSingleResult("vm/win32"));
+
+    for (String[] plugin : handler.getPlugins()) {
+      result.addPlugin(plugin[0], Boolean.parseBoolean(plugin[1]));
     }
 
-    String[] featureids = featureidquery.getResult();
-    String[] featureversions = featureversionquery.getResult();
-    for (int i = 0; i < featureids.length; i++) {
-      String version = i < featureversions.length ? featureversions[i] : null;
-      result.addFeature(featureids[i], version != null && version.length() > 0 ? new Version(version)
+    for (String[] feature : handler.getFeatures()) {
+      String version = feature[1];
+      result.addFeature(feature[0], version != null && version.length() > 0 ? new Version(version)
           : Version.emptyVersion);
     }
 
-    String[] configids = configidquery.getResult();
-    String[] configautostarts = configstartquery.getResult();
-    String[] configlevels = configlevelquery.getResult();
-    for (int i = 0; i < configids.length; i++) {
+    for (String[] configuration : handler.getConfigurations()) {
       BundleStartRecord record = new BundleStartRecord();
-      record.setId(configids[i]);
-      record.setAutoStart(Boolean.parseBoolean(configautostarts[i]));
-      record.setStartLevel(Integer.parseInt(configlevels[i]));
+      record.setId(configuration[0]);
+      record.setAutoStart(Boolean.parseBoolean(configuration[1]));
+      record.setStartLevel(Integer.parseInt(configuration[2]));
       result.addConfigurationRecord(record);
     }
 
@@ -211,4 +175,170 @@ public class ProductDefinitionParser {
     }
   }
 
+  /**
+   * SAX handler collecting the content of a product definition within a single pass. Single valued attributes and
+   * element contents are stored using their path relative to the <code>product</code> element (f.e.
+   * <code>launcher/@name</code> or <code>vm/linux</code>).
+   */
+  private static class ProductDefinitionHandler extends DefaultHandler {
+
+    /** the paths of the third level elements which provide single valued contents */
+    private static final Set<String> CONTENT_PATHS = new HashSet<String>(Arrays.asList("configIni/linux",
+                                                       "configIni/macosx", "configIni/solaris", "configIni/win32",
+                                                       "launcherArgs/programArgs", "launcherArgs/programArgsLin",
+                                                       "launcherArgs/programArgsMac", "launcherArgs/programArgsSol",
+                                                       "launcherArgs/programArgsWin", "launcherArgs/vmArgs",
+                                                       "launcherArgs/vmArgsLin", "launcherArgs/vmArgsMac",
+                                                       "launcherArgs/vmArgsSol", "launcherArgs/vmArgsWin", "vm/linux",
+                                                       "vm/macosx", "vm/solaris", "vm/win32"));
+
+    /** the single valued attributes and element contents */
+    private Map<String, String>      _singleResults;
+
+    /** the id and the fragment flag of the plug-ins */
+    private List<String[]>           _plugins;
+
+    /** the id and the version of the features */
+    private List<String[]>           _features;
+
+    /** the id, the auto start flag and the start level of the configured plug-ins */
+    private List<String[]>           _configurations;
+
+    /** the names of the currently opened elements */
+    private String[]                 _path;
+
+    /** the current depth within the document */
+    private int                      _depth;
+
+    /** the content of the current element */
+    private StringBuilder            _content;
+
+    /**
+     * Initialises this handler.
+     */
+    public ProductDefinitionHandler() {
+      this._singleResults = new HashMap<String, String>();
+      this._plugins = new ArrayList<String[]>();
+      this._features = new ArrayList<String[]>();
+      this._configurations = new ArrayList<String[]>();
+      this._path = new String[3];
+      this._content = new StringBuilder();
+    }
+
+    /**
+     * Returns the single valued attribute or element content for the supplied path.
+     * 
+     * @param path
+     *          The path relative to the <code>product</code> element.
+     * 
+     * @return The value or <code>null</code> if it doesn't exist.
+     */
+    public String getSingleResult(String path) {
+      return this._singleResults.get(path);
+    }
+
+    /**
+     * Returns the id and the fragment flag of each plug-in.
+     * 
+     * @return The id and the fragment flag of each plug-in. Not <code>null</code>.
+     */
+    public List<String[]> getPlugins() {
+      return this._plugins;
+    }
+
+    /**
+     * Returns the id and the version of each feature.
+     * 
+     * @return The id and the version of each feature. Not <code>null</code>.
+     */
+    public List<String[]> getFeatures() {
+      return this._features;
+    }
+
+    /**
+     * Returns the id, the auto start flag and the start level of each configured plug-in.
+     * 
+     * @return The id, the auto start flag and the start level of each configured plug-in. Not <code>null</code>.
+     */
+    public List<String[]> getConfigurations() {
+      return this._configurations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startElement(String uri, String localname, String qname, Attributes attributes) {
+      if (this._depth < this._path.length) {
+        this._path[this._depth] = qname;
+      }
+      if ((this._depth == 0) && "product".equals(qname)) {
+        addAttribute("", attributes, "name");
+        addAttribute("", attributes, "uid");
+        addAttribute("", attributes, "id");
+        addAttribute("", attributes, "application");
+        addAttribute("", attributes, "version");
+        addAttribute("", attributes, "useFeatures");
+      } else if ((this._depth == 1) && "product".equals(this._path[0])) {
+        if ("launcher".equals(qname)) {
+          addAttribute("launcher/", attributes, "name");
+        } else if ("splash".equals(qname)) {
+          addAttribute("splash/", attributes, "location");
+        }
+      } else if ((this._depth == 2) && "product".equals(this._path[0]) && "plugin".equals(qname)) {
+        if ("plugins".equals(this._path[1])) {
+          this._plugins.add(new String[] { attributes.getValue("id"), attributes.getValue("fragment") });
+        } else if ("configurations".equals(this._path[1])) {
+          this._configurations.add(new String[] { attributes.getValue("id"), attributes.getValue("autoStart"),
+              attributes.getValue("startLevel") });
+        }
+      } else if ((this._depth == 2) && "product".equals(this._path[0]) && "feature".equals(qname)
+          && "features".equals(this._path[1])) {
+        this._features.add(new String[] { attributes.getValue("id"), attributes.getValue("version") });
+      }
+      this._content.setLength(0);
+      this._depth++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endElement(String uri, String localname, String qname) {
+      this._depth--;
+      if ((this._depth == 2) && "product".equals(this._path[0])) {
+        // other elements (f.e. the architecture specific arguments) aren't read, so duplicates are tolerated
+        String path = this._path[1] + "/" + qname;
+        if (CONTENT_PATHS.contains(path)) {
+          addSingleResult(path, this._content.toString().trim());
+        }
+      }
+      this._content.setLength(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      this._content.append(ch, start, length);
+    }
+
+    private void addAttribute(String prefix, Attributes attributes, String name) {
+      String value = attributes.getValue(name);
+      if (value != null) {
+        addSingleResult(prefix + "@" + name, value);
+      }
+    }
+
+    private void addSingleResult(String path, String value) {
+      if (this._singleResults.containsKey(path)) {
+        throw new Ant4EclipseException(CoreExceptionCode.X_QUERY_DUCPLICATE_ENTRY_EXCEPTION, "/product/" + path,
+            "unknown");
+      }
+      this._singleResults.put(path, value);
+    }
+
+  } /* ENDCLASS */
+
 } /* ENDCLASS */
@@ -19,7 +19,7 @@ import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.exception.Ant4EclipseException;
 import org.ant4eclipse.lib.core.logging.A4ELogging;
 import org.ant4eclipse.lib.core.osgi.BundleLayoutResolver;
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 import org.ant4eclipse.lib.core.util.Utilities;
 import org.ant4eclipse.lib.jdt.model.ClasspathEntry;
 import org.ant4eclipse.lib.jdt.tools.ResolvedClasspathEntry;
@@ -46,6 +46,10 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
  */
 public class RequiredPluginsResolver implements ClasspathContainerResolver {
 
+  /** the target platform registry */
+  private static final ServiceHandle<TargetPlatformRegistry> TARGET_PLATFORM_REGISTRY =
+      new ServiceHandle<TargetPlatformRegistry>(TargetPlatformRegistry.class);
+
   /**
    * the constant for the container type 'org.eclipse.pde.core.requiredPlugins'
    */
@@ -286,7 +290,7 @@ public class RequiredPluginsResolver implements ClasspathContainerResolver {
   private TargetPlatform getTargetPlatform(ClasspathResolverContext context) {
 
     // get the TargetPlatform
-    TargetPlatformRegistry registry = ServiceRegistryAccess.instance().getService(TargetPlatformRegistry.class);
+    TargetPlatformRegistry registry = TARGET_PLATFORM_REGISTRY.get();
 
     // get the container arguments
     JdtClasspathContainerArgument targetPlatformContainerArgument = context
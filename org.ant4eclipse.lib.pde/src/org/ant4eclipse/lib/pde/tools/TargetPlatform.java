@@ -182,6 +182,17 @@ public interface TargetPlatform {
    */
   void refresh();
 
+  /**
+   * <p>
+   * Returns a stamp identifying the current resolution of this target platform. The stamp changes whenever the target
+   * platform is resolved again (f.e. after a {@link #refresh()}), so it can be used to validate data that has been
+   * computed from the resolved bundles.
+   * </p>
+   * 
+   * @return a stamp identifying the current resolution of this target platform.
+   */
+  long getResolutionStamp();
+
   BundleDescription getBundleDescriptionFromWorkspace(String symbolicName);
 
   BundleDescription getBundleDescriptionFromBinaryBundles(String symbolicName);
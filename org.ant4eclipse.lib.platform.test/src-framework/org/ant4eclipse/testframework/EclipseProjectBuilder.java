@@ -28,15 +28,17 @@ import java.util.List;
  */
 public class EclipseProjectBuilder {
 
-  private String       _projectName;
+  private String         _projectName;
 
-  private List<String> _natures;
+  private List<String>   _natures;
 
-  private List<String> _builders;
+  private List<String>   _builders;
 
-  private List<String> _referencedProjects;
+  private List<String>   _referencedProjects;
 
-  private List<File>   _resources;
+  private List<File>     _resources;
+
+  private List<String[]> _linkedResources;
 
   public EclipseProjectBuilder(String projectName) {
     Assert.assertNotNull(projectName);
@@ -45,6 +47,7 @@ public class EclipseProjectBuilder {
     this._builders = new LinkedList<String>();
     this._resources = new LinkedList<File>();
     this._referencedProjects = new LinkedList<String>();
+    this._linkedResources = new LinkedList<String[]>();
   }
 
   /**
@@ -78,6 +81,24 @@ public class EclipseProjectBuilder {
     return this;
   }
 
+  /**
+   * Adds a linked resource to the <tt>.project</tt> file of this project.
+   * 
+   * @param name
+   *          the project relative name of the linked resource
+   * @param type
+   *          the type of the linked resource (<tt>1</tt> = file, <tt>2</tt> = folder)
+   * @param location
+   *          the location the linked resource points to
+   * @return this
+   */
+  public EclipseProjectBuilder withLinkedResource(String name, int type, String location) {
+    Assert.assertNotNull(name);
+    Assert.assertNotNull(location);
+    this._linkedResources.add(new String[] { name, String.valueOf(type), location });
+    return this;
+  }
+
   /**
    * Creates this project
    * 
@@ -155,6 +176,23 @@ public class EclipseProjectBuilder {
     emitter.dedent();
     emitter.appendln("</natures>");
 
+    // linked resources
+    if (!this._linkedResources.isEmpty()) {
+      emitter.appendln("<linkedResources>");
+      emitter.indent();
+      for (String[] linkedResource : this._linkedResources) {
+        emitter.appendln("<link>");
+        emitter.indent();
+        emitter.appendln("<name>%s</name>", linkedResource[0]);
+        emitter.appendln("<type>%s</type>", linkedResource[1]);
+        emitter.appendln("<location>%s</location>", linkedResource[2]);
+        emitter.dedent();
+        emitter.appendln("</link>");
+      }
+      emitter.dedent();
+      emitter.appendln("</linkedResources>");
+    }
+
     emitter.dedent();
     emitter.appendln("</projectDescription>");
 
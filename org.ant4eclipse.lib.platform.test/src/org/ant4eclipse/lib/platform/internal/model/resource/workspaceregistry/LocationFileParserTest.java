@@ -0,0 +1,175 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
+
+import org.ant4eclipse.lib.core.util.Utilities;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.DefaultEclipseWorkspaceDefinition;
+import org.ant4eclipse.testframework.ConfigurableAnt4EclipseTestCase;
+import org.ant4eclipse.testframework.EclipseProjectBuilder;
+import org.ant4eclipse.testframework.TestDirectory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class LocationFileParserTest extends ConfigurableAnt4EclipseTestCase {
+
+  private static final String METADATA_PROJECTS = ".metadata/.plugins/org.eclipse.core.resources/.projects";
+
+  private TestDirectory       _testWorkspace;
+
+  private TestDirectory       _externalDirectory;
+
+  @Override
+  public void setup() {
+    super.setup();
+    this._testWorkspace = new TestDirectory();
+    this._externalDirectory = new TestDirectory();
+  }
+
+  @Override
+  public void dispose() {
+    this._testWorkspace.dispose();
+    this._externalDirectory.dispose();
+    super.dispose();
+  }
+
+  @Test
+  public void roundTrip() throws IOException {
+    File projectDir = new EclipseProjectBuilder("external").createIn(this._externalDirectory.getRootDir());
+    File uriLocation = writeLocationFile("uri", "URI//" + projectDir.toURI().toString());
+    Assert.assertEquals(projectDir.getAbsoluteFile(), LocationFileParser.readLocation(uriLocation));
+    Assert.assertEquals(projectDir.getAbsoluteFile(), LocationFileParser.getProjectDirectory(uriLocation));
+
+    File pathLocation = writeLocationFile("path", projectDir.getAbsolutePath());
+    Assert.assertEquals(projectDir.getAbsoluteFile(), LocationFileParser.readLocation(pathLocation));
+
+    File emptyLocation = writeLocationFile("empty", "");
+    Assert.assertNull(LocationFileParser.readLocation(emptyLocation));
+
+    File httpLocation = writeLocationFile("http", "URI//http://www.ant4eclipse.org/project");
+    Assert.assertNull(LocationFileParser.readLocation(httpLocation));
+
+    File missingProject = writeLocationFile("missing", "URI//" + new File(projectDir, "missing").toURI());
+    Assert.assertNull(LocationFileParser.getProjectDirectory(missingProject));
+  }
+
+  @Test
+  public void truncatedContent() throws IOException {
+    byte[] content = createLocationContent("URI//file:/projects/external");
+    Assert.assertEquals("URI//file:/projects/external", LocationFileParser.decodeLocation(new ByteArrayInputStream(
+        content)));
+    // the content is corrupt as long as the end marker is missing
+    for (int i = 0; i < content.length; i++) {
+      byte[] truncated = new byte[i];
+      System.arraycopy(content, 0, truncated, 0, i);
+      Assert.assertNull(LocationFileParser.decodeLocation(new ByteArrayInputStream(truncated)));
+    }
+  }
+
+  @Test
+  public void referencedProjects() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.write(LocationFileParser.BEGIN_CHUNK);
+    output.writeUTF("URI//file:/projects/external");
+    output.writeInt(2);
+    output.writeUTF("URI//file:/projects/referenced1");
+    output.writeUTF("URI//file:/projects/referenced2");
+    output.write(LocationFileParser.END_CHUNK);
+    output.close();
+    Assert.assertEquals("URI//file:/projects/external", LocationFileParser.decodeLocation(new ByteArrayInputStream(
+        bytes.toByteArray())));
+  }
+
+  @Test
+  public void fuzz() throws IOException {
+    Random random = new Random(20091019L);
+    byte[] valid = createLocationContent("URI//file:/projects/external");
+    for (int i = 0; i < 2000; i++) {
+      byte[] content;
+      if (i % 2 == 0) {
+        // completely random content (partially starting with a valid marker)
+        content = new byte[random.nextInt(64)];
+        random.nextBytes(content);
+        if ((i % 4 == 0) && (content.length >= LocationFileParser.BEGIN_CHUNK.length)) {
+          System.arraycopy(LocationFileParser.BEGIN_CHUNK, 0, content, 0, LocationFileParser.BEGIN_CHUNK.length);
+        }
+      } else {
+        // a valid file with some flipped bytes
+        content = valid.clone();
+        for (int j = random.nextInt(4); j >= 0; j--) {
+          content[random.nextInt(content.length)] = (byte) random.nextInt();
+        }
+      }
+      File locationFile = new File(this._testWorkspace.getRootDir(), ".location");
+      Utilities.writeFile(locationFile, content);
+      // must neither fail nor return an invalid directory
+      File location = LocationFileParser.readLocation(locationFile);
+      File projectDirectory = LocationFileParser.toProjectDirectory(location);
+      if (projectDirectory != null) {
+        Assert.assertTrue(new File(projectDirectory, ".project").isFile());
+      }
+    }
+  }
+
+  @Test
+  public void linkedProjects() throws IOException {
+    new EclipseProjectBuilder("internal").createIn(this._testWorkspace.getRootDir());
+    Set<File> expected = new HashSet<File>();
+    expected.add(new File(this._testWorkspace.getRootDir(), "internal"));
+    // enough projects to decode the location files concurrently
+    for (int i = 0; i < 40; i++) {
+      File projectDir = new EclipseProjectBuilder("external" + i).createIn(this._externalDirectory.getRootDir());
+      writeLocationFile("external" + i, "URI//" + projectDir.toURI());
+      expected.add(projectDir.getAbsoluteFile());
+    }
+    writeLocationFile("broken", "URI//" + new File(this._externalDirectory.getRootDir(), "missing").toURI());
+
+    File[] projectFolders = new DefaultEclipseWorkspaceDefinition(this._testWorkspace.getRootDir())
+        .getProjectFolders();
+    Assert.assertEquals(expected.size(), projectFolders.length);
+    Assert.assertEquals(expected, new HashSet<File>(Arrays.asList(projectFolders)));
+  }
+
+  private File writeLocationFile(String projectName, String location) throws IOException {
+    File directory = new File(this._testWorkspace.getRootDir(), METADATA_PROJECTS + "/" + projectName);
+    Utilities.mkdirs(directory);
+    File result = new File(directory, ".location");
+    Utilities.writeFile(result, createLocationContent(location));
+    return result;
+  }
+
+  /**
+   * Creates the content of a <code>.location</code> file like eclipse's <code>LocalMetaArea</code> does.
+   */
+  private byte[] createLocationContent(String location) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.write(LocationFileParser.BEGIN_CHUNK);
+    output.writeUTF(location);
+    // no referenced projects
+    output.writeInt(0);
+    output.write(LocationFileParser.END_CHUNK);
+    output.close();
+    return bytes.toByteArray();
+  }
+
+} /* ENDCLASS */
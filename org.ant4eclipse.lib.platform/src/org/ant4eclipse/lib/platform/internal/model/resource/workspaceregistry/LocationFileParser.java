@@ -13,14 +13,20 @@ package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
 
 import org.ant4eclipse.lib.core.Assure;
 import org.ant4eclipse.lib.core.logging.A4ELogging;
-import org.ant4eclipse.lib.platform.internal.model.resource.ChunkyFile;
+import org.ant4eclipse.lib.core.util.Utilities;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UTFDataFormatException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 
 /**
  * Reads a ".location" file which provides the position of an external project from eclipse's .metadata directory.
@@ -35,6 +41,20 @@ public class LocationFileParser {
    */
   private static final String URI_PREFIX = "URI//";
 
+  /**
+   * The marker which introduces a chunk of data written by eclipse's <code>SafeChunkyOutputStream</code>.
+   */
+  static final byte[]         BEGIN_CHUNK = { 64, -79, -117, -127, 35, -68, 0, 20, 26, 37, -106, -25, -93, -109, -66,
+      30                                  };
+
+  /**
+   * The marker which terminates a chunk of data written by eclipse's <code>SafeChunkyOutputStream</code>.
+   */
+  static final byte[]      END_CHUNK   = { -64, 88, -5, -13, 35, -68, 0, 20, 26, 81, -13, -116, 123, -69, 119, -58 };
+
+  /** the buffer size used to read a .location file (the location is stored at the beginning) */
+  private static final int BUFFER_SIZE = 512;
+
   /**
    * <p>
    * Reads the given <code>.location</code> file and returns the <b>existing</b> path to the eclipse project directory
@@ -54,25 +74,8 @@ public class LocationFileParser {
     Assure.isFile("locationFile", locationFile);
 
     try {
-      // read the location of the project directory
-      File projectDir = readLocation(locationFile);
-
-      // check if projectDir is valid
-      if (projectDir != null) {
-        if (projectDir.isDirectory()) {
-          File projectfile = new File(projectDir, ".project");
-          if (projectfile.isFile()) {
-            return projectDir;
-          } else {
-            A4ELogging.debug(
-                "LocationFileParser.getProjectDirectory(): the project '%s' doesn't provide an Eclipse configuration",
-                projectDir.getAbsolutePath());
-          }
-        } else {
-          A4ELogging.debug("LocationFileParser.getProjectDirectory(): the stored location '%s' is not a directory",
-              projectDir);
-        }
-      }
+      // read the location of the project directory and check if it's valid
+      return toProjectDirectory(readLocation(locationFile));
     } catch (IOException e) {
       // TODO: Logging
       e.printStackTrace();
@@ -82,6 +85,34 @@ public class LocationFileParser {
     return null;
   }
 
+  /**
+   * <p>
+   * Returns the supplied location if it points to a valid eclipse project directory.
+   * </p>
+   * 
+   * @param projectDir
+   *          the location read from a <code>.location</code> file. Maybe <code>null</code>.
+   * @return the project directory or <code>null</code> if the location doesn't point to a valid project directory
+   */
+  static final File toProjectDirectory(File projectDir) {
+    if (projectDir != null) {
+      if (projectDir.isDirectory()) {
+        File projectfile = new File(projectDir, ".project");
+        if (projectfile.isFile()) {
+          return projectDir;
+        } else {
+          A4ELogging.debug(
+              "LocationFileParser.getProjectDirectory(): the project '%s' doesn't provide an Eclipse configuration",
+              projectDir.getAbsolutePath());
+        }
+      } else {
+        A4ELogging.debug("LocationFileParser.getProjectDirectory(): the stored location '%s' is not a directory",
+            projectDir);
+      }
+    }
+    return null;
+  }
+
   /**
    * Reads the given location file and returns the location that is stored inside the location as a File.
    * 
@@ -103,51 +134,130 @@ public class LocationFileParser {
    */
   static final File readLocation(File locationfile) throws IOException {
     Assure.isFile("locationfile", locationfile);
+    InputStream input = null;
+    try {
+      input = new BufferedInputStream(new FileInputStream(locationfile), BUFFER_SIZE);
+      String location = decodeLocation(input);
+      if (location == null) {
+        A4ELogging.warn("the file '%s' doesn't contain a valid location chunk", locationfile);
+        return null;
+      }
+      return toLocation(location);
+    } finally {
+      Utilities.close(input);
+    }
+  }
 
-    ChunkyFile cf = new ChunkyFile(locationfile);
-    if (cf.getChunkCount() == 1) {
-      byte[] data = cf.getChunk(0);
-      DataInputStream datain = new DataInputStream(new ByteArrayInputStream(data));
-      String location = datain.readUTF();
-      File file = null;
-      if (location.length() > 0) {
-        /*
-         * see {@link org.eclipse.core.internal.resources.LocalMetaArea#readPrivateDescription(IProject target,
-         * IProjectDescription description)}
-         */
-        if (location.startsWith(URI_PREFIX)) {
-          URI uri = URI.create(location.substring(URI_PREFIX.length()));
-          if (!uri.getScheme().startsWith("file")) {
-            A4ELogging.debug("LocationFileParser.readLocation(): the stored location uri '%s' is not a file-uri", uri);
-          } else {
-            file = new File(uri);
-          }
-        } else {
-          try {
-            // try to interprete the location as a URI
-            file = new File(new URI(location));
-          } catch (URISyntaxException ex) {
-            // fallback mechanism which interprets the location as a simple path
-            A4ELogging.debug("LocationFileParser.readLocation(): the location '%s' will be interpreted as a path",
-                location);
-            file = new File(location);
-          } catch (IllegalArgumentException ex) {
-            // fallback mechanism which interprets the location as a simple path.
-            // this can happen if the location doesn't conform to the current system
-            // (f.e. a location file for unix which is used while ANT is executed unter
-            // windows)
-            A4ELogging.debug("LocationFileParser.readLocation(): the location '%s' will be interpreted as a path",
-                location);
-            file = new File(location);
-          }
+  /**
+   * <p>
+   * Decodes the location stored in the content of a <code>.location</code> file. The content starts with the begin
+   * marker of a chunk (see <code>org.eclipse.core.internal.localstore.SafeChunkyOutputStream</code>) followed by the
+   * location which has been written using {@link DataOutputStream#writeUTF(String)}. The location is followed by further
+   * data (f.e. the dynamic project references) and the end marker of the chunk. A chunk without an end marker has not
+   * been written completely, so the content is considered to be corrupt.
+   * </p>
+   * 
+   * @param input
+   *          The content of the <code>.location</code> file. Not <code>null</code>.
+   * @return The location or <code>null</code> if the content is malformed or incomplete.
+   * @throws IOException
+   *           Reading the content failed.
+   */
+  static final String decodeLocation(InputStream input) throws IOException {
+    DataInputStream datain = new DataInputStream(input);
+    byte[] marker = new byte[BEGIN_CHUNK.length];
+    try {
+      datain.readFully(marker);
+      if (!Arrays.equals(BEGIN_CHUNK, marker)) {
+        return null;
+      }
+      String result = datain.readUTF();
+      if (!skipToEndChunk(datain)) {
+        return null;
+      }
+      return result;
+    } catch (EOFException ex) {
+      // the content has been truncated
+      return null;
+    } catch (UTFDataFormatException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * <p>
+   * Skips the remaining data of a chunk up to and including it's end marker.
+   * </p>
+   * 
+   * @param input
+   *          The content of the chunk following the already read data. Not <code>null</code>.
+   * @return <code>true</code> if the end marker has been found, <code>false</code> if the content ended before.
+   * @throws IOException
+   *           Reading the content failed.
+   */
+  private static final boolean skipToEndChunk(InputStream input) throws IOException {
+    int matched = 0;
+    int current = input.read();
+    while (current != -1) {
+      if ((byte) current == END_CHUNK[matched]) {
+        matched++;
+        if (matched == END_CHUNK.length) {
+          return true;
         }
-        return file;
+      } else {
+        // the first byte of the marker doesn't occur within the remaining marker, so a restart is sufficient
+        matched = (byte) current == END_CHUNK[0] ? 1 : 0;
       }
-    } else {
-      A4ELogging.warn("the file '%s' contains %d chunks instead of a single one", locationfile,
-          Integer.valueOf(cf.getChunkCount()));
+      current = input.read();
     }
+    return false;
+  }
 
-    return null;
+  /**
+   * <p>
+   * Converts the location stored in a <code>.location</code> file into a file.
+   * </p>
+   * 
+   * @param location
+   *          The location as stored in the <code>.location</code> file. Not <code>null</code>.
+   * @return The location as a file or <code>null</code> if the location is empty or not a file location.
+   */
+  static final File toLocation(String location) {
+    if (location.length() == 0) {
+      return null;
+    }
+    /*
+     * see {@link org.eclipse.core.internal.resources.LocalMetaArea#readPrivateDescription(IProject target,
+     * IProjectDescription description)}
+     */
+    if (location.startsWith(URI_PREFIX)) {
+      try {
+        URI uri = URI.create(location.substring(URI_PREFIX.length()));
+        if ((uri.getScheme() == null) || (!uri.getScheme().startsWith("file"))) {
+          A4ELogging.debug("LocationFileParser.readLocation(): the stored location uri '%s' is not a file-uri", uri);
+          return null;
+        }
+        return new File(uri);
+      } catch (IllegalArgumentException ex) {
+        A4ELogging.debug("LocationFileParser.readLocation(): the stored location uri '%s' is invalid", location);
+        return null;
+      }
+    }
+    try {
+      // try to interprete the location as a URI
+      return new File(new URI(location));
+    } catch (URISyntaxException ex) {
+      // fallback mechanism which interprets the location as a simple path
+      A4ELogging.debug("LocationFileParser.readLocation(): the location '%s' will be interpreted as a path", location);
+      return new File(location);
+    } catch (IllegalArgumentException ex) {
+      // fallback mechanism which interprets the location as a simple path.
+      // this can happen if the location doesn't conform to the current system
+      // (f.e. a location file for unix which is used while ANT is executed unter
+      // windows)
+      A4ELogging.debug("LocationFileParser.readLocation(): the location '%s' will be interpreted as a path", location);
+      return new File(location);
+    }
   }
-}
+
+} /* ENDCLASS */
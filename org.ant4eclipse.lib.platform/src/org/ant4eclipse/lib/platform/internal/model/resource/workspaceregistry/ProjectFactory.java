@@ -47,6 +47,22 @@ public class ProjectFactory {
    * @return a configured EclipseProject instance
    */
   public EclipseProject readProjectFromWorkspace(WorkspaceImpl workspace, File projectDirectory) {
+    return readProjectFromWorkspace(workspace, projectDirectory, null);
+  }
+
+  /**
+   * Reads the configuration for the given project and sets up a new EclipseProject for it
+   * 
+   * @param workspace
+   *          The workspace that contains the project
+   * @param projectDirectory
+   *          The root directory of the project
+   * @param modelCache
+   *          The cache providing the project description. Maybe <code>null</code>.
+   * @return a configured EclipseProject instance
+   */
+  public EclipseProject readProjectFromWorkspace(WorkspaceImpl workspace, File projectDirectory,
+      WorkspaceModelCache modelCache) {
 
     A4ELogging.trace("ProjectFactory: readProjectFromWorkspace(%s, %s)", workspace, projectDirectory.getAbsolutePath());
 
@@ -56,7 +72,7 @@ public class ProjectFactory {
     EclipseProjectImpl project = new EclipseProjectImpl(workspace, projectDirectory);
 
     // parses the project description
-    ProjectFileParser.parseProject(project);
+    ProjectFileParser.parseProject(project, modelCache);
 
     // apply role specific information
     this._projectRoleIdentifierRegistry.applyRoles(project);
@@ -0,0 +1,165 @@
+/**********************************************************************
+ * Copyright (c) 2005-2009 ant4eclipse project team.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Nils Hartmann, Daniel Kasmeroglu, Gerd Wuetherich
+ **********************************************************************/
+package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * <p>
+ * The raw content of an eclipse <code>.project</code> file. Linked resources are kept unresolved as their resolution
+ * depends on the path variables of the current build. Instances can be written to and read from a binary stream, so
+ * they can be stored within the {@link WorkspaceModelCache}.
+ * </p>
+ */
+public class ProjectFileContent {
+
+  private final String   _name;
+
+  private final String   _comment;
+
+  private final String[] _referencedProjects;
+
+  private final String[] _natures;
+
+  private final String[] _buildCommands;
+
+  private final String[] _linkedResourceNames;
+
+  private final String[] _linkedResourceTypes;
+
+  private final String[] _linkedResourceLocations;
+
+  private final String[] _linkedResourceLocationURIs;
+
+  /**
+   * Creates a new content object. The linked resource arrays must have the same length.
+   */
+  public ProjectFileContent(String name, String comment, String[] referencedProjects, String[] natures,
+      String[] buildCommands, String[] linkedResourceNames, String[] linkedResourceTypes,
+      String[] linkedResourceLocations, String[] linkedResourceLocationURIs) {
+    this._name = name;
+    this._comment = comment;
+    this._referencedProjects = referencedProjects;
+    this._natures = natures;
+    this._buildCommands = buildCommands;
+    this._linkedResourceNames = linkedResourceNames;
+    this._linkedResourceTypes = linkedResourceTypes;
+    this._linkedResourceLocations = linkedResourceLocations;
+    this._linkedResourceLocationURIs = linkedResourceLocationURIs;
+  }
+
+  public String getName() {
+    return this._name;
+  }
+
+  public String getComment() {
+    return this._comment;
+  }
+
+  public String[] getReferencedProjects() {
+    return this._referencedProjects;
+  }
+
+  public String[] getNatures() {
+    return this._natures;
+  }
+
+  public String[] getBuildCommands() {
+    return this._buildCommands;
+  }
+
+  public String[] getLinkedResourceNames() {
+    return this._linkedResourceNames;
+  }
+
+  public String[] getLinkedResourceTypes() {
+    return this._linkedResourceTypes;
+  }
+
+  public String[] getLinkedResourceLocations() {
+    return this._linkedResourceLocations;
+  }
+
+  public String[] getLinkedResourceLocationURIs() {
+    return this._linkedResourceLocationURIs;
+  }
+
+  /**
+   * Writes this content to the supplied output.
+   *
+   * @param output
+   *          The destination of the content. Not <code>null</code>.
+   *
+   * @throws IOException
+   *           Writing failed.
+   */
+  public void write(DataOutput output) throws IOException {
+    writeString(output, this._name);
+    writeString(output, this._comment);
+    writeStrings(output, this._referencedProjects);
+    writeStrings(output, this._natures);
+    writeStrings(output, this._buildCommands);
+    writeStrings(output, this._linkedResourceNames);
+    writeStrings(output, this._linkedResourceTypes);
+    writeStrings(output, this._linkedResourceLocations);
+    writeStrings(output, this._linkedResourceLocationURIs);
+  }
+
+  /**
+   * Reads a content previously written using {@link #write(DataOutput)}.
+   *
+   * @param input
+   *          The source of the content. Not <code>null</code>.
+   *
+   * @return The content. Not <code>null</code>.
+   *
+   * @throws IOException
+   *           Reading failed.
+   */
+  public static ProjectFileContent read(DataInput input) throws IOException {
+    return new ProjectFileContent(readString(input), readString(input), readStrings(input), readStrings(input),
+        readStrings(input), readStrings(input), readStrings(input), readStrings(input), readStrings(input));
+  }
+
+  static void writeString(DataOutput output, String value) throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  static String readString(DataInput input) throws IOException {
+    return input.readBoolean() ? input.readUTF() : null;
+  }
+
+  private static void writeStrings(DataOutput output, String[] values) throws IOException {
+    output.writeInt(values.length);
+    for (String value : values) {
+      writeString(output, value);
+    }
+  }
+
+  private static String[] readStrings(DataInput input) throws IOException {
+    int count = input.readInt();
+    if (count < 0) {
+      throw new IOException("Invalid number of entries: " + count);
+    }
+    String[] result = new String[count];
+    for (int i = 0; i < count; i++) {
+      result[i] = readString(input);
+    }
+    return result;
+  }
+
+} /* ENDCLASS */
@@ -49,11 +49,45 @@ public class ProjectFileParser {
    * @return the supplied {@link EclipseProject} instance.
    */
   public static EclipseProjectImpl parseProject(EclipseProjectImpl eclipseProject) {
+    return parseProject(eclipseProject, null);
+  }
+
+  /**
+   * <p>
+   * Parses the '<code>.project</code>' file of the given eclipse project. The content of the file is taken from the
+   * supplied cache if it's still up to date.
+   * </p>
+   * 
+   * @param eclipseProject
+   * @param modelCache
+   *          The cache providing the content of the '<code>.project</code>' file. Maybe <code>null</code>.
+   * 
+   * @return the supplied {@link EclipseProject} instance.
+   */
+  public static EclipseProjectImpl parseProject(EclipseProjectImpl eclipseProject, WorkspaceModelCache modelCache) {
     Assure.notNull("eclipseProject", eclipseProject);
 
     // retrieve the '.project' file
     File projectFile = eclipseProject.getChild(".project");
 
+    ProjectFileContent content = modelCache != null ? modelCache.getProjectFileContent(projectFile)
+        : readProjectFile(projectFile);
+
+    return applyProjectFileContent(eclipseProject, content);
+  }
+
+  /**
+   * <p>
+   * Reads the content of a '<code>.project</code>' file.
+   * </p>
+   * 
+   * @param projectFile
+   *          The '<code>.project</code>' file. Not <code>null</code>.
+   * 
+   * @return The content of the file. Not <code>null</code>.
+   */
+  static ProjectFileContent readProjectFile(File projectFile) {
+
     XQueryHandler queryhandler2 = new XQueryHandler(projectFile.getAbsolutePath());
 
     // create Queries
@@ -81,24 +115,49 @@ public class ProjectFileParser {
     String[] linkedResourceLocations = linkedResourceLocationQuery.getResult();
     String[] linkedResourceLocationURIs = linkedResourceLocationURIQuery.getResult();
 
+    return new ProjectFileContent(projectName, comment, referencedProjects, natures, buildCommandNames,
+        linkedResourceNames, linkedResourceTypes, linkedResourceLocations, linkedResourceLocationURIs);
+  }
+
+  /**
+   * <p>
+   * Applies the content of a '<code>.project</code>' file to the given eclipse project.
+   * </p>
+   * 
+   * @param eclipseProject
+   *          The eclipse project which has to be set up. Not <code>null</code>.
+   * @param content
+   *          The content of the '<code>.project</code>' file. Not <code>null</code>.
+   * 
+   * @return the supplied {@link EclipseProject} instance.
+   */
+  private static EclipseProjectImpl applyProjectFileContent(EclipseProjectImpl eclipseProject,
+      ProjectFileContent content) {
+
+    String projectName = content.getName();
+    String[] linkedResourceNames = content.getLinkedResourceNames();
+    String[] linkedResourceTypes = content.getLinkedResourceTypes();
+    String[] linkedResourceLocations = content.getLinkedResourceLocations();
+    String[] linkedResourceLocationURIs = content.getLinkedResourceLocationURIs();
+
     // set specified name
     eclipseProject.setSpecifiedName(projectName);
 
     // set comment
-    eclipseProject.setComment(comment);
+    eclipseProject.setComment(content.getComment());
 
     // set referenced projects
-    for (String referencedProject : referencedProjects) {
+    for (String referencedProject : content.getReferencedProjects()) {
       eclipseProject.addReferencedProject(referencedProject);
     }
 
     // set project natures
-    for (String nature : natures) {
+    for (String nature : content.getNatures()) {
       eclipseProject.addNature(new ProjectNatureImpl(nature));
     }
 
     // set build commands
-    for (String buildCommandName : buildCommandNames) {
+    for (String buildCommandName : content.getBuildCommands()) {
       eclipseProject.addBuildCommand(new BuildCommandImpl(buildCommandName));
     }
 
@@ -13,16 +13,21 @@ package org.ant4eclipse.lib.platform.internal.model.resource.workspaceregistry;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.ant4eclipse.lib.core.Assure;
+import org.ant4eclipse.lib.core.Revalidatable;
 import org.ant4eclipse.lib.core.logging.A4ELogging;
+import org.ant4eclipse.lib.core.util.FileFingerprint;
 import org.ant4eclipse.lib.platform.internal.model.resource.WorkspaceImpl;
 import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
 import org.ant4eclipse.lib.platform.model.resource.Workspace;
 import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceDefinition;
+import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceModelCacheAccess;
 import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRegistry;
 
 /**
@@ -32,7 +37,11 @@ import org.ant4eclipse.lib.platform.model.resource.workspaceregistry.WorkspaceRe
  * 
  * @author Gerd W&uuml;therich (gerd@gerd-wuetherich.de)
  */
-public class WorkspaceRegistryImpl implements WorkspaceRegistry {
+public class WorkspaceRegistryImpl implements WorkspaceRegistry, Revalidatable {
+
+  /** the files of a project which are recorded to detect changes of the project description */
+  private static final String[]                        PROJECT_DESCRIPTION_FILES = { ".project", ".classpath",
+      ".settings", "META-INF/MANIFEST.MF", "build.properties", "feature.xml" };
 
   /** The factory used to build projects */
   private ProjectFactory                               _projectFactory;
@@ -112,6 +121,9 @@ public class WorkspaceRegistryImpl implements WorkspaceRegistry {
     // create new workspace implementation
     WorkspaceImpl workspace = new WorkspaceImpl();
 
+    // the persistent model cache (only available for standard workspaces)
+    WorkspaceModelCache modelCache = WorkspaceModelCacheAccess.getModelCache(workspaceDefinition);
+
     // retrieve all project folders from the workspace definition
     File[] projectFolders = workspaceDefinition.getProjectFolders();
 
@@ -123,7 +135,8 @@ public class WorkspaceRegistryImpl implements WorkspaceRegistry {
     // read the projects and add them to the workspace
     List<EclipseProject> projects = new ArrayList<EclipseProject>();
     for (File projectFolder : projectFolders) {
-      EclipseProject eclipseProject = this._projectFactory.readProjectFromWorkspace(workspace, projectFolder);
+      EclipseProject eclipseProject = this._projectFactory.readProjectFromWorkspace(workspace, projectFolder,
+          modelCache);
       projects.add(eclipseProject);
       workspace.registerEclipseProject(eclipseProject);
     }
@@ -132,13 +145,45 @@ public class WorkspaceRegistryImpl implements WorkspaceRegistry {
       this._projectFactory.postProcessRoleSetup(project);
     }
 
+    if (modelCache != null) {
+      if (A4ELogging.isDebuggingEnabled()) {
+        A4ELogging.debug("WorkspaceRegistry.registerWorkspace: model cache hits=%d, misses=%d.", Integer
+            .valueOf(modelCache.getHits()), Integer.valueOf(modelCache.getMisses()));
+      }
+      modelCache.save();
+    }
+
     // add the workspace to the registry
-    this._registry.put(id, new WorkspaceDefinitionAndWorkspace(workspaceDefinition, workspace));
+    this._registry.put(id, new WorkspaceDefinitionAndWorkspace(workspaceDefinition, workspace, projectFolders,
+        createFingerprint(projectFolders)));
 
     // return the workspace
     return workspace;
   }
 
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>
+   * A workspace is dropped if the set of project folders has been changed or if one of the project description files
+   * has been modified. It will be registered again as soon as it's requested.
+   * </p>
+   */
+  public void revalidate() {
+    Iterator<Map.Entry<String, WorkspaceDefinitionAndWorkspace>> iterator = this._registry.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, WorkspaceDefinitionAndWorkspace> entry = iterator.next();
+      WorkspaceDefinitionAndWorkspace value = entry.getValue();
+      if (!value.isUpToDate()) {
+        A4ELogging.debug("WorkspaceRegistry.revalidate: workspace '%s' has been changed.", entry.getKey());
+        if (value.getWorkspace() == this._current) {
+          this._current = null;
+        }
+        iterator.remove();
+      }
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -163,15 +208,52 @@ public class WorkspaceRegistryImpl implements WorkspaceRegistry {
     return (this._registry != null) && (this._projectFactory != null);
   }
 
+  /**
+   * Records the project folders together with their project description files.
+   * 
+   * @param projectFolders
+   *          The project folders of a workspace. Not <code>null</code>.
+   * 
+   * @return The fingerprint of the project folders. Not <code>null</code>.
+   */
+  private static FileFingerprint createFingerprint(File[] projectFolders) {
+    List<File> files = new ArrayList<File>(projectFolders.length * (PROJECT_DESCRIPTION_FILES.length + 1));
+    for (File projectFolder : projectFolders) {
+      files.add(projectFolder);
+      for (String name : PROJECT_DESCRIPTION_FILES) {
+        files.add(new File(projectFolder, name));
+      }
+    }
+    return new FileFingerprint(files);
+  }
+
   final class WorkspaceDefinitionAndWorkspace {
     private final WorkspaceDefinition _workspaceDefinition;
 
     private final Workspace           _workspace;
 
-    public WorkspaceDefinitionAndWorkspace(WorkspaceDefinition workspaceDefinition, Workspace workspace) {
+    private final File[]              _projectFolders;
+
+    private final FileFingerprint     _fingerprint;
+
+    public WorkspaceDefinitionAndWorkspace(WorkspaceDefinition workspaceDefinition, Workspace workspace,
+        File[] projectFolders, FileFingerprint fingerprint) {
       super();
       this._workspaceDefinition = workspaceDefinition;
       this._workspace = workspace;
+      this._projectFolders = projectFolders;
+      this._fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns <code>true</code> if the workspace still consists of the same project folders and none of their project
+     * description files has been changed.
+     * 
+     * @return <code>true</code> <=> The workspace is up to date.
+     */
+    public boolean isUpToDate() {
+      return this._fingerprint.isUpToDate()
+          && Arrays.equals(this._projectFolders, this._workspaceDefinition.getProjectFolders());
     }
 
     public WorkspaceDefinition getWorkspaceDefinition() {
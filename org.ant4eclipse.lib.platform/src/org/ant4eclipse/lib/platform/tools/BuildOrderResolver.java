@@ -13,7 +13,7 @@ package org.ant4eclipse.lib.platform.tools;
 
 import org.ant4eclipse.lib.core.dependencygraph.DependencyGraph;
 import org.ant4eclipse.lib.core.dependencygraph.VertexRenderer;
-import org.ant4eclipse.lib.core.service.ServiceRegistryAccess;
+import org.ant4eclipse.lib.core.service.ServiceHandle;
 import org.ant4eclipse.lib.platform.model.resource.EclipseProject;
 import org.ant4eclipse.lib.platform.model.resource.Workspace;
 
@@ -30,6 +30,10 @@ import java.util.List;
  */
 public class BuildOrderResolver {
 
+  /** the referenced projects resolver */
+  private static final ServiceHandle<ReferencedProjectsResolverService> REFERENCED_PROJECTS_RESOLVER =
+      new ServiceHandle<ReferencedProjectsResolverService>(ReferencedProjectsResolverService.class);
+
   /**
    * <p>
    * Resolves the build order of the projects with the given names.
@@ -67,10 +71,9 @@ public class BuildOrderResolver {
       }
 
       // resolve referenced projects
-      List<EclipseProject> referencedProjects = referenceTypes != null ? ServiceRegistryAccess.instance().getService(
-          ReferencedProjectsResolverService.class).resolveReferencedProjects(eclipseProject, referenceTypes,
-          additionalElements) : ServiceRegistryAccess.instance().getService(ReferencedProjectsResolverService.class)
-          .resolveReferencedProjects(eclipseProject, additionalElements);
+      List<EclipseProject> referencedProjects = referenceTypes != null ? REFERENCED_PROJECTS_RESOLVER.get()
+          .resolveReferencedProjects(eclipseProject, referenceTypes, additionalElements) : REFERENCED_PROJECTS_RESOLVER
+          .get().resolveReferencedProjects(eclipseProject, additionalElements);
 
       // add referenced projects to the dependency graph
       for (EclipseProject referencedProject : referencedProjects) {